@@ -0,0 +1,90 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Dispatch events on a dispatcher filled like a player one
+ */
+@State(Scope.Benchmark)
+public class DefaultListenerAggregateBenchmark {
+    static public class Handled {}
+    static public class NotHandled {}
+    static public class Other {}
+
+    static abstract public class AbstractListener<E> implements Listener<E> {
+        final private Class<E> event;
+
+        private int calls = 0;
+
+        public AbstractListener(Class<E> event) {
+            this.event = event;
+        }
+
+        @Override
+        public void on(E event) {
+            ++calls;
+        }
+
+        @Override
+        public Class<E> event() {
+            return event;
+        }
+    }
+
+    private ListenerAggregate dispatcher;
+
+    final private Handled handled = new Handled();
+    final private NotHandled notHandled = new NotHandled();
+
+    @Setup
+    public void setUp() {
+        dispatcher = new DefaultListenerAggregate();
+
+        Listener[] listeners = new Listener[] {
+            new AbstractListener<Handled>(Handled.class) {},
+            new AbstractListener<Handled>(Handled.class) {},
+            new AbstractListener<Handled>(Handled.class) {},
+            new AbstractListener<Other>(Other.class) {},
+            new AbstractListener<Other>(Other.class) {},
+            new AbstractListener<Other>(Other.class) {},
+            new AbstractListener<Other>(Other.class) {},
+            new AbstractListener<Other>(Other.class) {},
+        };
+
+        for (Listener listener : listeners) {
+            dispatcher.add(listener);
+        }
+    }
+
+    @Benchmark
+    public void dispatchHandled() {
+        dispatcher.dispatch(handled);
+    }
+
+    @Benchmark
+    public void dispatchNotHandled() {
+        dispatcher.dispatch(notHandled);
+    }
+}
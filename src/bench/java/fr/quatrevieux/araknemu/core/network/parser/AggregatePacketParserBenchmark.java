@@ -0,0 +1,56 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network.parser;
+
+import fr.quatrevieux.araknemu.network.game.in.GameParserLoader;
+import fr.quatrevieux.araknemu.network.in.CommonParserLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parse incoming packets with the game server parser
+ */
+@State(Scope.Benchmark)
+public class AggregatePacketParserBenchmark {
+    @Param({"GA001ebfgcg", "BM*|Hello World !|", "GKK0", "qping", "BaM-5,12"})
+    public String packet;
+
+    private PacketParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new AggregatePacketParser(
+            new AggregateParserLoader(
+                new ParserLoader[]{
+                    new CommonParserLoader(),
+                    new GameParserLoader()
+                }
+            ).load()
+        );
+    }
+
+    @Benchmark
+    public Packet parse() throws ParsePacketException {
+        return parser.parse(packet);
+    }
+}
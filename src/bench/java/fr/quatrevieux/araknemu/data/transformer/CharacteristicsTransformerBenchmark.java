@@ -0,0 +1,78 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.data.transformer;
+
+import fr.quatrevieux.araknemu.data.constant.Characteristic;
+import fr.quatrevieux.araknemu.game.world.creature.characteristics.DefaultCharacteristics;
+import fr.quatrevieux.araknemu.game.world.creature.characteristics.MutableCharacteristics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Serialize and parse characteristics, like on item or player loading and saving
+ */
+@State(Scope.Benchmark)
+public class CharacteristicsTransformerBenchmark {
+    private CharacteristicsTransformer transformer;
+    private MutableCharacteristics characteristics;
+    private String serialized;
+    private StringBuilder buffer;
+
+    @Setup
+    public void setUp() {
+        transformer = new CharacteristicsTransformer();
+        characteristics = new DefaultCharacteristics();
+
+        characteristics.set(Characteristic.ACTION_POINT, 6);
+        characteristics.set(Characteristic.MOVEMENT_POINT, 3);
+        characteristics.set(Characteristic.STRENGTH, 150);
+        characteristics.set(Characteristic.INTELLIGENCE, 101);
+        characteristics.set(Characteristic.VITALITY, 500);
+        characteristics.set(Characteristic.WISDOM, 42);
+        characteristics.set(Characteristic.AGILITY, 15);
+        characteristics.set(Characteristic.LUCK, 15);
+
+        serialized = transformer.serialize(characteristics);
+        buffer = new StringBuilder(64);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return transformer.serialize(characteristics);
+    }
+
+    /**
+     * Serialize into a reused buffer
+     */
+    @Benchmark
+    public StringBuilder serializeIntoBuffer() {
+        buffer.setLength(0);
+        transformer.serialize(characteristics, buffer);
+
+        return buffer;
+    }
+
+    @Benchmark
+    public MutableCharacteristics unserialize() {
+        return transformer.unserialize(serialized);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.data.world.transformer;
+
+import fr.arakne.utils.maps.serializer.CellData;
+import fr.arakne.utils.maps.serializer.DefaultMapDataSerializer;
+import fr.quatrevieux.araknemu.core.dbal.executor.ConnectionPoolExecutor;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.ResultSet;
+
+/**
+ * Parse map cells of the test data set
+ */
+@State(Scope.Benchmark)
+public class MapCellsTransformerBenchmark extends GameBaseCase {
+    @Param({"10340", "10300"})
+    public int mapId;
+
+    private MapCellsTransformer transformer;
+    private String mapData;
+
+    @Setup(Level.Trial)
+    public void setUpBenchmark() throws Exception {
+        setUp();
+
+        dataSet.pushMaps();
+
+        transformer = new MapCellsTransformer();
+        mapData = new ConnectionPoolExecutor(app.database().get("game")).prepare(
+            "SELECT mapData FROM maps WHERE id = ?",
+            statement -> {
+                statement.setInt(1, mapId);
+
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+
+                    return rs.getString("mapData");
+                }
+            }
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownBenchmark() throws Exception {
+        tearDown();
+        connection.close();
+    }
+
+    /**
+     * Parse using the transformer, with the cells cache
+     */
+    @Benchmark
+    public CellData[] unserialize() {
+        return transformer.unserialize(mapData);
+    }
+
+    /**
+     * Parse without cache
+     */
+    @Benchmark
+    public CellData[] unserializeWithoutCache() {
+        return new DefaultMapDataSerializer().deserialize(mapData);
+    }
+}
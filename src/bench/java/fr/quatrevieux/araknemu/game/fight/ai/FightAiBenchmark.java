@@ -0,0 +1,171 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight.ai;
+
+import fr.quatrevieux.araknemu.game.fight.Fight;
+import fr.quatrevieux.araknemu.game.fight.FightBaseCase;
+import fr.quatrevieux.araknemu.game.fight.ai.action.ActionGenerator;
+import fr.quatrevieux.araknemu.game.fight.ai.action.Attack;
+import fr.quatrevieux.araknemu.game.fight.ai.action.MoveNearEnemy;
+import fr.quatrevieux.araknemu.game.fight.ai.factory.ChainAiFactory;
+import fr.quatrevieux.araknemu.game.fight.ai.simulation.CastSimulation;
+import fr.quatrevieux.araknemu.game.fight.ai.simulation.Simulator;
+import fr.quatrevieux.araknemu.game.fight.fighter.ActiveFighter;
+import fr.quatrevieux.araknemu.game.fight.fighter.Fighter;
+import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
+import fr.quatrevieux.araknemu.game.fight.map.BattlefieldMap;
+import fr.quatrevieux.araknemu.game.fight.module.AiModule;
+import fr.quatrevieux.araknemu.game.fight.module.CommonEffectsModule;
+import fr.quatrevieux.araknemu.game.fight.turn.Turn;
+import fr.quatrevieux.araknemu.game.fight.turn.action.Action;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * AI actions generation, on the first turn of a player versus player fight
+ */
+@State(Scope.Benchmark)
+public class FightAiBenchmark extends FightBaseCase {
+    /**
+     * AI bound to a turn, which is never executed
+     * The {@link FighterAI} cannot be used directly because it executes the generated actions, and its turn is reset once executed
+     * So the action generators are called directly by the benchmark, using this AI as data accessor
+     */
+    static private class CurrentTurnAI implements AI {
+        final private FighterAI ai;
+        private Turn turn;
+
+        public CurrentTurnAI(FighterAI ai) {
+            this.ai = ai;
+        }
+
+        /**
+         * Bind the AI to the turn, without executing any action
+         */
+        @Override
+        public void start(Turn turn) {
+            this.turn = turn;
+        }
+
+        @Override
+        public ActiveFighter fighter() {
+            return ai.fighter();
+        }
+
+        @Override
+        public BattlefieldMap map() {
+            return ai.map();
+        }
+
+        @Override
+        public Turn turn() {
+            return turn;
+        }
+
+        @Override
+        public Stream<? extends PassiveFighter> fighters() {
+            return ai.fighters();
+        }
+
+        @Override
+        public Stream<? extends PassiveFighter> enemies() {
+            return ai.enemies();
+        }
+
+        @Override
+        public Optional<? extends PassiveFighter> enemy() {
+            return ai.enemy();
+        }
+    }
+
+    private Fight fight;
+    private Fighter fighter;
+    private Fighter enemy;
+    private AI ai;
+    private Simulator simulator;
+
+    private MoveNearEnemy moveNearEnemy;
+    private Attack attack;
+
+    @Setup(Level.Trial)
+    public void setUpBenchmark() throws Exception {
+        setUp();
+
+        dataSet.pushFunctionalSpells();
+
+        fight = createFight();
+        fight.register(new AiModule(new ChainAiFactory()));
+        fight.register(new CommonEffectsModule());
+
+        fighter = player.fighter();
+        enemy = other.fighter();
+
+        fight.nextState();
+        fight.turnList().start();
+
+        simulator = container.get(Simulator.class);
+        moveNearEnemy = new MoveNearEnemy();
+        attack = new Attack(simulator);
+
+        ai = new CurrentTurnAI(new FighterAI(fighter, fight, new ActionGenerator[0]));
+        ai.start(fight.turnList().current().get());
+
+        moveNearEnemy.initialize(ai);
+        attack.initialize(ai);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownBenchmark() throws Exception {
+        fight.cancel(true);
+        tearDown();
+        connection.close();
+    }
+
+    /**
+     * Compute the path to the nearest enemy
+     */
+    @Benchmark
+    public Optional<Action> moveNearEnemy() {
+        return moveNearEnemy.generate(ai);
+    }
+
+    /**
+     * Select the best attack spell and target
+     */
+    @Benchmark
+    public Optional<Action> castSpell() {
+        return attack.generate(ai);
+    }
+
+    /**
+     * Simulate a single spell cast
+     */
+    @Benchmark
+    public CastSimulation simulate() {
+        return simulator.simulate(fighter.spells().get(3), fighter, enemy.cell());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.world.map.path;
+
+import fr.arakne.utils.maps.path.Decoder;
+import fr.arakne.utils.maps.path.Path;
+import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.fight.map.FightCell;
+import fr.quatrevieux.araknemu.game.fight.map.FightMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Collections;
+
+/**
+ * Path finding on a fight map of the test data set, compared to the arakne-map pathfinder
+ */
+@State(Scope.Benchmark)
+public class PathfinderBenchmark extends GameBaseCase {
+    /**
+     * Source and target cells, separated by a colon
+     * The first one is a path with a detour around obstacles, the second one the longest path from the cell 210
+     */
+    @Param({"210:325", "210:28"})
+    public String cells;
+
+    private FightMap map;
+    private FightCell source;
+    private FightCell target;
+
+    private Pathfinder<FightCell> pathfinder;
+    private fr.arakne.utils.maps.path.Pathfinder<FightCell> araknePathfinder;
+
+    @Setup(Level.Trial)
+    public void setUpBenchmark() throws Exception {
+        setUp();
+
+        dataSet.pushMaps().pushSubAreas().pushAreas();
+
+        final String[] ids = cells.split(":");
+
+        map = new FightMap(container.get(MapTemplateRepository.class).get(10340));
+        source = map.get(Integer.parseInt(ids[0]));
+        target = map.get(Integer.parseInt(ids[1]));
+
+        pathfinder = new Pathfinder<>(map);
+        araknePathfinder = new Decoder<>(map).pathfinder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownBenchmark() throws Exception {
+        tearDown();
+        connection.close();
+    }
+
+    /**
+     * Find the path using the in-project pathfinder
+     */
+    @Benchmark
+    public Path<FightCell> findPath() {
+        return pathfinder.findPath(source, target);
+    }
+
+    /**
+     * Find the path using the arakne-map pathfinder
+     */
+    @Benchmark
+    public Path<FightCell> findPathArakne() {
+        return araknePathfinder.findPath(source, target);
+    }
+
+    /**
+     * Creates the pathfinder and find the path, like done by AI actions and monsters moves
+     */
+    @Benchmark
+    public Path<FightCell> createAndFindPath() {
+        return new Pathfinder<>(map).findPath(source, target);
+    }
+
+    /**
+     * Creates the arakne-map pathfinder and find the path
+     */
+    @Benchmark
+    public Path<FightCell> createAndFindPathArakne() {
+        return new Decoder<>(map).pathfinder().findPath(source, target);
+    }
+
+    /**
+     * Compute the moves distance to all cells of the map
+     */
+    @Benchmark
+    public DistanceField distanceField() {
+        return DistanceField.compute(map, Collections.singleton(source), FightCell::walkable);
+    }
+}
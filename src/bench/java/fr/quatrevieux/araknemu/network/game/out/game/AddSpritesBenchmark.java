@@ -0,0 +1,67 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.network.game.out.game;
+
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.exploration.ExplorationPlayer;
+import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Serialize the sprites of an exploration map, like when a player join the map
+ */
+@State(Scope.Benchmark)
+public class AddSpritesBenchmark extends GameBaseCase {
+    @Param({"1", "10", "50"})
+    public int players;
+
+    private ExplorationMap map;
+
+    @Setup(Level.Trial)
+    public void setUpBenchmark() throws Exception {
+        setUp();
+
+        map = explorationPlayer().map();
+
+        for (int i = 1; i < players; ++i) {
+            ExplorationPlayer player = makeExplorationPlayer(makeSimpleGamePlayer(10 + i));
+
+            player.player().setPosition(explorationPlayer().position());
+            player.join(map);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownBenchmark() throws Exception {
+        tearDown();
+        connection.close();
+    }
+
+    @Benchmark
+    public String serialize() {
+        return new AddSprites(map.sprites()).toString();
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.common.account.banishment;
+
+import fr.quatrevieux.araknemu.data.living.entity.BanIp;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Binary prefix tree (radix tree) of ban ip rules
+ *
+ * Each rule is split into CIDR blocks, which are stored on the node of the block prefix,
+ * so a lookup only walks the address bits, in O(prefix length), without allocation.
+ * Rules which cannot be represented as CIDR blocks (like "1.*.3.4") are checked linearly.
+ *
+ * Lookups are lock free, modifications are synchronized and use copy-on-write on the nodes
+ */
+final class BanIpIndex {
+    final private Node ipv4 = new Node();
+    final private Node ipv6 = new Node();
+    final private Collection<BanIp> others = new CopyOnWriteArrayList<>();
+
+    /**
+     * Index a new rule
+     */
+    public synchronized void add(BanIp banIp) {
+        final IPAddress address = banIp.ipAddress().getAddress();
+
+        if (address == null || !address.isSequential()) {
+            others.add(banIp);
+            return;
+        }
+
+        final Rule rule = new Rule(banIp);
+
+        for (IPAddress block : address.spanWithPrefixBlocks()) {
+            final byte[] bytes = block.getBytes();
+            final int length = prefix(block);
+
+            Node node = root(address);
+
+            for (int i = 0; i < length; ++i) {
+                node = node.childOrCreate(bit(bytes, i));
+            }
+
+            node.add(rule);
+        }
+    }
+
+    /**
+     * Remove a rule from the index
+     * The rule instance must be the same as the added one
+     */
+    public synchronized void remove(BanIp banIp) {
+        final IPAddress address = banIp.ipAddress().getAddress();
+
+        if (address == null || !address.isSequential()) {
+            others.remove(banIp);
+            return;
+        }
+
+        for (IPAddress block : address.spanWithPrefixBlocks()) {
+            root(address).remove(banIp, block.getBytes(), 0, prefix(block));
+        }
+    }
+
+    /**
+     * Find the first active rule which contains the given address
+     *
+     * @return The rule, or null if the address is not banned
+     */
+    public BanIp find(InetAddress address) {
+        final byte[] bytes = address.getAddress();
+        final BanIp banIp = find(bytes.length == 4 ? ipv4 : ipv6, bytes, bytes.length * 8, System.currentTimeMillis(), null);
+
+        if (banIp != null || others.isEmpty()) {
+            return banIp;
+        }
+
+        return findOthers(new IPAddressString(address.getHostAddress()));
+    }
+
+    /**
+     * Find the first active rule which contains the given address or range
+     *
+     * @return The rule, or null if the address is not banned
+     */
+    public BanIp find(IPAddressString ipAddress) {
+        final IPAddress address = ipAddress.getAddress();
+
+        if (address == null) {
+            return findOthers(ipAddress);
+        }
+
+        final IPAddress[] blocks = address.isMultiple() ? address.spanWithPrefixBlocks() : null;
+        final BanIp banIp;
+
+        if (blocks == null) {
+            banIp = find(root(address), address.getBytes(), address.getBitCount(), System.currentTimeMillis(), null);
+        } else {
+            // A range which is not a CIDR block must be checked against the candidate rules of its first block
+            banIp = find(root(address), blocks[0].getBytes(), prefix(blocks[0]), System.currentTimeMillis(), blocks.length == 1 ? null : ipAddress);
+        }
+
+        return banIp != null ? banIp : findOthers(ipAddress);
+    }
+
+    /**
+     * Walk the tree following the address bits, and return the first active rule
+     *
+     * @param root The tree root
+     * @param address The address bytes
+     * @param length Number of bits to walk
+     * @param now Current time, in milliseconds
+     * @param range The range which must be contained by the rule. If null, the first active rule is returned.
+     */
+    private BanIp find(Node root, byte[] address, int length, long now, IPAddressString range) {
+        Node node = root;
+
+        for (int i = 0; node != null; ++i) {
+            for (Rule rule : node.rules) {
+                if (now < rule.expiresAt && (range == null || rule.banIp.ipAddress().contains(range))) {
+                    return rule.banIp;
+                }
+            }
+
+            if (i == length) {
+                return null;
+            }
+
+            node = node.child(bit(address, i));
+        }
+
+        return null;
+    }
+
+    private BanIp findOthers(IPAddressString ipAddress) {
+        for (BanIp banIp : others) {
+            if (banIp.active() && banIp.ipAddress().contains(ipAddress)) {
+                return banIp;
+            }
+        }
+
+        return null;
+    }
+
+    private Node root(IPAddress address) {
+        return address.isIPv4() ? ipv4 : ipv6;
+    }
+
+    /**
+     * Get the prefix length of a CIDR block
+     */
+    static private int prefix(IPAddress block) {
+        final Integer prefix = block.getPrefixLength();
+
+        return prefix == null ? block.getBitCount() : prefix;
+    }
+
+    static private int bit(byte[] address, int index) {
+        return (address[index >> 3] >> (7 - (index & 7))) & 1;
+    }
+
+    /**
+     * Indexed rule, with precomputed expiration time
+     */
+    static private class Rule {
+        final private BanIp banIp;
+        final private long expiresAt;
+
+        public Rule(BanIp banIp) {
+            this.banIp = banIp;
+            this.expiresAt = banIp.expiresAt().map(Instant::toEpochMilli).orElse(Long.MAX_VALUE);
+        }
+    }
+
+    static private class Node {
+        final static private Rule[] EMPTY = new Rule[0];
+
+        private volatile Node zero;
+        private volatile Node one;
+        private volatile Rule[] rules = EMPTY;
+
+        private Node child(int bit) {
+            return bit == 0 ? zero : one;
+        }
+
+        private Node childOrCreate(int bit) {
+            Node child = child(bit);
+
+            if (child == null) {
+                child = new Node();
+
+                if (bit == 0) {
+                    zero = child;
+                } else {
+                    one = child;
+                }
+            }
+
+            return child;
+        }
+
+        private void add(Rule rule) {
+            final Rule[] current = rules;
+            final Rule[] updated = new Rule[current.length + 1];
+
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = rule;
+
+            rules = updated;
+        }
+
+        /**
+         * Remove the rule from the node of the given prefix, and prune empty nodes
+         *
+         * @return true if the node is empty and can be removed
+         */
+        private boolean remove(BanIp banIp, byte[] address, int depth, int length) {
+            if (depth == length) {
+                final Rule[] current = rules;
+                int count = 0;
+
+                for (Rule rule : current) {
+                    if (rule.banIp != banIp) {
+                        ++count;
+                    }
+                }
+
+                if (count != current.length) {
+                    final Rule[] updated = new Rule[count];
+                    int i = 0;
+
+                    for (Rule rule : current) {
+                        if (rule.banIp != banIp) {
+                            updated[i++] = rule;
+                        }
+                    }
+
+                    rules = updated;
+                }
+            } else {
+                final int bit = bit(address, depth);
+                final Node child = child(bit);
+
+                if (child != null && child.remove(banIp, address, depth + 1, length)) {
+                    if (bit == 0) {
+                        zero = null;
+                    } else {
+                        one = null;
+                    }
+                }
+            }
+
+            return rules.length == 0 && zero == null && one == null;
+        }
+    }
+}
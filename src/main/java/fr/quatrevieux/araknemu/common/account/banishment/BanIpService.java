@@ -26,6 +26,7 @@ import fr.quatrevieux.araknemu.data.living.entity.BanIp;
 import fr.quatrevieux.araknemu.data.living.repository.BanIpRepository;
 import inet.ipaddr.IPAddressString;
 
+import java.net.InetAddress;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
@@ -86,6 +87,7 @@ final public class BanIpService<A extends LivingAccount> {
             ));
 
             banIps.add(entity);
+            index.add(entity);
             BanIpRule<A> rule = new BanIpRule<>(entity, banisher);
 
             dispatcher.dispatch(new IpBanned<>(rule));
@@ -99,6 +101,7 @@ final public class BanIpService<A extends LivingAccount> {
     final private Function<int[], Map<Integer, A>> loadAccountsByIds;
 
     private Collection<BanIp> banIps = new CopyOnWriteArrayList<>();
+    private BanIpIndex index = new BanIpIndex();
     private Instant lastUpdate = Instant.EPOCH;
 
     public BanIpService(BanIpRepository repository, Dispatcher dispatcher) {
@@ -116,8 +119,14 @@ final public class BanIpService<A extends LivingAccount> {
      * Note: news rules will not trigger a {@link IpBanned} event, it will only overrides current rules
      */
     public void load() {
+        final BanIpIndex index = new BanIpIndex();
+        final Collection<BanIp> banIps = repository.available();
+
+        banIps.forEach(index::add);
+
         lastUpdate = Instant.now();
-        banIps = repository.available();
+        this.banIps = banIps;
+        this.index = index;
     }
 
     /**
@@ -139,7 +148,20 @@ final public class BanIpService<A extends LivingAccount> {
      * @return true if banned
      */
     public boolean isIpBanned(IPAddressString ipAddress) {
-        return findFirstEntry(ipAddress).isPresent();
+        return index.find(ipAddress) != null;
+    }
+
+    /**
+     * Check if an IP address is banned
+     * Unlike {@link BanIpService#isIpBanned(IPAddressString)}, the address is not parsed,
+     * so this method should be used on new connections
+     *
+     * @param ipAddress IP to check
+     *
+     * @return true if banned
+     */
+    public boolean isIpBanned(InetAddress ipAddress) {
+        return index.find(ipAddress) != null;
     }
 
     /**
@@ -157,7 +179,7 @@ final public class BanIpService<A extends LivingAccount> {
      * @return The rule, or empty optional if not found
      */
     public Optional<BanIpRule<A>> matching(IPAddressString ipAddress) {
-        return findFirstEntry(ipAddress).map(banIp -> new BanIpRule<>(
+        return Optional.ofNullable(index.find(ipAddress)).map(banIp -> new BanIpRule<>(
             banIp,
             loadAccountsByIds.apply(new int[] {banIp.banisherId()}).get(banIp.banisherId())
         ));
@@ -170,31 +192,46 @@ final public class BanIpService<A extends LivingAccount> {
      */
     public void disable(IPAddressString ipAddress) {
         repository.disable(ipAddress);
+
+        banIps.stream().filter(banIp -> banIp.ipAddress().equals(ipAddress)).forEach(index::remove);
         banIps = banIps.stream().filter(banIp -> !banIp.ipAddress().equals(ipAddress)).collect(Collectors.toCollection(CopyOnWriteArrayList::new));
     }
 
     /**
      * Refresh the ban ip table
      * News rules will dispatch a {@link IpBanned} event
+     *
+     * The index is updated incrementally : only expired and updated rules are modified
      */
     public void refresh() {
         final Instant updateTime = Instant.now();
-        final Map<Integer, BanIp> refreshed = banIps.stream().filter(BanIp::active).collect(Collectors.toMap(
-            BanIp::id,
-            Function.identity()
-        ));
+        final Map<Integer, BanIp> refreshed = new HashMap<>();
         final Collection<BanIp> added = new ArrayList<>();
 
+        for (BanIp banIp : banIps) {
+            if (banIp.active()) {
+                refreshed.put(banIp.id(), banIp);
+            } else {
+                index.remove(banIp);
+            }
+        }
+
         repository.updated(lastUpdate).forEach(banIp -> {
+            final BanIp previous;
+
             if (banIp.active()) {
-                // A new IP is banned
-                if (!refreshed.containsKey(banIp.id()) || !refreshed.get(banIp.id()).active()) {
+                previous = refreshed.put(banIp.id(), banIp);
+
+                if (previous == null) {
+                    // A new IP is banned
                     added.add(banIp);
+                } else {
+                    index.remove(previous);
                 }
 
-                refreshed.put(banIp.id(), banIp);
-            } else {
-                refreshed.remove(banIp.id());
+                index.add(banIp);
+            } else if ((previous = refreshed.remove(banIp.id())) != null) {
+                index.remove(previous);
             }
         });
 
@@ -203,17 +240,6 @@ final public class BanIpService<A extends LivingAccount> {
         lastUpdate = updateTime;
     }
 
-    /**
-     * Find the first matching ban ip entry
-     */
-    private Optional<BanIp> findFirstEntry(IPAddressString ipAddress) {
-        return banIps.stream()
-            .filter(BanIp::active)
-            .filter(banIp -> banIp.ipAddress().contains(ipAddress))
-            .findFirst()
-        ;
-    }
-
     /**
      * Convert ban ip entities to BanIpRule
      */
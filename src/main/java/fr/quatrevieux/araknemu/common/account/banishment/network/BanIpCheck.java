@@ -24,7 +24,6 @@ import fr.quatrevieux.araknemu.core.network.session.ConfigurableSession;
 import fr.quatrevieux.araknemu.core.network.session.Session;
 import fr.quatrevieux.araknemu.core.network.session.SessionConfigurator;
 import fr.quatrevieux.araknemu.network.realm.out.LoginError;
-import inet.ipaddr.IPAddressString;
 
 /**
  * Check if the ip address of session is banned during creation
@@ -40,7 +39,7 @@ final public class BanIpCheck<S extends Session> implements SessionConfigurator.
 
     @Override
     public void configure(ConfigurableSession inner, S session) {
-        if (service.isIpBanned(new IPAddressString(session.channel().address().getAddress().getHostAddress()))) {
+        if (service.isIpBanned(session.channel().address().getAddress())) {
             session.send(new LoginError(LoginError.BANNED));
             session.close();
         }
@@ -19,6 +19,7 @@
 
 package fr.quatrevieux.araknemu.common.session;
 
+import fr.quatrevieux.araknemu.core.dbal.executor.PersistenceExecutor;
 import fr.quatrevieux.araknemu.core.dbal.repository.EntityNotFoundException;
 import fr.quatrevieux.araknemu.data.living.entity.account.ConnectionLog;
 import fr.quatrevieux.araknemu.data.living.entity.player.Player;
@@ -33,9 +34,11 @@ import java.util.Optional;
  */
 final public class SessionLogService {
     final private ConnectionLogRepository repository;
+    final private PersistenceExecutor persistence;
 
-    public SessionLogService(ConnectionLogRepository repository) {
+    public SessionLogService(ConnectionLogRepository repository, PersistenceExecutor persistence) {
         this.repository = repository;
+        this.persistence = persistence;
     }
 
     /**
@@ -48,7 +51,7 @@ final public class SessionLogService {
     public SessionLog load(AccountSession<?> session) {
         try {
             return new SessionLog(
-                repository.currentSession(session.account().id()),
+                persistence.read(session.account().id(), () -> repository.currentSession(session.account().id())),
                 this
             );
         } catch (EntityNotFoundException e) {
@@ -58,38 +61,40 @@ final public class SessionLogService {
 
     /**
      * Create a new session log for the given session
+     * The log is inserted asynchronously
      *
      * @param session The session
      */
     public SessionLog create(AccountSession<?> session) {
-        return new SessionLog(
-            repository.add(new ConnectionLog(
-                session.account().id(),
-                Instant.now(),
-                session.channel().address().getAddress().getHostAddress()
-            )),
-            this
+        final ConnectionLog log = new ConnectionLog(
+            session.account().id(),
+            Instant.now(),
+            session.channel().address().getAddress().getHostAddress()
         );
+
+        persistence.execute(log.accountId(), () -> repository.add(log));
+
+        return new SessionLog(log, this);
     }
 
     /**
      * Save log to database
      */
     void save(ConnectionLog log) {
-        repository.save(log);
+        persistence.execute(log.accountId(), () -> repository.save(log));
     }
 
     /**
      * Get the last session
      */
     Optional<ConnectionLog> lastSession(int accountId) {
-        return repository.lastSession(accountId);
+        return persistence.read(accountId, () -> repository.lastSession(accountId));
     }
 
     /**
      * Check if a session is present for the given player
      */
     boolean hasAlreadyPlayed(Player player) {
-        return repository.hasAlreadyPlayed(player);
+        return persistence.read(player.accountId(), () -> repository.hasAlreadyPlayed(player));
     }
 }
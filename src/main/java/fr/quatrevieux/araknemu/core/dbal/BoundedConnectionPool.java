@@ -0,0 +1,442 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.dbal;
+
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pool with bounded number of connections
+ *
+ * At most maxSize connections can be borrowed at the same time : other borrowers will wait, in FIFO order,
+ * until a connection is released or the acquire timeout is reached.
+ * Idle connections are validated in background, one at a time, so borrowers are never blocked by the validation.
+ * Connections borrowed for too long are reported as leaks.
+ */
+final public class BoundedConnectionPool implements ConnectionPool {
+    /**
+     * Timeout in seconds for the connection validation
+     */
+    final static private int VALIDATION_TIMEOUT = 5;
+
+    final private Driver driver;
+    final private Logger logger;
+    final private int minSize;
+    final private int maxSize;
+    final private Duration acquireTimeout;
+    final private Duration validationInterval;
+    final private Duration leakThreshold;
+
+    final private Semaphore permits;
+    final private BlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+    final private Map<Connection, Lease> leases = new ConcurrentHashMap<>();
+    final private AtomicInteger total = new AtomicInteger();
+
+    final private LongAdder acquired = new LongAdder();
+    final private LongAdder waitTime = new LongAdder();
+    final private AtomicLong maxWaitTime = new AtomicLong();
+    final private LongAdder timeouts = new LongAdder();
+    final private LongAdder leaks = new LongAdder();
+    final private LongAdder invalid = new LongAdder();
+
+    private ScheduledExecutorService maintenance;
+    private volatile boolean closed = false;
+
+    /**
+     * @param driver The connection driver
+     * @param minSize Minimal number of opened connections
+     * @param maxSize Maximal number of borrowed connections
+     * @param acquireTimeout Maximum time to wait for a connection
+     * @param validationInterval Interval between validation of idle connections. Zero to disable validation
+     * @param leakThreshold Time after a borrowed connection is considered as leaked. Zero to disable leak detection
+     * @param logger The logger
+     */
+    public BoundedConnectionPool(Driver driver, int minSize, int maxSize, Duration acquireTimeout, Duration validationInterval, Duration leakThreshold, Logger logger) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The pool size must be at least 1");
+        }
+
+        this.driver = driver;
+        this.logger = logger;
+        this.minSize = Math.max(0, Math.min(minSize, maxSize));
+        this.maxSize = maxSize;
+        this.acquireTimeout = acquireTimeout;
+        this.validationInterval = validationInterval;
+        this.leakThreshold = leakThreshold;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Create the pool from the connection configuration
+     */
+    public BoundedConnectionPool(Driver driver, DatabaseConfiguration.Connection configuration, Logger logger) {
+        this(
+            driver,
+            configuration.minPoolSize(),
+            configuration.maxPoolSize(),
+            configuration.acquireTimeout(),
+            Duration.ofSeconds(Math.max(configuration.refreshPoolInterval(), 0)),
+            configuration.leakDetectionThreshold(),
+            logger
+        );
+    }
+
+    @Override
+    public void initialize() throws SQLException {
+        fill();
+
+        if (maintenance != null || (validationInterval.isZero() && leakThreshold.isZero())) {
+            return;
+        }
+
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "Database-Pool-Maintenance");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        if (!validationInterval.isZero()) {
+            final long interval = validationInterval.toMillis();
+
+            maintenance.scheduleWithFixedDelay(this::validate, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        if (!leakThreshold.isZero()) {
+            final long interval = Math.max(leakThreshold.toMillis() / 2, 1);
+
+            maintenance.scheduleWithFixedDelay(this::detectLeaks, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Acquire a connection
+     * If all connections are borrowed, wait until a connection is released
+     *
+     * @throws SQLTimeoutException When no connections are released before the acquire timeout
+     */
+    @Override
+    public Connection acquire() throws SQLException {
+        if (closed) {
+            throw new SQLException("The connection pool is closed");
+        }
+
+        final long start = System.nanoTime();
+
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+
+                throw new SQLTimeoutException("Cannot acquire a connection after " + acquireTimeout.toMillis() + "ms : all the " + maxSize + " connections are in use");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        recordWaitTime(System.nanoTime() - start);
+
+        try {
+            Connection connection = idle.pollFirst();
+
+            if (connection == null) {
+                connection = create();
+            }
+
+            leases.put(connection, new Lease());
+
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Give back a borrowed connection to the pool
+     * Closed connections are discarded, and connections which are not borrowed from this pool are ignored
+     */
+    @Override
+    public void release(Connection connection) {
+        if (leases.remove(connection) == null) {
+            return;
+        }
+
+        try {
+            if (closed || connection.isClosed()) {
+                discard(connection);
+            } else {
+                idle.offerFirst(connection);
+            }
+        } catch (SQLException e) {
+            discard(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Get the number of idle connections
+     */
+    @Override
+    public int size() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+
+        Connection connection;
+
+        while ((connection = idle.pollFirst()) != null) {
+            discard(connection);
+        }
+    }
+
+    /**
+     * Get a snapshot of the pool counters
+     */
+    public Statistics statistics() {
+        return new Statistics(
+            leases.size(),
+            idle.size(),
+            maxSize,
+            acquired.sum(),
+            waitTime.sum(),
+            maxWaitTime.get(),
+            timeouts.sum(),
+            leaks.sum(),
+            invalid.sum()
+        );
+    }
+
+    /**
+     * Validate all idle connections
+     * Connections are removed from the pool one by one during their validation, so borrowers will not wait for the validation
+     */
+    void validate() {
+        for (int count = idle.size(); count > 0 && !closed; --count) {
+            final Connection connection = idle.pollLast();
+
+            if (connection == null) {
+                break;
+            }
+
+            if (!isValid(connection)) {
+                invalid.increment();
+                logger.warn("Invalid connection removed from the pool");
+                discard(connection);
+            } else if (total.get() > maxSize) {
+                discard(connection);
+            } else {
+                idle.offerFirst(connection);
+            }
+        }
+
+        try {
+            fill();
+        } catch (SQLException e) {
+            logger.error("Cannot open a new connection", e);
+        }
+    }
+
+    /**
+     * Report connections borrowed for too long
+     * A leak is reported only once per borrow
+     */
+    void detectLeaks() {
+        final long now = System.nanoTime();
+
+        for (Lease lease : leases.values()) {
+            if (!lease.reported && now - lease.since >= leakThreshold.toNanos()) {
+                lease.reported = true;
+                leaks.increment();
+                logger.warn(
+                    "Connection leak detected : acquired by thread {} since {}ms",
+                    lease.thread,
+                    TimeUnit.NANOSECONDS.toMillis(now - lease.since)
+                );
+            }
+        }
+    }
+
+    /**
+     * Open connections until the minimal size is reached
+     */
+    private void fill() throws SQLException {
+        while (!closed && total.get() < minSize) {
+            idle.offerLast(create());
+        }
+    }
+
+    private Connection create() throws SQLException {
+        final Connection connection = driver.newConnection();
+
+        total.incrementAndGet();
+
+        return connection;
+    }
+
+    private void discard(Connection connection) {
+        total.decrementAndGet();
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Ignore close error
+        }
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void recordWaitTime(long nanos) {
+        acquired.increment();
+        waitTime.add(nanos);
+        maxWaitTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * A borrowed connection
+     */
+    static private class Lease {
+        final private long since = System.nanoTime();
+        final private String thread = Thread.currentThread().getName();
+        private volatile boolean reported = false;
+    }
+
+    /**
+     * Snapshot of the pool counters
+     */
+    final static public class Statistics {
+        final private int active;
+        final private int idle;
+        final private int maxSize;
+        final private long acquired;
+        final private long waitTime;
+        final private long maxWaitTime;
+        final private long timeouts;
+        final private long leaks;
+        final private long invalid;
+
+        public Statistics(int active, int idle, int maxSize, long acquired, long waitTime, long maxWaitTime, long timeouts, long leaks, long invalid) {
+            this.active = active;
+            this.idle = idle;
+            this.maxSize = maxSize;
+            this.acquired = acquired;
+            this.waitTime = waitTime;
+            this.maxWaitTime = maxWaitTime;
+            this.timeouts = timeouts;
+            this.leaks = leaks;
+            this.invalid = invalid;
+        }
+
+        /**
+         * Number of borrowed connections
+         */
+        public int active() {
+            return active;
+        }
+
+        /**
+         * Number of available connections
+         */
+        public int idle() {
+            return idle;
+        }
+
+        /**
+         * Maximum number of borrowed connections
+         */
+        public int maxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Total number of acquired connections
+         */
+        public long acquired() {
+            return acquired;
+        }
+
+        /**
+         * Average time spent waiting for a connection
+         */
+        public Duration averageWaitTime() {
+            return acquired == 0 ? Duration.ZERO : Duration.ofNanos(waitTime / acquired);
+        }
+
+        /**
+         * Maximum time spent waiting for a connection
+         */
+        public Duration maxWaitTime() {
+            return Duration.ofNanos(maxWaitTime);
+        }
+
+        /**
+         * Number of acquire timeouts
+         */
+        public long timeouts() {
+            return timeouts;
+        }
+
+        /**
+         * Number of detected leaks
+         */
+        public long leaks() {
+            return leaks;
+        }
+
+        /**
+         * Number of connections removed by the validation
+         */
+        public long invalid() {
+            return invalid;
+        }
+    }
+}
@@ -23,6 +23,8 @@ import fr.quatrevieux.araknemu.core.config.ConfigurationModule;
 import fr.quatrevieux.araknemu.core.config.Pool;
 import fr.quatrevieux.araknemu.core.config.PoolUtils;
 
+import java.time.Duration;
+
 /**
  * Configuration module for database system
  */
@@ -93,11 +95,37 @@ final public class DatabaseConfiguration implements ConfigurationModule {
 
         /**
          * Get the maximum pool size
+         * This is the maximum number of connections which can be used at the same time
          */
         public int maxPoolSize() {
             return pool.integer(name + ".poolSize", 16);
         }
 
+        /**
+         * Get the minimum number of opened connections
+         * Default to 8, or the maximum pool size if lower
+         */
+        public int minPoolSize() {
+            return Math.min(pool.integer(name + ".minPoolSize", 8), maxPoolSize());
+        }
+
+        /**
+         * Maximum time to wait for an available connection when all connections are in use
+         * Default to 30 seconds
+         */
+        public Duration acquireTimeout() {
+            return pool.duration(name + ".acquireTimeout", Duration.ofSeconds(30));
+        }
+
+        /**
+         * Time after a connection which is not released is considered as leaked
+         * Leaks are only reported on logs. Set to 0 to disable leak detection
+         * Default to 1 minute
+         */
+        public Duration leakDetectionThreshold() {
+            return pool.duration(name + ".leakDetectionThreshold", Duration.ofMinutes(1));
+        }
+
         /**
          * Get the database file path (sqlite)
          * By default same as {@link Connection#dbname()} with .db extension
@@ -116,6 +144,7 @@ final public class DatabaseConfiguration implements ConfigurationModule {
 
         /**
          * Get the refresh pool interval in seconds
+         * Idle connections are validated at this interval
          * If the value is lower than 1, the refresh will be disabled
          * Default to 3600 (1 hour)
          */
@@ -124,6 +153,26 @@ final public class DatabaseConfiguration implements ConfigurationModule {
         }
     }
 
+    final public class Persistence {
+        /**
+         * Number of threads used for execute write operations
+         * Set to 0 for execute operations synchronously, on the caller thread
+         * Default to 2
+         */
+        public int threadsCount() {
+            return pool.integer("persistence.threadsCount", 2);
+        }
+
+        /**
+         * Maximum number of pending operations per thread
+         * When this limit is reached, the caller will wait for the operations to be executed
+         * Default to 10000
+         */
+        public int queueSize() {
+            return pool.integer("persistence.queueSize", 10000);
+        }
+    }
+
     private PoolUtils pool;
 
     @Override
@@ -144,4 +193,11 @@ final public class DatabaseConfiguration implements ConfigurationModule {
     public Connection connection(String name) {
         return new Connection(name, pool);
     }
+
+    /**
+     * Get the persistence executor configuration
+     */
+    public Persistence persistence() {
+        return new Persistence();
+    }
 }
@@ -19,7 +19,10 @@
 
 package fr.quatrevieux.araknemu.core.dbal;
 
+import fr.quatrevieux.araknemu.core.dbal.executor.PersistenceExecutor;
+
 import java.sql.SQLException;
+import java.util.Map;
 
 /**
  * Handle database connections
@@ -32,8 +35,19 @@ public interface DatabaseHandler {
      */
     public ConnectionPool get(String name) throws SQLException;
 
+    /**
+     * Get the counters of all opened connection pools, indexed by the connection name
+     */
+    public Map<String, BoundedConnectionPool.Statistics> statistics();
+
+    /**
+     * Get the executor for write operations
+     */
+    public PersistenceExecutor persistence();
+
     /**
      * Stop all active connections
+     * Pending write operations are executed before
      */
     public void stop();
 }
@@ -19,12 +19,17 @@
 
 package fr.quatrevieux.araknemu.core.dbal;
 
+import fr.quatrevieux.araknemu.core.dbal.executor.AsyncPersistenceExecutor;
+import fr.quatrevieux.araknemu.core.dbal.executor.PersistenceExecutor;
+import fr.quatrevieux.araknemu.core.dbal.executor.SynchronousPersistenceExecutor;
 import org.apache.logging.log4j.Logger;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -36,6 +41,8 @@ final public class DefaultDatabaseHandler implements DatabaseHandler {
     final private Logger logger;
 
     final private Map<String, ConnectionPool> connections = new HashMap<>();
+    final private Map<String, BoundedConnectionPool> statistics = Collections.synchronizedMap(new LinkedHashMap<>());
+    private PersistenceExecutor persistence;
 
     public DefaultDatabaseHandler(DatabaseConfiguration configuration, Logger logger, Map<String, Driver.Factory> factories) {
         this.configuration = configuration;
@@ -58,15 +65,13 @@ final public class DefaultDatabaseHandler implements DatabaseHandler {
 
         DatabaseConfiguration.Connection config = configuration.connection(name);
 
-        ConnectionPool pool = new SimpleConnectionPool(
+        final BoundedConnectionPool bounded = new BoundedConnectionPool(
             factories.get(config.type()).create(config),
-            config.maxPoolSize(),
+            config,
             logger
         );
 
-        if (config.refreshPoolInterval() > 0) {
-            pool = new RefreshConnectionPool(pool, config.refreshPoolInterval(), logger);
-        }
+        ConnectionPool pool = bounded;
 
         if (config.autoReconnect()) {
             pool = new AutoReconnectConnectionPool(pool, logger);
@@ -75,10 +80,20 @@ final public class DefaultDatabaseHandler implements DatabaseHandler {
         pool.initialize();
 
         connections.put(name, pool);
+        statistics.put(name, bounded);
 
         return pool;
     }
 
+    @Override
+    public Map<String, BoundedConnectionPool.Statistics> statistics() {
+        final Map<String, BoundedConnectionPool.Statistics> result = new LinkedHashMap<>();
+
+        statistics.forEach((name, pool) -> result.put(name, pool.statistics()));
+
+        return result;
+    }
+
     /**
      * Register a new factory
      * @param type
@@ -88,10 +103,30 @@ final public class DefaultDatabaseHandler implements DatabaseHandler {
         factories.put(type, factory);
     }
 
+    @Override
+    public synchronized PersistenceExecutor persistence() {
+        if (persistence == null) {
+            final DatabaseConfiguration.Persistence config = configuration.persistence();
+
+            persistence = config.threadsCount() > 0
+                ? new AsyncPersistenceExecutor(config.threadsCount(), config.queueSize(), logger)
+                : new SynchronousPersistenceExecutor()
+            ;
+        }
+
+        return persistence;
+    }
+
     @Override
     public void stop() {
+        if (persistence != null) {
+            persistence.close();
+            persistence = null;
+        }
+
         Collection<ConnectionPool> pools = new ArrayList<>(connections.values());
         connections.clear();
+        statistics.clear();
 
         for (ConnectionPool pool : pools) {
             try { pool.close(); } catch (Exception e) {}
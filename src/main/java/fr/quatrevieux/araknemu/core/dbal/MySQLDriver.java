@@ -48,6 +48,6 @@ final public class MySQLDriver implements Driver {
     }
 
     private String jdbcUrl() {
-        return "jdbc:mysql://" + configuration.host() + "/" + configuration.dbname() + "?useLegacyDatetimeCode=false&serverTimezone=UTC&autoReconnect=true";
+        return "jdbc:mysql://" + configuration.host() + "/" + configuration.dbname() + "?useLegacyDatetimeCode=false&serverTimezone=UTC&autoReconnect=true&useServerPrepStmts=true";
     }
 }
@@ -0,0 +1,237 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.dbal.executor;
+
+import fr.quatrevieux.araknemu.core.dbal.repository.RepositoryException;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Persistence executor using dedicated worker threads
+ *
+ * Each key is bound to a single worker, which guarantee operations ordering per key.
+ * Each worker has a bounded queue : when it's full, the caller is blocked until the worker catch up (backpressure).
+ */
+final public class AsyncPersistenceExecutor implements PersistenceExecutor {
+    final private Worker[] workers;
+    final private Logger logger;
+
+    private volatile boolean closed = false;
+
+    /**
+     * @param threads Number of worker threads. Must be greater than 0
+     * @param queueSize Maximum number of pending operations per worker
+     * @param logger Logger used for errors on write operations
+     */
+    public AsyncPersistenceExecutor(int threads, int queueSize, Logger logger) {
+        this.logger = logger;
+        this.workers = new Worker[threads];
+
+        for (int i = 0; i < threads; ++i) {
+            workers[i] = new Worker(i, queueSize);
+            workers[i].start();
+        }
+    }
+
+    @Override
+    public void execute(Object key, Runnable task) {
+        final Runnable operation = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Error during persistence operation : " + e.getMessage(), e);
+            }
+        };
+
+        if (closed) {
+            operation.run();
+            return;
+        }
+
+        submit(key, operation);
+    }
+
+    @Override
+    public <T> T read(Object key, Supplier<T> query) {
+        if (closed || Thread.currentThread() instanceof Worker) {
+            return query.get();
+        }
+
+        final FutureTask<T> task = new FutureTask<>(query::get);
+
+        submit(key, task);
+
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new RepositoryException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new RepositoryException(e);
+        }
+    }
+
+    @Override
+    public int pending() {
+        int pending = 0;
+
+        for (Worker worker : workers) {
+            pending += worker.queue.size();
+        }
+
+        return pending;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        for (Worker worker : workers) {
+            worker.push(Worker.STOP);
+        }
+
+        for (Worker worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Push the task on the worker bound to the key
+     *
+     * If the executor is closed concurrently, the worker may have already drained its queue and stopped.
+     * In this case the task is executed by the current thread, so it's never lost, and the caller never waits on a stopped worker.
+     * Tasks pushed before the worker has stopped are executed by the worker, so the ordering per key is kept.
+     */
+    private void submit(Object key, Runnable task) {
+        final Worker worker = worker(key);
+
+        worker.push(task);
+
+        if (closed && worker.reclaim(task)) {
+            task.run();
+        }
+    }
+
+    /**
+     * Get the worker bound to the key
+     */
+    private Worker worker(Object key) {
+        return workers[Math.floorMod(key.hashCode(), workers.length)];
+    }
+
+    static private class Worker extends Thread {
+        final static private Runnable STOP = () -> {};
+
+        final private BlockingQueue<Runnable> queue;
+
+        final private Object lock = new Object();
+
+        /**
+         * Set when the queue is drained after close. Guarded by "lock"
+         */
+        private boolean stopped = false;
+
+        public Worker(int id, int queueSize) {
+            super("Persistence-Worker-" + id);
+
+            this.queue = new LinkedBlockingQueue<>(queueSize);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                final Runnable task;
+
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                if (task == STOP) {
+                    drain();
+                    return;
+                }
+
+                task.run();
+            }
+        }
+
+        /**
+         * Execute remaining operations pushed concurrently with close, and mark the worker as stopped
+         */
+        private void drain() {
+            for (;;) {
+                final Runnable remaining;
+
+                synchronized (lock) {
+                    remaining = queue.poll();
+
+                    if (remaining == null) {
+                        stopped = true;
+                        return;
+                    }
+                }
+
+                remaining.run();
+            }
+        }
+
+        /**
+         * Remove the task from the queue if the worker has stopped
+         *
+         * @return true if the task should be executed by the caller
+         */
+        private boolean reclaim(Runnable task) {
+            synchronized (lock) {
+                return stopped && queue.remove(task);
+            }
+        }
+
+        /**
+         * Push a task on the queue, and wait for a slot if the queue is full
+         */
+        private void push(Runnable task) {
+            try {
+                queue.put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new RepositoryException(e);
+            }
+        }
+    }
+}
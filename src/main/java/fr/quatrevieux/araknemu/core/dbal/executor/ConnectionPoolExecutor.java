@@ -25,15 +25,35 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for connection pool queries
+ *
+ * Prepared statements are cached per connection, so hot queries are not parsed on each call
  */
 final public class ConnectionPoolExecutor implements ConnectionPool, QueryExecutor {
+    /**
+     * Default maximum number of cached statements per connection
+     */
+    final static public int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
     final private ConnectionPool pool;
+    final private int statementCacheSize;
+    final private Map<Connection, StatementCache> caches = new ConcurrentHashMap<>();
 
-    public ConnectionPoolExecutor(ConnectionPool pool) {
+    /**
+     * @param pool The connection pool
+     * @param statementCacheSize Maximum number of cached statements per connection. Set to 0 for disable the cache
+     */
+    public ConnectionPoolExecutor(ConnectionPool pool, int statementCacheSize) {
         this.pool = pool;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    public ConnectionPoolExecutor(ConnectionPool pool) {
+        this(pool, DEFAULT_STATEMENT_CACHE_SIZE);
     }
 
     @Override
@@ -58,6 +78,25 @@ final public class ConnectionPoolExecutor implements ConnectionPool, QueryExecut
 
     @Override
     public <T> T prepare(String sql, PreparedTask<T> task, boolean returnGeneratedKeys) throws SQLException {
+        if (statementCacheSize > 0) {
+            return execute(connection -> {
+                final StatementCache cache = cache(connection);
+                final StatementCache.CachedStatement statement = cache.get(sql, returnGeneratedKeys);
+
+                try {
+                    final T result = task.execute(statement.statement());
+
+                    statement.release();
+
+                    return result;
+                } catch (SQLException | RuntimeException e) {
+                    // The statement state is unknown : do not reuse it
+                    cache.evict(statement);
+                    throw e;
+                }
+            });
+        }
+
         return execute(connection -> {
             try (PreparedStatement stmt = connection.prepareStatement(
                 sql,
@@ -88,6 +127,35 @@ final public class ConnectionPoolExecutor implements ConnectionPool, QueryExecut
 
     @Override
     public void close() throws Exception {
+        caches.values().forEach(StatementCache::close);
+        caches.clear();
         pool.close();
     }
+
+    /**
+     * Get the number of cached statements, for all connections
+     */
+    public int cachedStatements() {
+        return caches.values().stream().mapToInt(StatementCache::size).sum();
+    }
+
+    /**
+     * Get the statement cache of the connection
+     * Caches of closed connections are removed when a new connection is used
+     */
+    private StatementCache cache(Connection connection) {
+        final StatementCache cache = caches.get(connection);
+
+        if (cache != null) {
+            return cache;
+        }
+
+        caches.values().removeIf(StatementCache::closed);
+
+        final StatementCache newCache = new StatementCache(connection, statementCacheSize);
+
+        caches.put(connection, newCache);
+
+        return newCache;
+    }
 }
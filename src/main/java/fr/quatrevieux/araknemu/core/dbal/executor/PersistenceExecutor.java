@@ -0,0 +1,67 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.dbal.executor;
+
+import java.util.function.Supplier;
+
+/**
+ * Executor for persistence operations
+ *
+ * Write operations are performed outside the caller thread, so network threads are never blocked by the database.
+ * Operations sharing the same key are executed in submission order, so the last write of an entity always wins.
+ */
+public interface PersistenceExecutor extends AutoCloseable {
+    /**
+     * Push a write operation
+     * When the executor is overloaded, this method will block until a slot is available
+     *
+     * executor.execute(player.id(), () -> repository.save(player));
+     *
+     * @param key The ordering key. Should be the entity, or owner entity, id
+     * @param task The write operation
+     */
+    public void execute(Object key, Runnable task);
+
+    /**
+     * Perform a read operation after all pending writes of the given key
+     * This method will block until the result is available
+     *
+     * Player player = executor.read(id, () -> repository.get(id));
+     *
+     * @param key The ordering key
+     * @param query The read operation
+     * @param <T> The result type
+     *
+     * @return The query result
+     */
+    public <T> T read(Object key, Supplier<T> query);
+
+    /**
+     * Get the number of pending write operations
+     */
+    public int pending();
+
+    /**
+     * Execute all pending operations and stop the executor
+     * Operations pushed after close will be executed synchronously
+     */
+    @Override
+    public void close();
+}
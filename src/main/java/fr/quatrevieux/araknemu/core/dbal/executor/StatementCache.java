@@ -0,0 +1,193 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.dbal.executor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LRU cache of prepared statements of a single connection
+ *
+ * The cache is not thread safe : it must only be used by the thread which has acquired the connection
+ */
+final class StatementCache implements AutoCloseable {
+    final private Connection connection;
+    final private int capacity;
+    final private Map<String, CachedStatement> statements;
+
+    public StatementCache(Connection connection, int capacity) {
+        this.connection = connection;
+        this.capacity = capacity;
+        this.statements = new LinkedHashMap<>(capacity, 0.75f, true);
+    }
+
+    /**
+     * Get the prepared statement from the cache, or prepare it
+     * The statement must be released using {@link CachedStatement#release()} after use
+     *
+     * @param sql The SQL query
+     * @param returnGeneratedKeys Set true to return generated keys
+     */
+    public CachedStatement get(String sql, boolean returnGeneratedKeys) throws SQLException {
+        final String key = returnGeneratedKeys ? "K:" + sql : sql;
+        final CachedStatement cached = statements.get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final CachedStatement statement = new CachedStatement(
+            key,
+            connection.prepareStatement(
+                sql,
+                returnGeneratedKeys
+                    ? PreparedStatement.RETURN_GENERATED_KEYS
+                    : PreparedStatement.NO_GENERATED_KEYS
+            )
+        );
+
+        statements.put(key, statement);
+
+        if (statements.size() > capacity) {
+            final Iterator<CachedStatement> eldest = statements.values().iterator();
+
+            eldest.next().close();
+            eldest.remove();
+        }
+
+        return statement;
+    }
+
+    /**
+     * Remove the statement from the cache and close it
+     */
+    public void evict(CachedStatement statement) {
+        statements.remove(statement.key, statement);
+        statement.close();
+    }
+
+    /**
+     * Number of cached statements
+     */
+    public int size() {
+        return statements.size();
+    }
+
+    /**
+     * Check if the connection is closed
+     * In such case the cache must be removed
+     */
+    public boolean closed() {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        for (CachedStatement statement : statements.values()) {
+            statement.close();
+        }
+
+        statements.clear();
+    }
+
+    /**
+     * Wrap the cached statement, for keep track of opened result sets, and prevent closing the statement
+     */
+    static final class CachedStatement implements InvocationHandler {
+        final private String key;
+        final private PreparedStatement statement;
+        final private PreparedStatement proxy;
+        final private List<ResultSet> results = new ArrayList<>(1);
+
+        private CachedStatement(String key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class[] {PreparedStatement.class},
+                this
+            );
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // The statement is owned by the cache
+            if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                return null;
+            }
+
+            final Object result;
+
+            try {
+                result = method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (result instanceof ResultSet) {
+                results.add((ResultSet) result);
+            }
+
+            return result;
+        }
+
+        /**
+         * Get the statement to use
+         */
+        public PreparedStatement statement() {
+            return proxy;
+        }
+
+        /**
+         * Close result sets and clear parameters, so the statement can be reused
+         */
+        public void release() throws SQLException {
+            for (ResultSet result : results) {
+                result.close();
+            }
+
+            results.clear();
+            statement.clearParameters();
+        }
+
+        private void close() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // Ignore
+            }
+        }
+    }
+}
@@ -21,11 +21,13 @@ package fr.quatrevieux.araknemu.core.dbal.repository;
 
 import fr.quatrevieux.araknemu.core.dbal.executor.QueryExecutor;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -72,6 +74,13 @@ public class RepositoryUtils<E> {
         public void bind(PreparedStatement statement) throws SQLException;
     }
 
+    public interface EntityBinder<E> {
+        /**
+         * Bind entity data into PreparedStatement
+         */
+        public void bind(PreparedStatement statement, E entity) throws SQLException;
+    }
+
     final private QueryExecutor executor;
     final private Loader<E> loader;
 
@@ -287,4 +296,63 @@ public class RepositoryUtils<E> {
             throw new RepositoryException(e);
         }
     }
+
+    /**
+     * Execute an update query for each entities, using a single batch in one transaction
+     * If one of the query fails, all the batch is rolled back
+     *
+     * util.updateAll(
+     *     "UPDATE ACCOUNT SET PSEUDO = ? WHERE ACCOUNT_ID = ?",
+     *     accounts,
+     *     (rs, account) -> {
+     *         rs.setString(1, account.pseudo());
+     *         rs.setInt(2, account.id());
+     *     }
+     * );
+     *
+     * @param query The update query
+     * @param entities Entities to save
+     * @param binder The entity binder
+     *
+     * @return Number of affected rows for each entity
+     *
+     * @throws RepositoryException When error occurs during query execution
+     */
+    public int[] updateAll(String query, Collection<? extends E> entities, EntityBinder<E> binder) throws RepositoryException {
+        if (entities.isEmpty()) {
+            return new int[0];
+        }
+
+        try {
+            return executor.prepare(
+                query,
+                statement -> {
+                    final Connection connection = statement.getConnection();
+                    final boolean autoCommit = connection.getAutoCommit();
+
+                    connection.setAutoCommit(false);
+
+                    try {
+                        for (E entity : entities) {
+                            binder.bind(statement, entity);
+                            statement.addBatch();
+                        }
+
+                        final int[] result = statement.executeBatch();
+
+                        connection.commit();
+
+                        return result;
+                    } catch (SQLException | RuntimeException e) {
+                        connection.rollback();
+                        throw e;
+                    } finally {
+                        connection.setAutoCommit(autoCommit);
+                    }
+                }
+            );
+        } catch (SQLException e) {
+            throw new RepositoryException(e);
+        }
+    }
 }
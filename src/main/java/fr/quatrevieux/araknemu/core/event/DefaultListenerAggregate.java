@@ -14,7 +14,7 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
  *
- * Copyright (c) 2017-2019 Vincent Quatrevieux
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
  */
 
 package fr.quatrevieux.araknemu.core.event;
@@ -22,20 +22,26 @@ package fr.quatrevieux.araknemu.core.event;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Default implementation for dispatcher, using maps
+ * Default implementation for dispatcher
  *
- * @fixme Use ConcurrentHashMap instead of HashMap ?
+ * Listeners are compiled into an array per event class, which is copied on each modification
+ * So dispatch is a single lookup followed by an array iteration, and it's safe to add or remove listeners during a dispatch
+ * In this case, the modification is only visible on the next dispatch
  */
 final public class DefaultListenerAggregate implements ListenerAggregate {
+    final static private Listener[] EMPTY = new Listener[0];
+
     final private Logger logger;
-    final private Map<Class<? extends Listener>, Listener> listeners = new HashMap<>();
-    final private Map<Class, Set<Class<? extends Listener>>> events = new HashMap<>();
+    final private Map<Class<? extends Listener>, Listener> listeners = new ConcurrentHashMap<>();
+    final private Map<Class, EventListeners> events = new ConcurrentHashMap<>();
 
     final static private Logger defaultLogger = LogManager.getLogger(DefaultListenerAggregate.class);
 
@@ -49,27 +55,36 @@ final public class DefaultListenerAggregate implements ListenerAggregate {
 
     @Override
     public void dispatch(Object event) {
-        if (!events.containsKey(event.getClass())) {
+        final EventListeners eventListeners = events.get(event.getClass());
+
+        if (eventListeners == null) {
             return;
         }
 
-        for (Class listenerClass : events.get(event.getClass())) {
+        final long start = System.nanoTime();
+
+        for (Listener listener : eventListeners.listeners) {
             try {
-                get(listenerClass).on(event);
+                listener.on(event);
             } catch (RuntimeException e) {
                 logger.error(e.getMessage(), e);
             }
         }
+
+        eventListeners.count.increment();
+        eventListeners.time.add(System.nanoTime() - start);
     }
 
     @Override
-    public void add(Listener listener) {
-        if (!events.containsKey(listener.event())) {
-            events.put(listener.event(), new LinkedHashSet<>());
+    public synchronized void add(Listener listener) {
+        Listener previous = listeners.put(listener.getClass(), listener);
+
+        if (previous != null && previous.event() != listener.event()) {
+            events.get(previous.event()).remove(previous);
+            previous = null;
         }
 
-        listeners.put(listener.getClass(), listener);
-        events.get(listener.event()).add(listener.getClass());
+        events.computeIfAbsent(listener.event(), event -> new EventListeners()).add(previous, listener);
     }
 
     @Override
@@ -78,17 +93,136 @@ final public class DefaultListenerAggregate implements ListenerAggregate {
     }
 
     @Override
-    public void remove(Class<? extends Listener> listenerClass) {
-        if (!has(listenerClass)) {
-            return;
-        }
+    public synchronized void remove(Class<? extends Listener> listenerClass) {
+        final Listener listener = listeners.remove(listenerClass);
 
-        Listener listener = listeners.remove(listenerClass);
-        events.get(listener.event()).remove(listenerClass);
+        if (listener != null) {
+            events.get(listener.event()).remove(listener);
+        }
     }
 
     @Override
     public <E extends Listener> E get(Class<E> listenerClass) {
         return (E) listeners.get(listenerClass);
     }
+
+    /**
+     * Get dispatch counters, indexed by the event class
+     * Only events which have (or had) a registered listener are present
+     */
+    public Map<Class, Statistics> statistics() {
+        final Map<Class, Statistics> statistics = new HashMap<>();
+
+        events.forEach((event, eventListeners) -> statistics.put(
+            event,
+            new Statistics(eventListeners.listeners.length, eventListeners.count.sum(), eventListeners.time.sum())
+        ));
+
+        return statistics;
+    }
+
+    /**
+     * Compiled listeners of an event
+     * The array is replaced on each modification, and must not be modified
+     */
+    static private class EventListeners {
+        private volatile Listener[] listeners = EMPTY;
+
+        final private LongAdder count = new LongAdder();
+        final private LongAdder time = new LongAdder();
+
+        /**
+         * Add a listener at the end of the list, or replace the previous one at the same position
+         */
+        private void add(Listener previous, Listener listener) {
+            final Listener[] current = listeners;
+
+            if (previous != null) {
+                final int index = indexOf(current, previous);
+
+                if (index >= 0) {
+                    final Listener[] newListeners = current.clone();
+
+                    newListeners[index] = listener;
+                    listeners = newListeners;
+
+                    return;
+                }
+            }
+
+            final Listener[] newListeners = Arrays.copyOf(current, current.length + 1);
+
+            newListeners[current.length] = listener;
+            listeners = newListeners;
+        }
+
+        private void remove(Listener listener) {
+            final Listener[] current = listeners;
+            final int index = indexOf(current, listener);
+
+            if (index < 0) {
+                return;
+            }
+
+            final Listener[] newListeners = new Listener[current.length - 1];
+
+            System.arraycopy(current, 0, newListeners, 0, index);
+            System.arraycopy(current, index + 1, newListeners, index, current.length - index - 1);
+
+            listeners = newListeners;
+        }
+
+        static private int indexOf(Listener[] listeners, Listener listener) {
+            for (int i = 0; i < listeners.length; ++i) {
+                if (listeners[i] == listener) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    /**
+     * Dispatch counters of an event class
+     */
+    final static public class Statistics {
+        final private int listeners;
+        final private long count;
+        final private long time;
+
+        public Statistics(int listeners, long count, long time) {
+            this.listeners = listeners;
+            this.count = count;
+            this.time = time;
+        }
+
+        /**
+         * Number of registered listeners
+         */
+        public int listeners() {
+            return listeners;
+        }
+
+        /**
+         * Number of dispatched events
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Total time spent on listeners
+         */
+        public Duration total() {
+            return Duration.ofNanos(time);
+        }
+
+        /**
+         * Average time spent on listeners per dispatch
+         */
+        public Duration average() {
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(time / count);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.metrics;
+
+import java.util.Map;
+
+/**
+ * Registry of named runtime metrics
+ * Implementations can be replaced for exporting metrics to an external monitoring system
+ *
+ * All implementations must be thread safe
+ */
+public interface MetricsRegistry {
+    /**
+     * Get a timer by its name
+     * The timer is created if not exists
+     *
+     * @param name The metric name. Use dot as namespace separator, like "fight.turn"
+     */
+    public Timer timer(String name);
+
+    /**
+     * Get all registered timers, ordered by name
+     */
+    public Map<String, Timer> timers();
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe aggregation of durations
+ */
+final public class Timer {
+    final private Timer parent;
+
+    final private LongAdder count = new LongAdder();
+    final private LongAdder total = new LongAdder();
+    final private AtomicLong max = new AtomicLong();
+
+    public Timer() {
+        this(null);
+    }
+
+    /**
+     * @param parent Timer which also receives all durations recorded on this timer. Can be null.
+     */
+    public Timer(Timer parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Record a new duration
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long nanos) {
+        count.increment();
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+
+        if (parent != null) {
+            parent.record(nanos);
+        }
+    }
+
+    /**
+     * Number of recorded durations
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Sum of all recorded durations
+     */
+    public Duration total() {
+        return Duration.ofNanos(total.sum());
+    }
+
+    /**
+     * Average duration, or zero if nothing is recorded
+     */
+    public Duration average() {
+        final long count = count();
+
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / count);
+    }
+
+    /**
+     * The longest recorded duration
+     */
+    public Duration max() {
+        return Duration.ofNanos(max.get());
+    }
+}
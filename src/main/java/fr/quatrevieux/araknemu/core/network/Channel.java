@@ -20,6 +20,7 @@
 package fr.quatrevieux.araknemu.core.network;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
 
 /**
  * Base interface for handle low level IO on socket
@@ -51,4 +52,10 @@ public interface Channel {
      * Get the client address
      */
     public InetSocketAddress address();
+
+    /**
+     * Get the executor of the IO thread bound to the channel
+     * The task is executed immediately when called from the IO thread, or scheduled on it otherwise
+     */
+    public Executor executor();
 }
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Packet serialized only once, for broadcasting to many sessions
+ *
+ * The packet string and its encoded bytes (including the packet terminator) are lazily computed
+ * on the first send, and shared with all the other recipients
+ */
+final public class PreEncodedPacket {
+    final private Object packet;
+
+    private volatile String value;
+    private volatile byte[] bytes;
+
+    private PreEncodedPacket(Object packet) {
+        this.packet = packet;
+    }
+
+    /**
+     * Get the original packet
+     */
+    public Object packet() {
+        return packet;
+    }
+
+    /**
+     * Get the UTF-8 encoded packet, with the "\0" terminator
+     * The returned array is shared, and must not be modified
+     */
+    public byte[] bytes() {
+        byte[] bytes = this.bytes;
+
+        if (bytes == null) {
+            this.bytes = bytes = (toString() + "\000").getBytes(StandardCharsets.UTF_8);
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        String value = this.value;
+
+        if (value == null) {
+            this.value = value = packet.toString();
+        }
+
+        return value;
+    }
+
+    /**
+     * Wrap the packet for be sent to many sessions
+     * If the packet is already pre-encoded, it will be returned as is
+     *
+     * @param packet The packet to send
+     */
+    static public PreEncodedPacket of(Object packet) {
+        if (packet instanceof PreEncodedPacket) {
+            return (PreEncodedPacket) packet;
+        }
+
+        return new PreEncodedPacket(packet);
+    }
+}
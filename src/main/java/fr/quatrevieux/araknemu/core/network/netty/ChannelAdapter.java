@@ -20,18 +20,29 @@
 package fr.quatrevieux.araknemu.core.network.netty;
 
 import fr.quatrevieux.araknemu.core.network.Channel;
+import fr.quatrevieux.araknemu.core.network.PreEncodedPacket;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
 
 /**
  * Adapt Netty channel to Araknemu Channel
  */
 final public class ChannelAdapter implements Channel {
     final private ChannelHandlerContext channel;
+    final private Executor executor;
 
     public ChannelAdapter(ChannelHandlerContext channel) {
         this.channel = channel;
+        this.executor = task -> {
+            if (channel.executor().inEventLoop()) {
+                task.run();
+            } else {
+                channel.executor().execute(task);
+            }
+        };
     }
 
     @Override
@@ -41,6 +52,12 @@ final public class ChannelAdapter implements Channel {
 
     @Override
     public void write(Object message) {
+        if (message instanceof PreEncodedPacket) {
+            // The shared array is only wrapped : no copy nor encoding is performed
+            channel.writeAndFlush(Unpooled.wrappedBuffer(((PreEncodedPacket) message).bytes()));
+            return;
+        }
+
         channel.writeAndFlush(message.toString());
     }
 
@@ -58,4 +75,9 @@ final public class ChannelAdapter implements Channel {
     public InetSocketAddress address() {
         return (InetSocketAddress) channel.channel().remoteAddress();
     }
+
+    @Override
+    public Executor executor() {
+        return executor;
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network.netty;
+
+import fr.quatrevieux.araknemu.core.config.ConfigurationModule;
+import fr.quatrevieux.araknemu.core.config.Pool;
+import fr.quatrevieux.araknemu.core.config.PoolUtils;
+
+/**
+ * Configuration of the network transport layer, shared by all servers
+ */
+final public class NettyConfiguration implements ConfigurationModule {
+    private PoolUtils pool;
+
+    @Override
+    public void setPool(Pool pool) {
+        this.pool = new PoolUtils(pool);
+    }
+
+    @Override
+    public String name() {
+        return "network";
+    }
+
+    /**
+     * Number of IO threads. Default: the number of available processors
+     */
+    public int ioThreads() {
+        return pool.integer("ioThreads", Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Consolidate flushes of written packets
+     * If enabled, packets sent while handling a received packet are flushed when reading is completed,
+     * and packets sent from other threads are flushed once per event loop tick. Default: true
+     */
+    public boolean flushConsolidation() {
+        return pool.bool("flushConsolidation", true);
+    }
+
+    /**
+     * Use the native epoll transport, if available (linux only)
+     * When epoll is not available, the NIO transport is used. Default: false
+     */
+    public boolean epoll() {
+        return pool.bool("epoll", false);
+    }
+
+    /**
+     * Encode packets directly into pooled direct buffers
+     * If disabled, packets are encoded using heap strings. Default: true
+     */
+    public boolean directBuffer() {
+        return pool.bool("directBuffer", true);
+    }
+}
@@ -24,14 +24,20 @@ import fr.quatrevieux.araknemu.core.network.SessionIdle;
 import fr.quatrevieux.araknemu.core.network.session.Session;
 import fr.quatrevieux.araknemu.core.network.session.SessionFactory;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.DelimiterBasedFrameDecoder;
 import io.netty.handler.codec.MessageToMessageEncoder;
 import io.netty.handler.codec.string.StringDecoder;
 import io.netty.handler.codec.string.StringEncoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.CharsetUtil;
@@ -45,8 +51,18 @@ import java.util.concurrent.TimeUnit;
  * Server adapter for Netty
  */
 final public class NettyServer<S extends Session> implements Server<S> {
+    /**
+     * Add the packet terminator on string packets
+     * Only used when {@link NettyConfiguration#directBuffer()} is disabled
+     */
     @ChannelHandler.Sharable
     final static public class MessageEndEncoder extends MessageToMessageEncoder<Object> {
+        @Override
+        public boolean acceptOutboundMessage(Object msg) {
+            // Pre-encoded packets already contains the packet terminator
+            return !(msg instanceof ByteBuf);
+        }
+
         @Override
         protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) {
             out.add(msg + "\000");
@@ -56,15 +72,18 @@ final public class NettyServer<S extends Session> implements Server<S> {
     final private SessionFactory<S> factory;
     final private int port;
     final private Duration readTimeout;
+    final private NettyConfiguration configuration;
 
     private Channel serverChannel;
     private EventLoopGroup loopGroup;
     private SessionHandlerAdapter<S> handlerAdapter;
+    private boolean epoll = false;
 
-    public NettyServer(SessionFactory<S> factory, int port, Duration readTimeout) {
+    public NettyServer(SessionFactory<S> factory, int port, Duration readTimeout, NettyConfiguration configuration) {
         this.factory = factory;
         this.port = port;
         this.readTimeout = readTimeout;
+        this.configuration = configuration;
     }
 
     @Override
@@ -73,20 +92,35 @@ final public class NettyServer<S extends Session> implements Server<S> {
 
         handlerAdapter = new SessionHandlerAdapter<>(factory);
         StringDecoder decoder = new StringDecoder(CharsetUtil.UTF_8);
-        StringEncoder encoder = new StringEncoder(CharsetUtil.UTF_8);
-        MessageToMessageEncoder<Object> messageEncoder = new MessageEndEncoder();
+        ChannelHandler[] encoders = configuration.directBuffer()
+            ? new ChannelHandler[] {new PacketEncoder()}
+            : new ChannelHandler[] {new StringEncoder(CharsetUtil.UTF_8), new MessageEndEncoder()}
+        ;
+
+        epoll = configuration.epoll() && Epoll.isAvailable();
+        final Class<? extends ServerSocketChannel> channelType = epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+
+        loopGroup = epoll
+            ? new EpollEventLoopGroup(configuration.ioThreads())
+            : new NioEventLoopGroup(configuration.ioThreads())
+        ;
 
         bootstrap
-            .group(loopGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors()))
-            .channel(NioServerSocketChannel.class)
+            .group(loopGroup)
+            .channel(channelType)
             .childHandler(new ChannelInitializer<Channel>() {
                 protected void initChannel(Channel channel) {
-                    channel
-                        .pipeline()
+                    final ChannelPipeline pipeline = channel.pipeline();
+
+                    if (configuration.flushConsolidation()) {
+                        // Flushes are delayed to the end of the read, or to the next event loop tick
+                        pipeline.addLast(new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
+                    }
+
+                    pipeline
                         .addLast(new DelimiterBasedFrameDecoder(4096, Unpooled.wrappedBuffer(new byte[]{10, 0})))
-                        .addLast(encoder)
+                        .addLast(encoders)
                         .addLast(decoder)
-                        .addLast(messageEncoder)
                         .addLast(new IdleStateHandler(readTimeout.toMillis(), 0, 0, TimeUnit.MILLISECONDS) {
                             @Override
                             protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) throws Exception {
@@ -102,6 +136,7 @@ final public class NettyServer<S extends Session> implements Server<S> {
         serverChannel = bootstrap
             .localAddress(port)
             .bind()
+            .syncUninterruptibly()
             .channel()
         ;
     }
@@ -116,4 +151,14 @@ final public class NettyServer<S extends Session> implements Server<S> {
     public Collection<S> sessions() {
         return handlerAdapter.sessions();
     }
+
+    /**
+     * Check if the native epoll transport is used
+     * The value is only valid once the server is started
+     *
+     * @see NettyConfiguration#epoll()
+     */
+    public boolean epoll() {
+        return epoll;
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Encode outgoing packets to UTF-8, with the packet terminator
+ * The packet is written into a single pooled buffer (direct by default), without intermediate string
+ */
+@ChannelHandler.Sharable
+final public class PacketEncoder extends MessageToByteEncoder<CharSequence> {
+    public PacketEncoder(boolean preferDirect) {
+        super(CharSequence.class, preferDirect);
+    }
+
+    public PacketEncoder() {
+        this(true);
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, CharSequence msg, boolean preferDirect) {
+        final int size = ByteBufUtil.utf8Bytes(msg) + 1;
+
+        return preferDirect ? ctx.alloc().ioBuffer(size) : ctx.alloc().heapBuffer(size);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, CharSequence msg, ByteBuf out) {
+        ByteBufUtil.writeUtf8(out, msg);
+        out.writeByte(0);
+    }
+}
@@ -19,48 +19,60 @@
 
 package fr.quatrevieux.araknemu.core.network.parser;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Base packet parser
  * Will aggregate multiple {@link SinglePacketParser} for parse the incoming packet
+ *
+ * Parsers are compiled into a prefix tree indexed by the header chars,
+ * so the parser is resolved without allocation, in a single pass over the header
  */
 final public class AggregatePacketParser implements PacketParser {
-    final private ConcurrentMap<String, SinglePacketParser> parsers = new ConcurrentHashMap<>();
+    final private Map<String, SinglePacketParser> parsers = new LinkedHashMap<>();
 
-    private int minCodeLength = 2;
-    private int maxCodeLength = 2;
+    private volatile Node root = new Node();
 
     public AggregatePacketParser(SinglePacketParser[] parsers) {
-        for (SinglePacketParser parser : parsers) {
-            this.register(parser);
-        }
+        this(Arrays.asList(parsers));
     }
 
     public AggregatePacketParser(Collection<SinglePacketParser> parsers) {
         for (SinglePacketParser parser : parsers) {
-            this.register(parser);
+            this.parsers.put(parser.code(), parser);
         }
+
+        compile();
     }
 
     @Override
     public Packet parse(String input) throws ParsePacketException {
-        int len = maxCodeLength > input.length() ? input.length() : maxCodeLength;
+        Node node = root;
+        SinglePacketParser parser = node.parser;
+        int headerLength = 0;
 
-        for(; len >= minCodeLength; --len) {
-            String header = input.substring(0, len);
+        // Find the longest registered header
+        for (int i = 0; i < input.length(); ++i) {
+            node = node.child(input.charAt(i));
 
-            if(parsers.containsKey(header)){
-                return parsers
-                    .get(header)
-                    .parse(input.substring(len))
-                ;
+            if (node == null) {
+                break;
             }
+
+            if (node.parser != null) {
+                parser = node.parser;
+                headerLength = i + 1;
+            }
+        }
+
+        if (parser == null) {
+            throw new UndefinedPacketException(input);
         }
 
-        throw new UndefinedPacketException(input);
+        return parser.parse(input, headerLength);
     }
 
     /**
@@ -68,15 +80,75 @@ final public class AggregatePacketParser implements PacketParser {
      * If a parse with the same code is already registered, it will be override
      * @param parser New parser
      */
-    public void register(SinglePacketParser parser) {
+    synchronized public void register(SinglePacketParser parser) {
         parsers.put(parser.code(), parser);
+        compile();
+    }
+
+    /**
+     * Build the prefix tree from registered parsers
+     * The new tree is published at once, so parse can be safely called during registration
+     */
+    private void compile() {
+        final Node root = new Node();
+
+        for (SinglePacketParser parser : parsers.values()) {
+            Node node = root;
+
+            for (int i = 0; i < parser.code().length(); ++i) {
+                node = node.add(parser.code().charAt(i));
+            }
 
-        if (parser.code().length() < minCodeLength) {
-            minCodeLength = parser.code().length();
+            node.parser = parser;
         }
 
-        if (parser.code().length() > maxCodeLength) {
-            maxCodeLength = parser.code().length();
+        this.root = root;
+    }
+
+    /**
+     * Node of the prefix tree
+     * Children are stored into an array indexed by the char, starting at the lowest child char
+     */
+    static private class Node {
+        final static private Node[] EMPTY = new Node[0];
+
+        private SinglePacketParser parser;
+        private char first;
+        private Node[] children = EMPTY;
+
+        /**
+         * Get the child node for the given char, or null if not found
+         */
+        private Node child(char c) {
+            final int index = c - first;
+
+            return index >= 0 && index < children.length ? children[index] : null;
+        }
+
+        /**
+         * Get or create the child node
+         */
+        private Node add(char c) {
+            if (children.length == 0) {
+                first = c;
+                children = new Node[1];
+            } else if (c < first) {
+                final Node[] expanded = new Node[children.length + first - c];
+
+                System.arraycopy(children, 0, expanded, first - c, children.length);
+                children = expanded;
+                first = c;
+            } else if (c - first >= children.length) {
+                children = Arrays.copyOf(children, c - first + 1);
+            }
+
+            final int index = c - first;
+
+            if (children[index] == null) {
+                children[index] = new Node();
+            }
+
+            return children[index];
         }
     }
 }
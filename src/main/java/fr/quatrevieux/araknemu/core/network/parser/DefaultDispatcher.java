@@ -37,10 +37,12 @@ final public class DefaultDispatcher<S> implements Dispatcher<S> {
 
     @Override
     public void dispatch(S session, Packet packet) throws Exception {
-        if (!handlers.containsKey(packet.getClass())) {
+        final PacketHandler handler = handlers.get(packet.getClass());
+
+        if (handler == null) {
             throw new HandlerNotFoundException(packet);
         }
 
-        handlers.get(packet.getClass()).handle(session, packet);
+        handler.handle(session, packet);
     }
 }
@@ -26,6 +26,19 @@ public interface SinglePacketParser<P extends Packet> extends PacketParser {
     @Override
     public P parse(String input) throws ParsePacketException;
 
+    /**
+     * Parse the packet body, which starts at the given offset of the input
+     * This method is called by {@link AggregatePacketParser} with the full packet, and the header length as offset
+     *
+     * By default, the body is extracted using substring. Override this method for parse without allocating the body
+     *
+     * @param input The full packet
+     * @param offset The body start offset
+     */
+    public default P parse(String input, int offset) throws ParsePacketException {
+        return parse(input.substring(offset));
+    }
+
     /**
      * Get the packet identification code
      * This code is the 2 or 3 first chars of the incoming packet
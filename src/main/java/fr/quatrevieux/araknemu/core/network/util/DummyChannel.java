@@ -20,9 +20,11 @@
 package fr.quatrevieux.araknemu.core.network.util;
 
 import fr.quatrevieux.araknemu.core.network.Channel;
+import fr.quatrevieux.araknemu.core.network.PreEncodedPacket;
 
 import java.net.InetSocketAddress;
 import java.util.Stack;
+import java.util.concurrent.Executor;
 
 /**
  * Dummy implementation of channel
@@ -33,6 +35,7 @@ final public class DummyChannel implements Channel {
     private Stack<Object> messages = new Stack<>();
     private DummyServer<?> server;
     private String ipAddress;
+    private Executor executor = Runnable::run;
 
     public DummyChannel() {
         this("127.0.0.1");
@@ -49,6 +52,12 @@ final public class DummyChannel implements Channel {
 
     @Override
     public void write(Object message) {
+        if (message instanceof PreEncodedPacket) {
+            // Encode the packet like the network channel, which shares the encoded bytes between recipients
+            ((PreEncodedPacket) message).bytes();
+            message = ((PreEncodedPacket) message).packet();
+        }
+
         messages.push(message);
     }
 
@@ -74,6 +83,14 @@ final public class DummyChannel implements Channel {
         this.id = id;
     }
 
+    /**
+     * Define the IO thread executor
+     * By default, tasks are executed by the calling thread
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
     void setServer(DummyServer<?> server) {
         this.server = server;
     }
@@ -82,4 +99,9 @@ final public class DummyChannel implements Channel {
     public InetSocketAddress address() {
         return new InetSocketAddress(ipAddress, 0);
     }
+
+    @Override
+    public Executor executor() {
+        return executor;
+    }
 }
@@ -66,6 +66,8 @@ public enum Characteristic {
     RESISTANCE_PVP_FIRE,
     RESISTANCE_PERCENT_PVP_FIRE;
 
+    final static private Characteristic[] VALUES = values();
+
     /**
      * Get the characteristic race
      */
@@ -77,6 +79,6 @@ public enum Characteristic {
      * Get characteristic by its race
      */
     static public Characteristic fromId(int id) {
-        return values()[id - 8];
+        return VALUES[id - 8];
     }
 }
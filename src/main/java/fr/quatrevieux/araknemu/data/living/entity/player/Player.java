@@ -22,6 +22,7 @@ package fr.quatrevieux.araknemu.data.living.entity.player;
 import fr.arakne.utils.value.Colors;
 import fr.arakne.utils.value.constant.Gender;
 import fr.arakne.utils.value.constant.Race;
+import fr.quatrevieux.araknemu.data.constant.Characteristic;
 import fr.quatrevieux.araknemu.data.living.entity.WalletEntity;
 import fr.quatrevieux.araknemu.data.value.Position;
 import fr.quatrevieux.araknemu.game.chat.ChannelType;
@@ -214,6 +215,48 @@ final public class Player implements WalletEntity {
         );
     }
 
+    /**
+     * Create a copy of the player, which is not affected by later modifications
+     * Used to write the player outside the thread which owns it
+     */
+    public Player snapshot() {
+        MutableCharacteristics statsCopy = null;
+        Set<ChannelType> channelsCopy = null;
+
+        if (stats != null) {
+            statsCopy = new DefaultCharacteristics();
+
+            for (Characteristic characteristic : Characteristic.values()) {
+                statsCopy.set(characteristic, stats.get(characteristic));
+            }
+        }
+
+        if (channels != null) {
+            channelsCopy = EnumSet.noneOf(ChannelType.class);
+            channelsCopy.addAll(channels);
+        }
+
+        return new Player(
+            id,
+            accountId,
+            serverId,
+            name,
+            race,
+            gender,
+            colors,
+            level,
+            statsCopy,
+            position,
+            channelsCopy,
+            boostPoints,
+            spellPoints,
+            life,
+            experience,
+            savedPosition,
+            kamas
+        );
+    }
+
     /**
      * Constructor for character creation
      * The player race will be set to -1
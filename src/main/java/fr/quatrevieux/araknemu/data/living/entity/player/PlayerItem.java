@@ -80,4 +80,12 @@ final public class PlayerItem implements Item {
     public void setPosition(int position) {
         this.position = position;
     }
+
+    /**
+     * Create a copy of the item, which is not affected by later modifications
+     * Used to write the item outside the thread which owns it
+     */
+    public PlayerItem snapshot() {
+        return new PlayerItem(playerId, entryId, itemTemplateId, effects, quantity, position);
+    }
 }
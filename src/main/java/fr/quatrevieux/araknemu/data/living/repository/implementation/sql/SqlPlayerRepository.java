@@ -35,6 +35,7 @@ import fr.quatrevieux.araknemu.game.chat.ChannelType;
 import fr.quatrevieux.araknemu.game.world.creature.characteristics.MutableCharacteristics;
 import org.apache.commons.lang3.StringUtils;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -86,6 +87,12 @@ final class SqlPlayerRepository implements PlayerRepository {
         }
     }
 
+    final static private String SAVE_QUERY =
+        "UPDATE PLAYER SET " +
+            "PLAYER_LEVEL = ?, PLAYER_STATS = ?, MAP_ID = ?, CELL_ID = ?, CHANNELS = ?, BOOST_POINTS = ?, SPELL_POINTS = ?, LIFE_POINTS = ?, PLAYER_EXPERIENCE = ?, SAVED_MAP_ID = ?, SAVED_CELL_ID = ?, PLAYER_KAMAS = ? " +
+            "WHERE PLAYER_ID = ?"
+    ;
+
     final private QueryExecutor executor;
     final private Transformer<MutableCharacteristics> characteristicsTransformer;
     final private Transformer<Set<ChannelType>> channelsTransformer;
@@ -299,29 +306,31 @@ final class SqlPlayerRepository implements PlayerRepository {
 
     @Override
     public void save(Player player) {
-        int rows = utils.update(
-            "UPDATE PLAYER SET " +
-                "PLAYER_LEVEL = ?, PLAYER_STATS = ?, MAP_ID = ?, CELL_ID = ?, CHANNELS = ?, BOOST_POINTS = ?, SPELL_POINTS = ?, LIFE_POINTS = ?, PLAYER_EXPERIENCE = ?, SAVED_MAP_ID = ?, SAVED_CELL_ID = ?, PLAYER_KAMAS = ? " +
-                "WHERE PLAYER_ID = ?",
-            stmt -> {
-                stmt.setInt(1,    player.level());
-                stmt.setString(2, characteristicsTransformer.serialize(player.stats()));
-                stmt.setInt(3,    player.position().map());
-                stmt.setInt(4,    player.position().cell());
-                stmt.setString(5, channelsTransformer.serialize(player.channels()));
-                stmt.setInt(6,    player.boostPoints());
-                stmt.setInt(7,    player.spellPoints());
-                stmt.setInt(8,    player.life());
-                stmt.setLong(9,   player.experience());
-                stmt.setInt(10,   player.savedPosition().map());
-                stmt.setInt(11,   player.savedPosition().cell());
-                stmt.setLong(12,  player.kamas());
-                stmt.setInt(13,   player.id());
-            }
-        );
+        int rows = utils.update(SAVE_QUERY, stmt -> bindSave(stmt, player));
 
         if (rows != 1) {
             throw new EntityNotFoundException();
         }
     }
+
+    @Override
+    public int[] saveAll(Collection<Player> players) {
+        return utils.updateAll(SAVE_QUERY, players, this::bindSave);
+    }
+
+    private void bindSave(PreparedStatement stmt, Player player) throws SQLException {
+        stmt.setInt(1,    player.level());
+        stmt.setString(2, characteristicsTransformer.serialize(player.stats()));
+        stmt.setInt(3,    player.position().map());
+        stmt.setInt(4,    player.position().cell());
+        stmt.setString(5, channelsTransformer.serialize(player.channels()));
+        stmt.setInt(6,    player.boostPoints());
+        stmt.setInt(7,    player.spellPoints());
+        stmt.setInt(8,    player.life());
+        stmt.setLong(9,   player.experience());
+        stmt.setInt(10,   player.savedPosition().map());
+        stmt.setInt(11,   player.savedPosition().cell());
+        stmt.setLong(12,  player.kamas());
+        stmt.setInt(13,   player.id());
+    }
 }
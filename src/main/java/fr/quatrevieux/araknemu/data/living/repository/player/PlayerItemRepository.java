@@ -60,6 +60,16 @@ public interface PlayerItemRepository extends MutableRepository<PlayerItem> {
      */
     public void update(PlayerItem item);
 
+    /**
+     * Update all the items in a single batch
+     * Save quantity and position
+     *
+     * @param items Items to save
+     *
+     * @return Number of affected rows for each item, in iteration order
+     */
+    public int[] updateAll(Collection<PlayerItem> items);
+
     /**
      * Delete the item from database
      *
@@ -68,4 +78,22 @@ public interface PlayerItemRepository extends MutableRepository<PlayerItem> {
      * @throws EntityNotFoundException When cannot found entity to delete
      */
     public void delete(PlayerItem item);
+
+    /**
+     * Delete all the items in a single batch
+     *
+     * @param items Items to delete
+     *
+     * @return Number of affected rows for each item, in iteration order
+     */
+    public int[] deleteAll(Collection<PlayerItem> items);
+
+    /**
+     * Insert all the items in a single batch
+     *
+     * @param items Items to insert
+     *
+     * @return Number of affected rows for each item, in iteration order
+     */
+    public int[] addAll(Collection<PlayerItem> items);
 }
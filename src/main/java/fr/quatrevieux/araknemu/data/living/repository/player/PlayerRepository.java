@@ -83,4 +83,11 @@ public interface PlayerRepository extends MutableRepository<Player> {
      * @throws fr.quatrevieux.araknemu.core.dbal.repository.EntityNotFoundException When the entity cannot be updated
      */
     public void save(Player player) throws RepositoryException;
+
+    /**
+     * Save all the player entities in a single batch
+     *
+     * @return Number of affected rows for each player, in iteration order
+     */
+    public int[] saveAll(Collection<Player> players) throws RepositoryException;
 }
@@ -23,39 +23,51 @@ import fr.quatrevieux.araknemu.data.constant.Characteristic;
 import fr.quatrevieux.araknemu.game.world.creature.characteristics.Characteristics;
 import fr.quatrevieux.araknemu.game.world.creature.characteristics.DefaultCharacteristics;
 import fr.quatrevieux.araknemu.game.world.creature.characteristics.MutableCharacteristics;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * Transform characteristics string
+ *
+ * The format is "[id]:[value];" for each non-zero characteristic, with id and value in base 32
+ * Serialization and parsing work directly on the characters, without intermediate strings
  */
 final public class CharacteristicsTransformer {
     final static private int SERIALIZED_BASE    = 32;
-    final static private String VALUE_SEPARATOR = ":";
-    final static private String STATS_SEPARATOR = ";";
+    final static private char VALUE_SEPARATOR = ':';
+    final static private char STATS_SEPARATOR = ';';
+
+    final static private Characteristic[] CHARACTERISTICS = Characteristic.values();
 
     public String serialize(Characteristics characteristics) {
         if (characteristics == null) {
             return null;
         }
 
-        StringBuilder sb = new StringBuilder();
+        final StringBuilder sb = new StringBuilder(64);
+
+        serialize(characteristics, sb);
+
+        return sb.toString();
+    }
 
-        for (Characteristic characteristic : Characteristic.values()) {
-            int value = characteristics.get(characteristic);
+    /**
+     * Serialize the characteristics into the given builder
+     *
+     * @param characteristics Characteristics to serialize. Must not be null
+     * @param output The output buffer
+     */
+    public void serialize(Characteristics characteristics, StringBuilder output) {
+        for (Characteristic characteristic : CHARACTERISTICS) {
+            final int value = characteristics.get(characteristic);
 
             if (value == 0) {
                 continue;
             }
 
-            sb
-                .append(Integer.toString(characteristic.id(), SERIALIZED_BASE))
-                .append(VALUE_SEPARATOR)
-                .append(Integer.toString(value, SERIALIZED_BASE))
-                .append(STATS_SEPARATOR)
-            ;
+            appendNumber(output, characteristic.id());
+            output.append(VALUE_SEPARATOR);
+            appendNumber(output, value);
+            output.append(STATS_SEPARATOR);
         }
-
-        return sb.toString();
     }
 
     public MutableCharacteristics unserialize(String serialized) {
@@ -63,21 +75,101 @@ final public class CharacteristicsTransformer {
             return null;
         }
 
-        MutableCharacteristics characteristics = new DefaultCharacteristics();
+        final MutableCharacteristics characteristics = new DefaultCharacteristics();
+        final int length = serialized.length();
 
-        for (String stats : StringUtils.split(serialized, STATS_SEPARATOR)) {
-            if (stats.isEmpty()) {
-                continue;
+        for (int start = 0; start < length;) {
+            int end = serialized.indexOf(STATS_SEPARATOR, start);
+
+            if (end == -1) {
+                end = length;
             }
 
-            String[] data = StringUtils.split(stats, VALUE_SEPARATOR, 2);
+            if (end > start) {
+                final int separator = serialized.indexOf(VALUE_SEPARATOR, start);
 
-            characteristics.set(
-                Characteristic.fromId(Integer.parseInt(data[0], SERIALIZED_BASE)),
-                Integer.parseInt(data[1], SERIALIZED_BASE)
-            );
+                if (separator == -1 || separator > end) {
+                    throw new NumberFormatException("Missing value for characteristic \"" + serialized.substring(start, end) + "\"");
+                }
+
+                characteristics.set(
+                    Characteristic.fromId(parseNumber(serialized, start, separator)),
+                    parseNumber(serialized, separator + 1, end)
+                );
+            }
+
+            start = end + 1;
         }
 
         return characteristics;
     }
+
+    /**
+     * Append the base 32 representation of the number
+     * The result is same as {@link Integer#toString(int, int)}, without allocation
+     */
+    static private void appendNumber(StringBuilder output, int number) {
+        long value = number;
+
+        if (value < 0) {
+            output.append('-');
+            value = -value;
+        }
+
+        long divisor = 1;
+
+        while (divisor * SERIALIZED_BASE <= value) {
+            divisor *= SERIALIZED_BASE;
+        }
+
+        for (; divisor > 0; divisor /= SERIALIZED_BASE) {
+            output.append(Character.forDigit((int) (value / divisor), SERIALIZED_BASE));
+            value %= divisor;
+        }
+    }
+
+    /**
+     * Parse a base 32 number from a part of the string
+     * The result is same as {@link Integer#parseInt(String, int)} on the substring
+     *
+     * @param input The string to parse
+     * @param start The first character index (inclusive)
+     * @param end The last character index (exclusive)
+     */
+    static private int parseNumber(String input, int start, int end) {
+        boolean negative = false;
+
+        if (start < end && (input.charAt(start) == '-' || input.charAt(start) == '+')) {
+            negative = input.charAt(start) == '-';
+            ++start;
+        }
+
+        if (start >= end) {
+            throw new NumberFormatException("Invalid number \"" + input + "\"");
+        }
+
+        long value = 0;
+
+        for (int i = start; i < end; ++i) {
+            final int digit = Character.digit(input.charAt(i), SERIALIZED_BASE);
+
+            if (digit < 0) {
+                throw new NumberFormatException("Invalid number \"" + input.substring(start, end) + "\"");
+            }
+
+            value = value * SERIALIZED_BASE + digit;
+
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Number overflow \"" + input.substring(start, end) + "\"");
+            }
+        }
+
+        value = negative ? -value : value;
+
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Number overflow \"" + input.substring(start, end) + "\"");
+        }
+
+        return (int) value;
+    }
 }
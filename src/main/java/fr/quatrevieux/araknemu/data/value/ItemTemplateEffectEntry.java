@@ -21,6 +21,8 @@ package fr.quatrevieux.araknemu.data.value;
 
 import fr.quatrevieux.araknemu.data.constant.Effect;
 
+import java.util.Objects;
+
 /**
  * Item effect entry
  */
@@ -75,4 +77,29 @@ final public class ItemTemplateEffectEntry {
     public String text() {
         return text;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ItemTemplateEffectEntry other = (ItemTemplateEffectEntry) obj;
+
+        return effect == other.effect
+            && min == other.min
+            && max == other.max
+            && special == other.special
+            && Objects.equals(text, other.text)
+        ;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(effect, min, max, special, text);
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.data.world.repository.implementation.local;
+
+import fr.quatrevieux.araknemu.core.dbal.repository.RepositoryException;
+import fr.quatrevieux.araknemu.data.value.Geolocation;
+import fr.quatrevieux.araknemu.data.world.entity.environment.MapTemplate;
+import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache repository for {@link MapTemplate}
+ *
+ * Once {@link MapTemplateRepositoryCache#all()} is called, all maps are kept in memory,
+ * and no more query will be performed on the database.
+ * The map cells are decoded only once, so the same cells array is shared by all users of the template
+ */
+final public class MapTemplateRepositoryCache implements MapTemplateRepository {
+    final private MapTemplateRepository repository;
+
+    final private ConcurrentMap<Integer, MapTemplate> cacheById = new ConcurrentHashMap<>();
+    final private ConcurrentMap<Geolocation, Collection<MapTemplate>> cacheByGeolocation = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+
+    public MapTemplateRepositoryCache(MapTemplateRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public MapTemplate get(int id) {
+        final MapTemplate template = cacheById.get(id);
+
+        if (template != null) {
+            return template;
+        }
+
+        return saveInCache(repository.get(id));
+    }
+
+    @Override
+    public Collection<MapTemplate> byGeolocation(Geolocation geolocation) {
+        final Collection<MapTemplate> cached = cacheByGeolocation.get(geolocation);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        if (loaded) {
+            return Collections.emptyList();
+        }
+
+        final List<MapTemplate> templates = new ArrayList<>();
+
+        for (MapTemplate template : repository.byGeolocation(geolocation)) {
+            templates.add(saveInCache(template));
+        }
+
+        final Collection<MapTemplate> result = Collections.unmodifiableList(templates);
+
+        cacheByGeolocation.put(geolocation, result);
+
+        return result;
+    }
+
+    @Override
+    public Collection<MapTemplate> all() {
+        if (loaded) {
+            return Collections.unmodifiableCollection(cacheById.values());
+        }
+
+        final Collection<MapTemplate> templates = new ArrayList<>();
+        final Map<Geolocation, List<MapTemplate>> byGeolocation = new HashMap<>();
+
+        for (MapTemplate template : repository.all()) {
+            template = saveInCache(template);
+            templates.add(template);
+
+            if (template.geolocation() != null) {
+                byGeolocation.computeIfAbsent(template.geolocation(), key -> new ArrayList<>()).add(template);
+            }
+        }
+
+        byGeolocation.forEach((geolocation, maps) -> cacheByGeolocation.put(geolocation, Collections.unmodifiableList(maps)));
+        loaded = true;
+
+        return templates;
+    }
+
+    @Override
+    public void initialize() throws RepositoryException {
+        repository.initialize();
+    }
+
+    @Override
+    public void destroy() throws RepositoryException {
+        repository.destroy();
+    }
+
+    @Override
+    public MapTemplate get(MapTemplate entity) throws RepositoryException {
+        return get(entity.id());
+    }
+
+    @Override
+    public boolean has(MapTemplate entity) throws RepositoryException {
+        return
+            cacheById.containsKey(entity.id())
+            || (!loaded && repository.has(entity))
+        ;
+    }
+
+    /**
+     * Store the template into the cache
+     * If the template is already loaded, the previous instance is kept and returned
+     */
+    private MapTemplate saveInCache(MapTemplate template) {
+        final MapTemplate previous = cacheById.putIfAbsent(template.id(), template);
+
+        return previous != null ? previous : template;
+    }
+}
@@ -33,31 +33,62 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Map repository implementation for SQL database
  */
 final class SqlMapTemplateRepository implements MapTemplateRepository {
+    /**
+     * Raw map row, with undecoded cells
+     * Allows to decode the map data outside of the result set iteration
+     */
+    private class Row {
+        final private int id;
+        final private String date;
+        final private int width;
+        final private int height;
+        final private String key;
+        final private String mapData;
+        final private String places;
+        final private int x;
+        final private int y;
+        final private int subAreaId;
+        final private boolean indoor;
+
+        private Row(ResultSet rs) throws SQLException {
+            id = rs.getInt("id");
+            date = rs.getString("date");
+            width = rs.getInt("width");
+            height = rs.getInt("height");
+            key = rs.getString("key");
+            mapData = rs.getString("mapData");
+            places = rs.getString("places");
+            x = rs.getInt("MAP_X");
+            y = rs.getInt("MAP_Y");
+            subAreaId = rs.getInt("SUBAREA_ID");
+            indoor = rs.getBoolean("INDOOR");
+        }
+
+        private MapTemplate toTemplate() {
+            return new MapTemplate(
+                id,
+                date,
+                new Dimensions(width, height),
+                key,
+                cellsTransformer.unserialize(mapData),
+                fightPlacesTransformer.unserialize(places),
+                new Geolocation(x, y),
+                subAreaId,
+                indoor
+            );
+        }
+    }
+
     private class Loader implements RepositoryUtils.Loader<MapTemplate> {
         @Override
         public MapTemplate create(ResultSet rs) throws SQLException {
-            return new MapTemplate(
-                rs.getInt("id"),
-                rs.getString("date"),
-                new Dimensions(
-                    rs.getInt("width"),
-                    rs.getInt("height")
-                ),
-                rs.getString("key"),
-                cellsTransformer.unserialize(rs.getString("mapData")),
-                fightPlacesTransformer.unserialize(rs.getString("places")),
-                new Geolocation(
-                    rs.getInt("MAP_X"),
-                    rs.getInt("MAP_Y")
-                ),
-                rs.getInt("SUBAREA_ID"),
-                rs.getBoolean("INDOOR")
-            );
+            return new Row(rs).toTemplate();
         }
 
         @Override
@@ -66,8 +97,21 @@ final class SqlMapTemplateRepository implements MapTemplateRepository {
         }
     }
 
+    private class RowLoader implements RepositoryUtils.Loader<Row> {
+        @Override
+        public Row create(ResultSet rs) throws SQLException {
+            return new Row(rs);
+        }
+
+        @Override
+        public Row fillKeys(Row entity, ResultSet keys) {
+            throw new RepositoryException("Read-only entity");
+        }
+    }
+
     final private QueryExecutor executor;
     final private RepositoryUtils<MapTemplate> utils;
+    final private RepositoryUtils<Row> rowUtils;
     final private Transformer<CellData[]> cellsTransformer;
     final private Transformer<List<Integer>[]> fightPlacesTransformer;
 
@@ -77,6 +121,7 @@ final class SqlMapTemplateRepository implements MapTemplateRepository {
         this.fightPlacesTransformer = fightPlacesTransformer;
 
         utils = new RepositoryUtils<>(this.executor, new Loader());
+        rowUtils = new RepositoryUtils<>(this.executor, new RowLoader());
     }
 
     @Override
@@ -145,6 +190,10 @@ final class SqlMapTemplateRepository implements MapTemplateRepository {
 
     @Override
     public Collection<MapTemplate> all() throws RepositoryException {
-        return utils.findAll("SELECT * FROM maps");
+        // Map data decoding is the most expensive part of the loading, so rows are fetched first and decoded in parallel
+        return rowUtils.findAll("SELECT * FROM maps").parallelStream()
+            .map(Row::toTemplate)
+            .collect(Collectors.toList())
+        ;
     }
 }
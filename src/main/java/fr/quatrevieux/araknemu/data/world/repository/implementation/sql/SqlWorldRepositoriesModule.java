@@ -70,10 +70,12 @@ final public class SqlWorldRepositoriesModule implements ContainerModule {
 
         configurator.persist(
             MapTemplateRepository.class,
-            container -> new SqlMapTemplateRepository(
-                executor,
-                container.get(MapCellsTransformer.class),
-                container.get(FightPlacesTransformer.class)
+            container -> new MapTemplateRepositoryCache(
+                new SqlMapTemplateRepository(
+                    executor,
+                    container.get(MapCellsTransformer.class),
+                    container.get(FightPlacesTransformer.class)
+                )
             )
         );
 
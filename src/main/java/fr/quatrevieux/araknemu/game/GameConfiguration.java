@@ -100,6 +100,15 @@ final public class GameConfiguration implements ConfigurationModule {
         public int characteristicPointsOnLevelUp() {
             return pool.integer("player.level.characteristicPoints", 5);
         }
+
+        /**
+         * Interval between two saves of the players and their items
+         * Modifications are kept in memory and written in batch at this interval
+         * Set to zero to save all modifications immediately
+         */
+        public Duration saveInterval() {
+            return pool.duration("player.saveInterval", Duration.ofMinutes(1));
+        }
     }
 
     final public class ChatConfiguration {
@@ -153,6 +162,16 @@ final public class GameConfiguration implements ConfigurationModule {
         }
     }
 
+    final public class FightConfiguration {
+        /**
+         * Number of threads shared by all fights for execute their actions
+         * By default, the number of available processors
+         */
+        public int threadsCount() {
+            return pool.integer("fight.threadsCount", Runtime.getRuntime().availableProcessors());
+        }
+    }
+
     final public class EconomyConfiguration{
         /**
          * Get the selling item to an NPC price multiplier
@@ -246,6 +265,14 @@ final public class GameConfiguration implements ConfigurationModule {
         return pool.duration("banip.refresh", Duration.ofMinutes(10));
     }
 
+    /**
+     * Maximum number of services preloaded at the same time on boot
+     * Default: the number of available processors
+     */
+    public int preloadThreadsCount() {
+        return pool.integer("preload.threadsCount", Runtime.getRuntime().availableProcessors());
+    }
+
     /**
      * Get player configuration
      */
@@ -267,6 +294,13 @@ final public class GameConfiguration implements ConfigurationModule {
         return new ActivityConfiguration();
     }
 
+    /**
+     * Get the fight configuration
+     */
+    public FightConfiguration fight() {
+        return new FightConfiguration();
+    }
+
     /**
      * Get the configuration for the Dofus economy
      */
@@ -28,7 +28,10 @@ import fr.quatrevieux.araknemu.core.di.ContainerConfigurator;
 import fr.quatrevieux.araknemu.core.di.ContainerModule;
 import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
 import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
+import fr.quatrevieux.araknemu.core.metrics.DefaultMetricsRegistry;
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
 import fr.quatrevieux.araknemu.core.network.Server;
+import fr.quatrevieux.araknemu.core.network.netty.NettyConfiguration;
 import fr.quatrevieux.araknemu.core.network.netty.NettyServer;
 import fr.quatrevieux.araknemu.core.network.parser.*;
 import fr.quatrevieux.araknemu.core.network.session.SessionConfigurator;
@@ -115,6 +118,7 @@ import fr.quatrevieux.araknemu.game.fight.ai.simulation.effect.DamageSimulator;
 import fr.quatrevieux.araknemu.game.fight.ai.simulation.effect.StealLifeSimulator;
 import fr.quatrevieux.araknemu.game.fight.builder.ChallengeBuilderFactory;
 import fr.quatrevieux.araknemu.game.fight.builder.PvmBuilderFactory;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.Element;
 import fr.quatrevieux.araknemu.game.fight.ending.reward.drop.action.*;
 import fr.quatrevieux.araknemu.game.fight.ending.reward.drop.pvm.PvmRewardsGenerator;
@@ -138,6 +142,7 @@ import fr.quatrevieux.araknemu.game.monster.group.generator.FixedMonsterListGene
 import fr.quatrevieux.araknemu.game.monster.group.generator.MonsterListGeneratorSwitch;
 import fr.quatrevieux.araknemu.game.monster.group.generator.RandomMonsterListGenerator;
 import fr.quatrevieux.araknemu.game.monster.reward.MonsterRewardService;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.game.player.PlayerService;
 import fr.quatrevieux.araknemu.game.player.experience.PlayerExperienceService;
 import fr.quatrevieux.araknemu.game.player.inventory.InventoryService;
@@ -214,10 +219,12 @@ final public class GameModule implements ContainerModule {
                     container.get(SpellBookService.class),
                     container.get(PlayerExperienceService.class),
                     container.get(FightService.class),
+                    container.get(FightExecutorService.class),
                     container.get(ExplorationService.class),
                     container.get(NpcService.class),
                     container.get(MonsterEnvironmentService.class),
                     container.get(NpcExchangeService.class),
+                    container.get(PlayerPersistenceService.class),
                     container.get(ActivityService.class),
                     container.get(PlayerService.class),
                     container.get(AccountService.class),
@@ -237,7 +244,8 @@ final public class GameModule implements ContainerModule {
             container -> new NettyServer(
                 container.get(SessionFactory.class),
                 container.get(GameConfiguration.class).port(),
-                container.get(GameConfiguration.class).inactivityTime()
+                container.get(GameConfiguration.class).inactivityTime(),
+                app.configuration().module(NettyConfiguration.class)
             )
         );
 
@@ -335,7 +343,20 @@ final public class GameModule implements ContainerModule {
                 container.get(InventoryService.class),
                 container.get(PlayerRaceService.class),
                 container.get(SpellBookService.class),
-                container.get(PlayerExperienceService.class)
+                container.get(PlayerExperienceService.class),
+                container.get(PlayerPersistenceService.class)
+            )
+        );
+
+        configurator.persist(
+            PlayerPersistenceService.class,
+            container -> new PlayerPersistenceService(
+                container.get(PlayerRepository.class),
+                container.get(PlayerItemRepository.class),
+                app.database().persistence(),
+                container.get(ActivityService.class),
+                container.get(GameConfiguration.class).player(),
+                container.get(Logger.class)
             )
         );
 
@@ -456,7 +477,8 @@ final public class GameModule implements ContainerModule {
             InventoryService.class,
             container -> new InventoryService(
                 container.get(PlayerItemRepository.class),
-                container.get(ItemService.class)
+                container.get(ItemService.class),
+                container.get(PlayerPersistenceService.class)
             )
         );
 
@@ -549,15 +571,32 @@ final public class GameModule implements ContainerModule {
                     )
                 ),
                 Arrays.asList(
-                    CommonEffectsModule::new,
+                    fight -> container.get(CommonEffectsModule.class),
                     StatesModule::new,
                     RaulebaqueModule::new,
                     LaunchedSpellsModule::new,
                     fight -> new AiModule(container.get(AiFactory.class))
-                )
+                ),
+                container.get(FightExecutorService.class),
+                container.get(MetricsRegistry.class)
             )
         );
 
+        configurator.persist(
+            MetricsRegistry.class,
+            container -> new DefaultMetricsRegistry()
+        );
+
+        configurator.persist(
+            CommonEffectsModule.class,
+            container -> new CommonEffectsModule()
+        );
+
+        configurator.persist(
+            FightExecutorService.class,
+            container -> new FightExecutorService(container.get(GameConfiguration.class).fight())
+        );
+
         configurator.persist(
             NpcService.class,
             container -> new NpcService(
@@ -841,7 +880,8 @@ final public class GameModule implements ContainerModule {
         ));
 
         configurator.persist(SessionLogService.class, container -> new SessionLogService(
-            container.get(ConnectionLogRepository.class)
+            container.get(ConnectionLogRepository.class),
+            app.database().persistence()
         ));
     }
 }
@@ -67,9 +67,7 @@ final public class GameService implements Service {
 
         subscribe();
 
-        for (PreloadableService service : preloadables) {
-            service.preload(logger);
-        }
+        new Preloader(preloadables, configuration.preloadThreadsCount(), logger).preload();
 
         try {
             server.start();
@@ -21,6 +21,9 @@ package fr.quatrevieux.araknemu.game;
 
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Interface for service which can be preload on boot
  */
@@ -29,4 +32,14 @@ public interface PreloadableService {
      * Preload the service
      */
     public void preload(Logger logger);
+
+    /**
+     * Services which must be preloaded before the current one
+     * Services without dependencies can be preloaded concurrently
+     *
+     * @see Preloader
+     */
+    default public Collection<Class<? extends PreloadableService>> dependencies() {
+        return Collections.emptyList();
+    }
 }
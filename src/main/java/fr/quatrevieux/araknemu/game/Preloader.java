@@ -0,0 +1,152 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game;
+
+import fr.quatrevieux.araknemu.core.BootException;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preload services following their dependencies
+ *
+ * A service is preloaded once all its dependencies are preloaded,
+ * so independent services are preloaded concurrently on a bounded pool
+ *
+ * @see PreloadableService#dependencies()
+ */
+final public class Preloader {
+    final private Collection<PreloadableService> services;
+    final private int threadsCount;
+    final private Logger logger;
+
+    /**
+     * @param services Services to preload
+     * @param threadsCount Maximum number of services preloaded at the same time
+     * @param logger The boot logger
+     */
+    public Preloader(Collection<PreloadableService> services, int threadsCount, Logger logger) {
+        this.services = services;
+        this.threadsCount = Math.max(threadsCount, 1);
+        this.logger = logger;
+    }
+
+    /**
+     * Preload all services, and wait for completion
+     *
+     * @throws BootException When a service fails, or on circular dependencies
+     */
+    public void preload() throws BootException {
+        final AtomicInteger threadId = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadsCount, runnable -> {
+            final Thread thread = new Thread(runnable, "Preload-" + threadId.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            final Map<PreloadableService, CompletableFuture<Void>> tasks = new IdentityHashMap<>();
+
+            for (PreloadableService service : services) {
+                schedule(service, tasks, new HashSet<>(), executor);
+            }
+
+            CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new BootException("Cannot preload services", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Create the preload task of the service, after its dependencies tasks
+     */
+    private CompletableFuture<Void> schedule(PreloadableService service, Map<PreloadableService, CompletableFuture<Void>> tasks, Set<PreloadableService> visiting, ExecutorService executor) throws BootException {
+        final CompletableFuture<Void> existing = tasks.get(service);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        if (!visiting.add(service)) {
+            throw new BootException("Circular preload dependency on " + name(service));
+        }
+
+        final List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+
+        for (PreloadableService dependency : dependencies(service)) {
+            dependencies.add(schedule(dependency, tasks, visiting, executor));
+        }
+
+        final CompletableFuture<Void> task = CompletableFuture
+            .allOf(dependencies.toArray(new CompletableFuture[0]))
+            .thenRunAsync(() -> preload(service), executor)
+        ;
+
+        visiting.remove(service);
+        tasks.put(service, task);
+
+        return task;
+    }
+
+    /**
+     * Resolve the declared dependencies of a service
+     * Dependencies which are not part of the preloaded services are ignored
+     */
+    private Collection<PreloadableService> dependencies(PreloadableService service) {
+        final Collection<PreloadableService> resolved = new ArrayList<>();
+
+        for (Class<? extends PreloadableService> type : service.dependencies()) {
+            for (PreloadableService other : services) {
+                if (other != service && type.isInstance(other)) {
+                    resolved.add(other);
+                }
+            }
+        }
+
+        return resolved;
+    }
+
+    private void preload(PreloadableService service) {
+        final long start = System.nanoTime();
+
+        service.preload(logger);
+
+        logger.info("{} preloaded in {}ms", name(service), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private String name(PreloadableService service) {
+        return service.getClass().getSimpleName();
+    }
+}
@@ -73,6 +73,13 @@ final public class AccountService implements EventsSubscriber {
         return accounts.get(accountId).isLogged();
     }
 
+    /**
+     * Get the number of logged accounts
+     */
+    public int loggedCount() {
+        return accounts.size();
+    }
+
     /**
      * Get multiple accounts by there ids
      * If an account is already logged, the logged account will be returned
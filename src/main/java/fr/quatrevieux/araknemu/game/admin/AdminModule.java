@@ -24,6 +24,7 @@ import fr.quatrevieux.araknemu.common.account.banishment.BanIpService;
 import fr.quatrevieux.araknemu.common.account.banishment.BanishmentService;
 import fr.quatrevieux.araknemu.core.di.ContainerConfigurator;
 import fr.quatrevieux.araknemu.core.di.ContainerModule;
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
 import fr.quatrevieux.araknemu.data.living.repository.account.AccountRepository;
 import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
 import fr.quatrevieux.araknemu.game.GameService;
@@ -43,9 +44,12 @@ import fr.quatrevieux.araknemu.game.admin.player.teleport.*;
 import fr.quatrevieux.araknemu.game.admin.server.*;
 import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMapService;
 import fr.quatrevieux.araknemu.game.exploration.map.GeolocationService;
+import fr.quatrevieux.araknemu.game.fight.FightService;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.item.ItemService;
 import fr.quatrevieux.araknemu.game.player.PlayerService;
 import fr.quatrevieux.araknemu.game.spell.effect.SpellEffectService;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
 import org.apache.logging.log4j.LogManager;
 
 import java.util.Arrays;
@@ -153,8 +157,18 @@ final public class AdminModule implements ContainerModule {
                         add(new fr.quatrevieux.araknemu.game.admin.server.Info(
                             container.get(Araknemu.class),
                             container.get(PlayerService.class),
-                            container.get(GameService.class)
+                            container.get(GameService.class),
+                            container.get(FightExecutorService.class)
+                        ));
+                        add(new Fights(
+                            container.get(FightService.class),
+                            container.get(MetricsRegistry.class)
                         ));
+
+                        // The realm metrics are only available when the realm runs on the same process
+                        if (container.has(AuthenticationMetrics.class)) {
+                            add(new Authentication(container.get(AuthenticationMetrics.class)));
+                        }
                     }
                 })
         );
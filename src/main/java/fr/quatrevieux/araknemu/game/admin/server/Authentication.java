@@ -0,0 +1,79 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.admin.server;
+
+import fr.quatrevieux.araknemu.core.metrics.Timer;
+import fr.quatrevieux.araknemu.game.admin.AbstractCommand;
+import fr.quatrevieux.araknemu.game.admin.AdminPerformer;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Display authentication metrics of the realm
+ * This command is only available when the realm is running on the same process
+ */
+final public class Authentication extends AbstractCommand {
+    final private AuthenticationMetrics metrics;
+
+    public Authentication(AuthenticationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void build(Builder builder) {
+        builder
+            .description("Display authentication metrics")
+            .help(formatter -> formatter
+                .synopsis("auth")
+                .example("${server} auth", "Display the authentication latencies and failures")
+            )
+        ;
+    }
+
+    @Override
+    public String name() {
+        return "auth";
+    }
+
+    @Override
+    public void execute(AdminPerformer performer, List<String> arguments) {
+        performer.success("===== Authentication metrics =====");
+        performer.info(format("Password check", metrics.hash()));
+        performer.info(format("Authentication queue wait", metrics.queueWait()));
+        performer.info(format("Login queue wait", metrics.admissionWait()));
+
+        performer.success("===== Authentication failures =====");
+        performer.info("Invalid credentials : {}", metrics.invalidCredentials().sum());
+        performer.info("Banned : {}", metrics.banned().sum());
+        performer.info("Already connected : {}", metrics.alreadyConnected().sum());
+        performer.info("Already playing : {}", metrics.playing().sum());
+        performer.info("Rejected (queue full) : {}", metrics.rejected().sum());
+    }
+
+    private String format(String name, Timer timer) {
+        return name + " : " + timer.count() + " calls, avg " + millis(timer.average()) + "ms, max " + millis(timer.max()) + "ms, total " + millis(timer.total()) + "ms";
+    }
+
+    private String millis(Duration duration) {
+        return String.format("%.3f", duration.toNanos() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.admin.server;
+
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
+import fr.quatrevieux.araknemu.core.metrics.Timer;
+import fr.quatrevieux.araknemu.game.admin.AbstractCommand;
+import fr.quatrevieux.araknemu.game.admin.AdminPerformer;
+import fr.quatrevieux.araknemu.game.admin.exception.CommandException;
+import fr.quatrevieux.araknemu.game.fight.Fight;
+import fr.quatrevieux.araknemu.game.fight.FightMetrics;
+import fr.quatrevieux.araknemu.game.fight.FightService;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Display fight runtime metrics
+ */
+final public class Fights extends AbstractCommand {
+    final private FightService service;
+    final private MetricsRegistry registry;
+
+    public Fights(FightService service, MetricsRegistry registry) {
+        this.service = service;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void build(Builder builder) {
+        builder
+            .description("Display fight runtime metrics")
+            .help(formatter -> formatter
+                .synopsis("fights [limit]")
+                .options("limit", "Optional. The number of displayed fights. By default, the 10 most expensive fights are displayed.")
+                .example("${server} fights", "Display aggregated metrics and the 10 most expensive fights")
+                .example("${server} fights 3", "Display aggregated metrics and the 3 most expensive fights")
+            )
+        ;
+    }
+
+    @Override
+    public String name() {
+        return "fights";
+    }
+
+    @Override
+    public void execute(AdminPerformer performer, List<String> arguments) throws CommandException {
+        final int limit = arguments.size() > 1 ? parseLimit(arguments.get(1)) : 10;
+        final Collection<Fight> fights = service.fights();
+
+        performer.success("===== Fight metrics =====");
+        performer.info("Active fights : {}", fights.size());
+
+        for (Map.Entry<String, Timer> entry : registry.timers().entrySet()) {
+            if (entry.getKey().startsWith("fight.")) {
+                performer.info(format(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        performer.success("===== Most expensive fights =====");
+
+        fights.stream()
+            .sorted(Comparator.comparing((Fight fight) -> fight.metrics().processingTime()).reversed())
+            .limit(limit)
+            .forEach(fight -> {
+                final FightMetrics metrics = fight.metrics();
+
+                performer.info(
+                    "Fight {} on map {} : processing {}ms, {} turns, max executor lag {}ms",
+                    fight.id(),
+                    fight.map().id(),
+                    millis(metrics.processingTime()),
+                    metrics.timer(FightMetrics.TURN).count(),
+                    millis(metrics.timer(FightMetrics.EXECUTOR_LAG).max())
+                );
+
+                metrics.timers().forEach((name, timer) -> performer.info("    " + format(name, timer)));
+            })
+        ;
+    }
+
+    private int parseLimit(String value) throws CommandException {
+        final int limit;
+
+        try {
+            limit = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new CommandException(name(), "Invalid limit : " + value, e);
+        }
+
+        if (limit <= 0) {
+            throw new CommandException(name(), "The limit must be a positive number");
+        }
+
+        return limit;
+    }
+
+    private String format(String name, Timer timer) {
+        return name + " : " + timer.count() + " calls, avg " + millis(timer.average()) + "ms, max " + millis(timer.max()) + "ms, total " + millis(timer.total()) + "ms";
+    }
+
+    private String millis(Duration duration) {
+        return String.format("%.3f", duration.toNanos() / 1_000_000.0);
+    }
+}
@@ -24,6 +24,7 @@ import fr.quatrevieux.araknemu.Araknemu;
 import fr.quatrevieux.araknemu.game.GameService;
 import fr.quatrevieux.araknemu.game.admin.AbstractCommand;
 import fr.quatrevieux.araknemu.game.admin.AdminPerformer;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.player.PlayerService;
 
 import java.lang.management.ManagementFactory;
@@ -38,11 +39,13 @@ final public class Info extends AbstractCommand {
     final private Araknemu app;
     final private PlayerService playerService;
     final private GameService gameService;
+    final private FightExecutorService fightExecutorService;
 
-    public Info(Araknemu app, PlayerService playerService, GameService gameService) {
+    public Info(Araknemu app, PlayerService playerService, GameService gameService, FightExecutorService fightExecutorService) {
         this.app = app;
         this.playerService = playerService;
         this.gameService = gameService;
+        this.fightExecutorService = fightExecutorService;
     }
 
     @Override
@@ -77,6 +80,31 @@ final public class Info extends AbstractCommand {
         );
         performer.info("Number of threads : {}", Thread.activeCount());
         performer.info("CPU Usage {}%", cpuUsage());
+        performer.info(
+            "Fight workers : {} / {} active (max {}), {} fights waiting",
+            fightExecutorService.activeWorkers(),
+            fightExecutorService.poolSize(),
+            fightExecutorService.parallelism(),
+            fightExecutorService.queuedFights()
+        );
+        performer.info(
+            "Fight executors : {} fights, {} delayed actions, max queue depth {}",
+            fightExecutorService.executors().size(),
+            fightExecutorService.scheduledTasks(),
+            fightExecutorService.maxQueueDepth()
+        );
+
+        app.database().statistics().forEach((name, statistics) -> performer.info(
+            "Database {} : {} / {} active, {} idle, wait avg {}ms max {}ms, {} timeouts, {} leaks",
+            name,
+            statistics.active(),
+            statistics.maxSize(),
+            statistics.idle(),
+            statistics.averageWaitTime().toMillis(),
+            statistics.maxWaitTime().toMillis(),
+            statistics.timeouts(),
+            statistics.leaks()
+        ));
     }
 
     private String formatDuration(Duration duration) {
@@ -19,8 +19,10 @@
 
 package fr.quatrevieux.araknemu.game.chat.event;
 
+import fr.quatrevieux.araknemu.core.network.PreEncodedPacket;
 import fr.quatrevieux.araknemu.game.chat.ChannelType;
 import fr.quatrevieux.araknemu.game.player.GamePlayer;
+import fr.quatrevieux.araknemu.network.game.out.chat.MessageSent;
 
 /**
  * Event trigger on broadcasted message sent
@@ -31,6 +33,8 @@ final public class BroadcastedMessage {
     final private String message;
     final private String extra;
 
+    private PreEncodedPacket packet;
+
     public BroadcastedMessage(ChannelType channel, GamePlayer sender, String message, String extra) {
         this.channel = channel;
         this.sender = sender;
@@ -53,4 +57,16 @@ final public class BroadcastedMessage {
     public String extra() {
         return extra;
     }
+
+    /**
+     * Get the packet to send to the recipients
+     * The packet is shared, so it's serialized only once for all the recipients
+     */
+    public PreEncodedPacket packet() {
+        if (packet == null) {
+            packet = PreEncodedPacket.of(new MessageSent(sender, channel, message, extra));
+        }
+
+        return packet;
+    }
 }
@@ -42,6 +42,13 @@ final public class ConnectorService {
         return accounts.isLogged(accountId);
     }
 
+    /**
+     * Get the number of accounts logged into the game server
+     */
+    public int loggedCount() {
+        return accounts.loggedCount();
+    }
+
     /**
      * Generate account token
      *
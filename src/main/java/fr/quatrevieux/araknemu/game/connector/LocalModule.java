@@ -22,6 +22,7 @@ package fr.quatrevieux.araknemu.game.connector;
 import fr.quatrevieux.araknemu.core.di.Container;
 import fr.quatrevieux.araknemu.core.di.ContainerConfigurator;
 import fr.quatrevieux.araknemu.core.di.ContainerModule;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
 import fr.quatrevieux.araknemu.realm.host.HostService;
 
 /**
@@ -43,5 +44,10 @@ final public class LocalModule implements ContainerModule {
                 container.get(ConnectorService.class)
             )
         );
+
+        configurator.factory(
+            AuthenticationMetrics.class,
+            container -> realmContainer.get(AuthenticationMetrics.class)
+        );
     }
 }
@@ -24,6 +24,7 @@ import fr.arakne.utils.value.Dimensions;
 import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
 import fr.quatrevieux.araknemu.core.event.Dispatcher;
 import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
+import fr.quatrevieux.araknemu.core.network.PreEncodedPacket;
 import fr.quatrevieux.araknemu.data.value.Geolocation;
 import fr.quatrevieux.araknemu.data.world.entity.environment.MapTemplate;
 import fr.quatrevieux.araknemu.game.exploration.area.ExplorationSubArea;
@@ -190,9 +191,10 @@ final public class ExplorationMap implements DofusMap<ExplorationMapCell>, Dispa
 
     /**
      * Send a packet to the map
+     * The packet is serialized only once for all the creatures
      */
     public void send(Object packet) {
-        apply(new SendPacket(packet));
+        apply(new SendPacket(PreEncodedPacket.of(packet)));
     }
 
     /**
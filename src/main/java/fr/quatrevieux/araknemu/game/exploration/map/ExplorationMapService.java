@@ -29,14 +29,19 @@ import fr.quatrevieux.araknemu.game.PreloadableService;
 import fr.quatrevieux.araknemu.game.exploration.area.AreaService;
 import fr.quatrevieux.araknemu.game.exploration.event.ExplorationPlayerCreated;
 import fr.quatrevieux.araknemu.game.exploration.map.cell.CellLoader;
+import fr.quatrevieux.araknemu.game.exploration.map.cell.trigger.MapTriggerService;
 import fr.quatrevieux.araknemu.game.exploration.map.event.MapLoaded;
+import fr.quatrevieux.araknemu.game.exploration.npc.NpcService;
 import fr.quatrevieux.araknemu.game.fight.FightService;
 import fr.quatrevieux.araknemu.game.fight.event.FightCreated;
 import fr.quatrevieux.araknemu.game.listener.map.*;
 import fr.quatrevieux.araknemu.game.listener.map.fight.*;
 import fr.quatrevieux.araknemu.game.listener.player.SendMapData;
+import fr.quatrevieux.araknemu.game.monster.environment.MonsterEnvironmentService;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -84,6 +89,17 @@ final public class ExplorationMapService implements PreloadableService, EventsSu
         logger.info("{} maps successfully loaded in {}ms", maps.size(), time);
     }
 
+    @Override
+    public Collection<Class<? extends PreloadableService>> dependencies() {
+        // Services listening MapLoaded must be ready before creating the maps
+        return Arrays.asList(
+            AreaService.class,
+            MapTriggerService.class,
+            NpcService.class,
+            MonsterEnvironmentService.class
+        );
+    }
+
     @Override
     public Listener[] listeners() {
         return new Listener[] {
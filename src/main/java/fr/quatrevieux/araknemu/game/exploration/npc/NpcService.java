@@ -28,8 +28,10 @@ import fr.quatrevieux.araknemu.data.world.repository.environment.npc.NpcTemplate
 import fr.quatrevieux.araknemu.game.PreloadableService;
 import fr.quatrevieux.araknemu.game.exploration.map.event.MapLoaded;
 import fr.quatrevieux.araknemu.game.exploration.npc.dialog.DialogService;
+import fr.quatrevieux.araknemu.game.exploration.npc.exchange.NpcExchangeService;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -64,6 +66,11 @@ final public class NpcService implements EventsSubscriber, PreloadableService {
         logger.info("{} NPCs loaded", npcByEntityId.size());
     }
 
+    @Override
+    public Collection<Class<? extends PreloadableService>> dependencies() {
+        return Arrays.asList(DialogService.class, NpcExchangeService.class);
+    }
+
     @Override
     public Listener[] listeners() {
         return new Listener[] {
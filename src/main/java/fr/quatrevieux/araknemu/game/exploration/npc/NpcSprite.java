@@ -25,11 +25,15 @@ import fr.quatrevieux.araknemu.game.world.creature.Sprite;
 /**
  * Sprite for the NPC
  *
+ * The NPC template part of the sprite is only serialized once
+ *
  * https://github.com/Emudofus/Dofus/blob/1.29/dofus/aks/Game.as#L630
  */
 final public class NpcSprite implements Sprite {
     final private GameNpc npc;
 
+    private volatile String appearance;
+
     public NpcSprite(GameNpc npc) {
         this.npc = npc;
     }
@@ -64,16 +68,31 @@ final public class NpcSprite implements Sprite {
         return
             cell() + ";" +
             orientation().ordinal() + ";" +
-            "0;" + // Bonus
-            id() + ";" +
-            name() + ";" +
-            type().id() + ";" +
-            npc.template().gfxId() + "^" + npc.template().scaleX() + "x" + npc.template().scaleY() + ";" +
-            npc.template().gender().ordinal() + ";" +
-            npc.template().colors().toHexString(";") + ";" +
-            npc.template().accessories() + ";" +
-            (npc.template().extraClip() != -1 ? npc.template().extraClip() : "") + ";" +
-            npc.template().customArtwork()
+            appearance()
         ;
     }
+
+    /**
+     * Get the NPC template part of the sprite
+     */
+    private String appearance() {
+        String appearance = this.appearance;
+
+        if (appearance == null) {
+            this.appearance = appearance =
+                "0;" + // Bonus
+                id() + ";" +
+                name() + ";" +
+                type().id() + ";" +
+                npc.template().gfxId() + "^" + npc.template().scaleX() + "x" + npc.template().scaleY() + ";" +
+                npc.template().gender().ordinal() + ";" +
+                npc.template().colors().toHexString(";") + ";" +
+                npc.template().accessories() + ";" +
+                (npc.template().extraClip() != -1 ? npc.template().extraClip() : "") + ";" +
+                npc.template().customArtwork()
+            ;
+        }
+
+        return appearance;
+    }
 }
@@ -32,6 +32,8 @@ import fr.quatrevieux.araknemu.game.exploration.npc.ExchangeProvider;
 import fr.quatrevieux.araknemu.game.item.ItemService;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,6 +72,11 @@ final public class NpcExchangeService implements PreloadableService, EventsSubsc
         logger.info("{} npc exchanges loaded", exchangeByTemplateId.size());
     }
 
+    @Override
+    public Collection<Class<? extends PreloadableService>> dependencies() {
+        return Collections.singletonList(ItemService.class);
+    }
+
     @Override
     public Listener[] listeners() {
         return new Listener[] {
@@ -21,6 +21,7 @@ package fr.quatrevieux.araknemu.game.exploration.sprite;
 
 import fr.arakne.utils.maps.constant.Direction;
 import fr.quatrevieux.araknemu.game.exploration.ExplorationPlayer;
+import fr.quatrevieux.araknemu.game.player.sprite.SpriteInfo;
 import fr.quatrevieux.araknemu.game.world.creature.Sprite;
 
 /**
@@ -28,11 +29,17 @@ import fr.quatrevieux.araknemu.game.world.creature.Sprite;
  *
  * The sprite type ID MUST be the class id
  *
+ * The sprite string is cached, and only rebuilt when the cell, orientation, accessories or restrictions are changed
+ * The player appearance (i.e. name, class, gfx and colors) is considered as immutable during the exploration session
+ *
  * https://github.com/Emudofus/Dofus/blob/1.29/dofus/aks/Game.as#L764
  */
 final public class PlayerSprite implements Sprite {
     final private ExplorationPlayer exploration;
 
+    private volatile String appearance;
+    private volatile Serialized serialized;
+
     public PlayerSprite(ExplorationPlayer exploration) {
         this.exploration = exploration;
     }
@@ -67,23 +74,88 @@ final public class PlayerSprite implements Sprite {
      */
     @Override
     public String toString() {
-        return
-            cell() + ";" +
-            orientation().ordinal() + ";" +
-            "0;" + // bonus
-            id() + ";" +
-            name() + ";" +
-            exploration.player().spriteInfo().race().ordinal() + ";" + // @todo title
-            exploration.player().spriteInfo().gfxId() + "^" + exploration.player().spriteInfo().size() + ";" +
-            exploration.player().spriteInfo().gender().ordinal() + ";" +
-            ";" + // @todo alignment
-            exploration.player().spriteInfo().colors().toHexString(";") + ";" +
-            exploration.player().spriteInfo().accessories() + ";" +
+        final int cell = cell();
+        final Direction orientation = orientation();
+        final String accessories = exploration.player().spriteInfo().accessories().toString();
+        final int restrictions = exploration.restrictions().toInt();
+
+        final Serialized current = serialized;
+
+        if (current != null && current.matches(cell, orientation, accessories, restrictions)) {
+            return current.value;
+        }
+
+        final Serialized newValue = new Serialized(
+            cell,
+            orientation,
+            accessories,
+            restrictions,
+            cell + ";" +
+            orientation.ordinal() + ";" +
+            appearance() + ";" +
+            accessories + ";" +
             ";" + // @todo aura
             ";;" + // @todo emote; emote timer
             ";;" + // @todo guild; guild emblem
-            Integer.toString(exploration.restrictions().toInt(), 36) + ";"
+            Integer.toString(restrictions, 36) + ";"
             // @todo mount
-        ;
+        );
+
+        serialized = newValue;
+
+        return newValue.value;
+    }
+
+    /**
+     * Get the immutable part of the sprite
+     *
+     * bonus;id;name;type,title;gfxID^"scaleX"x"scaleY";sex;alignment;color1;color2;color3
+     */
+    private String appearance() {
+        String appearance = this.appearance;
+
+        if (appearance == null) {
+            final SpriteInfo spriteInfo = exploration.player().spriteInfo();
+
+            this.appearance = appearance =
+                "0;" + // bonus
+                id() + ";" +
+                name() + ";" +
+                spriteInfo.race().ordinal() + ";" + // @todo title
+                spriteInfo.gfxId() + "^" + spriteInfo.size() + ";" +
+                spriteInfo.gender().ordinal() + ";" +
+                ";" + // @todo alignment
+                spriteInfo.colors().toHexString(";")
+            ;
+        }
+
+        return appearance;
+    }
+
+    /**
+     * Serialized sprite, with the values used to build it
+     */
+    static private class Serialized {
+        final private int cell;
+        final private Direction orientation;
+        final private String accessories;
+        final private int restrictions;
+        final private String value;
+
+        public Serialized(int cell, Direction orientation, String accessories, int restrictions, String value) {
+            this.cell = cell;
+            this.orientation = orientation;
+            this.accessories = accessories;
+            this.restrictions = restrictions;
+            this.value = value;
+        }
+
+        public boolean matches(int cell, Direction orientation, String accessories, int restrictions) {
+            return this.cell == cell
+                && this.orientation == orientation
+                && this.restrictions == restrictions
+                && this.accessories.equals(accessories)
+            ;
+        }
     }
 }
@@ -22,12 +22,16 @@ package fr.quatrevieux.araknemu.game.fight;
 import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
 import fr.quatrevieux.araknemu.core.event.Dispatcher;
 import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
+import fr.quatrevieux.araknemu.core.metrics.DefaultMetricsRegistry;
+import fr.quatrevieux.araknemu.core.metrics.Timer;
+import fr.quatrevieux.araknemu.core.network.PreEncodedPacket;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.EffectsHandler;
 import fr.quatrevieux.araknemu.game.fight.event.FightCancelled;
 import fr.quatrevieux.araknemu.game.fight.event.FightLeaved;
 import fr.quatrevieux.araknemu.game.fight.event.FightStarted;
 import fr.quatrevieux.araknemu.game.fight.event.FightStopped;
 import fr.quatrevieux.araknemu.game.fight.exception.InvalidFightStateException;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutor;
 import fr.quatrevieux.araknemu.game.fight.fighter.Fighter;
 import fr.quatrevieux.araknemu.game.fight.map.FightMap;
 import fr.quatrevieux.araknemu.game.fight.module.FightModule;
@@ -45,10 +49,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -64,20 +65,29 @@ final public class Fight implements Dispatcher, Sender {
     final private List<FightModule> modules = new ArrayList<>();
     final private Map<Class, Object> attachments = new HashMap<>();
     final private ListenerAggregate dispatcher;
+    final private FightExecutor executor;
+    final private FightMetrics metrics;
+    final private Timer executorLag;
 
-    final private ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
     final private FightTurnList turnList = new FightTurnList(this);
     final private EffectsHandler effects = new EffectsHandler();
 
     final private StopWatch duration = new StopWatch();
 
-    public Fight(int id, FightType type, FightMap map, List<FightTeam> teams, StatesFlow statesFlow, Logger logger) {
+    public Fight(int id, FightType type, FightMap map, List<FightTeam> teams, StatesFlow statesFlow, Logger logger, FightExecutor executor) {
+        this(id, type, map, teams, statesFlow, logger, executor, new FightMetrics(new DefaultMetricsRegistry()));
+    }
+
+    public Fight(int id, FightType type, FightMap map, List<FightTeam> teams, StatesFlow statesFlow, Logger logger, FightExecutor executor, FightMetrics metrics) {
         this.id = id;
         this.type = type;
         this.map = map;
         this.teams = teams;
         this.statesFlow = statesFlow;
         this.logger = logger;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.executorLag = metrics.timer(FightMetrics.EXECUTOR_LAG);
         this.dispatcher = new DefaultListenerAggregate(logger);
     }
 
@@ -200,10 +210,10 @@ final public class Fight implements Dispatcher, Sender {
 
     @Override
     public void send(Object packet) {
-        String sPacket = packet.toString();
+        final PreEncodedPacket encoded = PreEncodedPacket.of(packet);
 
         for (FightTeam team : teams) {
-            team.send(sPacket);
+            team.send(encoded);
         }
     }
 
@@ -219,16 +229,19 @@ final public class Fight implements Dispatcher, Sender {
      * @param delay The delay
      */
     public ScheduledFuture schedule(Runnable action, Duration delay) {
+        final long expected = System.nanoTime() + delay.toNanos();
+
         return executor.schedule(
             () -> {
+                executorLag.record(Math.max(System.nanoTime() - expected, 0));
+
                 try {
                     action.run();
                 } catch (Throwable e) {
                     logger.error("Error on fight executor : " + e.getMessage(), e);
                 }
             },
-            delay.toMillis(),
-            TimeUnit.MILLISECONDS
+            delay
         );
     }
 
@@ -247,6 +260,20 @@ final public class Fight implements Dispatcher, Sender {
         });
     }
 
+    /**
+     * Get the fight executor
+     */
+    public FightExecutor executor() {
+        return executor;
+    }
+
+    /**
+     * Get the fight runtime metrics
+     */
+    public FightMetrics metrics() {
+        return metrics;
+    }
+
     /**
      * Get the fight dispatcher
      */
@@ -331,7 +358,7 @@ final public class Fight implements Dispatcher, Sender {
      * Destroy fight after terminated
      */
     public void destroy() {
-        executor.shutdownNow();
+        executor.shutdown();
 
         teams.clear();
         map.destroy();
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight;
+
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
+import fr.quatrevieux.araknemu.core.metrics.Timer;
+import fr.quatrevieux.araknemu.game.fight.turn.action.ActionType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runtime metrics of a single fight
+ *
+ * All durations are also aggregated on the registry, with the "fight." prefix
+ */
+final public class FightMetrics {
+    /**
+     * Wall time of a fighter turn
+     */
+    final static public String TURN = "turn";
+
+    /**
+     * Time spent on applying the effects of a cast
+     */
+    final static public String EFFECTS = "effects";
+
+    /**
+     * Delay between the expected and the actual execution time of a scheduled fight task
+     */
+    final static public String EXECUTOR_LAG = "executor.lag";
+
+    /**
+     * Prefix of the decision time of an AI action generator. Followed by the generator class name
+     */
+    final static public String AI = "ai.";
+
+    /**
+     * Prefix of the action start time. Followed by the action type
+     */
+    final static public String ACTION = "action.";
+
+    final private MetricsRegistry registry;
+    final private Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Action timers, indexed by the action type ordinal
+     * Concurrent initialisation is harmless, because {@link FightMetrics#timer(String)} always returns the same instance
+     */
+    final private Timer[] actions = new Timer[ActionType.values().length];
+
+    public FightMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Get a timer of the fight
+     *
+     * @param name The metric name. See constants of this class.
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new Timer(registry.timer("fight." + key)));
+    }
+
+    /**
+     * Get the start time timer of an action
+     * The timer is cached, so the metric name is not computed on each action
+     *
+     * @param type The action type
+     *
+     * @see FightMetrics#ACTION
+     */
+    public Timer action(ActionType type) {
+        Timer timer = actions[type.ordinal()];
+
+        if (timer == null) {
+            actions[type.ordinal()] = timer = timer(ACTION + type);
+        }
+
+        return timer;
+    }
+
+    /**
+     * Get all timers of the fight, ordered by name
+     */
+    public SortedMap<String, Timer> timers() {
+        return new TreeMap<>(timers);
+    }
+
+    /**
+     * Total time spent on the fight logic (AI and actions, including effects)
+     */
+    public Duration processingTime() {
+        Duration total = Duration.ZERO;
+
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+            if (entry.getKey().startsWith(AI) || entry.getKey().startsWith(ACTION)) {
+                total = total.plus(entry.getValue().total());
+            }
+        }
+
+        return total;
+    }
+}
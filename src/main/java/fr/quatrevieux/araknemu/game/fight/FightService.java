@@ -22,6 +22,7 @@ package fr.quatrevieux.araknemu.game.fight;
 import fr.quatrevieux.araknemu.core.event.Dispatcher;
 import fr.quatrevieux.araknemu.core.event.EventsSubscriber;
 import fr.quatrevieux.araknemu.core.event.Listener;
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
 import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
 import fr.quatrevieux.araknemu.game.event.GameStopped;
 import fr.quatrevieux.araknemu.game.exploration.event.ExplorationPlayerCreated;
@@ -29,7 +30,10 @@ import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap;
 import fr.quatrevieux.araknemu.game.fight.builder.FightBuilder;
 import fr.quatrevieux.araknemu.game.fight.builder.FightBuilderFactory;
 import fr.quatrevieux.araknemu.game.fight.event.FightCreated;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutor;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.map.FightMap;
+import fr.quatrevieux.araknemu.game.fight.map.FightMapGrid;
 import fr.quatrevieux.araknemu.game.fight.module.FightModule;
 import fr.quatrevieux.araknemu.game.listener.player.exploration.LeaveExplorationForFight;
 import fr.quatrevieux.araknemu.game.listener.player.fight.AttachFighter;
@@ -52,14 +56,19 @@ final public class FightService implements EventsSubscriber {
     final private Dispatcher dispatcher;
     final private Map<Class, FightBuilderFactory> builderFactories;
     final private Collection<FightModule.Factory> moduleFactories;
+    final private FightExecutorService executorService;
+    final private MetricsRegistry metrics;
 
     final private Map<Integer, Map<Integer, Fight>> fightsByMapId = new ConcurrentHashMap<>();
+    final private Map<Integer, FightMapGrid> grids = new ConcurrentHashMap<>();
     final private AtomicInteger lastFightId = new AtomicInteger();
 
-    public FightService(MapTemplateRepository mapRepository, Dispatcher dispatcher, Collection<? extends FightBuilderFactory> factories, Collection<FightModule.Factory> moduleFactories) {
+    public FightService(MapTemplateRepository mapRepository, Dispatcher dispatcher, Collection<? extends FightBuilderFactory> factories, Collection<FightModule.Factory> moduleFactories, FightExecutorService executorService, MetricsRegistry metrics) {
         this.mapRepository = mapRepository;
         this.dispatcher = dispatcher;
         this.moduleFactories = moduleFactories;
+        this.executorService = executorService;
+        this.metrics = metrics;
 
         this.builderFactories = factories.stream().collect(
             Collectors.toMap(
@@ -115,11 +124,36 @@ final public class FightService implements EventsSubscriber {
 
     /**
      * Create fight map
+     * The map geometry is shared by all fights of the same map
      *
      * @param map The base map
      */
     public FightMap map(ExplorationMap map) {
-        return new FightMap(mapRepository.get(map.id()));
+        return new FightMap(grids.computeIfAbsent(map.id(), id -> new FightMapGrid(mapRepository.get(id))));
+    }
+
+    /**
+     * Create the executor of a new fight
+     */
+    public FightExecutor executor() {
+        return executorService.create();
+    }
+
+    /**
+     * Create the metrics of a new fight
+     */
+    public FightMetrics metrics() {
+        return new FightMetrics(metrics);
+    }
+
+    /**
+     * Get all active fights
+     */
+    public Collection<Fight> fights() {
+        return fightsByMapId.values().stream()
+            .flatMap(fights -> fights.values().stream())
+            .collect(Collectors.toList())
+        ;
     }
 
     /**
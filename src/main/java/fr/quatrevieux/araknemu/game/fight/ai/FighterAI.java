@@ -20,7 +20,9 @@
 package fr.quatrevieux.araknemu.game.fight.ai;
 
 import fr.arakne.utils.maps.CoordinateCell;
+import fr.quatrevieux.araknemu.core.metrics.Timer;
 import fr.quatrevieux.araknemu.game.fight.Fight;
+import fr.quatrevieux.araknemu.game.fight.FightMetrics;
 import fr.quatrevieux.araknemu.game.fight.ai.action.ActionGenerator;
 import fr.quatrevieux.araknemu.game.fight.fighter.ActiveFighter;
 import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
@@ -51,6 +53,7 @@ final public class FighterAI implements Runnable, AI {
     final private ActiveFighter fighter;
     final private Fight fight;
     final private ActionGenerator[] actions;
+    final private Timer[] timers;
 
     private Turn turn;
 
@@ -64,6 +67,11 @@ final public class FighterAI implements Runnable, AI {
         this.fighter = fighter;
         this.fight = fight;
         this.actions = actions;
+        this.timers = new Timer[actions.length];
+
+        for (int i = 0; i < actions.length; ++i) {
+            timers[i] = fight.metrics().timer(FightMetrics.AI + actions[i].getClass().getSimpleName());
+        }
     }
 
     @Override
@@ -85,13 +93,15 @@ final public class FighterAI implements Runnable, AI {
 
         final Turn currentTurn = turn;
 
-        for (ActionGenerator generator : actions) {
+        for (int i = 0; i < actions.length; ++i) {
             if (!currentTurn.active()) {
                 turn = null;
                 return;
             }
 
-            Optional<Action> action = generator.generate(this);
+            final long start = System.nanoTime();
+            Optional<Action> action = actions[i].generate(this);
+            timers[i].record(System.nanoTime() - start);
 
             if (action.isPresent()) {
                 currentTurn.perform(action.get());
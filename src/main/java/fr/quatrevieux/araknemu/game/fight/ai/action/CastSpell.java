@@ -19,11 +19,13 @@
 
 package fr.quatrevieux.araknemu.game.fight.ai.action;
 
+import fr.arakne.utils.value.Interval;
 import fr.quatrevieux.araknemu.game.fight.ai.AI;
 import fr.quatrevieux.araknemu.game.fight.ai.simulation.CastSimulation;
 import fr.quatrevieux.araknemu.game.fight.ai.simulation.Simulator;
 import fr.quatrevieux.araknemu.game.fight.ai.util.SpellCaster;
 import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
+import fr.quatrevieux.araknemu.game.fight.map.BattlefieldMap;
 import fr.quatrevieux.araknemu.game.fight.map.FightCell;
 import fr.quatrevieux.araknemu.game.fight.turn.action.Action;
 import fr.quatrevieux.araknemu.game.spell.Spell;
@@ -80,14 +82,24 @@ final public class CastSpell implements ActionGenerator {
 
         CastSimulation bestSimulation = null;
 
+        final BattlefieldMap map = ai.map();
+        final FightCell currentCell = ai.fighter().cell();
+
         for (Spell spell : ai.fighter().spells()) {
             if (spell.apCost() > actionPoints) {
                 continue;
             }
 
-            for (FightCell targetCell : ai.map()) {
+            final Interval range = caster.range(spell);
+
+            for (FightCell targetCell : map) {
+                // Check the range first : it's cheaper than other constraints, and excludes most of the cells
+                if (!targetCell.walkableIgnoreFighter() || !range.contains(map.distance(currentCell, targetCell))) {
+                    continue;
+                }
+
                 // Target or launch is not valid
-                if (!targetCell.walkableIgnoreFighter() || !caster.validate(spell, targetCell)) {
+                if (!caster.validate(spell, targetCell)) {
                     continue;
                 }
 
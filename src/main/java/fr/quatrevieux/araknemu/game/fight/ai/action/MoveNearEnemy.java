@@ -21,11 +21,11 @@ package fr.quatrevieux.araknemu.game.fight.ai.action;
 
 import fr.arakne.utils.maps.constant.Direction;
 import fr.arakne.utils.maps.path.Decoder;
-import fr.arakne.utils.maps.path.Pathfinder;
 import fr.quatrevieux.araknemu.game.fight.ai.AI;
 import fr.quatrevieux.araknemu.game.fight.fighter.ActiveFighter;
 import fr.quatrevieux.araknemu.game.fight.map.FightCell;
 import fr.quatrevieux.araknemu.game.fight.turn.action.Action;
+import fr.quatrevieux.araknemu.game.world.map.path.Pathfinder;
 
 import java.util.Optional;
 
@@ -41,8 +41,7 @@ final public class MoveNearEnemy implements ActionGenerator {
     public void initialize(AI ai) {
         this.fighter = ai.fighter();
         this.decoder = new Decoder<>(ai.map());
-        this.pathfinder = decoder
-            .pathfinder()
+        this.pathfinder = new Pathfinder<>(ai.map(), decoder)
             .targetDistance(1)
             .walkablePredicate(FightCell::walkableIgnoreFighter)
             .cellWeightFunction(this::cellCost)
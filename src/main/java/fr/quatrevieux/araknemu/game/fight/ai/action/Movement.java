@@ -20,15 +20,16 @@
 package fr.quatrevieux.araknemu.game.fight.ai.action;
 
 import fr.arakne.utils.maps.CoordinateCell;
-import fr.arakne.utils.maps.path.Decoder;
 import fr.arakne.utils.maps.path.Path;
 import fr.arakne.utils.maps.path.PathException;
-import fr.arakne.utils.maps.path.Pathfinder;
 import fr.quatrevieux.araknemu.game.fight.ai.AI;
 import fr.quatrevieux.araknemu.game.fight.map.FightCell;
 import fr.quatrevieux.araknemu.game.fight.turn.action.Action;
+import fr.quatrevieux.araknemu.game.world.map.path.DistanceField;
+import fr.quatrevieux.araknemu.game.world.map.path.Pathfinder;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -37,7 +38,7 @@ import java.util.function.Predicate;
 /**
  * Try to select the best move action
  *
- * - Select reachable (i.e. walkable cells in MP range) cells. Note : pathfinding is not performed, so it's not warranty that cells are really reachable
+ * - Select reachable cells, i.e. cells which can be reached with the current number of MPs
  * - Sort cell by the score (ascending, lower score cells selected first)
  * - Iterates selected cells
  * - Filter cells (using filter predicate)
@@ -63,7 +64,7 @@ final public class Movement implements ActionGenerator {
 
     @Override
     public void initialize(AI ai) {
-        this.pathfinder = new Decoder<>(ai.map()).pathfinder();
+        this.pathfinder = new Pathfinder<>(ai.map());
     }
 
     @Override
@@ -101,22 +102,24 @@ final public class Movement implements ActionGenerator {
 
     /**
      * Select all reachable cells for movement
+     * The moves distance is computed once for all cells, so unreachable cells are not tried by the pathfinder
      */
     private List<ScoredCell> selectCells(AI ai, int movementPoints) {
-        final CoordinateCell<FightCell> currentCell = new CoordinateCell<>(ai.fighter().cell());
+        final DistanceField reachable = DistanceField.compute(
+            ai.map(),
+            Collections.singleton(ai.fighter().cell()),
+            FightCell::walkable,
+            movementPoints
+        );
         final List<ScoredCell> selectedCells = new ArrayList<>();
 
         for (FightCell cell : ai.map()) {
-            if (!cell.walkable()) {
+            if (!cell.walkable() || !reachable.reachable(cell.id())) {
                 continue;
             }
 
             CoordinateCell<FightCell> coordinates = new CoordinateCell<>(cell);
 
-            if (coordinates.distance(currentCell) > movementPoints) {
-                continue;
-            }
-
             selectedCells.add(new ScoredCell(coordinates, scoreFunction.apply(coordinates)));
         }
 
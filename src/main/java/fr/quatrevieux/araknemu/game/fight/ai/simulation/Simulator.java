@@ -26,14 +26,15 @@ import fr.quatrevieux.araknemu.game.fight.map.FightCell;
 import fr.quatrevieux.araknemu.game.fight.turn.action.util.BaseCriticalityStrategy;
 import fr.quatrevieux.araknemu.game.spell.Spell;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Perform simulation on fight
+ *
+ * Simulators are stored into an array indexed by the effect id
  */
 final public class Simulator {
-    final private Map<Integer, EffectSimulator> simulators = new HashMap<>();
+    private EffectSimulator[] simulators = new EffectSimulator[0];
 
     /**
      * Register an effect simulator
@@ -42,7 +43,11 @@ final public class Simulator {
      * @param simulator The simulator
      */
     public void register(int effectId, EffectSimulator simulator) {
-        simulators.put(effectId, simulator);
+        if (effectId >= simulators.length) {
+            simulators = Arrays.copyOf(simulators, effectId + 1);
+        }
+
+        simulators[effectId] = simulator;
     }
 
     /**
@@ -81,12 +86,16 @@ final public class Simulator {
     private CastSimulation simulate(Spell spell, CastScope scope) {
         CastSimulation simulation = new CastSimulation(spell, scope.caster(), scope.target());
 
+        final EffectSimulator[] simulators = this.simulators;
+
         for (CastScope.EffectScope effect : scope.effects()) {
-            if (!simulators.containsKey(effect.effect().effect())) {
+            final int effectId = effect.effect().effect();
+
+            if (effectId < 0 || effectId >= simulators.length || simulators[effectId] == null) {
                 continue;
             }
 
-            EffectSimulator simulator = simulators.get(effect.effect().effect());
+            EffectSimulator simulator = simulators[effectId];
 
             if (effect.effect().probability() > 0) {
                 CastSimulation probableSimulation = new CastSimulation(spell, scope.caster(), scope.target());
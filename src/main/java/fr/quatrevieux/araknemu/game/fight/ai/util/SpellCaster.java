@@ -19,6 +19,8 @@
 
 package fr.quatrevieux.araknemu.game.fight.ai.util;
 
+import fr.arakne.utils.value.Interval;
+import fr.quatrevieux.araknemu.data.constant.Characteristic;
 import fr.quatrevieux.araknemu.game.fight.ai.AI;
 import fr.quatrevieux.araknemu.game.fight.castable.validator.CastConstraintValidator;
 import fr.quatrevieux.araknemu.game.fight.map.FightCell;
@@ -48,6 +50,21 @@ final public class SpellCaster {
         return validator.validate(turn, spell, target) == null;
     }
 
+    /**
+     * Get the cast range of the spell, including the range boost of the caster
+     *
+     * @see fr.quatrevieux.araknemu.game.fight.castable.validator.RangeValidator
+     */
+    public Interval range(Spell spell) {
+        final Interval range = spell.constraints().range();
+
+        if (!spell.modifiableRange()) {
+            return range;
+        }
+
+        return range.modify(turn.fighter().characteristics().get(Characteristic.SIGHT_BOOST));
+    }
+
     /**
      * Create the action
      */
@@ -63,7 +63,7 @@ final public class BaseBuilder implements FightBuilder {
 
     @Override
     public Fight build(int fightId) {
-        return new Fight(fightId, type, map, buildTeams(), statesFlow(), logger);
+        return new Fight(fightId, type, map, buildTeams(), statesFlow(), logger, service.executor(), service.metrics());
     }
 
     /**
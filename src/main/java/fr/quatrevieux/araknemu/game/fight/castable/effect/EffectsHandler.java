@@ -19,42 +19,98 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.effect;
 
+import fr.quatrevieux.araknemu.game.fight.FightMetrics;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.EffectHandler;
 import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Handle fight effects
+ *
+ * Handlers are stored into an array indexed by the effect id
+ * The handlers of a table can be shared with other tables using {@link EffectsHandler#inherit(EffectsHandler)} :
+ * in this case, the array is copied only when a new handler is registered
  */
 final public class EffectsHandler {
-    final private Map<Integer, EffectHandler> handlers = new HashMap<>();
+    private EffectHandler[] handlers = new EffectHandler[0];
+    private boolean shared = false;
 
+    /**
+     * Register a new effect handler
+     * The handler must be stateless if the table is shared between fights
+     *
+     * @param effectId The effect to handle
+     * @param applier The handler
+     */
     public void register(int effectId, EffectHandler applier) {
-        handlers.put(effectId, applier);
+        if (effectId < handlers.length && handlers[effectId] == applier) {
+            return;
+        }
+
+        if (effectId >= handlers.length) {
+            handlers = Arrays.copyOf(handlers, effectId + 1);
+            shared = false;
+        } else if (shared) {
+            handlers = handlers.clone();
+            shared = false;
+        }
+
+        handlers[effectId] = applier;
+    }
+
+    /**
+     * Register all handlers of the given table
+     * If the current table is empty, the handlers array is shared instead of copied
+     *
+     * @param other Handlers to import
+     */
+    public void inherit(EffectsHandler other) {
+        if (handlers.length == 0) {
+            handlers = other.handlers;
+            shared = true;
+            other.shared = true;
+
+            return;
+        }
+
+        for (int effectId = 0; effectId < other.handlers.length; ++effectId) {
+            if (other.handlers[effectId] != null) {
+                register(effectId, other.handlers[effectId]);
+            }
+        }
     }
 
     /**
      * Apply a cast to the fight
      */
     public void apply(CastScope cast) {
+        final long start = System.nanoTime();
+
         for (PassiveFighter target : cast.targets()) {
             target.buffs().onCastTarget(cast);
         }
 
+        final EffectHandler[] handlers = this.handlers;
+
         for (CastScope.EffectScope effect : cast.effects()) {
+            final int effectId = effect.effect().effect();
+
             // @todo Warning if handler is not found
-            if (handlers.containsKey(effect.effect().effect())) {
-                EffectHandler handler = handlers.get(effect.effect().effect());
-
-                if (effect.effect().duration() == 0) {
-                    handler.handle(cast, effect);
-                } else {
-                    handler.buff(cast, effect);
-                }
+            if (effectId < 0 || effectId >= handlers.length || handlers[effectId] == null) {
+                continue;
+            }
+
+            final EffectHandler handler = handlers[effectId];
+
+            if (effect.effect().duration() == 0) {
+                handler.handle(cast, effect);
+            } else {
+                handler.buff(cast, effect);
             }
         }
+
+        cast.caster().fight().metrics().timer(FightMetrics.EFFECTS).record(System.nanoTime() - start);
     }
 }
@@ -20,7 +20,6 @@
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.armor;
 
 import fr.arakne.utils.value.helper.RandomUtil;
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.EffectsUtils;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buff;
@@ -35,14 +34,8 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  * Handle spell return buff effect
  */
 final public class SpellReturnHandler implements EffectHandler, BuffHook {
-    final private Fight fight;
-
     final private RandomUtil random = new RandomUtil();
 
-    public SpellReturnHandler(Fight fight) {
-        this.fight = fight;
-    }
-
     @Override
     public void handle(CastScope cast, CastScope.EffectScope effect) {
         throw new UnsupportedOperationException("Spell return effect can be only used as buff");
@@ -63,12 +56,12 @@ final public class SpellReturnHandler implements EffectHandler, BuffHook {
 
         cast.spell().ifPresent(spell -> {
             if (!checkSpellReturned(spell, buff.effect())) {
-                fight.send(ActionEffect.returnSpell(buff.target(), false));
+                cast.caster().fight().send(ActionEffect.returnSpell(buff.target(), false));
                 return;
             }
 
             cast.replaceTarget(buff.target(), cast.caster());
-            fight.send(ActionEffect.returnSpell(buff.target(), true));
+            cast.caster().fight().send(ActionEffect.returnSpell(buff.target(), true));
         });
     }
 
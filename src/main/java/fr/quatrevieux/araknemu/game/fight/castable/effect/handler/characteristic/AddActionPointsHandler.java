@@ -31,16 +31,14 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  * If this effect is not used as buff, it will add actions points to the current turn
  */
 final public class AddActionPointsHandler extends AddCharacteristicHandler {
-    final private Fight fight;
-
-    public AddActionPointsHandler(Fight fight) {
-        super(fight, Characteristic.ACTION_POINT);
-
-        this.fight = fight;
+    public AddActionPointsHandler() {
+        super(Characteristic.ACTION_POINT);
     }
 
     @Override
     public void handle(CastScope cast, CastScope.EffectScope effect) {
+        final Fight fight = cast.caster().fight();
+
         fight.turnList().current().ifPresent(turn -> {
             EffectValue value = new EffectValue(effect.effect());
             int ap = value.value();
@@ -54,7 +52,7 @@ final public class AddActionPointsHandler extends AddCharacteristicHandler {
     public void onBuffStarted(Buff buff) {
         super.onBuffStarted(buff);
 
-        fight.turnList().current()
+        buff.caster().fight().turnList().current()
             .filter(turn -> turn.fighter().equals(buff.target()))
             .ifPresent(turn -> turn.points().addActionPoints(value(buff)))
         ;
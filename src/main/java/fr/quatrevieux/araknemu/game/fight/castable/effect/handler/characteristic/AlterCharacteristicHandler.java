@@ -20,7 +20,6 @@
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.characteristic;
 
 import fr.quatrevieux.araknemu.data.constant.Characteristic;
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.EffectValue;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buff;
@@ -35,11 +34,9 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  * Alter a characteristic with buff effect
  */
 abstract public class AlterCharacteristicHandler implements EffectHandler, BuffHook {
-    final private Fight fight;
     final private Characteristic characteristic;
 
-    public AlterCharacteristicHandler(Fight fight, Characteristic characteristic) {
-        this.fight = fight;
+    public AlterCharacteristicHandler(Characteristic characteristic) {
         this.characteristic = characteristic;
     }
 
@@ -71,7 +68,7 @@ abstract public class AlterCharacteristicHandler implements EffectHandler, BuffH
     @Override
     public void onBuffStarted(Buff buff) {
         buff.target().characteristics().alter(characteristic, value(buff));
-        fight.send(ActionEffect.buff(buff, value(buff)));
+        buff.caster().fight().send(ActionEffect.buff(buff, value(buff)));
     }
 
     @Override
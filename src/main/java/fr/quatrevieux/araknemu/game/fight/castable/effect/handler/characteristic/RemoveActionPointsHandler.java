@@ -31,16 +31,14 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  * If this effect is not used as buff, it will remove actions points to the current turn
  */
 final public class RemoveActionPointsHandler extends RemoveCharacteristicHandler {
-    final private Fight fight;
-
-    public RemoveActionPointsHandler(Fight fight) {
-        super(fight, Characteristic.ACTION_POINT);
-
-        this.fight = fight;
+    public RemoveActionPointsHandler() {
+        super(Characteristic.ACTION_POINT);
     }
 
     @Override
     public void handle(CastScope cast, CastScope.EffectScope effect) {
+        final Fight fight = cast.caster().fight();
+
         fight.turnList().current().ifPresent(turn -> {
             EffectValue value = new EffectValue(effect.effect());
             int ap = turn.points().removeActionPoints(value.value());
@@ -53,7 +51,7 @@ final public class RemoveActionPointsHandler extends RemoveCharacteristicHandler
     public void onBuffStarted(Buff buff) {
         super.onBuffStarted(buff);
 
-        fight.turnList().current()
+        buff.caster().fight().turnList().current()
             .filter(turn -> turn.fighter().equals(buff.target()))
             .ifPresent(turn -> turn.points().removeActionPoints(buff.effect().min()))
         ;
@@ -20,7 +20,6 @@
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.damage;
 
 import fr.quatrevieux.araknemu.data.constant.Characteristic;
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.EffectValue;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.Element;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buff;
@@ -39,11 +38,9 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  */
 final public class DamageApplier {
     final private Element element;
-    final private Fight fight;
 
-    public DamageApplier(Element element, Fight fight) {
+    public DamageApplier(Element element) {
         this.element = element;
-        this.fight = fight;
     }
 
     /**
@@ -70,7 +67,7 @@ final public class DamageApplier {
         target.buffs().onDamage(damage);
 
         if (damage.reducedDamage() > 0) {
-            fight.send(ActionEffect.reducedDamage(target, damage.reducedDamage()));
+            caster.fight().send(ActionEffect.reducedDamage(target, damage.reducedDamage()));
         }
 
         // @todo returned damage
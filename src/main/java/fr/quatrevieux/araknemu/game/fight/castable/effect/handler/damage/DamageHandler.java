@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.damage;
 
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.Element;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buff;
@@ -33,8 +32,8 @@ import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
 final public class DamageHandler implements EffectHandler, BuffHook {
     final private DamageApplier applier;
 
-    public DamageHandler(Element element, Fight fight) {
-        this.applier = new DamageApplier(element, fight);
+    public DamageHandler(Element element) {
+        this.applier = new DamageApplier(element);
     }
 
     @Override
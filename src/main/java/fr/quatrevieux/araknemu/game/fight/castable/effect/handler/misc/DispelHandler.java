@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.misc;
 
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope.EffectScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.EffectHandler;
@@ -33,12 +32,6 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  * @see fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buffs#removeAll()
  */
 final public class DispelHandler implements EffectHandler {
-    final private Fight fight;
-
-    public DispelHandler(Fight fight) {
-        this.fight = fight;
-    }
-
     @Override
     public void buff(CastScope cast, EffectScope effect) {
         throw new UnsupportedOperationException("Cannot dispel buffs from a buff");
@@ -48,7 +41,7 @@ final public class DispelHandler implements EffectHandler {
     public void handle(CastScope cast, EffectScope effect) {
         for (PassiveFighter fighter : cast.targets()) {
             fighter.buffs().removeAll();
-            fight.send(ActionEffect.dispelBuffs(cast.caster(), fighter));
+            cast.caster().fight().send(ActionEffect.dispelBuffs(cast.caster(), fighter));
         }
     }
 }
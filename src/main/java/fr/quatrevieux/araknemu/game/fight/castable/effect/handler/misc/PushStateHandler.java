@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.misc;
 
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.EffectHandler;
 import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
@@ -28,12 +27,6 @@ import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
  * Handle push state to the fighter
  */
 final public class PushStateHandler implements EffectHandler {
-    final private Fight fight;
-
-    public PushStateHandler(Fight fight) {
-        this.fight = fight;
-    }
-
     @Override
     public void handle(CastScope cast, CastScope.EffectScope effect) {
         for (PassiveFighter target : effect.targets()) {
@@ -46,7 +39,7 @@ final public class PushStateHandler implements EffectHandler {
         for (PassiveFighter target : effect.targets()) {
             int duration = effect.effect().duration();
 
-            if (target.equals(fight.turnList().currentFighter())) {
+            if (target.equals(cast.caster().fight().turnList().currentFighter())) {
                 ++duration;
             }
 
@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.misc;
 
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buff;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.BuffHook;
@@ -31,12 +30,6 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  * Skip the fighter turn until buff is expired
  */
 final public class SkipTurnHandler implements EffectHandler, BuffHook {
-    final private Fight fight;
-
-    public SkipTurnHandler(Fight fight) {
-        this.fight = fight;
-    }
-
     @Override
     public void handle(CastScope cast, CastScope.EffectScope effect) {
         buff(cast, effect);
@@ -56,6 +49,6 @@ final public class SkipTurnHandler implements EffectHandler, BuffHook {
 
     @Override
     public void onBuffStarted(Buff buff) {
-        fight.send(ActionEffect.skipNextTurn(buff.caster(), buff.target()));
+        buff.caster().fight().send(ActionEffect.skipNextTurn(buff.caster(), buff.target()));
     }
 }
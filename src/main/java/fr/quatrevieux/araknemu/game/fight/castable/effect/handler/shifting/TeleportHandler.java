@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.effect.handler.shifting;
 
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.EffectHandler;
 import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
@@ -28,12 +27,6 @@ import fr.quatrevieux.araknemu.network.game.out.fight.action.ActionEffect;
  * Handle teleport effect
  */
 final public class TeleportHandler implements EffectHandler {
-    final private Fight fight;
-
-    public TeleportHandler(Fight fight) {
-        this.fight = fight;
-    }
-
     @Override
     public void handle(CastScope cast, CastScope.EffectScope effect) {
         if (!cast.target().walkable()) {
@@ -42,7 +35,7 @@ final public class TeleportHandler implements EffectHandler {
 
         cast.caster().move(cast.target());
 
-        fight.send(ActionEffect.teleport(cast.caster(), cast.caster(), cast.target()));
+        cast.caster().fight().send(ActionEffect.teleport(cast.caster(), cast.caster(), cast.target()));
     }
 
     @Override
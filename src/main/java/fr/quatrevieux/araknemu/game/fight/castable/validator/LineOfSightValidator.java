@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.validator;
 
-import fr.arakne.utils.maps.LineOfSight;
 import fr.quatrevieux.araknemu.game.fight.castable.Castable;
 import fr.quatrevieux.araknemu.game.fight.map.FightCell;
 import fr.quatrevieux.araknemu.game.fight.turn.Turn;
@@ -35,9 +34,7 @@ final public class LineOfSightValidator implements CastConstraintValidator {
             return null;
         }
 
-        LineOfSight<FightCell> lineOfSight = new LineOfSight<>(target.map());
-
-        if (lineOfSight.between(turn.fighter().cell(), target)) {
+        if (target.map().lineOfSight(turn.fighter().cell(), target)) {
             return null;
         }
 
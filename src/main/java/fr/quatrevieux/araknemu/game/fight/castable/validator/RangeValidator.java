@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.castable.validator;
 
-import fr.arakne.utils.maps.CoordinateCell;
 import fr.arakne.utils.value.Interval;
 import fr.quatrevieux.araknemu.data.constant.Characteristic;
 import fr.quatrevieux.araknemu.game.fight.castable.Castable;
@@ -33,10 +32,7 @@ import fr.quatrevieux.araknemu.network.game.out.info.Error;
 final public class RangeValidator implements CastConstraintValidator {
     @Override
     public Error validate(Turn turn, Castable castable, FightCell target) {
-        CoordinateCell<FightCell> from = new CoordinateCell<>(turn.fighter().cell());
-        CoordinateCell<FightCell> to   = new CoordinateCell<>(target);
-
-        int distance = from.distance(to);
+        int distance = target.map().distance(turn.fighter().cell(), target);
 
         Interval range = castable.constraints().range();
 
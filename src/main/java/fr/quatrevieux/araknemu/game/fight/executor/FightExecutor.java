@@ -0,0 +1,178 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight.executor;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serial executor of a single fight
+ *
+ * Tasks are executed one at a time, in submission order, on the shared workers of {@link FightExecutorService}
+ * So a fight never runs two actions at the same time, but do not own any thread
+ */
+final public class FightExecutor implements Executor {
+    /**
+     * Maximum number of tasks to execute before giving back the worker thread to other fights
+     */
+    final static private int BATCH_SIZE = 16;
+
+    final private FightExecutorService service;
+
+    final private Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    final private AtomicInteger size = new AtomicInteger();
+    final private AtomicBoolean running = new AtomicBoolean();
+
+    private volatile boolean closed = false;
+
+    FightExecutor(FightExecutorService service) {
+        this.service = service;
+    }
+
+    /**
+     * Push the action at the end of the fight queue
+     * If the executor is shutdown, the action is ignored
+     *
+     * @param action Action to execute
+     */
+    @Override
+    public void execute(Runnable action) {
+        if (closed) {
+            return;
+        }
+
+        tasks.add(action);
+        size.incrementAndGet();
+        submit();
+    }
+
+    /**
+     * Execute the action after the given delay
+     * The delayed action will be pushed on the fight queue, so it'll still be executed serially
+     *
+     * @param action Action to execute
+     * @param delay The delay
+     *
+     * @return The future. Cancelling the future will prevent the action to be executed, if not yet started
+     */
+    public ScheduledFuture<?> schedule(Runnable action, Duration delay) {
+        final ScheduledTask task = new ScheduledTask(action);
+
+        task.timer = service.timer().schedule(() -> execute(task), delay.toMillis(), TimeUnit.MILLISECONDS);
+
+        return task;
+    }
+
+    /**
+     * Get the number of pending tasks on the fight queue
+     * Scheduled tasks are not counted until their delay is elapsed
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Check if the executor is shutdown
+     */
+    public boolean closed() {
+        return closed;
+    }
+
+    /**
+     * Stop the executor
+     * Pending tasks are removed, and new tasks will be ignored
+     */
+    public void shutdown() {
+        closed = true;
+        tasks.clear();
+        size.set(0);
+        service.release(this);
+    }
+
+    /**
+     * Submit the queue drain to the workers if not already running
+     */
+    private void submit() {
+        if (!tasks.isEmpty() && running.compareAndSet(false, true)) {
+            service.workers().execute(this::drain);
+        }
+    }
+
+    /**
+     * Execute pending tasks
+     * The running flag ensure that only one worker executes tasks of this fight at a time
+     */
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH_SIZE && !closed; ++i) {
+                final Runnable task = tasks.poll();
+
+                if (task == null) {
+                    return;
+                }
+
+                size.decrementAndGet();
+                task.run();
+            }
+        } finally {
+            running.set(false);
+
+            if (!closed) {
+                submit();
+            }
+        }
+    }
+
+    /**
+     * Future of a delayed task
+     */
+    static private class ScheduledTask extends FutureTask<Void> implements ScheduledFuture<Void> {
+        private volatile ScheduledFuture<?> timer;
+
+        public ScheduledTask(Runnable action) {
+            super(action, null);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            timer.cancel(false);
+
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return timer.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight.executor;
+
+import fr.quatrevieux.araknemu.core.event.EventsSubscriber;
+import fr.quatrevieux.araknemu.core.event.Listener;
+import fr.quatrevieux.araknemu.game.GameConfiguration;
+import fr.quatrevieux.araknemu.game.event.GameStopped;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared execution engine for all fights
+ *
+ * Fights actions are multiplexed over a bounded work-stealing pool,
+ * and delays are handled by a single timer thread which only push the task to the fight queue
+ */
+final public class FightExecutorService implements EventsSubscriber {
+    final private ForkJoinPool workers;
+    final private ScheduledThreadPoolExecutor timer;
+    final private Set<FightExecutor> executors = ConcurrentHashMap.newKeySet();
+
+    public FightExecutorService(GameConfiguration.FightConfiguration configuration) {
+        this.workers = new ForkJoinPool(
+            configuration.threadsCount(),
+            pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+
+                thread.setName("Fight-Worker-" + thread.getPoolIndex());
+
+                return thread;
+            },
+            null,
+            true
+        );
+
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "Fight-Timer");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        timer.setRemoveOnCancelPolicy(true);
+        timer.setKeepAliveTime(1, TimeUnit.MINUTES);
+        timer.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Listener[] listeners() {
+        return new Listener[] {
+            new Listener<GameStopped>() {
+                @Override
+                public void on(GameStopped event) {
+                    executors.forEach(FightExecutor::shutdown);
+                    timer.shutdownNow();
+                    workers.shutdownNow();
+                }
+
+                @Override
+                public Class<GameStopped> event() {
+                    return GameStopped.class;
+                }
+            }
+        };
+    }
+
+    /**
+     * Create a new executor for a fight
+     * The executor must be shutdown when the fight is destroyed
+     */
+    public FightExecutor create() {
+        final FightExecutor executor = new FightExecutor(this);
+
+        executors.add(executor);
+
+        return executor;
+    }
+
+    /**
+     * Get all active fight executors
+     */
+    public Collection<FightExecutor> executors() {
+        return Collections.unmodifiableSet(executors);
+    }
+
+    /**
+     * Maximum number of worker threads
+     */
+    public int parallelism() {
+        return workers.getParallelism();
+    }
+
+    /**
+     * Number of started worker threads
+     */
+    public int poolSize() {
+        return workers.getPoolSize();
+    }
+
+    /**
+     * Number of workers currently executing fight actions
+     */
+    public int activeWorkers() {
+        return workers.getActiveThreadCount();
+    }
+
+    /**
+     * Number of fights waiting for a worker
+     */
+    public long queuedFights() {
+        return workers.getQueuedSubmissionCount() + workers.getQueuedTaskCount();
+    }
+
+    /**
+     * Number of delayed actions waiting for their delay
+     */
+    public int scheduledTasks() {
+        return timer.getQueue().size();
+    }
+
+    /**
+     * Get the largest pending task queue of all fights
+     */
+    public int maxQueueDepth() {
+        int max = 0;
+
+        for (FightExecutor executor : executors) {
+            max = Math.max(max, executor.size());
+        }
+
+        return max;
+    }
+
+    /**
+     * Get the pool used for execute fight actions
+     */
+    ForkJoinPool workers() {
+        return workers;
+    }
+
+    /**
+     * Get the executor used for delay fight actions
+     */
+    ScheduledExecutorService timer() {
+        return timer;
+    }
+
+    /**
+     * Remove a shutdown executor
+     */
+    void release(FightExecutor executor) {
+        executors.remove(executor);
+    }
+}
@@ -76,11 +76,6 @@ public interface Fighter extends Creature<FightCell>, Dispatcher, ActiveFighter
      */
     public int level();
 
-    /**
-     * Get the fight
-     */
-    public Fight fight();
-
     @Override
     public FightTeam team();
 
@@ -19,6 +19,7 @@
 
 package fr.quatrevieux.araknemu.game.fight.fighter;
 
+import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buffs;
 import fr.quatrevieux.araknemu.game.fight.map.FightCell;
 import fr.quatrevieux.araknemu.game.fight.team.Team;
@@ -67,6 +68,11 @@ public interface PassiveFighter {
      */
     public Team<? extends PassiveFighter> team();
 
+    /**
+     * Get the fight
+     */
+    public Fight fight();
+
     /**
      * Check if the player is dead
      */
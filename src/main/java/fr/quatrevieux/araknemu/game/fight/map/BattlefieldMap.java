@@ -25,4 +25,18 @@ import fr.arakne.utils.maps.DofusMap;
  * Base type for dofus fight map
  */
 public interface BattlefieldMap extends DofusMap<FightCell>, Iterable<FightCell> {
+    /**
+     * Get the distance between two cells of the map
+     */
+    public int distance(FightCell from, FightCell to);
+
+    /**
+     * Check if there is a line of sight between the two cells
+     *
+     * @param from The origin cell
+     * @param to The target cell
+     *
+     * @see fr.arakne.utils.maps.LineOfSight#between(fr.arakne.utils.maps.BattlefieldCell, fr.arakne.utils.maps.BattlefieldCell)
+     */
+    public boolean lineOfSight(FightCell from, FightCell to);
 }
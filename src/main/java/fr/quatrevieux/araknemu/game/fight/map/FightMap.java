@@ -19,31 +19,63 @@
 
 package fr.quatrevieux.araknemu.game.fight.map;
 
-import fr.arakne.utils.maps.serializer.CellData;
+import fr.arakne.utils.maps.CoordinateCell;
+import fr.arakne.utils.maps.LineOfSight;
 import fr.arakne.utils.value.Dimensions;
 import fr.quatrevieux.araknemu.data.world.entity.environment.MapTemplate;
+import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
- * Map for the fight
+ * Map of a single fight
+ *
+ * The map is an overlay over the shared {@link FightMapGrid} : only the fighters occupancy is stored per fight,
+ * and cells instances are created on demand
  */
 final public class FightMap implements BattlefieldMap {
-    final private MapTemplate template;
-    final private List<FightCell> cells;
+    final private FightMapGrid grid;
+    final private LineOfSight<FightCell> lineOfSight;
+
+    final private FightCell[] cells;
+    final private PassiveFighter[] fighters;
+    private CoordinateCell<FightCell>[] coordinates;
+    private boolean destroyed = false;
+
+    /** Cells (bit index) which line of sight is already computed, indexed by origin cell id */
+    final private BitSet[] computedSight;
+    /** Cells visible from the origin cell */
+    final private BitSet[] visibleCells;
 
     public FightMap(MapTemplate template) {
-        this.template = template;
-        this.cells = makeCells(template.cells());
+        this(new FightMapGrid(template));
+    }
+
+    public FightMap(FightMapGrid grid) {
+        this.grid = grid;
+        this.cells = new FightCell[grid.size()];
+        this.fighters = new PassiveFighter[grid.size()];
+        this.lineOfSight = new LineOfSight<>(this);
+        this.computedSight = new BitSet[grid.size()];
+        this.visibleCells = new BitSet[grid.size()];
     }
 
     /**
      * Get the map id
      */
     public int id() {
-        return template.id();
+        return grid.template().id();
+    }
+
+    /**
+     * Get the shared geometry of the map
+     */
+    public FightMapGrid grid() {
+        return grid;
     }
 
     /**
@@ -53,55 +85,138 @@ final public class FightMap implements BattlefieldMap {
      */
     @Override
     public FightCell get(int cellId) {
-        return cells.get(cellId);
+        FightCell cell = cells[cellId];
+
+        if (cell == null) {
+            cells[cellId] = cell = grid.walkable(cellId)
+                ? new WalkableFightCell(this, cellId)
+                : new UnwalkableFightCell(this, cellId)
+            ;
+        }
+
+        return cell;
     }
 
     /**
      * Get start places for a team
      */
     public List<Integer> startPlaces(int team) {
-        return template.fightPlaces()[team];
+        return grid.template().fightPlaces()[team];
     }
 
     @Override
     public Dimensions dimensions() {
-        return template.dimensions();
+        return grid.dimensions();
     }
 
     @Override
     public int size() {
-        return cells.size();
+        return destroyed ? 0 : cells.length;
     }
 
     @Override
     public Iterator<FightCell> iterator() {
-        return cells.iterator();
+        return new Iterator<FightCell>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size();
+            }
+
+            @Override
+            public FightCell next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(next++);
+            }
+        };
     }
 
     /**
-     * Clear map data
+     * Get the coordinates of a cell
+     * The result is cached, so it's not required to keep the instance
      */
-    public void destroy() {
-        for (FightCell cell : cells) {
-            cell.fighter().ifPresent(fighter -> cell.removeFighter());
+    @SuppressWarnings("unchecked")
+    public CoordinateCell<FightCell> coordinates(FightCell cell) {
+        if (coordinates == null) {
+            coordinates = new CoordinateCell[cells.length];
+        }
+
+        CoordinateCell<FightCell> coordinate = coordinates[cell.id()];
+
+        if (coordinate == null) {
+            coordinates[cell.id()] = coordinate = new CoordinateCell<>(cell);
+        }
+
+        return coordinate;
+    }
+
+    @Override
+    public int distance(FightCell from, FightCell to) {
+        return grid.distance(from.id(), to.id());
+    }
+
+    @Override
+    public boolean lineOfSight(FightCell from, FightCell to) {
+        BitSet computed = computedSight[from.id()];
+        BitSet visible = visibleCells[from.id()];
+
+        if (computed == null) {
+            computedSight[from.id()] = computed = new BitSet(cells.length);
+            visibleCells[from.id()] = visible = new BitSet(cells.length);
+        } else if (computed.get(to.id())) {
+            return visible.get(to.id());
         }
 
-        cells.clear();
+        final boolean result = lineOfSight.between(coordinates(from), coordinates(to));
+
+        computed.set(to.id());
+        visible.set(to.id(), result);
+
+        return result;
+    }
+
+    /**
+     * Clear map data
+     *
+     * Cells instances still referenced stay usable, and are considered as free
+     */
+    public void destroy() {
+        destroyed = true;
+        Arrays.fill(cells, null);
+        Arrays.fill(fighters, null);
+        coordinates = null;
+        invalidateLineOfSight();
     }
 
-    private List<FightCell> makeCells(CellData[] template) {
-        List<FightCell> cells = new ArrayList<>(template.length);
+    /**
+     * Get the fighter on the given cell, or null if the cell is free
+     */
+    PassiveFighter fighter(int cellId) {
+        return fighters[cellId];
+    }
 
-        for (int i = 0; i < template.length; ++i) {
-            CellData cell = template[i];
+    /**
+     * Set the fighter of a cell
+     * Use null to remove the fighter
+     */
+    void setFighter(int cellId, PassiveFighter fighter) {
+        fighters[cellId] = fighter;
+        invalidateLineOfSight();
+    }
 
-            if (!cell.active() || !cell.movement().walkable()) {
-                cells.add(new UnwalkableFightCell(this, template[i], i));
-            } else {
-                cells.add(new WalkableFightCell(this, template[i], i));
+    /**
+     * Clear the line of sight cache
+     * Must be called when a fighter enter or leave a cell
+     */
+    private void invalidateLineOfSight() {
+        for (BitSet computed : computedSight) {
+            if (computed != null) {
+                computed.clear();
             }
         }
-
-        return cells;
     }
 }
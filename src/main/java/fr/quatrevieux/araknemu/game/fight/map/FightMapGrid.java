@@ -0,0 +1,137 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight.map;
+
+import fr.arakne.utils.maps.serializer.CellData;
+import fr.arakne.utils.value.Dimensions;
+import fr.quatrevieux.araknemu.data.world.entity.environment.MapTemplate;
+
+/**
+ * Immutable geometry of a fight map
+ *
+ * Cells properties which do not depends on the fight (walkability, line of sight and coordinates)
+ * are computed once per map and stored as primitive arrays, so they can be shared by all fights on this map
+ *
+ * @see FightMap for the per-fight occupancy
+ */
+final public class FightMapGrid {
+    final static private byte WALKABLE = 1;
+    final static private byte LINE_OF_SIGHT = 2;
+
+    final private MapTemplate template;
+    final private byte[] flags;
+    final private int[] x;
+    final private int[] y;
+
+    public FightMapGrid(MapTemplate template) {
+        final CellData[] cells = template.cells();
+        final int width = template.dimensions().width();
+
+        this.template = template;
+        this.flags = new byte[cells.length];
+        this.x = new int[cells.length];
+        this.y = new int[cells.length];
+
+        for (int id = 0; id < cells.length; ++id) {
+            final CellData cell = cells[id];
+
+            if (cell.active() && cell.movement().walkable()) {
+                flags[id] |= WALKABLE;
+            }
+
+            if (cell.lineOfSight()) {
+                flags[id] |= LINE_OF_SIGHT;
+            }
+
+            // Same computation as CoordinateCell
+            final int line = id / (width * 2 - 1);
+            final int column = (id - line * (width * 2 - 1)) % width;
+
+            y[id] = line - column;
+            x[id] = (id - (width - 1) * y[id]) / width;
+        }
+    }
+
+    /**
+     * Get the map template
+     */
+    public MapTemplate template() {
+        return template;
+    }
+
+    /**
+     * Get the map dimensions
+     */
+    public Dimensions dimensions() {
+        return template.dimensions();
+    }
+
+    /**
+     * Get the number of cells
+     */
+    public int size() {
+        return flags.length;
+    }
+
+    /**
+     * Check if the cell can be walked on, ignoring fighters
+     *
+     * @param cellId The cell id
+     */
+    public boolean walkable(int cellId) {
+        return (flags[cellId] & WALKABLE) != 0;
+    }
+
+    /**
+     * Check if the cell let the line of sight pass, ignoring fighters
+     *
+     * @param cellId The cell id
+     */
+    public boolean lineOfSight(int cellId) {
+        return (flags[cellId] & LINE_OF_SIGHT) != 0;
+    }
+
+    /**
+     * Get the X coordinate of the cell
+     *
+     * @see fr.arakne.utils.maps.CoordinateCell#x()
+     */
+    public int x(int cellId) {
+        return x[cellId];
+    }
+
+    /**
+     * Get the Y coordinate of the cell
+     *
+     * @see fr.arakne.utils.maps.CoordinateCell#y()
+     */
+    public int y(int cellId) {
+        return y[cellId];
+    }
+
+    /**
+     * Get the distance between two cells
+     *
+     * @see fr.arakne.utils.maps.CoordinateCell#distance(fr.arakne.utils.maps.CoordinateCell)
+     */
+    public int distance(int from, int to) {
+        return Math.abs(x[from] - x[to]) + Math.abs(y[from] - y[to]);
+    }
+}
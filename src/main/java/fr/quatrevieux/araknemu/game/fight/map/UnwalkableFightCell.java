@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.map;
 
-import fr.arakne.utils.maps.serializer.CellData;
 import fr.quatrevieux.araknemu.game.fight.exception.FightMapException;
 import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
 
@@ -30,12 +29,10 @@ import java.util.Optional;
  */
 final public class UnwalkableFightCell implements FightCell {
     final private FightMap map;
-    final private CellData template;
     final private int id;
 
-    public UnwalkableFightCell(FightMap map, CellData template, int id) {
+    public UnwalkableFightCell(FightMap map, int id) {
         this.map = map;
-        this.template = template;
         this.id = id;
     }
 
@@ -61,7 +58,7 @@ final public class UnwalkableFightCell implements FightCell {
 
     @Override
     public boolean sightBlocking() {
-        return !template.lineOfSight();
+        return !map.grid().lineOfSight(id);
     }
 
     @Override
@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.fight.map;
 
-import fr.arakne.utils.maps.serializer.CellData;
 import fr.quatrevieux.araknemu.game.fight.exception.FightMapException;
 import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
 
@@ -30,14 +29,10 @@ import java.util.Optional;
  */
 final public class WalkableFightCell implements FightCell {
     final private FightMap map;
-    final private CellData template;
     final private int id;
 
-    private PassiveFighter fighter;
-
-    public WalkableFightCell(FightMap map, CellData template, int id) {
+    public WalkableFightCell(FightMap map, int id) {
         this.map = map;
-        this.template = template;
         this.id = id;
     }
 
@@ -53,7 +48,7 @@ final public class WalkableFightCell implements FightCell {
 
     @Override
     public boolean walkable() {
-        return fighter == null;
+        return map.fighter(id) == null;
     }
 
     @Override
@@ -63,30 +58,30 @@ final public class WalkableFightCell implements FightCell {
 
     @Override
     public boolean sightBlocking() {
-        return !template.lineOfSight() || fighter != null;
+        return !map.grid().lineOfSight(id) || map.fighter(id) != null;
     }
 
     @Override
     public Optional<PassiveFighter> fighter() {
-        return Optional.ofNullable(fighter);
+        return Optional.ofNullable(map.fighter(id));
     }
 
     @Override
     public void set(PassiveFighter fighter) {
-        if (this.fighter != null) {
+        if (map.fighter(id) != null) {
             throw new FightMapException("A fighter is already set on this cell (" + id + ")");
         }
 
-        this.fighter = fighter;
+        map.setFighter(id, fighter);
     }
 
     @Override
     public void removeFighter() {
-        if (this.fighter == null) {
+        if (map.fighter(id) == null) {
             throw new FightMapException("No fighter found on cell " + id);
         }
 
-        this.fighter = null;
+        map.setFighter(id, null);
     }
 
     @Override
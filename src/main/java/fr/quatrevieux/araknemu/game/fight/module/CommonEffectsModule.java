@@ -21,7 +21,6 @@ package fr.quatrevieux.araknemu.game.fight.module;
 
 import fr.quatrevieux.araknemu.core.event.Listener;
 import fr.quatrevieux.araknemu.data.constant.Characteristic;
-import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.EffectsHandler;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.Element;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.armor.HealOrMultiplyDamageHandler;
@@ -38,72 +37,74 @@ import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.shifting.Telep
 
 /**
  * Module for register common fight effects
+ *
+ * The effect handlers are stateless, so they are created only once, and shared between all fights
  */
 final public class CommonEffectsModule implements FightModule {
-    final private Fight fight;
+    final private EffectsHandler handlers = new EffectsHandler();
 
-    public CommonEffectsModule(Fight fight) {
-        this.fight = fight;
-    }
+    public CommonEffectsModule() {
+        handlers.register(4, new TeleportHandler());
 
-    @Override
-    public void effects(EffectsHandler handler) {
-        handler.register(4, new TeleportHandler(fight));
+        handlers.register(132, new DispelHandler());
 
-        handler.register(132, new DispelHandler(fight));
+        handlers.register(91, new StealLifeHandler(Element.WATER));
+        handlers.register(92, new StealLifeHandler(Element.EARTH));
+        handlers.register(93, new StealLifeHandler(Element.AIR));
+        handlers.register(94, new StealLifeHandler(Element.FIRE));
+        handlers.register(95, new StealLifeHandler(Element.NEUTRAL));
 
-        handler.register(91, new StealLifeHandler(Element.WATER, fight));
-        handler.register(92, new StealLifeHandler(Element.EARTH, fight));
-        handler.register(93, new StealLifeHandler(Element.AIR, fight));
-        handler.register(94, new StealLifeHandler(Element.FIRE, fight));
-        handler.register(95, new StealLifeHandler(Element.NEUTRAL, fight));
+        handlers.register(96,  new DamageHandler(Element.WATER));
+        handlers.register(97,  new DamageHandler(Element.EARTH));
+        handlers.register(98,  new DamageHandler(Element.AIR));
+        handlers.register(99,  new DamageHandler(Element.FIRE));
+        handlers.register(100, new DamageHandler(Element.NEUTRAL));
 
-        handler.register(96,  new DamageHandler(Element.WATER, fight));
-        handler.register(97,  new DamageHandler(Element.EARTH, fight));
-        handler.register(98,  new DamageHandler(Element.AIR, fight));
-        handler.register(99,  new DamageHandler(Element.FIRE, fight));
-        handler.register(100, new DamageHandler(Element.NEUTRAL, fight));
+        handlers.register(140, new SkipTurnHandler());
+        handlers.register(950, new PushStateHandler());
+        handlers.register(951, new RemoveStateHandler());
 
-        handler.register(140, new SkipTurnHandler(fight));
-        handler.register(950, new PushStateHandler(fight));
-        handler.register(951, new RemoveStateHandler());
+        handlers.register(79,  new HealOrMultiplyDamageHandler());
+        handlers.register(105, new ReduceDamageHandler());
+        handlers.register(106, new SpellReturnHandler());
+        handlers.register(265, new ReduceDamageHandler());
 
-        handler.register(79,  new HealOrMultiplyDamageHandler());
-        handler.register(105, new ReduceDamageHandler());
-        handler.register(106, new SpellReturnHandler(fight));
-        handler.register(265, new ReduceDamageHandler());
+        handlers.register(111, new AddActionPointsHandler());
+        handlers.register(120, new AddActionPointsHandler());
+        handlers.register(168, new RemoveActionPointsHandler());
 
-        handler.register(111, new AddActionPointsHandler(fight));
-        handler.register(120, new AddActionPointsHandler(fight));
-        handler.register(168, new RemoveActionPointsHandler(fight));
+        handlers.register(78,  new AddMovementPointsHandler());
+        handlers.register(128, new AddMovementPointsHandler());
+        handlers.register(169, new RemoveMovementPointsHandler());
 
-        handler.register(78,  new AddMovementPointsHandler(fight));
-        handler.register(128, new AddMovementPointsHandler(fight));
-        handler.register(169, new RemoveMovementPointsHandler(fight));
+        handlers.register(112, new AddCharacteristicHandler(Characteristic.FIXED_DAMAGE));
+        handlers.register(115, new AddCharacteristicHandler(Characteristic.CRITICAL_BONUS));
+        handlers.register(117, new AddCharacteristicHandler(Characteristic.SIGHT_BOOST));
+        handlers.register(118, new AddCharacteristicHandler(Characteristic.STRENGTH));
+        handlers.register(119, new AddCharacteristicHandler(Characteristic.AGILITY));
+        handlers.register(122, new AddCharacteristicHandler(Characteristic.FAIL_MALUS));
+        handlers.register(123, new AddCharacteristicHandler(Characteristic.LUCK));
+        handlers.register(124, new AddCharacteristicHandler(Characteristic.WISDOM));
+        handlers.register(126, new AddCharacteristicHandler(Characteristic.INTELLIGENCE));
+        handlers.register(138, new AddCharacteristicHandler(Characteristic.PERCENT_DAMAGE));
+        handlers.register(178, new AddCharacteristicHandler(Characteristic.HEALTH_BOOST));
+        handlers.register(182, new AddCharacteristicHandler(Characteristic.MAX_SUMMONED_CREATURES));
 
-        handler.register(112, new AddCharacteristicHandler(fight, Characteristic.FIXED_DAMAGE));
-        handler.register(115, new AddCharacteristicHandler(fight, Characteristic.CRITICAL_BONUS));
-        handler.register(117, new AddCharacteristicHandler(fight, Characteristic.SIGHT_BOOST));
-        handler.register(118, new AddCharacteristicHandler(fight, Characteristic.STRENGTH));
-        handler.register(119, new AddCharacteristicHandler(fight, Characteristic.AGILITY));
-        handler.register(122, new AddCharacteristicHandler(fight, Characteristic.FAIL_MALUS));
-        handler.register(123, new AddCharacteristicHandler(fight, Characteristic.LUCK));
-        handler.register(124, new AddCharacteristicHandler(fight, Characteristic.WISDOM));
-        handler.register(126, new AddCharacteristicHandler(fight, Characteristic.INTELLIGENCE));
-        handler.register(138, new AddCharacteristicHandler(fight, Characteristic.PERCENT_DAMAGE));
-        handler.register(178, new AddCharacteristicHandler(fight, Characteristic.HEALTH_BOOST));
-        handler.register(182, new AddCharacteristicHandler(fight, Characteristic.MAX_SUMMONED_CREATURES));
+        handlers.register(116, new RemoveCharacteristicHandler(Characteristic.SIGHT_BOOST));
+        handlers.register(145, new RemoveCharacteristicHandler(Characteristic.FIXED_DAMAGE));
+        handlers.register(152, new RemoveCharacteristicHandler(Characteristic.LUCK));
+        handlers.register(154, new RemoveCharacteristicHandler(Characteristic.AGILITY));
+        handlers.register(155, new RemoveCharacteristicHandler(Characteristic.INTELLIGENCE));
+        handlers.register(156, new RemoveCharacteristicHandler(Characteristic.WISDOM));
+        handlers.register(157, new RemoveCharacteristicHandler(Characteristic.STRENGTH));
+        handlers.register(171, new RemoveCharacteristicHandler(Characteristic.CRITICAL_BONUS));
+        handlers.register(179, new RemoveCharacteristicHandler(Characteristic.HEALTH_BOOST));
+        handlers.register(186, new RemoveCharacteristicHandler(Characteristic.PERCENT_DAMAGE));
+    }
 
-        handler.register(116, new RemoveCharacteristicHandler(fight, Characteristic.SIGHT_BOOST));
-        handler.register(145, new RemoveCharacteristicHandler(fight, Characteristic.FIXED_DAMAGE));
-        handler.register(152, new RemoveCharacteristicHandler(fight, Characteristic.LUCK));
-        handler.register(154, new RemoveCharacteristicHandler(fight, Characteristic.AGILITY));
-        handler.register(155, new RemoveCharacteristicHandler(fight, Characteristic.INTELLIGENCE));
-        handler.register(156, new RemoveCharacteristicHandler(fight, Characteristic.WISDOM));
-        handler.register(157, new RemoveCharacteristicHandler(fight, Characteristic.STRENGTH));
-        handler.register(171, new RemoveCharacteristicHandler(fight, Characteristic.CRITICAL_BONUS));
-        handler.register(179, new RemoveCharacteristicHandler(fight, Characteristic.HEALTH_BOOST));
-        handler.register(186, new RemoveCharacteristicHandler(fight, Characteristic.PERCENT_DAMAGE));
+    @Override
+    public void effects(EffectsHandler handler) {
+        handler.inherit(handlers);
     }
 
     @Override
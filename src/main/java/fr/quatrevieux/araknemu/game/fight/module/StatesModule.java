@@ -46,7 +46,7 @@ final public class StatesModule implements FightModule {
 
     @Override
     public void effects(EffectsHandler handler) {
-        handler.register(950, new PushStateHandler(fight));
+        handler.register(950, new PushStateHandler());
         handler.register(951, new RemoveStateHandler());
     }
 
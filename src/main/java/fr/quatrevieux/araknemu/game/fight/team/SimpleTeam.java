@@ -19,6 +19,7 @@
 
 package fr.quatrevieux.araknemu.game.fight.team;
 
+import fr.quatrevieux.araknemu.core.network.PreEncodedPacket;
 import fr.quatrevieux.araknemu.data.constant.Alignment;
 import fr.quatrevieux.araknemu.game.fight.JoinFightError;
 import fr.quatrevieux.araknemu.game.fight.exception.JoinFightException;
@@ -92,7 +93,9 @@ final public class SimpleTeam implements FightTeam {
 
     @Override
     public void send(Object packet) {
-        fighters.forEach(fighter -> fighter.send(packet));
+        final PreEncodedPacket encoded = PreEncodedPacket.of(packet);
+
+        fighters.forEach(fighter -> fighter.send(encoded));
     }
 
     @Override
@@ -20,6 +20,7 @@
 package fr.quatrevieux.araknemu.game.fight.turn;
 
 import fr.quatrevieux.araknemu.game.fight.Fight;
+import fr.quatrevieux.araknemu.game.fight.FightMetrics;
 import fr.quatrevieux.araknemu.game.fight.exception.FightException;
 import fr.quatrevieux.araknemu.game.fight.fighter.Fighter;
 import fr.quatrevieux.araknemu.game.fight.turn.action.Action;
@@ -48,6 +49,7 @@ final public class FightTurn implements Turn {
 
     private ScheduledFuture timer;
     private FighterTurnPoints points;
+    private long startedAt;
 
 
     public FightTurn(Fighter fighter, Fight fight, Duration duration) {
@@ -96,6 +98,7 @@ final public class FightTurn implements Turn {
         }
 
         fighter.play(this);
+        startedAt = System.nanoTime();
         active.set(true);
         fight.dispatch(new TurnStarted(this));
         timer = fight.schedule(this::stop, duration);
@@ -112,6 +115,7 @@ final public class FightTurn implements Turn {
         }
 
         timer.cancel(false);
+        fight.metrics().timer(FightMetrics.TURN).record(System.nanoTime() - startedAt);
 
         actionHandler.terminated(() -> {
             fight.dispatch(new TurnStopped(this));
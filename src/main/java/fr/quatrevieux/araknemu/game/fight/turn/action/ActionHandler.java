@@ -54,12 +54,16 @@ final public class ActionHandler {
             return false;
         }
 
+        final long start = System.nanoTime();
+
         if (!action.validate()) {
             return false;
         }
 
         ActionResult result = action.start();
 
+        fight.metrics().action(action.type()).record(System.nanoTime() - start);
+
         if (result.success()) {
             current = action;
             future = fight.schedule(this::terminate, action.duration());
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.item;
+
+import fr.quatrevieux.araknemu.data.value.ItemTemplateEffectEntry;
+import fr.quatrevieux.araknemu.game.item.effect.ItemEffect;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of immutable item instances
+ *
+ * Items are identified by their template id and effects, so all equal items share the same instance,
+ * including their effects lists, across inventories, banks and drops.
+ * Items are weakly referenced : an item is removed from the cache once it's no longer used.
+ */
+final public class ItemInterner {
+    final private ConcurrentMap<Key, ItemReference> items = new ConcurrentHashMap<>();
+    final private ReferenceQueue<Item> queue = new ReferenceQueue<>();
+
+    /**
+     * Get the item matching with the template and effects, or create it
+     *
+     * @param templateId The item template id
+     * @param effects The item effects
+     * @param factory Create the item if not present on the cache
+     */
+    public Item get(int templateId, List<ItemTemplateEffectEntry> effects, Supplier<Item> factory) {
+        expunge();
+
+        final ItemReference reference = items.get(new Key(templateId, effects));
+        final Item item = reference == null ? null : reference.get();
+
+        if (item != null) {
+            return item;
+        }
+
+        return put(new Key(templateId, new ArrayList<>(effects)), factory.get());
+    }
+
+    /**
+     * Get the shared instance equals to the given item
+     * If the item is not present on the cache, it will be added
+     *
+     * @param item The item to intern
+     *
+     * @return The shared instance
+     */
+    public Item intern(Item item) {
+        expunge();
+
+        final Key key = new Key(
+            item.template().id(),
+            item.effects().stream().map(ItemEffect::toTemplate).collect(Collectors.toList())
+        );
+
+        final ItemReference reference = items.get(key);
+        final Item interned = reference == null ? null : reference.get();
+
+        return interned != null ? interned : put(key, item);
+    }
+
+    /**
+     * Get the number of cached items
+     */
+    public int size() {
+        expunge();
+
+        return items.size();
+    }
+
+    private Item put(Key key, Item item) {
+        final ItemReference reference = new ItemReference(key, item, queue);
+
+        for (;;) {
+            final ItemReference previous = items.putIfAbsent(key, reference);
+
+            if (previous == null) {
+                return item;
+            }
+
+            final Item current = previous.get();
+
+            if (current != null) {
+                return current;
+            }
+
+            if (items.replace(key, previous, reference)) {
+                return item;
+            }
+        }
+    }
+
+    /**
+     * Remove the collected items
+     */
+    private void expunge() {
+        for (Reference<? extends Item> reference; (reference = queue.poll()) != null;) {
+            final ItemReference itemReference = (ItemReference) reference;
+
+            items.remove(itemReference.key, itemReference);
+        }
+    }
+
+    static private class ItemReference extends WeakReference<Item> {
+        final private Key key;
+
+        public ItemReference(Key key, Item item, ReferenceQueue<Item> queue) {
+            super(item, queue);
+            this.key = key;
+        }
+    }
+
+    static private class Key {
+        final private int templateId;
+        final private List<ItemTemplateEffectEntry> effects;
+        final private int hash;
+
+        public Key(int templateId, List<ItemTemplateEffectEntry> effects) {
+            this.templateId = templateId;
+            this.effects = effects;
+            this.hash = 31 * templateId + effects.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+
+            return templateId == other.templateId && effects.equals(other.effects);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
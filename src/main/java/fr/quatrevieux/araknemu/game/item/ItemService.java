@@ -50,6 +50,7 @@ final public class ItemService implements PreloadableService {
     final private EffectMappers mappers;
 
     final private ConcurrentMap<Integer, GameItemSet> itemSetsById = new ConcurrentHashMap<>();
+    final private ItemInterner interner = new ItemInterner();
 
     public ItemService(ItemTemplateRepository repository, ItemFactory factory, ItemSetRepository itemSetRepository, ItemTypeRepository itemTypeRepository, EffectMappers mappers) {
         this.repository = repository;
@@ -90,9 +91,11 @@ final public class ItemService implements PreloadableService {
      *
      * @param template The item template
      * @param maximize Maximize item stats ?
+     *
+     * @return The shared item instance
      */
     public Item create(ItemTemplate template, boolean maximize) {
-        return factory.create(
+        return interner.intern(factory.create(
             template,
             itemTypeRepository.get(template.type()),
             template.itemSet() == 0
@@ -100,7 +103,7 @@ final public class ItemService implements PreloadableService {
                 : itemSet(template.itemSet())
             ,
             maximize
-        );
+        ));
     }
 
     /**
@@ -134,22 +137,25 @@ final public class ItemService implements PreloadableService {
 
     /**
      * Retrieve an item with its effects
+     * Items are immutable, so the same instance is returned for same template and effects
      *
      * @param id The item template id
      * @param effects The item effects
      */
     public Item retrieve(int id, List<ItemTemplateEffectEntry> effects) {
-        ItemTemplate template = repository.get(id);
-
-        return factory.retrieve(
-            template,
-            itemTypeRepository.get(template.type()),
-            template.itemSet() == 0
-                ? null
-                : itemSet(template.itemSet())
-            ,
-            effects
-        );
+        return interner.get(id, effects, () -> {
+            final ItemTemplate template = repository.get(id);
+
+            return factory.retrieve(
+                template,
+                itemTypeRepository.get(template.type()),
+                template.itemSet() == 0
+                    ? null
+                    : itemSet(template.itemSet())
+                ,
+                effects
+            );
+        });
     }
 
     /**
@@ -97,6 +97,10 @@ abstract public class Equipment implements Item {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
         if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
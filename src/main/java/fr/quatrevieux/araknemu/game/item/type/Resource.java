@@ -71,6 +71,10 @@ final public class Resource implements Item {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
         if (obj == null || obj.getClass() != getClass()) {
             return false;
         }
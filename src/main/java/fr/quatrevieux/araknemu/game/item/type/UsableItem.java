@@ -147,6 +147,10 @@ final public class UsableItem implements Item {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
         if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
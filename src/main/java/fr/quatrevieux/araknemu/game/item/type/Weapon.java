@@ -119,6 +119,10 @@ final public class Weapon extends Equipment {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
         if (!super.equals(obj)) {
             return false;
         }
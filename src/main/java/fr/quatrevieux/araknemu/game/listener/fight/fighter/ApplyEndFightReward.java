@@ -35,9 +35,12 @@ final public class ApplyEndFightReward implements Listener<FightFinished> {
 
     @Override
     public void on(FightFinished event) {
-        fighter.player().stop(fighter);
-        event.reward().apply();
-        fighter.player().save();
+        // Called from the fight executor : the reward is applied on the player mailbox
+        fighter.player().execute(() -> {
+            fighter.player().stop(fighter);
+            event.reward().apply();
+            fighter.player().save();
+        });
     }
 
     @Override
@@ -35,10 +35,10 @@ final public class ApplyLeaveReward implements Listener<FightLeaved> {
 
     @Override
     public void on(FightLeaved event) {
-        event.reward().ifPresent(reward -> {
+        event.reward().ifPresent(reward -> fighter.player().execute(() -> {
             reward.apply();
             fighter.player().save();
-        });
+        }));
     }
 
     @Override
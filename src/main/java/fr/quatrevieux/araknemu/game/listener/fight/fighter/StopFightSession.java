@@ -35,7 +35,7 @@ final public class StopFightSession implements Listener<FightLeaved> {
 
     @Override
     public void on(FightLeaved event) {
-        fighter.player().stop(fighter);
+        fighter.player().execute(() -> fighter.player().stop(fighter));
     }
 
     @Override
@@ -0,0 +1,51 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.listener.map.monster;
+
+import fr.quatrevieux.araknemu.core.event.Listener;
+import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap;
+import fr.quatrevieux.araknemu.game.exploration.map.event.NewSpriteOnMap;
+import fr.quatrevieux.araknemu.game.monster.environment.MonsterEnvironmentService;
+import fr.quatrevieux.araknemu.game.world.creature.Sprite;
+
+/**
+ * Start moving monster groups when a player joins the map
+ */
+final public class StartMonstersMovement implements Listener<NewSpriteOnMap> {
+    final private MonsterEnvironmentService service;
+    final private ExplorationMap map;
+
+    public StartMonstersMovement(MonsterEnvironmentService service, ExplorationMap map) {
+        this.service = service;
+        this.map = map;
+    }
+
+    @Override
+    public void on(NewSpriteOnMap event) {
+        if (event.sprite().type() == Sprite.Type.PLAYER) {
+            service.observe(map);
+        }
+    }
+
+    @Override
+    public Class<NewSpriteOnMap> event() {
+        return NewSpriteOnMap.class;
+    }
+}
@@ -20,7 +20,7 @@
 package fr.quatrevieux.araknemu.game.listener.player.inventory;
 
 import fr.quatrevieux.araknemu.core.event.Listener;
-import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.game.player.inventory.InventoryEntry;
 import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectDeleted;
 
@@ -28,10 +28,10 @@ import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectDeleted;
  * Delete from database the object
  */
 final public class SaveDeletedItem implements Listener<ObjectDeleted> {
-    final private PlayerItemRepository repository;
+    final private PlayerPersistenceService service;
 
-    public SaveDeletedItem(PlayerItemRepository repository) {
-        this.repository = repository;
+    public SaveDeletedItem(PlayerPersistenceService service) {
+        this.service = service;
     }
 
     @Override
@@ -42,7 +42,7 @@ final public class SaveDeletedItem implements Listener<ObjectDeleted> {
 
         InventoryEntry entry = (InventoryEntry) event.entry();
 
-        repository.delete(entry.entity());
+        service.delete(entry.entity());
     }
 
     @Override
@@ -20,7 +20,7 @@
 package fr.quatrevieux.araknemu.game.listener.player.inventory;
 
 import fr.quatrevieux.araknemu.core.event.Listener;
-import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.game.player.inventory.InventoryEntry;
 import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectMoved;
 
@@ -28,10 +28,10 @@ import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectMoved;
  * Save to database the object position
  */
 final public class SaveItemPosition implements Listener<ObjectMoved> {
-    final private PlayerItemRepository repository;
+    final private PlayerPersistenceService service;
 
-    public SaveItemPosition(PlayerItemRepository repository) {
-        this.repository = repository;
+    public SaveItemPosition(PlayerPersistenceService service) {
+        this.service = service;
     }
 
     @Override
@@ -42,7 +42,7 @@ final public class SaveItemPosition implements Listener<ObjectMoved> {
 
         InventoryEntry entry = (InventoryEntry) event.entry();
 
-        repository.update(entry.entity());
+        service.update(entry.entity());
     }
 
     @Override
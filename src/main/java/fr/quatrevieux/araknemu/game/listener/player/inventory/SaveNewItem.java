@@ -20,7 +20,7 @@
 package fr.quatrevieux.araknemu.game.listener.player.inventory;
 
 import fr.quatrevieux.araknemu.core.event.Listener;
-import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.game.player.inventory.InventoryEntry;
 import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectAdded;
 
@@ -28,10 +28,10 @@ import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectAdded;
  * Save to database the new object
  */
 final public class SaveNewItem implements Listener<ObjectAdded> {
-    final private PlayerItemRepository repository;
+    final private PlayerPersistenceService service;
 
-    public SaveNewItem(PlayerItemRepository repository) {
-        this.repository = repository;
+    public SaveNewItem(PlayerPersistenceService service) {
+        this.service = service;
     }
 
     @Override
@@ -42,7 +42,7 @@ final public class SaveNewItem implements Listener<ObjectAdded> {
 
         InventoryEntry entry = (InventoryEntry) event.entry();
 
-        repository.add(entry.entity());
+        service.add(entry.entity());
     }
 
     @Override
@@ -59,6 +59,11 @@ final public class MonsterService implements PreloadableService {
         logger.info("{} monsters loaded", monsters.size());
     }
 
+    @Override
+    public Collection<Class<? extends PreloadableService>> dependencies() {
+        return Arrays.asList(SpellService.class, MonsterRewardService.class);
+    }
+
     /**
      * Load monster grades
      *
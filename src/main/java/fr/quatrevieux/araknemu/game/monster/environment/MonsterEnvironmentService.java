@@ -19,6 +19,7 @@
 
 package fr.quatrevieux.araknemu.game.monster.environment;
 
+import fr.arakne.utils.value.helper.RandomUtil;
 import fr.quatrevieux.araknemu.core.event.EventsSubscriber;
 import fr.quatrevieux.araknemu.core.event.Listener;
 import fr.quatrevieux.araknemu.data.world.entity.monster.MonsterGroupData;
@@ -29,9 +30,15 @@ import fr.quatrevieux.araknemu.game.GameConfiguration;
 import fr.quatrevieux.araknemu.game.PreloadableService;
 import fr.quatrevieux.araknemu.game.activity.ActivityService;
 import fr.quatrevieux.araknemu.game.activity.SimpleTask;
+import fr.quatrevieux.araknemu.game.exploration.ExplorationPlayer;
+import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap;
 import fr.quatrevieux.araknemu.game.exploration.map.event.MapLoaded;
 import fr.quatrevieux.araknemu.game.fight.FightService;
 import fr.quatrevieux.araknemu.game.listener.map.monster.LaunchMonsterFight;
+import fr.quatrevieux.araknemu.game.listener.map.monster.StartMonstersMovement;
+import fr.quatrevieux.araknemu.game.listener.map.monster.StopMonstersMovement;
+import fr.quatrevieux.araknemu.game.monster.MonsterService;
+import fr.quatrevieux.araknemu.game.monster.group.MonsterGroup;
 import fr.quatrevieux.araknemu.game.monster.group.MonsterGroupFactory;
 import org.apache.logging.log4j.Logger;
 
@@ -62,6 +69,19 @@ final public class MonsterEnvironmentService implements EventsSubscriber, Preloa
      */
     final private ConcurrentMap<Integer, Collection<LivingMonsterGroupPosition>> groupsByMap = new ConcurrentHashMap<>();
 
+    /**
+     * Groups of maps with at least one player, indexed by map id
+     * Only those groups are moved by {@link MoveMonsters}
+     */
+    final private ConcurrentMap<Integer, Collection<LivingMonsterGroupPosition>> observedGroups = new ConcurrentHashMap<>();
+
+    /**
+     * The time, in milliseconds, when the last player has left the map
+     */
+    final private ConcurrentMap<Integer, Long> unobservedSince = new ConcurrentHashMap<>();
+
+    final private RandomUtil random = new RandomUtil();
+
     /**
      * Groups are preloaded ?
      * If true, consider that all data are loaded, so loading maps without loaded groups do not execute a query
@@ -116,14 +136,26 @@ final public class MonsterEnvironmentService implements EventsSubscriber, Preloa
         );
     }
 
+    @Override
+    public Collection<Class<? extends PreloadableService>> dependencies() {
+        return Collections.singletonList(MonsterService.class);
+    }
+
     @Override
     public Listener[] listeners() {
         return new Listener[] {
             new Listener<MapLoaded>() {
                 @Override
                 public void on(MapLoaded event) {
-                    byMap(event.map().id()).forEach(group -> group.populate(event.map()));
+                    final Collection<LivingMonsterGroupPosition> groups = byMap(event.map().id());
+
+                    groups.forEach(group -> group.populate(event.map()));
                     event.map().dispatcher().add(new LaunchMonsterFight());
+
+                    if (!groups.isEmpty()) {
+                        event.map().dispatcher().add(new StartMonstersMovement(MonsterEnvironmentService.this, event.map()));
+                        event.map().dispatcher().add(new StopMonstersMovement(MonsterEnvironmentService.this, event.map()));
+                    }
                 }
 
                 @Override
@@ -165,6 +197,44 @@ final public class MonsterEnvironmentService implements EventsSubscriber, Preloa
         return groups;
     }
 
+    /**
+     * Mark the map as observed by at least one player
+     * The groups of the map will be moved by {@link MoveMonsters}
+     *
+     * If the map was not observed for at least one move interval, the missed moves
+     * are simulated by placing groups on a new cell, without sending the move
+     *
+     * @param map The map joined by a player
+     */
+    public void observe(ExplorationMap map) {
+        final Collection<LivingMonsterGroupPosition> groups = byMap(map.id());
+
+        if (groups.isEmpty() || observedGroups.put(map.id(), groups) != null) {
+            return;
+        }
+
+        final Long since = unobservedSince.remove(map.id());
+
+        if (since != null && System.currentTimeMillis() - since >= configuration.monsterMoveInterval() * 1000L) {
+            groups.forEach(this::relocate);
+        }
+    }
+
+    /**
+     * Stop the monsters movement on the map if there is no more players
+     *
+     * @param map The map left by a player
+     */
+    public void unobserve(ExplorationMap map) {
+        if (map.creatures().stream().anyMatch(ExplorationPlayer.class::isInstance)) {
+            return;
+        }
+
+        if (observedGroups.remove(map.id()) != null) {
+            unobservedSince.put(map.id(), System.currentTimeMillis());
+        }
+    }
+
     /**
      * Put the respawn to the activity service
      */
@@ -183,4 +253,22 @@ final public class MonsterEnvironmentService implements EventsSubscriber, Preloa
     Stream<LivingMonsterGroupPosition> groups() {
         return groupsByMap.values().stream().flatMap(Collection::stream);
     }
+
+    /**
+     * Get groups of maps with players
+     */
+    Stream<LivingMonsterGroupPosition> observedGroups() {
+        return observedGroups.values().stream().flatMap(Collection::stream);
+    }
+
+    /**
+     * Place the groups on a new cell, following the move chance
+     */
+    private void relocate(LivingMonsterGroupPosition position) {
+        for (MonsterGroup group : position.available()) {
+            if (random.bool(configuration.monsterMovePercent())) {
+                group.setCell(position.cell());
+            }
+        }
+    }
 }
@@ -19,7 +19,6 @@
 
 package fr.quatrevieux.araknemu.game.monster.environment;
 
-import fr.arakne.utils.maps.path.Decoder;
 import fr.arakne.utils.maps.path.Path;
 import fr.arakne.utils.maps.path.PathException;
 import fr.arakne.utils.value.helper.RandomUtil;
@@ -27,6 +26,7 @@ import fr.quatrevieux.araknemu.game.activity.ActivityService;
 import fr.quatrevieux.araknemu.game.activity.Task;
 import fr.quatrevieux.araknemu.game.exploration.map.cell.ExplorationMapCell;
 import fr.quatrevieux.araknemu.game.monster.group.MonsterGroup;
+import fr.quatrevieux.araknemu.game.world.map.path.Pathfinder;
 import org.apache.logging.log4j.Logger;
 
 import java.time.Duration;
@@ -36,6 +36,9 @@ import java.time.Duration;
  *
  * At most one group move per map per execution.
  * The move is performed if its randomly selected with moveChange and if the path is not too complex
+ * Only maps with players are handled : other maps are updated when a player joins
+ *
+ * @see MonsterEnvironmentService#observe(fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap)
  */
 final public class MoveMonsters implements Task {
     final private MonsterEnvironmentService service;
@@ -59,7 +62,7 @@ final public class MoveMonsters implements Task {
 
     @Override
     public void execute(Logger logger) {
-        service.groups()
+        service.observedGroups()
             .filter(position -> !position.available().isEmpty())
             .filter(position -> random.bool(moveChance))
             .forEach(this::move)
@@ -94,8 +97,7 @@ final public class MoveMonsters implements Task {
         }
 
         try {
-            Path<ExplorationMapCell> path = new Decoder<>(newCell.map())
-                .pathfinder()
+            Path<ExplorationMapCell> path = new Pathfinder<>(newCell.map())
                 .exploredCellLimit(50)
                 .findPath(group.cell(), newCell)
             ;
@@ -124,6 +124,16 @@ final public class MonsterGroup implements ExplorationCreature {
         cell.map().dispatch(new CreatureMoving(this, path));
     }
 
+    /**
+     * Change the group cell, without notifying the map
+     * Should only be used when there is no players on the map
+     *
+     * @param cell The new cell
+     */
+    public void setCell(ExplorationMapCell cell) {
+        this.cell = cell;
+    }
+
     /**
      * Get the teleport position when win a fight with the group
      * The position may be null, to not teleport after the fight
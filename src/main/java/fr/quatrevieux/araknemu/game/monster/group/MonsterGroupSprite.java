@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
 /**
  * Sprite for group of monsters
  * Properties of the sprite are array of monster's property, separated by comma ","
+ * The monsters part of the sprite is only serialized once, because the group composition never changes
  *
  * Format :
  * [cell];[orientation];[bonus];[sprite id];[monsters ids CSV];[sprite type: -3];[monsters fgxId^size CSV];[monsters colors;accessories;]
@@ -38,6 +39,8 @@ import java.util.stream.Collectors;
 final public class MonsterGroupSprite implements Sprite {
     final private MonsterGroup group;
 
+    private volatile String monsters;
+
     public MonsterGroupSprite(MonsterGroup group) {
         this.group = group;
     }
@@ -75,19 +78,34 @@ final public class MonsterGroupSprite implements Sprite {
         return
             cell() + ";" +
             group.orientation().ordinal() + ";" +
-            ";" + // @todo Bonus value
-            id() + ";" +
-            name() + ";" +
-            type().id() + ";" +
-            group.monsters().stream()
-                .map(monster -> monster.gfxId() + "^100") // @todo size
-                .collect(Collectors.joining(",")) + ";" +
-            group.monsters().stream()
-                .map(monster -> Integer.toString(monster.level()))
-                .collect(Collectors.joining(",")) + ";" +
-            group.monsters().stream()
-                .map(monster -> monster.colors().toHexString(",") + ";0,0,0,0;") // @todo accessories
-                .collect(Collectors.joining())
+            monsters()
         ;
     }
+
+    /**
+     * Get the monsters part of the sprite
+     */
+    private String monsters() {
+        String monsters = this.monsters;
+
+        if (monsters == null) {
+            this.monsters = monsters =
+                ";" + // @todo Bonus value
+                id() + ";" +
+                name() + ";" +
+                type().id() + ";" +
+                group.monsters().stream()
+                    .map(monster -> monster.gfxId() + "^100") // @todo size
+                    .collect(Collectors.joining(",")) + ";" +
+                group.monsters().stream()
+                    .map(monster -> Integer.toString(monster.level()))
+                    .collect(Collectors.joining(",")) + ";" +
+                group.monsters().stream()
+                    .map(monster -> monster.colors().toHexString(",") + ";0,0,0,0;") // @todo accessories
+                    .collect(Collectors.joining())
+            ;
+        }
+
+        return monsters;
+    }
 }
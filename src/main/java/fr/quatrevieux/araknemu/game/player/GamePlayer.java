@@ -99,6 +99,18 @@ final public class GamePlayer implements PlayerSessionScope {
         session.send(packet);
     }
 
+    /**
+     * Execute an action on the player mailbox
+     * Actions coming from other threads (i.e. fight or scheduled tasks) which modify the player state must use this method
+     *
+     * @param action Action to execute
+     *
+     * @see GameSession#execute(Runnable)
+     */
+    public void execute(Runnable action) {
+        session.execute(action);
+    }
+
     @Override
     public void register(GameSession session) {
         session.setPlayer(this);
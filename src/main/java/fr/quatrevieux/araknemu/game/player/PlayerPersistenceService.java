@@ -0,0 +1,431 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.player;
+
+import fr.quatrevieux.araknemu.core.dbal.executor.PersistenceExecutor;
+import fr.quatrevieux.araknemu.core.event.EventsSubscriber;
+import fr.quatrevieux.araknemu.core.event.Listener;
+import fr.quatrevieux.araknemu.data.living.entity.player.Player;
+import fr.quatrevieux.araknemu.data.living.entity.player.PlayerItem;
+import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
+import fr.quatrevieux.araknemu.data.living.repository.player.PlayerRepository;
+import fr.quatrevieux.araknemu.game.GameConfiguration;
+import fr.quatrevieux.araknemu.game.activity.ActivityService;
+import fr.quatrevieux.araknemu.game.activity.SimpleTask;
+import fr.quatrevieux.araknemu.game.event.GameStarted;
+import fr.quatrevieux.araknemu.game.event.GameStopped;
+import fr.quatrevieux.araknemu.game.handler.event.Disconnected;
+import fr.quatrevieux.araknemu.game.player.event.PlayerLoaded;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind persistence of players and their items
+ *
+ * Modifications are marked as dirty and coalesced in memory (i.e. multiple moves of an item results in a single update),
+ * and are written by batch at each {@link GameConfiguration.PlayerConfiguration#saveInterval()}
+ * Online players are saved at each interval, so a crash can only lose one interval of progression
+ *
+ * If the interval is zero, or once the game is stopped, modifications are written immediately
+ *
+ * Entities are copied when the modification is pushed, on the thread which owns the player,
+ * so the writes never read entities which are modified concurrently.
+ * Online players are copied on their mailbox (i.e. {@link GamePlayer#execute(Runnable)}), and all writes
+ * are performed through the {@link PersistenceExecutor} using the player id as key, to keep the writes ordered.
+ */
+final public class PlayerPersistenceService implements EventsSubscriber {
+    /**
+     * The pending write operation of an item
+     */
+    enum Operation {
+        INSERT,
+        UPDATE,
+        DELETE,
+        /** The item has been deleted, and the entry re-created */
+        REPLACE,
+    }
+
+    /**
+     * Pending modifications of a player
+     * Instances must only be modified into the pending map compute functions
+     * Stored entities are snapshots, and are never modified after being pushed
+     */
+    static private class PendingChanges {
+        private Player player;
+        final private Map<Integer, PendingItem> items = new HashMap<>();
+    }
+
+    static private class PendingItem {
+        final private PlayerItem item;
+        final private Operation operation;
+
+        public PendingItem(PlayerItem item, Operation operation) {
+            this.item = item;
+            this.operation = operation;
+        }
+    }
+
+    final private PlayerRepository playerRepository;
+    final private PlayerItemRepository itemRepository;
+    final private PersistenceExecutor persistence;
+    final private ActivityService activityService;
+    final private Duration interval;
+    final private Logger logger;
+
+    final private ConcurrentMap<Integer, PendingChanges> pending = new ConcurrentHashMap<>();
+    final private ConcurrentMap<Integer, GamePlayer> online = new ConcurrentHashMap<>();
+
+    private volatile boolean closed = false;
+
+    public PlayerPersistenceService(PlayerRepository playerRepository, PlayerItemRepository itemRepository, PersistenceExecutor persistence, ActivityService activityService, GameConfiguration.PlayerConfiguration configuration, Logger logger) {
+        this.playerRepository = playerRepository;
+        this.itemRepository = itemRepository;
+        this.persistence = persistence;
+        this.activityService = activityService;
+        this.interval = configuration.saveInterval();
+        this.logger = logger;
+    }
+
+    @Override
+    public Listener[] listeners() {
+        return new Listener[] {
+            new Listener<GameStarted>() {
+                @Override
+                public void on(GameStarted event) {
+                    if (!immediate()) {
+                        activityService.periodic(
+                            new SimpleTask(logger -> {
+                                saveOnline();
+                                flush();
+                            })
+                                .setDelay(interval)
+                                .setName("Save players")
+                        );
+                    }
+                }
+
+                @Override
+                public Class<GameStarted> event() {
+                    return GameStarted.class;
+                }
+            },
+            new Listener<GameStopped>() {
+                @Override
+                public void on(GameStopped event) {
+                    closed = true;
+
+                    // Flush before saving online players to ensure that older pending writes will not override them
+                    flush();
+                    saveOnline();
+                }
+
+                @Override
+                public Class<GameStopped> event() {
+                    return GameStopped.class;
+                }
+            },
+            new Listener<PlayerLoaded>() {
+                @Override
+                public void on(PlayerLoaded event) {
+                    final GamePlayer player = event.player();
+
+                    online.put(player.id(), player);
+                    player.dispatcher().add(new Listener<Disconnected>() {
+                        @Override
+                        public void on(Disconnected event) {
+                            online.remove(player.id());
+                        }
+
+                        @Override
+                        public Class<Disconnected> event() {
+                            return Disconnected.class;
+                        }
+                    });
+                }
+
+                @Override
+                public Class<PlayerLoaded> event() {
+                    return PlayerLoaded.class;
+                }
+            },
+        };
+    }
+
+    /**
+     * Save the player entity
+     * This method must be called by the thread which owns the player
+     */
+    public void save(Player player) {
+        final Player snapshot = player.snapshot();
+
+        if (immediate()) {
+            persistence.execute(snapshot.id(), () -> playerRepository.save(snapshot));
+            return;
+        }
+
+        pending.compute(player.id(), (id, changes) -> {
+            if (changes == null) {
+                changes = new PendingChanges();
+            }
+
+            changes.player = snapshot;
+
+            return changes;
+        });
+    }
+
+    /**
+     * Save a newly created item
+     */
+    public void add(PlayerItem item) {
+        if (immediate()) {
+            final PlayerItem snapshot = item.snapshot();
+
+            persistence.execute(snapshot.playerId(), () -> itemRepository.add(snapshot));
+        } else {
+            push(item.snapshot(), Operation.INSERT);
+        }
+    }
+
+    /**
+     * Save the item quantity and position
+     */
+    public void update(PlayerItem item) {
+        if (immediate()) {
+            final PlayerItem snapshot = item.snapshot();
+
+            persistence.execute(snapshot.playerId(), () -> itemRepository.update(snapshot));
+        } else {
+            push(item.snapshot(), Operation.UPDATE);
+        }
+    }
+
+    /**
+     * Delete the item
+     */
+    public void delete(PlayerItem item) {
+        if (immediate()) {
+            final PlayerItem snapshot = item.snapshot();
+
+            persistence.execute(snapshot.playerId(), () -> itemRepository.delete(snapshot));
+        } else {
+            push(item.snapshot(), Operation.DELETE);
+        }
+    }
+
+    /**
+     * Perform a read operation on the player data, after all its pending modifications are written
+     *
+     * @param playerId The player id
+     * @param query The read operation
+     * @param <T> The result type
+     *
+     * @return The query result
+     */
+    public <T> T read(int playerId, Supplier<T> query) {
+        return persistence.read(playerId, () -> {
+            // Already executed in order of the player writes : write directly
+            final PendingChanges changes = pending.remove(playerId);
+
+            if (changes != null) {
+                write(changes);
+            }
+
+            return query.get();
+        });
+    }
+
+    /**
+     * Write all pending modifications
+     * Each player modifications are written by batch, on the persistence executor
+     */
+    public void flush() {
+        for (Integer playerId : pending.keySet()) {
+            flush(playerId);
+        }
+    }
+
+    /**
+     * Write pending modifications of a single player
+     *
+     * @param playerId The player id
+     */
+    public void flush(int playerId) {
+        final PendingChanges changes = pending.remove(playerId);
+
+        if (changes != null) {
+            persistence.execute(playerId, () -> write(changes));
+        }
+    }
+
+    /**
+     * Get the number of players with pending modifications
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    private boolean immediate() {
+        return closed || interval.isZero();
+    }
+
+    /**
+     * Save all online players
+     * The player entity is copied on the player mailbox, so it cannot be modified during the copy
+     */
+    private void saveOnline() {
+        for (GamePlayer player : online.values()) {
+            player.execute(() -> save(player.entity()));
+        }
+    }
+
+    private void push(PlayerItem item, Operation operation) {
+        pending.compute(item.playerId(), (id, changes) -> {
+            if (changes == null) {
+                changes = new PendingChanges();
+            }
+
+            final PendingItem last = changes.items.get(item.entryId());
+            final Operation merged = last == null ? operation : merge(last.operation, operation);
+
+            if (merged == null) {
+                changes.items.remove(item.entryId());
+            } else {
+                changes.items.put(item.entryId(), new PendingItem(item, merged));
+            }
+
+            return changes.player == null && changes.items.isEmpty() ? null : changes;
+        });
+    }
+
+    /**
+     * Coalesce two operations on the same item
+     *
+     * @return The operation to perform, or null if there is nothing to write
+     */
+    static Operation merge(Operation last, Operation next) {
+        switch (next) {
+            case UPDATE:
+                // The last values will be written by the previous operation
+                return last;
+
+            case DELETE:
+                // The item is not yet inserted : nothing to do
+                return last == Operation.INSERT ? null : Operation.DELETE;
+
+            case INSERT:
+                return last == Operation.DELETE || last == Operation.REPLACE ? Operation.REPLACE : Operation.INSERT;
+
+            default:
+                return next;
+        }
+    }
+
+    private void write(PendingChanges changes) {
+        final List<Player> players = changes.player == null ? Collections.emptyList() : Collections.singletonList(changes.player);
+        final List<PlayerItem> deleted = new ArrayList<>();
+        final List<PlayerItem> inserted = new ArrayList<>();
+        final List<PlayerItem> updated = new ArrayList<>();
+
+        for (PendingItem pendingItem : changes.items.values()) {
+            switch (pendingItem.operation) {
+                case INSERT:
+                    inserted.add(pendingItem.item);
+                    break;
+
+                case UPDATE:
+                    updated.add(pendingItem.item);
+                    break;
+
+                case DELETE:
+                    deleted.add(pendingItem.item);
+                    break;
+
+                case REPLACE:
+                    deleted.add(pendingItem.item);
+                    inserted.add(pendingItem.item);
+                    break;
+            }
+        }
+
+        // Deletion must be performed first to allow re-creation of an item entry
+        write(deleted, itemRepository::deleteAll, itemRepository::delete);
+        write(inserted, itemRepository::addAll, itemRepository::add);
+        write(updated, itemRepository::updateAll, itemRepository::update);
+        write(players, playerRepository::saveAll, playerRepository::save);
+    }
+
+    /**
+     * Write the entities by batch
+     * If the batch fails, entities are written one by one to ensure that an invalid entity will not discard others
+     * Entities which are not affected by the batch are also written one by one, to report the error
+     */
+    private <E> void write(List<E> entities, Function<List<E>, int[]> batch, Consumer<E> single) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        final int[] counts;
+
+        try {
+            counts = batch.apply(entities);
+        } catch (RuntimeException e) {
+            logger.error("Error during batch save : " + e.getMessage() + ". Saving entities one by one", e);
+
+            for (E entity : entities) {
+                write(entity, single);
+            }
+
+            return;
+        }
+
+        for (int i = 0; i < counts.length && i < entities.size(); ++i) {
+            if (counts[i] == 0 || counts[i] == Statement.EXECUTE_FAILED) {
+                final E entity = entities.get(i);
+
+                logger.warn("Entity " + entity + " is not affected by the batch save. Saving it alone");
+                write(entity, single);
+            }
+        }
+    }
+
+    /**
+     * Write a single entity, and log the error on failure
+     */
+    private <E> void write(E entity, Consumer<E> single) {
+        try {
+            single.accept(entity);
+        } catch (RuntimeException e) {
+            logger.error("Cannot save entity " + entity + " : " + e.getMessage(), e);
+        }
+    }
+}
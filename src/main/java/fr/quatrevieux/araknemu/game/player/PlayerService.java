@@ -47,6 +47,7 @@ import java.util.stream.Stream;
  */
 final public class PlayerService implements EventsSubscriber {
     final private PlayerRepository repository;
+    final private PlayerPersistenceService persistence;
     final private GameConfiguration configuration;
     final private Dispatcher dispatcher;
     final private InventoryService inventoryService;
@@ -57,8 +58,9 @@ final public class PlayerService implements EventsSubscriber {
     final private ConcurrentMap<Integer, GamePlayer> onlinePlayers = new ConcurrentHashMap<>();
     final private ConcurrentMap<String, GamePlayer> playersByName  = new ConcurrentHashMap<>();
 
-    public PlayerService(PlayerRepository repository, GameConfiguration configuration, Dispatcher dispatcher, InventoryService inventoryService, PlayerRaceService playerRaceService, SpellBookService spellBookService, PlayerExperienceService experienceService) {
+    public PlayerService(PlayerRepository repository, GameConfiguration configuration, Dispatcher dispatcher, InventoryService inventoryService, PlayerRaceService playerRaceService, SpellBookService spellBookService, PlayerExperienceService experienceService, PlayerPersistenceService persistence) {
         this.repository = repository;
+        this.persistence = persistence;
         this.configuration = configuration;
         this.dispatcher = dispatcher;
         this.inventoryService = inventoryService;
@@ -81,13 +83,14 @@ final public class PlayerService implements EventsSubscriber {
             throw new IllegalStateException("The player is already loaded");
         }
 
-        Player player = repository.getForGame(
+        // Write pending modifications of the player (i.e. fast reconnection) before loading it
+        Player player = persistence.read(id, () -> repository.getForGame(
             Player.forGame(
                 id,
                 session.account().id(),
                 configuration.id()
             )
-        );
+        ));
 
         GamePlayer gamePlayer = new GamePlayer(
             session.account(),
@@ -162,9 +165,12 @@ final public class PlayerService implements EventsSubscriber {
 
     /**
      * Save the player
+     * The save is performed asynchronously
+     *
+     * @see PlayerPersistenceService#save(Player)
      */
     public void save(GamePlayer player) {
-        repository.save(player.entity());
+        persistence.save(player.entity());
     }
 
     @Override
@@ -37,6 +37,8 @@ import fr.quatrevieux.araknemu.game.world.creature.characteristics.MutableCharac
  * This class will handle aggregation of stats, and computed stats
  */
 final public class PlayerCharacteristics implements CharacterCharacteristics {
+    final static private Characteristic[] CHARACTERISTICS = Characteristic.values();
+
     final private MutableCharacteristics base;
     final private Dispatcher dispatcher;
     final private Player entity;
@@ -47,6 +49,12 @@ final public class PlayerCharacteristics implements CharacterCharacteristics {
 
     private Characteristics stuff;
 
+    /**
+     * Sum of race stats and stuff, computed for the current level and stuff
+     * The player stats are not cached because they may be modified directly on the entity
+     */
+    private Aggregate aggregate;
+
     public PlayerCharacteristics(Dispatcher dispatcher, GamePlayer player, Player entity) {
         this.dispatcher = dispatcher;
         this.player = player;
@@ -59,7 +67,7 @@ final public class PlayerCharacteristics implements CharacterCharacteristics {
 
     @Override
     public int get(Characteristic characteristic) {
-        return base.get(characteristic) + stuff.get(characteristic);
+        return aggregate().values.get(characteristic) + entity.stats().get(characteristic);
     }
 
     @Override
@@ -182,4 +190,39 @@ final public class PlayerCharacteristics implements CharacterCharacteristics {
 
         return characteristics;
     }
+
+    /**
+     * Get the race and stuff stats aggregate
+     * The aggregate is rebuilt if the stuff or the player level has changed
+     */
+    private Aggregate aggregate() {
+        final Aggregate current = aggregate;
+        final Characteristics stuff = this.stuff;
+        final int level = entity.level();
+
+        if (current != null && current.level == level && current.stuff == stuff) {
+            return current;
+        }
+
+        final Characteristics raceStats = race.baseStats(level);
+        final MutableCharacteristics values = new DefaultCharacteristics();
+
+        for (Characteristic characteristic : CHARACTERISTICS) {
+            values.set(characteristic, raceStats.get(characteristic) + stuff.get(characteristic));
+        }
+
+        return aggregate = new Aggregate(level, stuff, values);
+    }
+
+    static private class Aggregate {
+        final private int level;
+        final private Characteristics stuff;
+        final private Characteristics values;
+
+        public Aggregate(int level, Characteristics stuff, Characteristics values) {
+            this.level = level;
+            this.stuff = stuff;
+            this.values = values;
+        }
+    }
 }
@@ -35,6 +35,7 @@ import fr.quatrevieux.araknemu.game.listener.player.inventory.*;
 import fr.quatrevieux.araknemu.game.listener.player.inventory.itemset.ApplyItemSetSpecialEffects;
 import fr.quatrevieux.araknemu.game.listener.player.inventory.itemset.InitializeItemSets;
 import fr.quatrevieux.araknemu.game.listener.player.inventory.itemset.SendItemSetChange;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.game.player.event.PlayerLoaded;
 
 import java.util.stream.Collectors;
@@ -63,10 +64,12 @@ final public class InventoryService implements EventsSubscriber {
 
     final private PlayerItemRepository repository;
     final private ItemService service;
+    final private PlayerPersistenceService persistence;
 
-    public InventoryService(PlayerItemRepository repository, ItemService service) {
+    public InventoryService(PlayerItemRepository repository, ItemService service, PlayerPersistenceService persistence) {
         this.repository = repository;
         this.service = service;
+        this.persistence = persistence;
     }
 
     @Override
@@ -84,10 +87,10 @@ final public class InventoryService implements EventsSubscriber {
                     dispatcher.add(new SendItemQuantity(event.player()));
                     dispatcher.add(new SendItemDeleted(event.player()));
 
-                    dispatcher.add(new SaveNewItem(repository));
-                    dispatcher.add(new SaveItemPosition(repository));
-                    dispatcher.add(new SaveItemQuantity(repository));
-                    dispatcher.add(new SaveDeletedItem(repository));
+                    dispatcher.add(new SaveNewItem(persistence));
+                    dispatcher.add(new SaveItemPosition(persistence));
+                    dispatcher.add(new SaveItemQuantity(persistence));
+                    dispatcher.add(new SaveDeletedItem(persistence));
 
                     dispatcher.add(new InitializeItemSets(event.player()));
                     dispatcher.add(new SendItemSetChange(event.player()));
@@ -19,18 +19,26 @@
 
 package fr.quatrevieux.araknemu.game.player.inventory.accessory;
 
+import fr.quatrevieux.araknemu.game.player.inventory.InventoryEntry;
 import fr.quatrevieux.araknemu.game.player.inventory.slot.InventorySlots;
 import fr.quatrevieux.araknemu.game.world.creature.accessory.AbstractAccessories;
 import fr.quatrevieux.araknemu.game.world.creature.accessory.Accessory;
 import fr.quatrevieux.araknemu.game.world.creature.accessory.AccessoryType;
 import fr.quatrevieux.araknemu.game.world.creature.accessory.NullAccessory;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * Accessories implementation using inventory
+ *
+ * The string value is cached, and only rebuilt when an accessory slot entry is changed
  */
 final public class InventoryAccessories extends AbstractAccessories {
+    final static private AccessoryType[] TYPES = AccessoryType.values();
+
     final private InventorySlots slots;
 
+    private volatile Serialized serialized;
+
     public InventoryAccessories(InventorySlots slots) {
         this.slots = slots;
     }
@@ -42,4 +50,51 @@ final public class InventoryAccessories extends AbstractAccessories {
             .orElseGet(() -> new NullAccessory(type))
         ;
     }
+
+    @Override
+    public String toString() {
+        final InventoryEntry[] entries = new InventoryEntry[TYPES.length];
+
+        for (AccessoryType type : TYPES) {
+            entries[type.ordinal()] = slots.get(type.slot()).entry().orElse(null);
+        }
+
+        final Serialized current = serialized;
+
+        if (current != null && current.matches(entries)) {
+            return current.value;
+        }
+
+        final Serialized newValue = new Serialized(entries, StringUtils.join(all(), ","));
+
+        serialized = newValue;
+
+        return newValue.value;
+    }
+
+    /**
+     * Serialized accessories, with the slot entries used to build it
+     */
+    static private class Serialized {
+        final private InventoryEntry[] entries;
+        final private String value;
+
+        public Serialized(InventoryEntry[] entries, String value) {
+            this.entries = entries;
+            this.value = value;
+        }
+
+        /**
+         * Check if the slots entries are the same as the serialized ones
+         */
+        public boolean matches(InventoryEntry[] entries) {
+            for (int i = 0; i < entries.length; ++i) {
+                if (this.entries[i] != entries[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
 }
@@ -27,6 +27,8 @@ import fr.quatrevieux.araknemu.game.spell.SpellService;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -56,6 +58,11 @@ final public class PlayerRaceService implements PreloadableService {
         logger.info("{} races loaded", races.size());
     }
 
+    @Override
+    public Collection<Class<? extends PreloadableService>> dependencies() {
+        return Collections.singletonList(SpellService.class);
+    }
+
     /**
      * Get a player race data
      */
@@ -21,28 +21,29 @@ package fr.quatrevieux.araknemu.game.world.creature.characteristics;
 
 import fr.quatrevieux.araknemu.data.constant.Characteristic;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 /**
  * Simple implementation for characteristics map
+ *
+ * Values are stored into an int array, indexed by the characteristic ordinal
  */
 final public class DefaultCharacteristics implements MutableCharacteristics {
-    final private Map<Characteristic, Integer> map = new EnumMap<>(Characteristic.class);
+    final static private Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+    final private int[] values = new int[CHARACTERISTICS.length];
 
     @Override
     public int get(Characteristic characteristic) {
-        return map.getOrDefault(characteristic, 0);
+        return values[characteristic.ordinal()];
     }
 
     @Override
     public void set(Characteristic characteristic, int value) {
-        map.put(characteristic, value);
+        values[characteristic.ordinal()] = value;
     }
 
     @Override
     public void add(Characteristic characteristic, int value) {
-        map.put(characteristic, map.getOrDefault(characteristic, 0) + value);
+        values[characteristic.ordinal()] += value;
     }
 
     @Override
@@ -64,8 +65,8 @@ final public class DefaultCharacteristics implements MutableCharacteristics {
      * Two characteristics map are equals if and only if all characteristic values are equals
      */
     public boolean equals(Characteristics other) {
-        for (Characteristic characteristic : Characteristic.values()) {
-            if (get(characteristic) != other.get(characteristic)) {
+        for (Characteristic characteristic : CHARACTERISTICS) {
+            if (values[characteristic.ordinal()] != other.get(characteristic)) {
                 return false;
             }
         }
@@ -77,8 +78,8 @@ final public class DefaultCharacteristics implements MutableCharacteristics {
     public int hashCode() {
         int h = 0;
 
-        for (Characteristic characteristic : Characteristic.values()) {
-            int value = get(characteristic);
+        for (Characteristic characteristic : CHARACTERISTICS) {
+            final int value = values[characteristic.ordinal()];
 
             if (value != 0) {
                 h += characteristic.hashCode() ^ value;
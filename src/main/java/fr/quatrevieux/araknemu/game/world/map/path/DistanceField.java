@@ -0,0 +1,136 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.world.map.path;
+
+import fr.arakne.utils.maps.DofusMap;
+import fr.arakne.utils.maps.MapCell;
+import fr.arakne.utils.maps.constant.Direction;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Number of moves needed to reach each cell of a map from the nearest source cell
+ *
+ * The field is computed once with a breadth first search, using restricted directions,
+ * and can then be queried for any cell in constant time.
+ * With a single source, this is the length of the shortest path from the source,
+ * and with many sources (e.g. all enemies), the distance to the nearest one.
+ *
+ * Source cells are always part of the field, even if they are not walkable.
+ */
+final public class DistanceField {
+    /**
+     * Distance of the cells which cannot be reached
+     */
+    final static public int UNREACHABLE = Integer.MAX_VALUE;
+
+    final private int[] distances;
+
+    private DistanceField(int[] distances) {
+        this.distances = distances;
+    }
+
+    /**
+     * Get the number of moves needed to reach the cell
+     *
+     * @param cellId The cell id
+     *
+     * @return The distance, or {@link DistanceField#UNREACHABLE}
+     */
+    public int distance(int cellId) {
+        return distances[cellId];
+    }
+
+    /**
+     * Check if the cell can be reached from a source
+     *
+     * @param cellId The cell id
+     */
+    public boolean reachable(int cellId) {
+        return distances[cellId] != UNREACHABLE;
+    }
+
+    /**
+     * Compute the distance field
+     *
+     * @param map The map
+     * @param sources The source cells
+     * @param walkable Predicate for check if a cell can be walked on
+     * @param maxDistance Stop the search after this distance. Farther cells are considered as unreachable
+     */
+    static public <C extends MapCell> DistanceField compute(DofusMap<C> map, Collection<? extends C> sources, Predicate<C> walkable, int maxDistance) {
+        final int size = map.size();
+        final int[] increments = Pathfinder.increments(Direction.restrictedDirections(), map.dimensions().width());
+        final int[] distances = new int[size];
+        final SearchBuffers buffers = SearchBuffers.acquire(size);
+
+        Arrays.fill(distances, UNREACHABLE);
+
+        try {
+            final int[] queue = buffers.queue(size);
+            int head = 0;
+            int tail = 0;
+
+            for (C source : sources) {
+                if (distances[source.id()] != 0) {
+                    distances[source.id()] = 0;
+                    queue[tail++] = source.id();
+                }
+            }
+
+            while (head < tail) {
+                final int cell = queue[head++];
+                final int distance = distances[cell] + 1;
+
+                if (distance > maxDistance) {
+                    continue;
+                }
+
+                for (int increment : increments) {
+                    final int next = cell + increment;
+
+                    if (next < 0 || next >= size || distances[next] != UNREACHABLE || !walkable.test(map.get(next))) {
+                        continue;
+                    }
+
+                    distances[next] = distance;
+                    queue[tail++] = next;
+                }
+            }
+        } finally {
+            buffers.release();
+        }
+
+        return new DistanceField(distances);
+    }
+
+    /**
+     * Compute the distance field, without distance limit
+     *
+     * @param map The map
+     * @param sources The source cells
+     * @param walkable Predicate for check if a cell can be walked on
+     */
+    static public <C extends MapCell> DistanceField compute(DofusMap<C> map, Collection<? extends C> sources, Predicate<C> walkable) {
+        return compute(map, sources, walkable, UNREACHABLE);
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.world.map.path;
+
+import fr.arakne.utils.maps.DofusMap;
+import fr.arakne.utils.maps.MapCell;
+import fr.arakne.utils.maps.constant.Direction;
+import fr.arakne.utils.maps.path.Decoder;
+import fr.arakne.utils.maps.path.Path;
+import fr.arakne.utils.maps.path.PathException;
+import fr.arakne.utils.maps.path.PathStep;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A* pathfinder working on cell ids
+ *
+ * Drop-in replacement of {@link fr.arakne.utils.maps.path.Pathfinder} : the configuration and the found paths are the same,
+ * but the search use primitive arrays reused between searches of the same thread instead of allocating nodes and collections
+ *
+ * The instance can be reused for multiple searches on the same map, but it is not thread safe
+ *
+ * @param <C> The cell type
+ */
+final public class Pathfinder<C extends MapCell> {
+    final private DofusMap<C> map;
+    final private Decoder<C> decoder;
+    final private int width;
+
+    private int targetDistance = 0;
+    private Predicate<C> walkablePredicate = MapCell::walkable;
+    private Function<C, Integer> cellWeightFunction = null;
+    private Direction[] directions = Direction.restrictedDirections();
+    private int[] increments;
+    private int exploredCellLimit = Integer.MAX_VALUE;
+    private boolean addFirstCell = true;
+
+    public Pathfinder(DofusMap<C> map) {
+        this(map, new Decoder<>(map));
+    }
+
+    public Pathfinder(DofusMap<C> map, Decoder<C> decoder) {
+        this.map = map;
+        this.decoder = decoder;
+        this.width = map.dimensions().width();
+        this.increments = increments(directions, width);
+    }
+
+    /**
+     * Define the distance to the target for stop the search
+     * By default the distance is 0, so the path ends on the target cell
+     */
+    public Pathfinder<C> targetDistance(int distance) {
+        this.targetDistance = distance;
+
+        return this;
+    }
+
+    /**
+     * Define the predicate for check if a cell can be walked on
+     * By default {@link MapCell#walkable()} is used
+     */
+    public Pathfinder<C> walkablePredicate(Predicate<C> predicate) {
+        this.walkablePredicate = predicate;
+
+        return this;
+    }
+
+    /**
+     * Define the cost of moving to a cell
+     * By default, all cells cost 1
+     */
+    public Pathfinder<C> cellWeightFunction(Function<C, Integer> function) {
+        this.cellWeightFunction = function;
+
+        return this;
+    }
+
+    /**
+     * Define the allowed move directions
+     * By default only restricted directions are allowed
+     */
+    public Pathfinder<C> directions(Direction[] directions) {
+        this.directions = directions;
+        this.increments = increments(directions, width);
+
+        return this;
+    }
+
+    /**
+     * Limit the number of explored cells
+     * If the limit is exceeded, the search fails
+     */
+    public Pathfinder<C> exploredCellLimit(int limit) {
+        this.exploredCellLimit = limit;
+
+        return this;
+    }
+
+    /**
+     * Does the source cell is the first step of the path ?
+     * Enabled by default
+     */
+    public Pathfinder<C> addFirstCell(boolean addFirstCell) {
+        this.addFirstCell = addFirstCell;
+
+        return this;
+    }
+
+    /**
+     * Find the best path between two cells
+     *
+     * @param source The start cell
+     * @param target The target cell
+     *
+     * @throws PathException When no path can be found
+     */
+    public Path<C> findPath(C source, C target) {
+        final SearchBuffers buffers = SearchBuffers.acquire(map.size());
+
+        try {
+            return search(buffers, source, target);
+        } finally {
+            buffers.release();
+        }
+    }
+
+    private Path<C> search(SearchBuffers buffers, C source, C target) {
+        final int size = map.size();
+        final int targetId = target.id();
+        final int targetX = x(targetId, width);
+        final int targetY = y(targetId, width);
+
+        int current = buffers.node(source.id(), -1, 0, 0, distance(source.id(), targetX, targetY));
+        buffers.explore(source.id());
+
+        while (buffers.distance(current) > targetDistance) {
+            final int cell = buffers.cell(current);
+
+            for (int direction = 0; direction < increments.length; ++direction) {
+                final int next = cell + increments[direction];
+
+                if (next < 0 || next >= size || buffers.explored(next)) {
+                    continue;
+                }
+
+                final C nextCell = map.get(next);
+
+                if (!walkablePredicate.test(nextCell)) {
+                    continue;
+                }
+
+                buffers.offer(buffers.node(
+                    next,
+                    current,
+                    direction,
+                    buffers.cost(current) + (cellWeightFunction == null ? 1 : cellWeightFunction.apply(nextCell)),
+                    distance(next, targetX, targetY)
+                ));
+            }
+
+            if (buffers.empty()) {
+                throw new PathException("Cannot find any valid path between " + source.id() + " and " + targetId);
+            }
+
+            if (buffers.exploredCount() > exploredCellLimit) {
+                throw new PathException("Limit exceeded for finding path");
+            }
+
+            current = buffers.poll();
+            buffers.explore(buffers.cell(current));
+        }
+
+        return new Path<>(decoder, buildSteps(buffers, current, source));
+    }
+
+    /**
+     * Build the path steps by walking back from the last node
+     * Steps before an unwalkable cell are removed, so the path stops before the first blocked cell
+     */
+    private List<PathStep<C>> buildSteps(SearchBuffers buffers, int last, C source) {
+        final List<PathStep<C>> steps = new ArrayList<>();
+
+        for (int node = last; buffers.parent(node) != -1; node = buffers.parent(node)) {
+            final C cell = map.get(buffers.cell(node));
+
+            if (!cell.walkable()) {
+                steps.clear();
+            } else {
+                steps.add(new PathStep<>(cell, directions[buffers.direction(node)]));
+            }
+        }
+
+        if (addFirstCell) {
+            steps.add(new PathStep<>(source, Direction.EAST));
+        }
+
+        Collections.reverse(steps);
+
+        return steps;
+    }
+
+    /**
+     * Compute the cell id increment of each direction
+     */
+    static int[] increments(Direction[] directions, int width) {
+        final int[] increments = new int[directions.length];
+
+        for (int i = 0; i < directions.length; ++i) {
+            increments[i] = directions[i].nextCellIncrement(width);
+        }
+
+        return increments;
+    }
+
+    /**
+     * Get the X coordinate of a cell
+     *
+     * @see fr.arakne.utils.maps.CoordinateCell#x()
+     */
+    static int x(int cell, int width) {
+        return (cell - (width - 1) * y(cell, width)) / width;
+    }
+
+    /**
+     * Get the Y coordinate of a cell
+     *
+     * @see fr.arakne.utils.maps.CoordinateCell#y()
+     */
+    static int y(int cell, int width) {
+        final int line = cell / (width * 2 - 1);
+
+        return line - (cell - line * (width * 2 - 1)) % width;
+    }
+
+    private int distance(int cell, int targetX, int targetY) {
+        return Math.abs(x(cell, width) - targetX) + Math.abs(y(cell, width) - targetY);
+    }
+}
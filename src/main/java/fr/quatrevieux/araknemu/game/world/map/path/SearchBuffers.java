@@ -0,0 +1,256 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.world.map.path;
+
+import java.util.Arrays;
+
+/**
+ * Scratch buffers of a path search
+ *
+ * Nodes are stored as parallel primitive arrays, and the open list is a binary heap of node indexes
+ * The explored set use a generation stamp, so it's cleared in constant time between two searches
+ *
+ * Buffers are reused by all searches of the same thread
+ */
+final class SearchBuffers {
+    final static private ThreadLocal<SearchBuffers> LOCAL = ThreadLocal.withInitial(SearchBuffers::new);
+
+    private boolean used = false;
+    private int generation = 0;
+
+    // Nodes
+    private int nodesCount = 0;
+    private int[] cells = new int[128];
+    private int[] parents = new int[128];
+    private int[] costs = new int[128];
+    private int[] distances = new int[128];
+    private int[] directions = new int[128];
+
+    // Open list
+    private int heapSize = 0;
+    private int[] heap = new int[128];
+
+    // Explored cells
+    private int exploredCount = 0;
+    private int[] explored = new int[0];
+
+    /**
+     * Get the buffers of the current thread, and reset them for a new search
+     * If the buffers are already used (i.e. reentrant search), a new instance is created
+     *
+     * The buffers must be released after the search
+     *
+     * @param size Number of cells of the map
+     */
+    static SearchBuffers acquire(int size) {
+        SearchBuffers buffers = LOCAL.get();
+
+        if (buffers.used) {
+            buffers = new SearchBuffers();
+        }
+
+        buffers.reset(size);
+
+        return buffers;
+    }
+
+    /**
+     * Release the buffers, so they can be used by the next search
+     */
+    void release() {
+        used = false;
+    }
+
+    /**
+     * Create a new node
+     *
+     * @return The node index
+     */
+    int node(int cell, int parent, int direction, int cost, int distance) {
+        final int node = nodesCount++;
+
+        if (node == cells.length) {
+            final int length = node * 2;
+
+            cells = Arrays.copyOf(cells, length);
+            parents = Arrays.copyOf(parents, length);
+            costs = Arrays.copyOf(costs, length);
+            distances = Arrays.copyOf(distances, length);
+            directions = Arrays.copyOf(directions, length);
+        }
+
+        cells[node] = cell;
+        parents[node] = parent;
+        costs[node] = cost;
+        distances[node] = distance;
+        directions[node] = direction;
+
+        return node;
+    }
+
+    int cell(int node) {
+        return cells[node];
+    }
+
+    int parent(int node) {
+        return parents[node];
+    }
+
+    int cost(int node) {
+        return costs[node];
+    }
+
+    int distance(int node) {
+        return distances[node];
+    }
+
+    int direction(int node) {
+        return directions[node];
+    }
+
+    /**
+     * Push a node to the open list
+     * Nodes are ordered by cost + distance, with the same tie-breaking as {@link java.util.PriorityQueue}
+     */
+    void offer(int node) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+        }
+
+        final int heuristic = heuristic(node);
+        int k = heapSize++;
+
+        while (k > 0) {
+            final int parent = (k - 1) >>> 1;
+            final int other = heap[parent];
+
+            if (heuristic >= heuristic(other)) {
+                break;
+            }
+
+            heap[k] = other;
+            k = parent;
+        }
+
+        heap[k] = node;
+    }
+
+    /**
+     * Remove and get the node with the lowest heuristic
+     * The open list must not be empty
+     */
+    int poll() {
+        final int result = heap[0];
+        final int n = --heapSize;
+
+        if (n > 0) {
+            final int node = heap[n];
+            final int heuristic = heuristic(node);
+            final int half = n >>> 1;
+            int k = 0;
+
+            while (k < half) {
+                int child = (k << 1) + 1;
+                int c = heap[child];
+                final int right = child + 1;
+
+                if (right < n && heuristic(c) > heuristic(heap[right])) {
+                    c = heap[child = right];
+                }
+
+                if (heuristic <= heuristic(c)) {
+                    break;
+                }
+
+                heap[k] = c;
+                k = child;
+            }
+
+            heap[k] = node;
+        }
+
+        return result;
+    }
+
+    /**
+     * Check if the open list is empty
+     */
+    boolean empty() {
+        return heapSize == 0;
+    }
+
+    /**
+     * Mark the cell as explored
+     */
+    void explore(int cell) {
+        if (explored[cell] != generation) {
+            explored[cell] = generation;
+            ++exploredCount;
+        }
+    }
+
+    /**
+     * Check if the cell is already explored
+     */
+    boolean explored(int cell) {
+        return explored[cell] == generation;
+    }
+
+    /**
+     * Get the number of explored cells
+     */
+    int exploredCount() {
+        return exploredCount;
+    }
+
+    /**
+     * Get a queue of the given size, for breadth first search
+     * The content of the queue is undefined
+     */
+    int[] queue(int size) {
+        if (heap.length < size) {
+            heap = new int[size];
+        }
+
+        return heap;
+    }
+
+    private int heuristic(int node) {
+        return costs[node] + distances[node];
+    }
+
+    private void reset(int size) {
+        used = true;
+        nodesCount = 0;
+        heapSize = 0;
+        exploredCount = 0;
+
+        if (explored.length < size) {
+            explored = new int[size];
+            generation = 0;
+        }
+
+        // Overflow : reset the explored stamps
+        if (++generation == 0) {
+            Arrays.fill(explored, 0);
+            generation = 1;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import fr.quatrevieux.araknemu.core.network.session.SessionConfigurator;
 
 /**
  * Configure packets handling for game session
+ * Parsed packets are dispatched on the session mailbox
  */
 final public class GamePacketConfigurator implements SessionConfigurator.Configurator<GameSession> {
     final private Dispatcher<GameSession> dispatcher;
@@ -47,6 +48,13 @@ final public class GamePacketConfigurator implements SessionConfigurator.Configu
             next.accept(packet);
         });
 
-        inner.addReceiveMiddleware((packet, next) -> dispatcher.dispatch(session, (Packet) packet));
+        // Packets are handled on the session mailbox, to be serialized with actions coming from other threads
+        inner.addReceiveMiddleware((packet, next) -> session.execute(() -> {
+            try {
+                dispatcher.dispatch(session, (Packet) packet);
+            } catch (Exception e) {
+                session.exception(e);
+            }
+        }));
     }
 }
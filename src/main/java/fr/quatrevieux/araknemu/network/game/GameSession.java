@@ -28,11 +28,17 @@ import fr.quatrevieux.araknemu.game.exploration.ExplorationPlayer;
 import fr.quatrevieux.araknemu.game.fight.fighter.player.PlayerFighter;
 import fr.quatrevieux.araknemu.game.player.GamePlayer;
 import fr.quatrevieux.araknemu.network.AccountSession;
+import fr.quatrevieux.araknemu.util.SerialExecutor;
 
 /**
  * Session wrapper for game server
+ *
+ * The session owns the mailbox of the player : all actions which modify the player state
+ * must be executed using {@link GameSession#execute(Runnable)} to ensure that they are executed serially
  */
 final public class GameSession extends AbstractDelegatedSession implements AccountSession<GameAccount>, Dispatcher {
+    final private SerialExecutor mailbox;
+
     private GameAccount account;
     private GamePlayer player;
     private ExplorationPlayer exploration;
@@ -41,6 +47,9 @@ final public class GameSession extends AbstractDelegatedSession implements Accou
 
     public GameSession(Session session) {
         super(session);
+
+        // Pending tasks are executed on the IO thread of the session, never on the thread of a foreign submitter (e.g. a fight worker)
+        mailbox = new SerialExecutor(session.channel().executor(), this::exception);
     }
 
     @Override
@@ -131,6 +140,25 @@ final public class GameSession extends AbstractDelegatedSession implements Accou
         this.log = log;
     }
 
+    /**
+     * Execute the task on the session mailbox
+     * The task is executed immediately if called from a mailbox task, or from the session IO thread while the mailbox is idle.
+     * Otherwise, it's executed on the session IO thread, after the pending tasks
+     * Errors are forwarded to the session exception handlers
+     *
+     * @param task Task to execute
+     */
+    public void execute(Runnable task) {
+        mailbox.execute(task);
+    }
+
+    /**
+     * Get the session mailbox
+     */
+    public SerialExecutor mailbox() {
+        return mailbox;
+    }
+
     @Override
     public void dispatch(Object event) {
         if (player != null) {
@@ -22,7 +22,6 @@ package fr.quatrevieux.araknemu.network.game.in.game.action;
 import fr.quatrevieux.araknemu.core.network.parser.Packet;
 import fr.quatrevieux.araknemu.core.network.parser.ParsePacketException;
 import fr.quatrevieux.araknemu.core.network.parser.SinglePacketParser;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * Request for start a game action
@@ -31,18 +30,79 @@ import org.apache.commons.lang3.StringUtils;
  */
 final public class GameActionRequest implements Packet {
     final static public class Parser implements SinglePacketParser<GameActionRequest> {
+        final static private char SEPARATOR = ';';
+
         @Override
         public GameActionRequest parse(String input) throws ParsePacketException {
-            return new GameActionRequest(
-                Integer.parseInt(input.substring(0, 3)),
-                StringUtils.split(input.substring(3), ";")
-            );
+            return parse(input, 0);
+        }
+
+        @Override
+        public GameActionRequest parse(String input, int offset) throws ParsePacketException {
+            if (input.length() < offset + 3) {
+                throw new ParsePacketException(packet(input, offset), "Missing action type");
+            }
+
+            int type = 0;
+
+            for (int i = offset; i < offset + 3; ++i) {
+                final int digit = Character.digit(input.charAt(i), 10);
+
+                if (digit < 0) {
+                    throw new ParsePacketException(packet(input, offset), "Invalid action type");
+                }
+
+                type = type * 10 + digit;
+            }
+
+            return new GameActionRequest(type, arguments(input, offset + 3));
         }
 
         @Override
         public String code() {
             return "GA";
         }
+
+        /**
+         * Get the full packet, for the error message
+         * When the offset is not zero, the input already contains the packet header
+         */
+        private String packet(String input, int offset) {
+            return offset > 0 ? input : code() + input;
+        }
+
+        /**
+         * Split the arguments by ";", ignoring empty ones
+         */
+        private String[] arguments(String input, int offset) {
+            int count = 0;
+
+            for (int i = offset; i < input.length(); ++i) {
+                if (input.charAt(i) != SEPARATOR && (i == offset || input.charAt(i - 1) == SEPARATOR)) {
+                    ++count;
+                }
+            }
+
+            final String[] arguments = new String[count];
+            int start = offset;
+
+            for (int i = 0; i < count; ++i) {
+                while (input.charAt(start) == SEPARATOR) {
+                    ++start;
+                }
+
+                int end = input.indexOf(SEPARATOR, start);
+
+                if (end == -1) {
+                    end = input.length();
+                }
+
+                arguments[i] = input.substring(start, end);
+                start = end;
+            }
+
+            return arguments;
+        }
     }
 
     final private int type;
@@ -21,7 +21,9 @@ package fr.quatrevieux.araknemu.network.game.out.game;
 
 import fr.quatrevieux.araknemu.game.world.creature.Sprite;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Add sprites to the current map
@@ -29,7 +31,7 @@ import java.util.Collection;
  * https://github.com/Emudofus/Dofus/blob/1.29/dofus/aks/Game.as#L434
  */
 final public class AddSprites {
-    private Collection<? extends Sprite> sprites;
+    final private Collection<? extends Sprite> sprites;
 
     public AddSprites(Collection<? extends Sprite> sprites) {
         this.sprites = sprites;
@@ -37,12 +39,23 @@ final public class AddSprites {
 
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder(64 * sprites.size());
+        // Sprites strings are cached, so only compute the exact packet size before copying them
+        final List<String> parts = new ArrayList<>(sprites.size());
+        int length = 2;
+
+        for (Sprite sprite : sprites) {
+            final String part = sprite.toString();
+
+            parts.add(part);
+            length += part.length() + 2;
+        }
+
+        final StringBuilder sb = new StringBuilder(length);
 
         sb.append("GM");
 
-        for(Sprite sprite : sprites){
-            sb.append("|+").append(sprite);
+        for (String part : parts) {
+            sb.append("|+").append(part);
         }
 
         return sb.toString();
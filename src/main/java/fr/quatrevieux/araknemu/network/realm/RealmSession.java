@@ -33,6 +33,11 @@ final public class RealmSession extends AbstractDelegatedSession implements Acco
 
     private AuthenticationAccount account;
 
+    /**
+     * Set by the login queue, when the account is allowed to access the servers list
+     */
+    private volatile boolean admitted = false;
+
     public RealmSession(Session session) {
         super(session);
 
@@ -53,6 +58,8 @@ final public class RealmSession extends AbstractDelegatedSession implements Acco
 
     @Override
     public AuthenticationAccount detach() {
+        admitted = false;
+
         return account = null;
     }
 
@@ -66,6 +73,21 @@ final public class RealmSession extends AbstractDelegatedSession implements Acco
         return account != null;
     }
 
+    /**
+     * Mark the session as admitted by the login queue
+     * The servers list and the game server selection are only available after admission
+     */
+    public void admit() {
+        admitted = true;
+    }
+
+    /**
+     * Check if the logged account has been admitted by the login queue
+     */
+    public boolean isAdmitted() {
+        return admitted && account != null;
+    }
+
     @Override
     public String toString() {
         String str = "ip=" + channel().address().getAddress().getHostAddress();
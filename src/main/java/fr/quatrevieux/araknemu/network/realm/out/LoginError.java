@@ -29,6 +29,7 @@ final public class LoginError {
     final static public char U_DISCONNECT_ACCOUNT = 'd';
     final static public char KICKED = 'k';
     final static public char LOGIN_ERROR = 'f';
+    final static public char SERVER_FULL = 'w';
     
     final private char errorType;
 
@@ -63,6 +63,55 @@ final public class RealmConfiguration implements ConfigurationModule {
         }
     }
 
+    final public class Authentication {
+        /**
+         * Number of threads used for check credentials
+         * If 0 is set, the authentication will be performed on the network thread
+         * Default: 2
+         */
+        public int threadsCount() {
+            return pool.integer("authentication.threadsCount", 2);
+        }
+
+        /**
+         * Maximum number of authentication requests waiting for a thread
+         * When the queue is full, new requests are refused
+         * Default: 1000
+         */
+        public int queueSize() {
+            return pool.integer("authentication.queueSize", 1000);
+        }
+
+        /**
+         * Maximum number of authenticated accounts admitted per seconds
+         * Other accounts will wait on the login queue
+         * If 0 is set, the admission rate is not limited
+         * Default: 50
+         */
+        public int admissionRate() {
+            return pool.integer("authentication.admissionRate", 50);
+        }
+
+        /**
+         * Maximum number of players logged on each game server
+         * When all the game servers are full, authenticated accounts will wait on the login queue
+         * If 0 is set, the number of players is not limited
+         * Default: 0
+         */
+        public int maxPlayers() {
+            return pool.integer("authentication.maxPlayers", 0);
+        }
+
+        /**
+         * Maximum number of authenticated accounts waiting on the login queue
+         * When the queue is full, new accounts are refused
+         * Default: 5000
+         */
+        public int loginQueueSize() {
+            return pool.integer("authentication.loginQueueSize", 5000);
+        }
+    }
+
     private PoolUtils pool;
 
     @Override
@@ -135,4 +184,11 @@ final public class RealmConfiguration implements ConfigurationModule {
     public Argon2 argon2() {
         return new Argon2();
     }
+
+    /**
+     * Get the authentication pipeline configuration
+     */
+    public Authentication authentication() {
+        return new Authentication();
+    }
 }
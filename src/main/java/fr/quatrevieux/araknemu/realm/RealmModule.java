@@ -29,6 +29,7 @@ import fr.quatrevieux.araknemu.core.di.ContainerModule;
 import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
 import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
 import fr.quatrevieux.araknemu.core.network.Server;
+import fr.quatrevieux.araknemu.core.network.netty.NettyConfiguration;
 import fr.quatrevieux.araknemu.core.network.netty.NettyServer;
 import fr.quatrevieux.araknemu.core.network.parser.*;
 import fr.quatrevieux.araknemu.core.network.session.SessionConfigurator;
@@ -46,7 +47,10 @@ import fr.quatrevieux.araknemu.network.realm.RealmSessionConfigurator;
 import fr.quatrevieux.araknemu.network.realm.in.Credentials;
 import fr.quatrevieux.araknemu.network.realm.in.DofusVersion;
 import fr.quatrevieux.araknemu.network.realm.in.RealmParserLoader;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationQueue;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationService;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 import fr.quatrevieux.araknemu.realm.authentication.password.Argon2Hash;
 import fr.quatrevieux.araknemu.realm.authentication.password.PasswordManager;
 import fr.quatrevieux.araknemu.realm.authentication.password.PlainTextHash;
@@ -86,10 +90,13 @@ final public class RealmModule implements ContainerModule {
                 container.get(Logger.class),
                 container.get(ListenerAggregate.class),
                 Arrays.asList(
-                    container.get(AuthBanIpSynchronizer.class)
+                    container.get(AuthBanIpSynchronizer.class),
+                    container.get(LoginQueue.class)
                 ),
                 Arrays.asList(
-                    container.get(AuthBanIpSynchronizer.class)
+                    container.get(AuthBanIpSynchronizer.class),
+                    container.get(AuthenticationQueue.class),
+                    container.get(LoginQueue.class)
                 )
             )
         );
@@ -107,7 +114,8 @@ final public class RealmModule implements ContainerModule {
             container -> new NettyServer(
                 container.get(SessionFactory.class),
                 container.get(RealmConfiguration.class).port(),
-                container.get(RealmConfiguration.class).inactivityTime()
+                container.get(RealmConfiguration.class).inactivityTime(),
+                app.configuration().module(NettyConfiguration.class)
             )
         );
 
@@ -130,21 +138,30 @@ final public class RealmModule implements ContainerModule {
             container -> new DefaultDispatcher<RealmSession>(
                 new PacketHandler[] {
                     new StartSession(),
-                    new StopSession(container.get(AuthenticationService.class)),
+                    new StopSession(
+                        container.get(AuthenticationService.class),
+                        container.get(LoginQueue.class)
+                    ),
                     new CloseInactiveSession(),
                     new CheckDofusVersion(container.get(RealmConfiguration.class)),
                     new Authenticate(
                         container.get(AuthenticationService.class),
+                        container.get(AuthenticationQueue.class),
+                        container.get(LoginQueue.class),
                         container.get(HostService.class),
                         container.get(SessionLogService.class)
                     ),
-                    new CheckQueuePosition(),
+                    new CheckQueuePosition(
+                        container.get(AuthenticationQueue.class),
+                        container.get(LoginQueue.class)
+                    ),
                     new ListServers(
                         container.get(HostService.class)
                     ),
                     new PongResponse(),
                     new ConnectGame(
-                        container.get(HostService.class)
+                        container.get(HostService.class),
+                        container.get(LoginQueue.class)
                     ),
                     new SearchFriend(container.get(HostService.class)),
                 }
@@ -169,10 +186,30 @@ final public class RealmModule implements ContainerModule {
                 container.get(AccountRepository.class),
                 container.get(HostService.class),
                 container.get(PasswordManager.class),
-                container.get(BanishmentService.class)
+                container.get(BanishmentService.class),
+                container.get(AuthenticationMetrics.class)
             )
         );
 
+        configurator.persist(
+            AuthenticationQueue.class,
+            container -> new AuthenticationQueue(
+                container.get(RealmConfiguration.class).authentication(),
+                container.get(AuthenticationMetrics.class)
+            )
+        );
+
+        configurator.persist(
+            LoginQueue.class,
+            container -> new LoginQueue(
+                container.get(RealmConfiguration.class).authentication(),
+                container.get(HostService.class),
+                container.get(AuthenticationMetrics.class)
+            )
+        );
+
+        configurator.persist(AuthenticationMetrics.class, container -> new AuthenticationMetrics());
+
         configurator.persist(
             HostService.class,
             container -> new HostService(
@@ -181,7 +218,8 @@ final public class RealmModule implements ContainerModule {
         );
 
         configurator.persist(SessionLogService.class, container -> new SessionLogService(
-            container.get(ConnectionLogRepository.class)
+            container.get(ConnectionLogRepository.class),
+            app.database().persistence()
         ));
 
         configurator.persist(
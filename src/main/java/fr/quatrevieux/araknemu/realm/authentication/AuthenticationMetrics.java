@@ -0,0 +1,95 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.realm.authentication;
+
+import fr.quatrevieux.araknemu.core.metrics.Timer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timing and failure metrics of the authentication pipeline
+ */
+final public class AuthenticationMetrics {
+    final private Timer hash = new Timer();
+    final private Timer queueWait = new Timer();
+    final private Timer admissionWait = new Timer();
+
+    final private LongAdder invalidCredentials = new LongAdder();
+    final private LongAdder banned = new LongAdder();
+    final private LongAdder alreadyConnected = new LongAdder();
+    final private LongAdder playing = new LongAdder();
+    final private LongAdder rejected = new LongAdder();
+
+    /**
+     * Time spent on password verification and rehash
+     */
+    public Timer hash() {
+        return hash;
+    }
+
+    /**
+     * Time spent by requests waiting for an authentication thread
+     */
+    public Timer queueWait() {
+        return queueWait;
+    }
+
+    /**
+     * Time spent by authenticated accounts waiting on the login queue
+     */
+    public Timer admissionWait() {
+        return admissionWait;
+    }
+
+    /**
+     * Number of authentications failed due to an unknown username or a bad password
+     */
+    public LongAdder invalidCredentials() {
+        return invalidCredentials;
+    }
+
+    /**
+     * Number of authentications of banned accounts
+     */
+    public LongAdder banned() {
+        return banned;
+    }
+
+    /**
+     * Number of authentications refused because the account is already logged on the realm
+     */
+    public LongAdder alreadyConnected() {
+        return alreadyConnected;
+    }
+
+    /**
+     * Number of authentications refused because the account is already playing on a game server
+     */
+    public LongAdder playing() {
+        return playing;
+    }
+
+    /**
+     * Number of requests rejected because the authentication queue or the login queue is full
+     */
+    public LongAdder rejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.realm.authentication;
+
+import fr.quatrevieux.araknemu.core.event.EventsSubscriber;
+import fr.quatrevieux.araknemu.core.event.Listener;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
+import fr.quatrevieux.araknemu.realm.event.AuthStopped;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of authentication requests
+ *
+ * Credentials checks are expensive (argon2 hash), so they are performed on dedicated worker threads
+ * instead of the network threads. Each request gets a ticket, which is used to compute its position on the queue.
+ * When the queue is full, new requests are refused.
+ */
+final public class AuthenticationQueue implements EventsSubscriber {
+    final private AuthenticationMetrics metrics;
+
+    /**
+     * The workers pool, or null if requests are executed synchronously
+     */
+    final private ThreadPoolExecutor executor;
+
+    /**
+     * Pending tickets, indexed by the request owner
+     */
+    final private ConcurrentMap<Object, Long> tickets = new ConcurrentHashMap<>();
+
+    /**
+     * Number of started requests
+     */
+    final private AtomicLong started = new AtomicLong();
+
+    /**
+     * The last delivered ticket. Guarded by "this"
+     */
+    private long lastTicket = 0;
+
+    public AuthenticationQueue(RealmConfiguration.Authentication configuration, AuthenticationMetrics metrics) {
+        this.metrics = metrics;
+        this.executor = configuration.threadsCount() > 0
+            ? createExecutor(configuration.threadsCount(), configuration.queueSize())
+            : null
+        ;
+    }
+
+    @Override
+    public Listener[] listeners() {
+        return new Listener[] {
+            new Listener<AuthStopped>() {
+                @Override
+                public void on(AuthStopped event) {
+                    if (executor != null) {
+                        executor.shutdownNow();
+                    }
+                }
+
+                @Override
+                public Class<AuthStopped> event() {
+                    return AuthStopped.class;
+                }
+            }
+        };
+    }
+
+    /**
+     * Push an authentication request on the queue
+     *
+     * @param owner The request owner. Used for get the queue position
+     * @param task The authentication task
+     *
+     * @return false if the queue is full
+     */
+    public boolean push(Object owner, Runnable task) {
+        if (executor == null) {
+            metrics.queueWait().record(0);
+            task.run();
+
+            return true;
+        }
+
+        final long submittedAt = System.nanoTime();
+
+        synchronized (this) {
+            final long ticket = ++lastTicket;
+
+            tickets.put(owner, ticket);
+
+            try {
+                executor.execute(() -> {
+                    started.incrementAndGet();
+                    metrics.queueWait().record(System.nanoTime() - submittedAt);
+
+                    try {
+                        task.run();
+                    } finally {
+                        tickets.remove(owner, ticket);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                tickets.remove(owner, ticket);
+                --lastTicket;
+                metrics.rejected().increment();
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the position of the owner's request on the queue
+     *
+     * @return The position, starting at 1. 0 if the request is not queued, or currently executed
+     */
+    public int position(Object owner) {
+        final Long ticket = tickets.get(owner);
+
+        if (ticket == null) {
+            return 0;
+        }
+
+        return (int) Math.max(ticket - started.get(), 0);
+    }
+
+    /**
+     * Number of requests waiting for a worker
+     */
+    public int size() {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    private ThreadPoolExecutor createExecutor(int threads, int queueSize) {
+        final AtomicInteger lastId = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+            threads,
+            threads,
+            0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueSize),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "Authentication-Worker-" + lastId.getAndIncrement());
+
+                thread.setDaemon(true);
+
+                return thread;
+            }
+        );
+    }
+}
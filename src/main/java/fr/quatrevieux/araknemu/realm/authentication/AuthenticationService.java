@@ -26,9 +26,6 @@ import fr.quatrevieux.araknemu.data.living.repository.account.AccountRepository;
 import fr.quatrevieux.araknemu.realm.authentication.password.PasswordManager;
 import fr.quatrevieux.araknemu.realm.host.HostService;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -40,12 +37,13 @@ final public class AuthenticationService {
     final private HostService hosts;
     final private PasswordManager passwordManager;
     final private BanishmentService<AuthenticationAccount> banishmentService;
+    final private AuthenticationMetrics metrics;
 
     /**
-     * Set of accounts which wait for authentication process
+     * Map of accounts which wait for authentication process
      * There are loaded, but not yet authenticated
      */
-    final private Set<AuthenticationAccount> pending = Collections.synchronizedSet(new HashSet<>());
+    final private ConcurrentMap<Integer, AuthenticationAccount> pending = new ConcurrentHashMap<>();
 
     /**
      * Map of authenticated accounts
@@ -53,59 +51,70 @@ final public class AuthenticationService {
      */
     final private ConcurrentMap<Integer, AuthenticationAccount> authenticated = new ConcurrentHashMap<>();
 
-    public AuthenticationService(AccountRepository repository, HostService hosts, PasswordManager passwordManager, BanishmentService<AuthenticationAccount> banishmentService) {
+    public AuthenticationService(AccountRepository repository, HostService hosts, PasswordManager passwordManager, BanishmentService<AuthenticationAccount> banishmentService, AuthenticationMetrics metrics) {
         this.repository = repository;
         this.hosts = hosts;
         this.passwordManager = passwordManager;
         this.banishmentService = banishmentService;
+        this.metrics = metrics;
     }
 
     /**
      * Perform authenticate request
      *
-     * This method is synchronized to ensure that two account are not requested login
-     * in the same time
+     * This method is thread safe, and can be called concurrently by authentication workers
+     * Only the pending / authenticated check is atomic, per account, to ensure that an account
+     * is not logged twice at the same time
      */
-    synchronized public void authenticate(AuthenticationRequest request) {
+    public void authenticate(AuthenticationRequest request) {
         AuthenticationAccount account;
 
         try {
             account = getAccount(request.username());
         } catch (EntityNotFoundException e) {
+            metrics.invalidCredentials().increment();
             request.invalidCredentials();
             return;
         }
 
         if (banishmentService.isBanned(account)) {
+            metrics.banned().increment();
             request.banned();
             return;
         }
 
-        if (!account.password().check(request.password())) {
+        if (!checkPassword(account, request.password())) {
+            metrics.invalidCredentials().increment();
             request.invalidCredentials();
             return;
         }
 
-        passwordManager.rehash(account.password(), request.password(), account::updatePassword);
-
-        if (
-            isAuthenticated(account)
-            || pending.contains(account)
-        ) {
+        // The account is added to authenticated before being removed from pending
+        // so if the pending slot is acquired, the authenticated check is reliable
+        if (pending.putIfAbsent(account.id(), account) != null) {
+            metrics.alreadyConnected().increment();
             request.alreadyConnected();
             return;
         }
 
-        pending.add(account);
+        if (isAuthenticated(account)) {
+            pending.remove(account.id(), account);
+            metrics.alreadyConnected().increment();
+            request.alreadyConnected();
+            return;
+        }
 
         hosts.checkLogin(account, response -> {
-            if (response) {
-                request.isPlaying();
-            } else {
-                request.success(account);
+            try {
+                if (response) {
+                    metrics.playing().increment();
+                    request.isPlaying();
+                } else {
+                    request.success(account);
+                }
+            } finally {
+                pending.remove(account.id(), account);
             }
-
-            pending.remove(account);
         });
     }
 
@@ -138,6 +147,25 @@ final public class AuthenticationService {
         repository.savePassword(account);
     }
 
+    /**
+     * Check the password, and rehash it if needed
+     */
+    private boolean checkPassword(AuthenticationAccount account, String password) {
+        final long start = System.nanoTime();
+
+        try {
+            if (!account.password().check(password)) {
+                return false;
+            }
+
+            passwordManager.rehash(account.password(), password, account::updatePassword);
+
+            return true;
+        } finally {
+            metrics.hash().record(System.nanoTime() - start);
+        }
+    }
+
     private AuthenticationAccount getAccount(String username) {
         final Account account = repository.findByUsername(username);
 
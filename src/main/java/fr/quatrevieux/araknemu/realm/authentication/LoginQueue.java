@@ -0,0 +1,403 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.realm.authentication;
+
+import fr.quatrevieux.araknemu.core.event.EventsSubscriber;
+import fr.quatrevieux.araknemu.core.event.Listener;
+import fr.quatrevieux.araknemu.game.PreloadableService;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
+import fr.quatrevieux.araknemu.realm.event.AuthStopped;
+import fr.quatrevieux.araknemu.realm.host.GameHost;
+import fr.quatrevieux.araknemu.realm.host.HostService;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission queue of authenticated accounts
+ *
+ * After a successful authentication, the account waits on this queue before entering the servers list.
+ * Accounts are admitted at a bounded rate, and only while the game servers are not full,
+ * so a reconnection storm is turned into a steady intake for the game servers.
+ *
+ * Priority accounts (i.e. game masters) are always admitted before other accounts.
+ */
+final public class LoginQueue implements EventsSubscriber, PreloadableService {
+    /**
+     * Interval between two admission checks, when accounts are waiting
+     */
+    final static private long TICK_INTERVAL = 100;
+
+    /**
+     * Time for an admitted account to select a server and log into it
+     * During this delay, the account is considered as an entering player, and takes a place on the game servers
+     */
+    final static private long ENTERING_DELAY = TimeUnit.SECONDS.toNanos(10);
+
+    final private RealmConfiguration.Authentication configuration;
+    final private HostService hosts;
+    final private AuthenticationMetrics metrics;
+    final private ScheduledExecutorService executor;
+
+    /**
+     * Waiting entries, indexed by the owner. Guarded by "this"
+     */
+    final private Map<Object, Entry> entries = new HashMap<>();
+    final private Lane priority = new Lane();
+    final private Lane normal = new Lane();
+
+    /**
+     * Admission time of accounts which may not be logged into a game server yet. Guarded by "this"
+     */
+    final private LinkedList<Long> entering = new LinkedList<>();
+
+    /**
+     * Available admissions (token bucket). Guarded by "this"
+     */
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    public LoginQueue(RealmConfiguration.Authentication configuration, HostService hosts, AuthenticationMetrics metrics) {
+        this.configuration = configuration;
+        this.hosts = hosts;
+        this.metrics = metrics;
+        this.tokens = configuration.admissionRate();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "Login-Queue");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    @Override
+    public void preload(Logger logger) {
+        executor.scheduleWithFixedDelay(
+            () -> {
+                try {
+                    process();
+                } catch (RuntimeException e) {
+                    logger.error("Error during login queue processing", e);
+                }
+            },
+            TICK_INTERVAL, TICK_INTERVAL, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public Listener[] listeners() {
+        return new Listener[] {
+            new Listener<AuthStopped>() {
+                @Override
+                public void on(AuthStopped event) {
+                    executor.shutdownNow();
+                }
+
+                @Override
+                public Class<AuthStopped> event() {
+                    return AuthStopped.class;
+                }
+            }
+        };
+    }
+
+    /**
+     * Push an authenticated account on the queue
+     * If the account can be admitted immediately, the task is executed by the current thread
+     *
+     * @param owner The entry owner. Used for get the queue position
+     * @param priority Does the account has priority over other accounts ?
+     * @param task Task to execute when the account is admitted
+     *
+     * @return false if the queue is full
+     */
+    public boolean push(Object owner, boolean priority, Runnable task) {
+        synchronized (this) {
+            // An owner can only be queued once
+            remove(owner);
+
+            if (entries.size() >= configuration.loginQueueSize()) {
+                metrics.rejected().increment();
+
+                return false;
+            }
+
+            final Lane lane = priority ? this.priority : normal;
+            final Entry entry = new Entry(owner, task, lane);
+
+            entries.put(owner, entry);
+            lane.add(entry);
+        }
+
+        process();
+
+        return true;
+    }
+
+    /**
+     * Remove the owner's entry from the queue
+     * Should be called when the session is closed
+     */
+    public synchronized void remove(Object owner) {
+        final Entry entry = entries.remove(owner);
+
+        if (entry != null) {
+            entry.lane.cancel(entry);
+        }
+    }
+
+    /**
+     * Get the position of the owner on the queue
+     *
+     * The position is computed from the entry ticket, so this method is O(1).
+     * Accounts which have left the queue before the owner are still counted until the queue reaches them,
+     * so the position may be overestimated when many sessions are closed while waiting.
+     *
+     * @return The position, starting at 1. 0 if not queued
+     */
+    public synchronized int position(Object owner) {
+        final Entry entry = entries.get(owner);
+
+        if (entry == null) {
+            return 0;
+        }
+
+        final int position = entry.lane.position(entry);
+
+        return entry.lane == priority ? position : priority.size() + position;
+    }
+
+    /**
+     * Get the estimated waiting time of the owner, according to its position and the admission rate
+     * Note: the game servers capacity is not considered
+     *
+     * @return The estimated duration, or zero if not queued or if the rate is not limited
+     */
+    public Duration estimatedWait(Object owner) {
+        final int rate = configuration.admissionRate();
+
+        if (rate <= 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofMillis(1000L * position(owner) / rate);
+    }
+
+    /**
+     * Check if the game server has reached its maximum number of players
+     */
+    public boolean isFull(GameHost host) {
+        final int maxPlayers = configuration.maxPlayers();
+
+        return maxPlayers > 0 && host.connector().players() >= maxPlayers;
+    }
+
+    /**
+     * Number of accounts waiting for admission
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Admit the waiting accounts, while the rate and the game servers capacity allow it
+     */
+    void process() {
+        final List<Entry> admitted = new ArrayList<>();
+
+        synchronized (this) {
+            if (entries.isEmpty()) {
+                return;
+            }
+
+            refill();
+
+            int available = availablePlaces();
+
+            while (available > 0 && hasToken() && !entries.isEmpty()) {
+                final Entry entry = priority.size() == 0 ? normal.poll() : priority.poll();
+
+                entries.remove(entry.owner);
+                admitted.add(entry);
+                entering.add(System.nanoTime());
+                --tokens;
+                --available;
+            }
+        }
+
+        RuntimeException error = null;
+
+        // Admitted entries are already removed from the queue, so all tasks must be executed
+        for (Entry entry : admitted) {
+            metrics.admissionWait().record(System.nanoTime() - entry.pushedAt);
+
+            try {
+                entry.task.run();
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private boolean hasToken() {
+        return configuration.admissionRate() <= 0 || tokens >= 1;
+    }
+
+    private void refill() {
+        final int rate = configuration.admissionRate();
+        final long now = System.nanoTime();
+
+        if (rate > 0) {
+            tokens = Math.min(rate, tokens + (now - lastRefill) * rate / 1e9);
+        }
+
+        lastRefill = now;
+    }
+
+    /**
+     * Compute the number of free places on the game servers
+     * Only servers which accept logins are considered. If there is none, the places are not limited
+     * The recently admitted accounts are removed from the free places, because they are not yet counted by the game servers
+     */
+    private int availablePlaces() {
+        final int maxPlayers = configuration.maxPlayers();
+
+        if (maxPlayers <= 0) {
+            entering.clear();
+
+            return Integer.MAX_VALUE;
+        }
+
+        final long now = System.nanoTime();
+
+        while (!entering.isEmpty() && now - entering.peek() > ENTERING_DELAY) {
+            entering.poll();
+        }
+
+        int places = 0;
+        boolean hasHost = false;
+
+        for (GameHost host : hosts.all()) {
+            if (host.canLog()) {
+                hasHost = true;
+                places += Math.max(maxPlayers - host.connector().players(), 0);
+            }
+        }
+
+        return hasHost ? places - entering.size() : Integer.MAX_VALUE;
+    }
+
+    static private class Entry {
+        final private Object owner;
+        final private Runnable task;
+        final private Lane lane;
+        final private long pushedAt = System.nanoTime();
+
+        private long ticket;
+        private boolean cancelled = false;
+
+        public Entry(Object owner, Runnable task, Lane lane) {
+            this.owner = owner;
+            this.task = task;
+            this.lane = lane;
+        }
+    }
+
+    /**
+     * FIFO of entries, with monotonic tickets
+     * The position of an entry is the difference between its ticket and the ticket of the head of the lane
+     *
+     * Removed entries are only marked as cancelled, and skipped when they reach the head
+     */
+    static private class Lane {
+        final private ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+        /** Ticket of the next pushed entry */
+        private long next = 0;
+        /** Ticket of the first entry of the lane */
+        private long head = 0;
+        /** Number of non-cancelled entries */
+        private int size = 0;
+
+        private void add(Entry entry) {
+            entry.ticket = next++;
+            entries.add(entry);
+            ++size;
+        }
+
+        /**
+         * Remove the first non-cancelled entry
+         *
+         * @return The entry, or null if the lane is empty
+         */
+        private Entry poll() {
+            skipCancelled();
+
+            final Entry entry = entries.poll();
+
+            if (entry != null) {
+                head = entry.ticket + 1;
+                --size;
+                skipCancelled();
+            }
+
+            return entry;
+        }
+
+        private void cancel(Entry entry) {
+            entry.cancelled = true;
+            --size;
+            skipCancelled();
+        }
+
+        /**
+         * Get the entry position, starting at 1
+         */
+        private int position(Entry entry) {
+            return (int) (entry.ticket - head) + 1;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void skipCancelled() {
+            while (!entries.isEmpty() && entries.peek().cancelled) {
+                head = entries.poll().ticket + 1;
+            }
+        }
+    }
+}
@@ -23,17 +23,38 @@ import fr.quatrevieux.araknemu.network.in.AskQueuePosition;
 import fr.quatrevieux.araknemu.core.network.parser.PacketHandler;
 import fr.quatrevieux.araknemu.network.out.QueuePosition;
 import fr.quatrevieux.araknemu.network.realm.RealmSession;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationQueue;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 
 /**
  * Check the queue position (Af packet)
- * @todo to implements
  *
- * Empty class to not fail for not found handler
+ * The position is the one of the account on the login queue if authenticated,
+ * or the one of the authentication request, behind all accounts waiting on the login queue
  */
 final public class CheckQueuePosition implements PacketHandler<RealmSession, AskQueuePosition> {
+    final private AuthenticationQueue queue;
+    final private LoginQueue loginQueue;
+
+    public CheckQueuePosition(AuthenticationQueue queue, LoginQueue loginQueue) {
+        this.queue = queue;
+        this.loginQueue = loginQueue;
+    }
+
     @Override
     public void handle(RealmSession session, AskQueuePosition packet) {
-        session.send(new QueuePosition(1));
+        int position = loginQueue.position(session);
+
+        if (position == 0) {
+            position = queue.position(session);
+
+            if (position > 0) {
+                position += loginQueue.size();
+            }
+        }
+
+        // The client expects a position starting at 1
+        session.send(new QueuePosition(Math.max(position, 1)));
     }
 
     @Override
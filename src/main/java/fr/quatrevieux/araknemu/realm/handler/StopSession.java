@@ -23,19 +23,24 @@ import fr.quatrevieux.araknemu.core.network.parser.PacketHandler;
 import fr.quatrevieux.araknemu.core.network.SessionClosed;
 import fr.quatrevieux.araknemu.network.realm.RealmSession;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationService;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 
 /**
  * Handle session closed
  */
 final public class StopSession implements PacketHandler<RealmSession, SessionClosed> {
     final private AuthenticationService service;
+    final private LoginQueue loginQueue;
 
-    public StopSession(AuthenticationService service) {
+    public StopSession(AuthenticationService service, LoginQueue loginQueue) {
         this.service = service;
+        this.loginQueue = loginQueue;
     }
 
     @Override
     public void handle(RealmSession session, SessionClosed packet) {
+        loginQueue.remove(session);
+
         if (session.isLogged()) {
             session.account().detach();
         }
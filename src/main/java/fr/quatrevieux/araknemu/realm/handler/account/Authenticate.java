@@ -25,12 +25,17 @@ import fr.quatrevieux.araknemu.network.realm.RealmSession;
 import fr.quatrevieux.araknemu.network.realm.in.Credentials;
 import fr.quatrevieux.araknemu.network.realm.out.*;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationAccount;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationQueue;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationRequest;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationService;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 import fr.quatrevieux.araknemu.realm.host.HostService;
 
 /**
  * Authenticate the client
+ *
+ * Credentials are checked on the authentication queue, and then the account waits on the login queue
+ * before receiving its account information and the servers list
  */
 final public class Authenticate implements PacketHandler<RealmSession, Credentials> {
     private class Request implements AuthenticationRequest {
@@ -57,11 +62,24 @@ final public class Authenticate implements PacketHandler<RealmSession, Credentia
             account.attach(session);
             logService.create(session);
 
-            session.send(new Pseudo(account.pseudo()));
-            session.send(new Community(account.community()));
-            session.send(new GMLevel(account.isMaster()));
-            session.send(new Question(account.question()));
-            session.send(new HostList(hosts.all()));
+            final boolean queued = loginQueue.push(session, account.isMaster(), () -> {
+                // The client has left while waiting on the login queue
+                if (!session.isAlive()) {
+                    return;
+                }
+
+                session.admit();
+                session.send(new Pseudo(account.pseudo()));
+                session.send(new Community(account.community()));
+                session.send(new GMLevel(account.isMaster()));
+                session.send(new Question(account.question()));
+                session.send(new HostList(hosts.all()));
+            });
+
+            if (!queued) {
+                session.send(new LoginError(LoginError.SERVER_FULL));
+                session.close();
+            }
         }
 
         @Override
@@ -90,18 +108,32 @@ final public class Authenticate implements PacketHandler<RealmSession, Credentia
     }
 
     final private AuthenticationService service;
+    final private AuthenticationQueue queue;
+    final private LoginQueue loginQueue;
     final private HostService hosts;
     final private SessionLogService logService;
 
-    public Authenticate(AuthenticationService service, HostService hosts, SessionLogService logService) {
+    public Authenticate(AuthenticationService service, AuthenticationQueue queue, LoginQueue loginQueue, HostService hosts, SessionLogService logService) {
         this.service = service;
+        this.queue = queue;
+        this.loginQueue = loginQueue;
         this.hosts = hosts;
         this.logService = logService;
     }
 
     @Override
     public void handle(RealmSession session, Credentials packet) {
-        service.authenticate(new Request(session, packet));
+        final boolean queued = queue.push(session, () -> {
+            // The client has left while waiting on the queue
+            if (session.isAlive()) {
+                service.authenticate(new Request(session, packet));
+            }
+        });
+
+        if (!queued) {
+            session.send(new LoginError(LoginError.SERVER_FULL));
+            session.close();
+        }
     }
 
     @Override
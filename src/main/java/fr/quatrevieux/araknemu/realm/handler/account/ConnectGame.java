@@ -24,6 +24,7 @@ import fr.quatrevieux.araknemu.network.realm.RealmSession;
 import fr.quatrevieux.araknemu.network.realm.in.ChooseServer;
 import fr.quatrevieux.araknemu.network.realm.out.SelectServerError;
 import fr.quatrevieux.araknemu.network.realm.out.SelectServerPlain;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 import fr.quatrevieux.araknemu.realm.host.GameHost;
 import fr.quatrevieux.araknemu.realm.host.HostService;
 
@@ -34,14 +35,17 @@ import fr.quatrevieux.araknemu.realm.host.HostService;
  */
 final public class ConnectGame implements PacketHandler<RealmSession, ChooseServer> {
     final private HostService service;
+    final private LoginQueue loginQueue;
 
-    public ConnectGame(HostService service) {
+    public ConnectGame(HostService service, LoginQueue loginQueue) {
         this.service = service;
+        this.loginQueue = loginQueue;
     }
 
     @Override
     public void handle(RealmSession session, ChooseServer packet) {
-        if (!service.isAvailable(packet.id())) {
+        // The account is still waiting on the login queue
+        if (!session.isAdmitted() || !service.isAvailable(packet.id())) {
             session.send(
                 new SelectServerError(SelectServerError.Error.CANT_SELECT)
             );
@@ -51,6 +55,15 @@ final public class ConnectGame implements PacketHandler<RealmSession, ChooseServ
 
         GameHost host = service.get(packet.id());
 
+        // Game masters can always enter the server
+        if (loginQueue.isFull(host) && !session.account().isMaster()) {
+            session.send(
+                new SelectServerError(SelectServerError.Error.FULL)
+            );
+
+            return;
+        }
+
         host.connector().token(
             session.account(),
             token -> {
@@ -27,6 +27,7 @@ import fr.quatrevieux.araknemu.realm.host.HostService;
 
 /**
  * List servers and characters count per server
+ * The request is ignored while the account is waiting on the login queue
  */
 final public class ListServers implements PacketHandler<RealmSession, AskServerList> {
     final private HostService service;
@@ -37,6 +38,10 @@ final public class ListServers implements PacketHandler<RealmSession, AskServerL
 
     @Override
     public void handle(RealmSession session, AskServerList packet) {
+        if (!session.isAdmitted()) {
+            return;
+        }
+
         session.send(
             new ServerList(
                 ServerList.ONE_YEAR, // @todo abo
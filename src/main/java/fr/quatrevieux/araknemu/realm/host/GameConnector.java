@@ -47,4 +47,10 @@ public interface GameConnector {
      * @param response The response listener, will received the token
      */
     public void token(AuthenticationAccount account, HostResponse<String> response);
+
+    /**
+     * Get the number of players currently logged into the game server
+     * For remote hosts, the value may be the last known value
+     */
+    public int players();
 }
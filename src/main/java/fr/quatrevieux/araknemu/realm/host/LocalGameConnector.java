@@ -45,4 +45,9 @@ final public class LocalGameConnector implements GameConnector {
             service.token(account.id())
         );
     }
+
+    @Override
+    public int players() {
+        return service.loggedCount();
+    }
 }
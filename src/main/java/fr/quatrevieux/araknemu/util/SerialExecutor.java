@@ -0,0 +1,136 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Mailbox executor : execute tasks one at a time, in submission order
+ *
+ * The executor do not own any thread : pending tasks are executed by the "home" executor (i.e. the IO thread of the session).
+ * When a task is submitted from the home thread and the executor is idle, it's executed immediately by the calling thread.
+ * Tasks submitted by other threads are pushed to the queue, and the queue is drained by the home executor,
+ * so the submitting threads are never used to execute tasks, nor blocked by them.
+ *
+ * A task submitted from an executed task (i.e. reentrant call) is executed immediately, like a simple method call,
+ * so listeners triggered by a task keep their synchronous ordering.
+ *
+ * This ensures that state owned by the executor has only one writer at a time, without locking.
+ */
+final public class SerialExecutor implements Executor {
+    final private Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    final private AtomicReference<Thread> owner = new AtomicReference<>();
+    final private Executor home;
+    final private Consumer<RuntimeException> errorHandler;
+
+    /**
+     * @param home Executor used to drain the queue. It must execute the task immediately when called from its own thread
+     * @param errorHandler Handle errors thrown by tasks. Called by the thread which executes the failed task
+     */
+    public SerialExecutor(Executor home, Consumer<RuntimeException> errorHandler) {
+        this.home = home;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Create a mailbox drained by the submitting threads
+     *
+     * @param errorHandler Handle errors thrown by tasks. Called by the thread which executes the failed task
+     */
+    public SerialExecutor(Consumer<RuntimeException> errorHandler) {
+        this(Runnable::run, errorHandler);
+    }
+
+    /**
+     * Execute the task, or push it on the queue if the executor is already running
+     *
+     * Errors are handled per task by the error handler, so a failed task will not affect other tasks,
+     * and the error is never thrown to the thread which has submitted another task
+     *
+     * @param task Task to execute
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (owner.get() == Thread.currentThread()) {
+            run(task);
+            return;
+        }
+
+        tasks.add(task);
+
+        // The running thread will execute the task
+        if (owner.get() != null) {
+            return;
+        }
+
+        try {
+            home.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // The home executor is stopped (i.e. server shutdown) : the task must not be lost
+            drain();
+        }
+    }
+
+    /**
+     * Check if the executor is currently executing tasks
+     * Note: this method should only be used for monitoring purpose
+     */
+    public boolean running() {
+        return owner.get() != null;
+    }
+
+    /**
+     * Get the number of pending tasks
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Execute all pending tasks, if the executor is not already running
+     */
+    private void drain() {
+        final Thread current = Thread.currentThread();
+
+        // Loop to handle tasks pushed by other threads between the end of the drain and the release of the executor
+        while (!tasks.isEmpty() && owner.compareAndSet(null, current)) {
+            try {
+                for (Runnable pending; (pending = tasks.poll()) != null;) {
+                    run(pending);
+                }
+            } finally {
+                owner.set(null);
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            errorHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.common.account.banishment;
+
+import fr.quatrevieux.araknemu.data.living.entity.BanIp;
+import inet.ipaddr.IPAddressString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BanIpIndexTest {
+    private BanIpIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BanIpIndex();
+    }
+
+    @Test
+    void empty() throws UnknownHostException {
+        assertNull(index.find(new IPAddressString("145.32.213.5")));
+        assertNull(index.find(InetAddress.getByName("145.32.213.5")));
+        assertNull(index.find(new IPAddressString("::1")));
+    }
+
+    @Test
+    void singleAddress() throws UnknownHostException {
+        BanIp banIp = ban("145.32.213.5");
+
+        index.add(banIp);
+
+        assertSame(banIp, index.find(new IPAddressString("145.32.213.5")));
+        assertSame(banIp, index.find(InetAddress.getByName("145.32.213.5")));
+        assertNull(index.find(new IPAddressString("145.32.213.4")));
+        assertNull(index.find(new IPAddressString("145.32.213.6")));
+        assertNull(index.find(new IPAddressString("145.32.213.0/24")));
+        assertNull(index.find(InetAddress.getByName("145.32.213.6")));
+    }
+
+    @Test
+    void cidrBlock() throws UnknownHostException {
+        BanIp banIp = ban("145.32.0.0/16");
+
+        index.add(banIp);
+
+        assertSame(banIp, index.find(new IPAddressString("145.32.213.5")));
+        assertSame(banIp, index.find(new IPAddressString("145.32.0.0")));
+        assertSame(banIp, index.find(new IPAddressString("145.32.255.255")));
+        assertSame(banIp, index.find(new IPAddressString("145.32.213.0/24")));
+        assertSame(banIp, index.find(InetAddress.getByName("145.32.12.3")));
+        assertNull(index.find(new IPAddressString("145.33.0.0")));
+        assertNull(index.find(new IPAddressString("145.0.0.0/8")));
+    }
+
+    @Test
+    void sequentialRange() {
+        BanIp banIp = ban("1.2.3.5-10");
+
+        index.add(banIp);
+
+        assertNull(index.find(new IPAddressString("1.2.3.4")));
+        assertSame(banIp, index.find(new IPAddressString("1.2.3.5")));
+        assertSame(banIp, index.find(new IPAddressString("1.2.3.7")));
+        assertSame(banIp, index.find(new IPAddressString("1.2.3.10")));
+        assertNull(index.find(new IPAddressString("1.2.3.11")));
+
+        assertSame(banIp, index.find(new IPAddressString("1.2.3.7-8")));
+        assertNull(index.find(new IPAddressString("1.2.3.9-11")));
+    }
+
+    @Test
+    void nonSequentialRange() throws UnknownHostException {
+        BanIp banIp = ban("1.*.3.4");
+
+        index.add(banIp);
+
+        assertSame(banIp, index.find(new IPAddressString("1.2.3.4")));
+        assertSame(banIp, index.find(InetAddress.getByName("1.56.3.4")));
+        assertNull(index.find(new IPAddressString("1.2.3.5")));
+
+        index.remove(banIp);
+        assertNull(index.find(new IPAddressString("1.2.3.4")));
+    }
+
+    @Test
+    void ipv6() throws UnknownHostException {
+        BanIp banIp = ban("2001:db8::/32");
+
+        index.add(banIp);
+
+        assertSame(banIp, index.find(new IPAddressString("2001:db8::1")));
+        assertSame(banIp, index.find(InetAddress.getByName("2001:db8:85a3::8a2e:370:7334")));
+        assertNull(index.find(new IPAddressString("2001:db9::1")));
+        assertNull(index.find(new IPAddressString("32.1.13.184")));
+    }
+
+    @Test
+    void allAddresses() {
+        BanIp banIp = ban("0.0.0.0/0");
+
+        index.add(banIp);
+
+        assertSame(banIp, index.find(new IPAddressString("145.32.213.5")));
+        assertSame(banIp, index.find(new IPAddressString("0.0.0.0/0")));
+        assertNull(index.find(new IPAddressString("::1")));
+    }
+
+    @Test
+    void expiredRuleShouldBeIgnored() {
+        BanIp expired = new BanIp(1, new IPAddressString("145.32.0.0/16"), Instant.now(), Instant.now().minus(1, ChronoUnit.HOURS), "", -1);
+        BanIp active = new BanIp(2, new IPAddressString("145.32.213.0/24"), Instant.now(), Instant.now().plus(1, ChronoUnit.HOURS), "", -1);
+
+        index.add(expired);
+        assertNull(index.find(new IPAddressString("145.32.213.5")));
+
+        index.add(active);
+        assertSame(active, index.find(new IPAddressString("145.32.213.5")));
+        assertNull(index.find(new IPAddressString("145.32.12.5")));
+    }
+
+    @Test
+    void shortestPrefixShouldBeReturnedFirst() {
+        BanIp address = ban("145.32.213.5");
+        BanIp block = ban("145.32.0.0/16");
+
+        index.add(address);
+        index.add(block);
+
+        assertSame(block, index.find(new IPAddressString("145.32.213.5")));
+    }
+
+    @Test
+    void remove() {
+        BanIp first = ban("145.32.213.5");
+        BanIp second = ban("145.32.213.5");
+        BanIp block = ban("145.32.213.0/24");
+
+        index.add(first);
+        index.add(second);
+        index.add(block);
+
+        index.remove(block);
+        assertSame(first, index.find(new IPAddressString("145.32.213.5")));
+        assertNull(index.find(new IPAddressString("145.32.213.6")));
+
+        index.remove(first);
+        assertSame(second, index.find(new IPAddressString("145.32.213.5")));
+
+        index.remove(second);
+        assertNull(index.find(new IPAddressString("145.32.213.5")));
+
+        index.remove(second);
+        assertNull(index.find(new IPAddressString("145.32.213.5")));
+    }
+
+    @Test
+    void manyRules() {
+        for (int i = 0; i < 256; ++i) {
+            for (int j = 0; j < 256; j += 2) {
+                index.add(ban("10." + i + "." + j + ".1"));
+            }
+        }
+
+        assertNotNull(index.find(new IPAddressString("10.42.12.1")));
+        assertNull(index.find(new IPAddressString("10.42.13.1")));
+        assertNull(index.find(new IPAddressString("10.42.12.2")));
+    }
+
+    private BanIp ban(String ip) {
+        return new BanIp(1, new IPAddressString(ip), Instant.now(), null, "", -1);
+    }
+}
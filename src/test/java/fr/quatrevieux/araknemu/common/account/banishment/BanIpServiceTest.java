@@ -34,6 +34,8 @@ import inet.ipaddr.IPAddressString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
@@ -135,6 +137,19 @@ class BanIpServiceTest extends GameBaseCase {
         assertTrue(service.isIpBanned(new IPAddressString("145.32.213.6")));
     }
 
+    @Test
+    void isIpBannedWithInetAddress() throws UnknownHostException {
+        assertFalse(service.isIpBanned(InetAddress.getByName("145.32.213.5")));
+
+        service.newRule(new IPAddressString("145.32.213.0/24")).apply();
+        assertTrue(service.isIpBanned(InetAddress.getByName("145.32.213.5")));
+        assertFalse(service.isIpBanned(InetAddress.getByName("145.32.214.5")));
+
+        service.newRule(new IPAddressString("2001:db8::/32")).apply();
+        assertTrue(service.isIpBanned(InetAddress.getByName("2001:db8::1")));
+        assertFalse(service.isIpBanned(InetAddress.getByName("::1")));
+    }
+
     @Test
     void matching() {
         Account account = dataSet.push(new Account(-1, "banisher", "", "banisher"));
@@ -195,6 +210,26 @@ class BanIpServiceTest extends GameBaseCase {
         assertTrue(service.isIpBanned(new IPAddressString("145.32.213.6")));
     }
 
+    @Test
+    void refreshWithUpdatedRuleShouldReplaceIndexedRule() throws SQLException {
+        service.newRule(new IPAddressString("145.32.213.0/24")).apply();
+        service.load();
+
+        new ConnectionPoolExecutor(app.database().get("game")).prepare(
+            "UPDATE BANIP SET IP_ADDRESS = '145.32.0.0/16', UPDATED_AT = ?  WHERE IP_ADDRESS = '145.32.213.0/24'",
+            stmt -> {
+                stmt.setString(1, new InstantTransformer().serialize(Instant.now().plus(10, ChronoUnit.SECONDS)));
+
+                return stmt.execute();
+            }
+        );
+        service.refresh();
+
+        assertCount(1, service.rules());
+        assertTrue(service.isIpBanned(new IPAddressString("145.32.12.5")));
+        assertTrue(service.isIpBanned(new IPAddressString("145.32.213.5")));
+    }
+
     @Test
     void refreshWithDisableRuleShouldRemove() throws SQLException {
         service.newRule(new IPAddressString("145.32.213.5")).apply();
@@ -20,6 +20,7 @@
 package fr.quatrevieux.araknemu.common.session;
 
 import fr.quatrevieux.araknemu.common.account.Permission;
+import fr.quatrevieux.araknemu.core.dbal.executor.SynchronousPersistenceExecutor;
 import fr.quatrevieux.araknemu.data.living.entity.account.Account;
 import fr.quatrevieux.araknemu.data.living.entity.account.ConnectionLog;
 import fr.quatrevieux.araknemu.data.living.repository.account.ConnectionLogRepository;
@@ -42,7 +43,7 @@ class SessionLogServiceTest extends GameBaseCase {
     public void setUp() throws Exception {
         super.setUp();
 
-        service = new SessionLogService(container.get(ConnectionLogRepository.class));
+        service = new SessionLogService(container.get(ConnectionLogRepository.class), new SynchronousPersistenceExecutor());
         dataSet.use(ConnectionLog.class);
     }
 
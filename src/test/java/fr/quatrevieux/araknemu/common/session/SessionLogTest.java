@@ -19,6 +19,7 @@
 
 package fr.quatrevieux.araknemu.common.session;
 
+import fr.quatrevieux.araknemu.core.dbal.executor.SynchronousPersistenceExecutor;
 import fr.quatrevieux.araknemu.data.living.entity.account.ConnectionLog;
 import fr.quatrevieux.araknemu.data.living.entity.player.Player;
 import fr.quatrevieux.araknemu.data.living.repository.account.ConnectionLogRepository;
@@ -40,7 +41,7 @@ class SessionLogTest extends GameBaseCase {
     public void setUp() throws Exception {
         super.setUp();
 
-        service = new SessionLogService(container.get(ConnectionLogRepository.class));
+        service = new SessionLogService(container.get(ConnectionLogRepository.class), new SynchronousPersistenceExecutor());
         dataSet.use(ConnectionLog.class);
 
         sessionLog = new SessionLog(
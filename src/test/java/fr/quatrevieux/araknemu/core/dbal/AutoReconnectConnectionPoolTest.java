@@ -31,6 +31,7 @@ import org.mockito.Mockito;
 import java.io.File;
 import java.io.IOException;
 import java.sql.*;
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,7 +48,7 @@ class AutoReconnectConnectionPoolTest {
         );
 
         logger = Mockito.mock(Logger.class);
-        pool = new AutoReconnectConnectionPool(new SimpleConnectionPool(driver, 1, logger), logger);
+        pool = new AutoReconnectConnectionPool(new BoundedConnectionPool(driver, 1, 1, Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO, logger), logger);
         pool.initialize();
     }
 
@@ -0,0 +1,258 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.dbal;
+
+import fr.quatrevieux.araknemu.core.config.DefaultConfiguration;
+import fr.quatrevieux.araknemu.core.config.IniDriver;
+import org.apache.logging.log4j.Logger;
+import org.ini4j.Ini;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedConnectionPoolTest {
+    private Driver driver;
+    private Logger logger;
+    private BoundedConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        driver = new SQLiteDriver(
+            new DefaultConfiguration(new IniDriver(new Ini(new File("src/test/test_config.ini"))))
+                .module(DatabaseConfiguration.class)
+                .connection("realm")
+        );
+        logger = Mockito.mock(Logger.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    void initialize() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 2, 4, Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        assertEquals(2, pool.size());
+        assertEquals(2, pool.statistics().idle());
+        assertEquals(0, pool.statistics().active());
+        assertEquals(4, pool.statistics().maxSize());
+    }
+
+    @Test
+    void acquireAndRelease() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 1, 4, Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        Connection first = pool.acquire();
+        Connection second = pool.acquire();
+
+        assertNotSame(first, second);
+        assertFalse(first.isClosed());
+        assertEquals(0, pool.size());
+        assertEquals(2, pool.statistics().active());
+
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(2, pool.size());
+        assertEquals(0, pool.statistics().active());
+        assertEquals(2, pool.statistics().acquired());
+        assertSame(second, pool.acquire());
+    }
+
+    @Test
+    void acquireTimeout() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofMillis(50), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        pool.acquire();
+
+        assertThrows(SQLTimeoutException.class, pool::acquire);
+        assertEquals(1, pool.statistics().timeouts());
+        assertEquals(1, pool.statistics().acquired());
+    }
+
+    @Test
+    void acquireShouldWaitForRelease() throws Exception {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofSeconds(5), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        Connection connection = pool.acquire();
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire();
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+
+        pool.release(connection);
+
+        assertSame(connection, waiting.get(1, TimeUnit.SECONDS));
+        assertTrue(pool.statistics().maxWaitTime().toMillis() >= 40);
+        assertEquals(0, pool.statistics().timeouts());
+    }
+
+    @Test
+    void releaseClosedConnection() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofMillis(50), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        Connection connection = pool.acquire();
+        connection.close();
+        pool.release(connection);
+
+        assertEquals(0, pool.size());
+
+        Connection newConnection = pool.acquire();
+
+        assertNotSame(connection, newConnection);
+        assertFalse(newConnection.isClosed());
+    }
+
+    @Test
+    void releaseTwiceShouldBeIgnored() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofMillis(50), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        Connection connection = pool.acquire();
+        pool.release(connection);
+        pool.release(connection);
+
+        assertEquals(1, pool.size());
+
+        pool.acquire();
+        assertThrows(SQLTimeoutException.class, pool::acquire);
+    }
+
+    @Test
+    void releaseUnknownConnectionShouldBeIgnored() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofMillis(50), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        Connection connection = driver.newConnection();
+        pool.release(connection);
+
+        assertEquals(1, pool.size());
+        assertFalse(connection.isClosed());
+        connection.close();
+    }
+
+    @Test
+    void validate() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 2, 2, Duration.ofMillis(50), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        Connection connection = pool.acquire();
+        Connection borrowed = pool.acquire();
+        pool.release(connection);
+        connection.close();
+
+        pool.validate();
+
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.statistics().invalid());
+        assertEquals(1, pool.statistics().active());
+        assertFalse(borrowed.isClosed());
+        Mockito.verify(logger).warn("Invalid connection removed from the pool");
+
+        pool.release(borrowed);
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void validateShouldRefillMinimalSize() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 2, 2, Duration.ofMillis(50), Duration.ZERO, Duration.ZERO, logger);
+        pool.initialize();
+
+        Connection connection = pool.acquire();
+        connection.close();
+        pool.release(connection);
+
+        assertEquals(1, pool.size());
+
+        pool.validate();
+
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void detectLeaks() throws Exception {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofMillis(50), Duration.ZERO, Duration.ofMillis(10), logger);
+
+        pool.acquire();
+        Thread.sleep(20);
+
+        pool.detectLeaks();
+        pool.detectLeaks();
+
+        assertEquals(1, pool.statistics().leaks());
+        Mockito.verify(logger).warn(
+            Mockito.eq("Connection leak detected : acquired by thread {} since {}ms"),
+            Mockito.eq(Thread.currentThread().getName()),
+            Mockito.anyLong()
+        );
+    }
+
+    @Test
+    void detectLeaksShouldIgnoreRecentConnections() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofMillis(50), Duration.ZERO, Duration.ofMinutes(1), logger);
+
+        pool.acquire();
+        pool.detectLeaks();
+
+        assertEquals(0, pool.statistics().leaks());
+    }
+
+    @Test
+    void close() throws SQLException {
+        pool = new BoundedConnectionPool(driver, 1, 1, Duration.ofMillis(50), Duration.ofMinutes(1), Duration.ofMinutes(1), logger);
+        pool.initialize();
+
+        Connection connection = pool.acquire();
+        pool.close();
+
+        assertThrows(SQLException.class, pool::acquire);
+
+        pool.release(connection);
+        assertTrue(connection.isClosed());
+        assertEquals(0, pool.size());
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,6 +58,7 @@ class DatabaseConfigurationTest {
         assertEquals("realm", config.dbname());
         assertEquals("realm.db", config.path());
         assertEquals(4, config.maxPoolSize());
+        assertEquals(4, config.minPoolSize());
     }
 
     @Test
@@ -87,5 +89,14 @@ class DatabaseConfigurationTest {
 
         assertTrue(config.autoReconnect());
         assertEquals(3600, config.refreshPoolInterval());
+        assertEquals(8, config.minPoolSize());
+        assertEquals(Duration.ofSeconds(30), config.acquireTimeout());
+        assertEquals(Duration.ofMinutes(1), config.leakDetectionThreshold());
     }
-}
\ No newline at end of file
+
+    @Test
+    void persistence() {
+        assertEquals(0, configuration.persistence().threadsCount());
+        assertEquals(100, configuration.persistence().queueSize());
+    }
+}
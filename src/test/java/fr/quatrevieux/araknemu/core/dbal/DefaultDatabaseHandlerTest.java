@@ -22,6 +22,8 @@ package fr.quatrevieux.araknemu.core.dbal;
 import fr.quatrevieux.araknemu._test.TestCase;
 import fr.quatrevieux.araknemu.core.config.DefaultConfiguration;
 import fr.quatrevieux.araknemu.core.config.IniDriver;
+import fr.quatrevieux.araknemu.core.dbal.executor.PersistenceExecutor;
+import fr.quatrevieux.araknemu.core.dbal.executor.SynchronousPersistenceExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.ini4j.Ini;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -100,10 +103,30 @@ class DefaultDatabaseHandlerTest extends TestCase {
 
     @Test
     void getWithRefreshPool() throws SQLException {
-        assertInstanceOf(RefreshConnectionPool.class, handler.get("test_refresh"));
+        assertInstanceOf(BoundedConnectionPool.class, handler.get("test_refresh"));
         handler.stop(); // Ensure that refresh task is stopped
     }
 
+    @Test
+    void statistics() throws SQLException {
+        assertTrue(handler.statistics().isEmpty());
+
+        ConnectionPool pool = handler.get("realm");
+        Connection connection = pool.acquire();
+
+        BoundedConnectionPool.Statistics statistics = handler.statistics().get("realm");
+
+        assertEquals(1, handler.statistics().size());
+        assertEquals(1, statistics.active());
+        assertEquals(4, statistics.maxSize());
+        assertEquals(1, statistics.acquired());
+
+        pool.release(connection);
+        handler.stop();
+
+        assertTrue(handler.statistics().isEmpty());
+    }
+
     @Test
     void stop() throws SQLException {
         ConnectionPool pool = handler.get("realm");
@@ -114,4 +137,19 @@ class DefaultDatabaseHandlerTest extends TestCase {
 
         assertNotSame(pool, handler.get("realm"));
     }
+
+    @Test
+    void persistence() {
+        assertInstanceOf(SynchronousPersistenceExecutor.class, handler.persistence());
+        assertSame(handler.persistence(), handler.persistence());
+    }
+
+    @Test
+    void stopShouldCloseThePersistenceExecutor() {
+        PersistenceExecutor executor = handler.persistence();
+
+        handler.stop();
+
+        assertNotSame(executor, handler.persistence());
+    }
 }
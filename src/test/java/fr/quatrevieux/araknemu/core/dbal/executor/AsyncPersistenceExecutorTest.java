@@ -0,0 +1,200 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.dbal.executor;
+
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncPersistenceExecutorTest {
+    private AsyncPersistenceExecutor executor;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        executor = new AsyncPersistenceExecutor(4, 10, logger = Mockito.mock(Logger.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void executeShouldNotRunOnCallerThread() throws InterruptedException {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        executor.execute(1, () -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), thread.get());
+        assertTrue(thread.get().getName().startsWith("Persistence-Worker-"));
+    }
+
+    @Test
+    void executeShouldKeepOrderForSameKey() {
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 100; ++i) {
+            final int value = i;
+            executor.execute(42, () -> executed.add(value));
+        }
+
+        executor.close();
+
+        assertEquals(100, executed.size());
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i, executed.get(i));
+        }
+    }
+
+    @Test
+    void readShouldWaitPendingWrites() {
+        AtomicBoolean written = new AtomicBoolean();
+
+        executor.execute(5, () -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+
+            written.set(true);
+        });
+
+        assertTrue(executor.read(5, written::get));
+    }
+
+    @Test
+    void readShouldRethrowException() {
+        RuntimeException exception = new RuntimeException("my error");
+
+        assertSame(exception, assertThrows(RuntimeException.class, () -> executor.read(5, () -> { throw exception; })));
+    }
+
+    @Test
+    void readFromWorkerShouldBeExecutedDirectly() {
+        assertEquals("foo", executor.read(5, () -> executor.read(5, () -> "foo")));
+    }
+
+    @Test
+    void executeErrorShouldBeLogged() {
+        RuntimeException exception = new RuntimeException("my error");
+
+        executor.execute(5, () -> { throw exception; });
+        executor.close();
+
+        Mockito.verify(logger).error("Error during persistence operation : my error", exception);
+    }
+
+    @Test
+    void pending() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        assertEquals(0, executor.pending());
+
+        executor.execute(1, () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        });
+        executor.execute(1, () -> {});
+        executor.execute(1, () -> {});
+
+        Thread.sleep(10);
+        assertEquals(2, executor.pending());
+
+        latch.countDown();
+        executor.close();
+        assertEquals(0, executor.pending());
+    }
+
+    @Test
+    void executeAfterCloseShouldBeSynchronous() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.close();
+        executor.execute(1, () -> thread.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    void closeConcurrentlyWithPushesShouldNotLoseTasks() throws InterruptedException {
+        final int threads = 8;
+        final int tasks = 200;
+
+        for (int round = 0; round < 20; ++round) {
+            AsyncPersistenceExecutor closing = new AsyncPersistenceExecutor(2, 1000, logger);
+            AtomicInteger executed = new AtomicInteger();
+            AtomicInteger read = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+
+            for (int i = 0; i < threads; ++i) {
+                final int key = i;
+
+                new Thread(() -> {
+                    try {
+                        start.await();
+
+                        for (int j = 0; j < tasks; ++j) {
+                            closing.execute(key, executed::incrementAndGet);
+                            read.addAndGet(closing.read(key, () -> 1));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+
+            start.countDown();
+            closing.close();
+
+            // Reads must never wait on a stopped worker
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(threads * tasks, executed.get());
+            assertEquals(threads * tasks, read.get());
+            assertEquals(0, closing.pending());
+        }
+    }
+}
@@ -21,6 +21,7 @@ package fr.quatrevieux.araknemu.core.dbal.executor;
 
 import fr.quatrevieux.araknemu.core.config.DefaultConfiguration;
 import fr.quatrevieux.araknemu.core.config.IniDriver;
+import fr.quatrevieux.araknemu.core.dbal.ConnectionPool;
 import fr.quatrevieux.araknemu.core.dbal.DatabaseConfiguration;
 import fr.quatrevieux.araknemu.core.dbal.DefaultDatabaseHandler;
 import org.apache.logging.log4j.Logger;
@@ -32,6 +33,7 @@ import org.mockito.Mockito;
 import java.io.File;
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -39,12 +41,40 @@ import java.sql.Statement;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ConnectionPoolExecutorTest {
+    static private class SingleConnectionPool implements ConnectionPool {
+        final private Connection connection;
+
+        public SingleConnectionPool(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void initialize() {}
+
+        @Override
+        public Connection acquire() {
+            return connection;
+        }
+
+        @Override
+        public void release(Connection connection) {}
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Override
+        public void close() {}
+    }
+
     private ConnectionPoolExecutor utils;
+    private ConnectionPool pool;
 
     @BeforeEach
     void setUp() throws IOException, SQLException {
         utils = new ConnectionPoolExecutor(
-            new DefaultDatabaseHandler(
+            pool = new DefaultDatabaseHandler(
                 new DefaultConfiguration(
                     new IniDriver(
                         new Ini(new File("src/test/test_config.ini"))
@@ -116,4 +146,110 @@ class ConnectionPoolExecutorTest {
 
         assertTrue(connection.isClosed());
     }
-}
\ No newline at end of file
+
+    @Test
+    void prepareShouldReuseStatement() throws SQLException {
+        Connection connection = pool.acquire();
+        ConnectionPoolExecutor executor = new ConnectionPoolExecutor(new SingleConnectionPool(connection));
+
+        PreparedStatement first = executor.prepare("select 1", stmt -> stmt);
+        PreparedStatement second = executor.prepare("select 1", stmt -> stmt);
+        PreparedStatement withKeys = executor.prepare("select 1", stmt -> stmt, true);
+
+        assertSame(first, second);
+        assertNotSame(first, withKeys);
+
+        // Closing the statement is ignored
+        executor.prepare("select 1", stmt -> {
+            stmt.close();
+            return null;
+        });
+
+        assertFalse(first.isClosed());
+        assertEquals(2, executor.cachedStatements());
+
+        pool.release(connection);
+    }
+
+    @Test
+    void prepareShouldCloseResultSetsAndClearParameters() throws SQLException {
+        utils.query("create table test_table (`value` text)");
+
+        try {
+            utils.prepare("insert into test_table values(?)", stmt -> {
+                stmt.setString(1, "FOO");
+                return stmt.executeUpdate();
+            });
+
+            ResultSet rs = utils.prepare("select * from test_table where `value` = ?", stmt -> {
+                stmt.setString(1, "FOO");
+                return stmt.executeQuery();
+            });
+
+            assertTrue(rs.isClosed());
+
+            // Table can be modified : the statement is reset
+            utils.query("insert into test_table values ('BAR')");
+
+            assertEquals(2, (int) utils.prepare("select count(*) from test_table", stmt -> {
+                ResultSet result = stmt.executeQuery();
+                result.next();
+                return result.getInt(1);
+            }));
+        } finally {
+            utils.query("drop table test_table");
+        }
+    }
+
+    @Test
+    void prepareErrorShouldEvictStatement() throws SQLException {
+        utils.query("create table test_table (`value` text)");
+
+        try {
+            assertThrows(IllegalStateException.class, () -> utils.prepare("select * from test_table", stmt -> {
+                throw new IllegalStateException();
+            }));
+
+            assertEquals(0, utils.cachedStatements());
+        } finally {
+            utils.query("drop table test_table");
+        }
+    }
+
+    @Test
+    void statementCacheCapacity() throws SQLException {
+        ConnectionPoolExecutor executor = new ConnectionPoolExecutor(pool, 2);
+
+        for (int i = 0; i < 5; ++i) {
+            final int value = i;
+
+            assertEquals(i, (int) executor.prepare("select " + i, stmt -> value));
+        }
+
+        assertBetween(1, 2 * pool.size(), executor.cachedStatements());
+    }
+
+    @Test
+    void prepareWithoutCache() throws SQLException {
+        ConnectionPoolExecutor executor = new ConnectionPoolExecutor(pool, 0);
+
+        PreparedStatement statement = executor.prepare("select 1", stmt -> stmt);
+
+        assertTrue(statement.isClosed());
+        assertEquals(0, executor.cachedStatements());
+    }
+
+    @Test
+    void closeShouldClearCache() throws Exception {
+        PreparedStatement statement = utils.prepare("select 1", stmt -> stmt);
+
+        utils.close();
+
+        assertEquals(0, utils.cachedStatements());
+        assertTrue(statement.isClosed());
+    }
+
+    private void assertBetween(int min, int max, int value) {
+        assertTrue(value >= min && value <= max, value + " should be between " + min + " and " + max);
+    }
+}
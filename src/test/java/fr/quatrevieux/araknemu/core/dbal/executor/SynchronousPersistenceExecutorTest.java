@@ -0,0 +1,47 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.dbal.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SynchronousPersistenceExecutorTest {
+    @Test
+    void execute() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        new SynchronousPersistenceExecutor().execute(1, () -> thread.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    void read() {
+        assertEquals("foo", new SynchronousPersistenceExecutor().read(1, () -> "foo"));
+    }
+
+    @Test
+    void pending() {
+        assertEquals(0, new SynchronousPersistenceExecutor().pending());
+    }
+}
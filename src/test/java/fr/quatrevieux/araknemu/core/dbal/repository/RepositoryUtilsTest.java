@@ -34,6 +34,8 @@ import java.io.File;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -182,4 +184,52 @@ class RepositoryUtilsTest {
 
         assertEquals(4, p.id);
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateAll() throws RepositoryException {
+        Person first = utils.findOne("SELECT * FROM PERSON WHERE ID = ?", rs -> rs.setInt(1, 1));
+        Person second = utils.findOne("SELECT * FROM PERSON WHERE ID = ?", rs -> rs.setInt(1, 2));
+
+        first.age = 12;
+        second.age = 63;
+
+        assertArrayEquals(new int[] {1, 1}, utils.updateAll(
+            "UPDATE PERSON SET AGE = ? WHERE ID = ?",
+            Arrays.asList(first, second),
+            (rs, person) -> {
+                rs.setInt(1, person.age);
+                rs.setInt(2, person.id);
+            }
+        ));
+
+        assertEquals(12, utils.findOne("SELECT * FROM PERSON WHERE ID = ?", rs -> rs.setInt(1, 1)).age);
+        assertEquals(63, utils.findOne("SELECT * FROM PERSON WHERE ID = ?", rs -> rs.setInt(1, 2)).age);
+    }
+
+    @Test
+    void updateAllEmpty() throws RepositoryException {
+        assertArrayEquals(new int[0], utils.updateAll("UPDATE PERSON SET AGE = ? WHERE ID = ?", Collections.emptyList(), (rs, person) -> {}));
+    }
+
+    @Test
+    void updateAllErrorShouldRollback() throws RepositoryException {
+        Person newPerson = new Person();
+        newPerson.id = 10;
+        newPerson.firstName = "PAUL";
+
+        Person existing = new Person();
+        existing.id = 1;
+        existing.firstName = "JOHN";
+
+        assertThrows(RepositoryException.class, () -> utils.updateAll(
+            "INSERT INTO PERSON (ID, FIRST_NAME) VALUES (?, ?)",
+            Arrays.asList(newPerson, existing),
+            (rs, person) -> {
+                rs.setInt(1, person.id);
+                rs.setString(2, person.firstName);
+            }
+        ));
+
+        assertEquals(3, utils.aggregate("SELECT COUNT(*) FROM PERSON", rs -> {}));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefaultMetricsRegistryTest {
+    @Test
+    void timer() {
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+
+        Timer timer = registry.timer("foo");
+
+        assertSame(timer, registry.timer("foo"));
+        assertNotSame(timer, registry.timer("bar"));
+    }
+
+    @Test
+    void timers() {
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+
+        assertTrue(registry.timers().isEmpty());
+
+        Timer foo = registry.timer("foo");
+        Timer bar = registry.timer("bar");
+
+        assertEquals(Arrays.asList("bar", "foo"), new ArrayList<>(registry.timers().keySet()));
+        assertSame(foo, registry.timers().get("foo"));
+        assertSame(bar, registry.timers().get("bar"));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerTest {
+    @Test
+    void defaults() {
+        Timer timer = new Timer();
+
+        assertEquals(0, timer.count());
+        assertEquals(Duration.ZERO, timer.total());
+        assertEquals(Duration.ZERO, timer.average());
+        assertEquals(Duration.ZERO, timer.max());
+    }
+
+    @Test
+    void record() {
+        Timer timer = new Timer();
+
+        timer.record(1000);
+        timer.record(5000);
+        timer.record(3000);
+
+        assertEquals(3, timer.count());
+        assertEquals(Duration.ofNanos(9000), timer.total());
+        assertEquals(Duration.ofNanos(3000), timer.average());
+        assertEquals(Duration.ofNanos(5000), timer.max());
+    }
+
+    @Test
+    void recordWithParent() {
+        Timer parent = new Timer();
+        Timer timer = new Timer(parent);
+        Timer other = new Timer(parent);
+
+        timer.record(1000);
+        other.record(3000);
+
+        assertEquals(1, timer.count());
+        assertEquals(Duration.ofNanos(1000), timer.total());
+
+        assertEquals(2, parent.count());
+        assertEquals(Duration.ofNanos(4000), parent.total());
+        assertEquals(Duration.ofNanos(3000), parent.max());
+    }
+}
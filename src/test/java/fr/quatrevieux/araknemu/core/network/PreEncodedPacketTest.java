@@ -0,0 +1,61 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreEncodedPacketTest {
+    @Test
+    void toStringShouldBeComputedOnce() {
+        Object packet = new Object() {
+            private int count = 0;
+
+            @Override
+            public String toString() {
+                return "packet" + (++count);
+            }
+        };
+
+        PreEncodedPacket encoded = PreEncodedPacket.of(packet);
+
+        assertSame(packet, encoded.packet());
+        assertEquals("packet1", encoded.toString());
+        assertEquals("packet1", encoded.toString());
+    }
+
+    @Test
+    void bytes() {
+        PreEncodedPacket encoded = PreEncodedPacket.of("cmsg|é");
+
+        assertArrayEquals("cmsg|é\000".getBytes(StandardCharsets.UTF_8), encoded.bytes());
+        assertSame(encoded.bytes(), encoded.bytes());
+    }
+
+    @Test
+    void ofAlreadyEncoded() {
+        PreEncodedPacket encoded = PreEncodedPacket.of("packet");
+
+        assertSame(encoded, PreEncodedPacket.of(encoded));
+    }
+}
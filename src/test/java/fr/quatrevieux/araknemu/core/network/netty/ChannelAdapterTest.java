@@ -0,0 +1,158 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network.netty;
+
+import fr.quatrevieux.araknemu.core.network.PreEncodedPacket;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.string.StringEncoder;
+import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.DefaultEventExecutor;
+import io.netty.util.concurrent.EventExecutor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelAdapterTest {
+    @Test
+    void writeStringWithPacketEncoder() {
+        EmbeddedChannel channel = channel(new PacketEncoder(false));
+
+        adapter(channel).write("héllo");
+
+        assertWritten(channel, "héllo\000");
+    }
+
+    @Test
+    void writeStringWithLegacyEncoder() {
+        EmbeddedChannel channel = channel(new StringEncoder(CharsetUtil.UTF_8), new NettyServer.MessageEndEncoder());
+
+        adapter(channel).write("héllo");
+
+        assertWritten(channel, "héllo\000");
+    }
+
+    @Test
+    void writePreEncodedPacketWithPacketEncoder() {
+        EmbeddedChannel channel = channel(new PacketEncoder());
+        PreEncodedPacket packet = PreEncodedPacket.of("héllo");
+
+        adapter(channel).write(packet);
+
+        ByteBuf buffer = channel.readOutbound();
+
+        assertEquals("héllo\000", buffer.toString(CharsetUtil.UTF_8));
+        assertEquals(7, buffer.readableBytes());
+        assertSame(packet.bytes(), buffer.array());
+    }
+
+    @Test
+    void writePreEncodedPacketWithLegacyEncoderShouldNotAddTerminator() {
+        EmbeddedChannel channel = channel(new StringEncoder(CharsetUtil.UTF_8), new NettyServer.MessageEndEncoder());
+
+        adapter(channel).write(PreEncodedPacket.of("héllo"));
+
+        assertWritten(channel, "héllo\000");
+    }
+
+    @Test
+    void writePreEncodedPacketToManyChannelsShouldShareBytes() {
+        EmbeddedChannel first = channel(new PacketEncoder());
+        EmbeddedChannel second = channel(new StringEncoder(CharsetUtil.UTF_8), new NettyServer.MessageEndEncoder());
+        PreEncodedPacket packet = PreEncodedPacket.of("packet");
+
+        adapter(first).write(packet);
+        adapter(second).write(packet);
+
+        ByteBuf firstBuffer = first.readOutbound();
+        ByteBuf secondBuffer = second.readOutbound();
+
+        assertEquals("packet\000", firstBuffer.toString(CharsetUtil.UTF_8));
+        assertEquals("packet\000", secondBuffer.toString(CharsetUtil.UTF_8));
+        assertSame(firstBuffer.array(), secondBuffer.array());
+    }
+
+    @Test
+    void executorShouldRunOnEventLoop() throws Exception {
+        EventExecutor loop = new DefaultEventExecutor();
+        ChannelHandlerContext context = Mockito.mock(ChannelHandlerContext.class);
+        Mockito.when(context.executor()).thenReturn(loop);
+
+        ChannelAdapter adapter = new ChannelAdapter(context);
+
+        try {
+            Thread loopThread = loop.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            AtomicReference<Thread> executedBy = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(1);
+
+            // Called from a foreign thread : scheduled on the event loop
+            adapter.executor().execute(() -> {
+                executedBy.set(Thread.currentThread());
+                latch.countDown();
+            });
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertSame(loopThread, executedBy.get());
+
+            // Called from the event loop : executed immediately
+            assertTrue(loop.submit(() -> {
+                AtomicBoolean executed = new AtomicBoolean();
+                adapter.executor().execute(() -> executed.set(true));
+
+                return executed.get();
+            }).get(5, TimeUnit.SECONDS));
+        } finally {
+            loop.shutdownGracefully();
+        }
+    }
+
+    /**
+     * Create the channel with the given encoders
+     * A last handler is added to write from the end of the pipeline, like the session handler
+     */
+    private EmbeddedChannel channel(ChannelHandler... encoders) {
+        EmbeddedChannel channel = new EmbeddedChannel(encoders);
+        channel.pipeline().addLast(new ChannelInboundHandlerAdapter());
+
+        return channel;
+    }
+
+    private ChannelAdapter adapter(EmbeddedChannel channel) {
+        return new ChannelAdapter(channel.pipeline().lastContext());
+    }
+
+    private void assertWritten(EmbeddedChannel channel, String expected) {
+        ByteBuf buffer = channel.readOutbound();
+
+        assertEquals(expected, buffer.toString(CharsetUtil.UTF_8));
+        assertNull(channel.readOutbound());
+
+        buffer.release();
+    }
+}
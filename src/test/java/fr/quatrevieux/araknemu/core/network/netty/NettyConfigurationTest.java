@@ -0,0 +1,62 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network.netty;
+
+import fr.quatrevieux.araknemu.core.config.DefaultConfiguration;
+import fr.quatrevieux.araknemu.core.config.IniDriver;
+import org.ini4j.Ini;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NettyConfigurationTest {
+    @Test
+    void defaults() throws IOException {
+        NettyConfiguration configuration = new DefaultConfiguration(new IniDriver(new Ini(new File("src/test/test_config.ini"))))
+            .module(NettyConfiguration.class)
+        ;
+
+        assertEquals("network", configuration.name());
+        assertEquals(Runtime.getRuntime().availableProcessors(), configuration.ioThreads());
+        assertTrue(configuration.flushConsolidation());
+        assertFalse(configuration.epoll());
+        assertTrue(configuration.directBuffer());
+    }
+
+    @Test
+    void values() {
+        Ini ini = new Ini();
+        ini.put("network", "ioThreads", 2);
+        ini.put("network", "flushConsolidation", false);
+        ini.put("network", "epoll", true);
+        ini.put("network", "directBuffer", false);
+
+        NettyConfiguration configuration = new NettyConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("network"));
+
+        assertEquals(2, configuration.ioThreads());
+        assertFalse(configuration.flushConsolidation());
+        assertTrue(configuration.epoll());
+        assertFalse(configuration.directBuffer());
+    }
+}
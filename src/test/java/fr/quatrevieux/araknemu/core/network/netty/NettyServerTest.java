@@ -0,0 +1,144 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network.netty;
+
+import fr.quatrevieux.araknemu.core.config.EmptyPool;
+import fr.quatrevieux.araknemu.core.config.IniDriver;
+import fr.quatrevieux.araknemu.core.network.session.ConfigurableSession;
+import io.netty.channel.epoll.Epoll;
+import io.netty.util.CharsetUtil;
+import org.ini4j.Ini;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NettyServerTest {
+    private NettyServer<ConfigurableSession> server;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void defaultConfiguration() throws Exception {
+        assertEchoServer(configuration(new Ini()));
+    }
+
+    @Test
+    void legacyEncoderWithoutFlushConsolidation() throws Exception {
+        Ini ini = new Ini();
+        ini.put("network", "flushConsolidation", false);
+        ini.put("network", "directBuffer", false);
+
+        assertEchoServer(configuration(ini));
+    }
+
+    @Test
+    void epoll() throws Exception {
+        Ini ini = new Ini();
+        ini.put("network", "epoll", true);
+        ini.put("network", "ioThreads", 1);
+
+        assertEchoServer(configuration(ini));
+        assertEquals(Epoll.isAvailable(), server.epoll());
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    @EnabledIfSystemProperty(named = "os.arch", matches = "amd64|x86_64")
+    void epollShouldBeAvailableOnLinux() throws Exception {
+        assertTrue(Epoll.isAvailable(), () -> "Epoll is not available : " + Epoll.unavailabilityCause());
+
+        Ini ini = new Ini();
+        ini.put("network", "epoll", true);
+
+        assertEchoServer(configuration(ini));
+        assertTrue(server.epoll());
+    }
+
+    @Test
+    void epollDisabled() throws Exception {
+        assertEchoServer(configuration(new Ini()));
+        assertFalse(server.epoll());
+    }
+
+    private void assertEchoServer(NettyConfiguration configuration) throws Exception {
+        server = new NettyServer<>(
+            channel -> {
+                ConfigurableSession session = new ConfigurableSession(channel);
+
+                session.addReceiveMiddleware((packet, next) -> {
+                    if (packet instanceof String) {
+                        session.send("first:" + packet);
+                        session.send("second:" + packet);
+                    }
+                });
+
+                return session;
+            },
+            45678,
+            Duration.ofMinutes(1),
+            configuration
+        );
+
+        server.start();
+
+        try (Socket socket = new Socket("127.0.0.1", 45678)) {
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write("hellô\n\000".getBytes(CharsetUtil.UTF_8));
+            socket.getOutputStream().flush();
+
+            assertEquals("first:hellô", readPacket(socket.getInputStream()));
+            assertEquals("second:hellô", readPacket(socket.getInputStream()));
+        }
+
+        assertEquals(1, server.sessions().size());
+    }
+
+    private String readPacket(InputStream stream) throws IOException {
+        ByteArrayOutputStream packet = new ByteArrayOutputStream();
+
+        for (int c; (c = stream.read()) > 0;) {
+            packet.write(c);
+        }
+
+        return new String(packet.toByteArray(), CharsetUtil.UTF_8);
+    }
+
+    private NettyConfiguration configuration(Ini ini) {
+        NettyConfiguration configuration = new NettyConfiguration();
+        configuration.setPool(ini.containsKey("network") ? new IniDriver(ini).pool("network") : new EmptyPool());
+
+        return configuration;
+    }
+}
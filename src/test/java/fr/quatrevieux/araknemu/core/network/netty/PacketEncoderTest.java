@@ -0,0 +1,70 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.core.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PacketEncoderTest {
+    @Test
+    void encodeString() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketEncoder());
+
+        channel.writeOutbound("hello");
+
+        ByteBuf buffer = channel.readOutbound();
+
+        assertEquals("hello\000", buffer.toString(CharsetUtil.UTF_8));
+        assertEquals(6, buffer.readableBytes());
+        assertTrue(buffer.isDirect());
+
+        buffer.release();
+    }
+
+    @Test
+    void encodeUtf8() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketEncoder(false));
+
+        channel.writeOutbound("héllo");
+
+        ByteBuf buffer = channel.readOutbound();
+
+        assertEquals("héllo\000", buffer.toString(CharsetUtil.UTF_8));
+        assertEquals(7, buffer.readableBytes());
+        assertFalse(buffer.isDirect());
+
+        buffer.release();
+    }
+
+    @Test
+    void byteBufShouldNotBeEncoded() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketEncoder());
+        ByteBuf encoded = Unpooled.wrappedBuffer("encoded\000".getBytes(CharsetUtil.UTF_8));
+
+        channel.writeOutbound(encoded);
+
+        assertSame(encoded, channel.readOutbound());
+    }
+}
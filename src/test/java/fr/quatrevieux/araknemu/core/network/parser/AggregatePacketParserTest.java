@@ -26,8 +26,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class AggregatePacketParserTest {
     static public class ParserStub implements SinglePacketParser<Packet> {
+        final private String code;
         public String input;
 
+        public ParserStub(String code) {
+            this.code = code;
+        }
+
+        public ParserStub() {
+            this("TEST");
+        }
+
         @Override
         public Packet parse(String input) throws ParsePacketException {
             this.input = input;
@@ -37,7 +46,7 @@ class AggregatePacketParserTest {
 
         @Override
         public String code() {
-            return "TEST";
+            return code;
         }
     }
 
@@ -78,4 +87,87 @@ class AggregatePacketParserTest {
         parser.register(new AskQueuePosition.Parser());
         assertTrue(parser.parse("Af") instanceof AskQueuePosition);
     }
+
+    @Test
+    public void parseShouldUseTheLongestHeader() {
+        ParserStub a = new ParserStub("A");
+        ParserStub ab = new ParserStub("AB");
+        ParserStub abcd = new ParserStub("ABCD");
+
+        AggregatePacketParser parser = new AggregatePacketParser(new SinglePacketParser[]{abcd, a, ab});
+
+        parser.parse("ABCDEF");
+        assertEquals("EF", abcd.input);
+
+        parser.parse("ABCE");
+        assertEquals("CE", ab.input);
+
+        parser.parse("AC");
+        assertEquals("C", a.input);
+
+        parser.parse("AB");
+        assertEquals("", ab.input);
+
+        assertThrows(UndefinedPacketException.class, () -> parser.parse("BA"));
+        assertThrows(UndefinedPacketException.class, () -> parser.parse(""));
+    }
+
+    @Test
+    public void parseWithHeadersOfDifferentChars() {
+        ParserStub lower = new ParserStub("Az");
+        ParserStub upper = new ParserStub("AB");
+        ParserStub digit = new ParserStub("A0");
+
+        AggregatePacketParser parser = new AggregatePacketParser(new SinglePacketParser[]{lower, upper, digit});
+
+        parser.parse("Az1");
+        parser.parse("AB2");
+        parser.parse("A03");
+
+        assertEquals("1", lower.input);
+        assertEquals("2", upper.input);
+        assertEquals("3", digit.input);
+        assertThrows(UndefinedPacketException.class, () -> parser.parse("AC"));
+    }
+
+    @Test
+    public void parseShouldPassTheBodyOffset() {
+        AggregatePacketParser parser = new AggregatePacketParser(new SinglePacketParser[]{
+            new SinglePacketParser<Packet>() {
+                @Override
+                public Packet parse(String input) throws ParsePacketException {
+                    throw new AssertionError();
+                }
+
+                @Override
+                public Packet parse(String input, int offset) throws ParsePacketException {
+                    assertEquals("GA001foo", input);
+                    assertEquals(2, offset);
+
+                    return null;
+                }
+
+                @Override
+                public String code() {
+                    return "GA";
+                }
+            }
+        });
+
+        parser.parse("GA001foo");
+    }
+
+    @Test
+    public void registerShouldOverrideSameCode() {
+        ParserStub first = new ParserStub();
+        ParserStub second = new ParserStub();
+
+        AggregatePacketParser parser = new AggregatePacketParser(new SinglePacketParser[]{first});
+        parser.register(second);
+
+        parser.parse("TESTfoo");
+
+        assertNull(first.input);
+        assertEquals("foo", second.input);
+    }
 }
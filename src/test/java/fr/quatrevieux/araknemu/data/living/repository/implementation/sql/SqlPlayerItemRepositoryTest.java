@@ -154,6 +154,46 @@ class SqlPlayerItemRepositoryTest extends GameBaseCase {
         assertFalse(repository.has(item));
     }
 
+    @Test
+    void addAll() {
+        PlayerItem first = new PlayerItem(1, 3, 39, Arrays.asList(new ItemTemplateEffectEntry(Effect.ADD_INTELLIGENCE, 2, 0, 0, "")), 5, -1);
+        PlayerItem second = new PlayerItem(1, 4, 40, new ArrayList<>(), 1, 0);
+
+        repository.addAll(Arrays.asList(first, second));
+
+        assertTrue(repository.has(first));
+        assertTrue(repository.has(second));
+        assertEquals(5, repository.get(first).quantity());
+        assertEquals(0, repository.get(second).position());
+    }
+
+    @Test
+    void updateAll() {
+        PlayerItem first = repository.add(new PlayerItem(1, 3, 39, new ArrayList<>(), 5, -1));
+        PlayerItem second = repository.add(new PlayerItem(1, 4, 40, new ArrayList<>(), 1, -1));
+
+        first.setQuantity(2);
+        second.setPosition(1);
+
+        repository.updateAll(Arrays.asList(first, second));
+
+        assertEquals(2, repository.get(first).quantity());
+        assertEquals(1, repository.get(second).position());
+    }
+
+    @Test
+    void deleteAll() {
+        PlayerItem first = repository.add(new PlayerItem(1, 3, 39, new ArrayList<>(), 5, -1));
+        PlayerItem second = repository.add(new PlayerItem(1, 4, 40, new ArrayList<>(), 1, -1));
+        PlayerItem other = repository.add(new PlayerItem(2, 4, 40, new ArrayList<>(), 1, -1));
+
+        repository.deleteAll(Arrays.asList(first, second));
+
+        assertFalse(repository.has(first));
+        assertFalse(repository.has(second));
+        assertTrue(repository.has(other));
+    }
+
     @Test
     void deleteNotFound() {
         assertThrows(EntityNotFoundException.class, () -> repository.delete(
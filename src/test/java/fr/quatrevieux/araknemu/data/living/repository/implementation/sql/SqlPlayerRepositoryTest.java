@@ -41,7 +41,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -268,6 +270,29 @@ class SqlPlayerRepositoryTest extends DatabaseTestCase {
         assertEquals(new Position(4568, 123), savedPlayer.savedPosition());
     }
 
+    @Test
+    void saveAll() {
+        Player first = repository.add(Player.forCreation(1, 1, "bob", Race.CRA, Gender.FEMALE, new Colors(-1, -1, -1)));
+        Player second = repository.add(Player.forCreation(1, 1, "alice", Race.ECAFLIP, Gender.MALE, new Colors(-1, -1, -1)));
+
+        first.setPosition(new Position(1234, 56));
+        first.setKamas(4589);
+        second.setLife(36);
+        second.setExperience(741);
+
+        repository.saveAll(Arrays.asList(first, second));
+
+        assertEquals(new Position(1234, 56), repository.get(first).position());
+        assertEquals(4589, repository.get(first).kamas());
+        assertEquals(36, repository.get(second).life());
+        assertEquals(741, repository.get(second).experience());
+    }
+
+    @Test
+    void saveAllEmpty() {
+        repository.saveAll(Collections.emptyList());
+    }
+
     @Test
     void serverCharactersCountByAccountPseudo() {
         AccountRepository accountRepository = new SqlAccountRepository(new ConnectionPoolExecutor(connection), new PermissionsTransformer());
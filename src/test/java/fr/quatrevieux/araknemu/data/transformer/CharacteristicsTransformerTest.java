@@ -138,4 +138,57 @@ class CharacteristicsTransformerTest {
 
         assertEquals("8:6;9:3;h:3;", transformer.serialize(characteristics));
     }
-}
\ No newline at end of file
+
+    @Test
+    void serializeIntoBuilder() {
+        DefaultCharacteristics characteristics = new DefaultCharacteristics();
+
+        characteristics.set(Characteristic.ACTION_POINT, 6);
+        characteristics.set(Characteristic.MOVEMENT_POINT, 3);
+
+        StringBuilder sb = new StringBuilder("foo|");
+        transformer.serialize(characteristics, sb);
+
+        assertEquals("foo|8:6;9:3;", sb.toString());
+    }
+
+    @Test
+    void serializeShouldBeSameAsIntegerToString() {
+        for (int value : new int[] {1, 31, 32, 33, 1023, 1024, 123456, Integer.MAX_VALUE, -1, -32, -123456, Integer.MIN_VALUE}) {
+            DefaultCharacteristics characteristics = new DefaultCharacteristics();
+            characteristics.set(Characteristic.VITALITY, value);
+
+            assertEquals("b:" + Integer.toString(value, 32) + ";", transformer.serialize(characteristics));
+            assertEquals(characteristics, transformer.unserialize(transformer.serialize(characteristics)));
+        }
+    }
+
+    @Test
+    void unserializeWithEmptyParts() {
+        DefaultCharacteristics characteristics = new DefaultCharacteristics();
+
+        characteristics.set(Characteristic.ACTION_POINT, 6);
+        characteristics.set(Characteristic.MOVEMENT_POINT, 3);
+
+        assertEquals(characteristics, transformer.unserialize(";8:6;;9:+3;"));
+        assertEquals(characteristics, transformer.unserialize("8:6;9:3"));
+    }
+
+    @Test
+    void unserializeUpperCase() {
+        DefaultCharacteristics characteristics = new DefaultCharacteristics();
+
+        characteristics.set(Characteristic.MAX_SUMMONED_CREATURES, 300);
+
+        assertEquals(characteristics, transformer.unserialize("H:9C;"));
+    }
+
+    @Test
+    void unserializeInvalid() {
+        assertThrows(NumberFormatException.class, () -> transformer.unserialize("8:6;9;"));
+        assertThrows(NumberFormatException.class, () -> transformer.unserialize("8:#;"));
+        assertThrows(NumberFormatException.class, () -> transformer.unserialize("8:-;"));
+        assertThrows(NumberFormatException.class, () -> transformer.unserialize("8:;"));
+        assertThrows(NumberFormatException.class, () -> transformer.unserialize("8:vvvvvvvvv;"));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.data.world.repository.implementation.local;
+
+import fr.quatrevieux.araknemu.core.dbal.repository.EntityNotFoundException;
+import fr.quatrevieux.araknemu.data.value.Geolocation;
+import fr.quatrevieux.araknemu.data.world.entity.environment.MapTemplate;
+import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapTemplateRepositoryCacheTest extends GameBaseCase {
+    private MapTemplateRepositoryCache repository;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        dataSet.pushMaps();
+
+        repository = new MapTemplateRepositoryCache(
+            container.get(MapTemplateRepository.class)
+        );
+    }
+
+    @Test
+    void getNotFound() {
+        assertThrows(EntityNotFoundException.class, () -> repository.get(-5));
+    }
+
+    @Test
+    void getSame() {
+        assertSame(
+            repository.get(10300),
+            repository.get(10300)
+        );
+    }
+
+    @Test
+    void getShouldShareCells() {
+        assertSame(
+            repository.get(10300).cells(),
+            repository.get(10300).cells()
+        );
+    }
+
+    @Test
+    void getUsingEntity() {
+        assertSame(
+            repository.get(new MapTemplate(10300, null, null, null, null, null, null, 0, false)),
+            repository.get(10300)
+        );
+    }
+
+    @Test
+    void hasNotLoaded() {
+        assertTrue(repository.has(new MapTemplate(10300, null, null, null, null, null, null, 0, false)));
+        assertFalse(repository.has(new MapTemplate(-1, null, null, null, null, null, null, 0, false)));
+    }
+
+    @Test
+    void hasCached() {
+        repository.get(10300);
+        assertTrue(repository.has(new MapTemplate(10300, null, null, null, null, null, null, 0, false)));
+    }
+
+    @Test
+    void all() {
+        Collection<MapTemplate> maps = repository.all();
+
+        assertCount(3, maps);
+
+        for (MapTemplate map : maps) {
+            assertSame(map, repository.get(map));
+        }
+
+        assertCount(3, repository.all());
+    }
+
+    @Test
+    void allShouldKeepAlreadyLoadedInstances() {
+        MapTemplate map = repository.get(10340);
+
+        assertTrue(repository.all().contains(map));
+    }
+
+    @Test
+    void byGeolocationNotLoaded() {
+        List<MapTemplate> maps = new ArrayList<>(repository.byGeolocation(new Geolocation(3, 6)));
+
+        assertCount(1, maps);
+        assertSame(repository.get(10340), maps.get(0));
+        assertSame(repository.byGeolocation(new Geolocation(3, 6)), repository.byGeolocation(new Geolocation(3, 6)));
+        assertCount(0, repository.byGeolocation(new Geolocation(40, 4)));
+    }
+
+    @Test
+    void byGeolocationLoaded() throws SQLException {
+        repository.all();
+
+        dataSet.pushMap(5, "", 0, 0, "", "", "", new Geolocation(3, 6), 0, false);
+
+        List<MapTemplate> maps = new ArrayList<>(repository.byGeolocation(new Geolocation(3, 6)));
+
+        assertCount(1, maps);
+        assertSame(repository.get(10340), maps.get(0));
+        assertCount(0, repository.byGeolocation(new Geolocation(40, 4)));
+    }
+}
@@ -46,6 +46,7 @@ class GameConfigurationTest extends GameBaseCase {
         assertEquals(100, configuration.packetRateLimit());
         assertArrayEquals(new long[] {1, 10, 30, 60, 120}, configuration.shutdownReminderMinutes());
         assertEquals(Duration.ofMinutes(10), configuration.banIpRefresh());
+        assertEquals(Runtime.getRuntime().availableProcessors(), configuration.preloadThreadsCount());
     }
 
     @Test
@@ -62,6 +63,7 @@ class GameConfigurationTest extends GameBaseCase {
         assertEquals(8, configuration.player().maxNameGeneratedLength());
         assertEquals(1, configuration.player().spellBoostPointsOnLevelUp());
         assertEquals(5, configuration.player().characteristicPointsOnLevelUp());
+        assertEquals(Duration.ZERO, configuration.player().saveInterval());
     }
 
     @Test
@@ -71,6 +73,11 @@ class GameConfigurationTest extends GameBaseCase {
         assertEquals(25, configuration.activity().monsterMovePercent());
     }
 
+    @Test
+    void fight() {
+        assertEquals(Runtime.getRuntime().availableProcessors(), configuration.fight().threadsCount());
+    }
+
     @Test
     void economy() {
         assertEquals(0.1, configuration.economy().npcSellPriceMultiplier());
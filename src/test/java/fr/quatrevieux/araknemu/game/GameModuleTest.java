@@ -26,6 +26,8 @@ import fr.quatrevieux.araknemu.core.di.ContainerException;
 import fr.quatrevieux.araknemu.core.di.ItemPoolContainer;
 import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
 import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
+import fr.quatrevieux.araknemu.core.metrics.DefaultMetricsRegistry;
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
 import fr.quatrevieux.araknemu.core.network.Server;
 import fr.quatrevieux.araknemu.core.network.netty.NettyServer;
 import fr.quatrevieux.araknemu.core.network.parser.AggregatePacketParser;
@@ -70,6 +72,7 @@ import fr.quatrevieux.araknemu.game.fight.ai.factory.AiFactory;
 import fr.quatrevieux.araknemu.game.fight.ai.factory.ChainAiFactory;
 import fr.quatrevieux.araknemu.game.fight.ai.factory.MonsterAiFactory;
 import fr.quatrevieux.araknemu.game.fight.ai.simulation.Simulator;
+import fr.quatrevieux.araknemu.game.fight.module.CommonEffectsModule;
 import fr.quatrevieux.araknemu.game.fight.fighter.DefaultFighterFactory;
 import fr.quatrevieux.araknemu.game.fight.fighter.FighterFactory;
 import fr.quatrevieux.araknemu.game.fight.type.PvmType;
@@ -158,6 +161,8 @@ class GameModuleTest extends GameBaseCase {
         assertInstanceOf(BanIpService.class, container.get(BanIpService.class));
         assertInstanceOf(GameBanIpSynchronizer.class, container.get(GameBanIpSynchronizer.class));
         assertInstanceOf(Simulator.class, container.get(Simulator.class));
+        assertInstanceOf(CommonEffectsModule.class, container.get(CommonEffectsModule.class));
+        assertInstanceOf(DefaultMetricsRegistry.class, container.get(MetricsRegistry.class));
 
         assertSame(
             container.get(ListenerAggregate.class),
@@ -0,0 +1,202 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game;
+
+import fr.quatrevieux.araknemu.core.BootException;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreloaderTest {
+    class Base implements PreloadableService {
+        final private Runnable action;
+
+        public Base(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void preload(Logger logger) {
+            action.run();
+        }
+    }
+
+    class First extends Base {
+        public First(Runnable action) {
+            super(action);
+        }
+    }
+
+    class Second extends Base {
+        public Second(Runnable action) {
+            super(action);
+        }
+
+        @Override
+        public Collection<Class<? extends PreloadableService>> dependencies() {
+            return Collections.singletonList(First.class);
+        }
+    }
+
+    class Third extends Base {
+        public Third(Runnable action) {
+            super(action);
+        }
+
+        @Override
+        public Collection<Class<? extends PreloadableService>> dependencies() {
+            return Arrays.asList(First.class, Second.class);
+        }
+    }
+
+    class Circular extends Base {
+        public Circular(Runnable action) {
+            super(action);
+        }
+
+        @Override
+        public Collection<Class<? extends PreloadableService>> dependencies() {
+            return Collections.singletonList(Circular2.class);
+        }
+    }
+
+    class Circular2 extends Base {
+        public Circular2(Runnable action) {
+            super(action);
+        }
+
+        @Override
+        public Collection<Class<? extends PreloadableService>> dependencies() {
+            return Collections.singletonList(Circular.class);
+        }
+    }
+
+    private Logger logger;
+    private List<String> preloaded;
+
+    @BeforeEach
+    void setUp() {
+        logger = Mockito.mock(Logger.class);
+        preloaded = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    void preloadShouldFollowDependencies() throws BootException {
+        new Preloader(
+            Arrays.asList(
+                new Third(() -> preloaded.add("third")),
+                new Second(() -> preloaded.add("second")),
+                new First(() -> preloaded.add("first"))
+            ),
+            4,
+            logger
+        ).preload();
+
+        assertEquals(Arrays.asList("first", "second", "third"), preloaded);
+        Mockito.verify(logger).info(Mockito.eq("{} preloaded in {}ms"), Mockito.eq("First"), Mockito.anyLong());
+        Mockito.verify(logger).info(Mockito.eq("{} preloaded in {}ms"), Mockito.eq("Second"), Mockito.anyLong());
+        Mockito.verify(logger).info(Mockito.eq("{} preloaded in {}ms"), Mockito.eq("Third"), Mockito.anyLong());
+    }
+
+    @Test
+    void preloadWithSingleThread() throws BootException {
+        new Preloader(
+            Arrays.asList(
+                new Second(() -> preloaded.add("second")),
+                new First(() -> preloaded.add("first")),
+                new Base(() -> preloaded.add("other"))
+            ),
+            1,
+            logger
+        ).preload();
+
+        assertEquals(3, preloaded.size());
+        assertTrue(preloaded.indexOf("first") < preloaded.indexOf("second"));
+    }
+
+    @Test
+    void independentServicesShouldBePreloadedConcurrently() throws BootException {
+        CountDownLatch latch = new CountDownLatch(2);
+        Runnable action = () -> {
+            latch.countDown();
+
+            try {
+                preloaded.add(latch.await(5, TimeUnit.SECONDS) ? "concurrent" : "timeout");
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        new Preloader(Arrays.asList(new Base(action), new Base(action)), 2, logger).preload();
+
+        assertEquals(Arrays.asList("concurrent", "concurrent"), preloaded);
+    }
+
+    @Test
+    void missingDependencyShouldBeIgnored() throws BootException {
+        new Preloader(Collections.singletonList(new Second(() -> preloaded.add("second"))), 2, logger).preload();
+
+        assertEquals(Collections.singletonList("second"), preloaded);
+    }
+
+    @Test
+    void circularDependency() {
+        BootException exception = assertThrows(BootException.class, () -> new Preloader(
+            Arrays.asList(
+                new Circular(() -> preloaded.add("circular")),
+                new Circular2(() -> preloaded.add("circular2"))
+            ),
+            2,
+            logger
+        ).preload());
+
+        assertEquals("Circular preload dependency on Circular", exception.getMessage());
+        assertTrue(preloaded.isEmpty());
+    }
+
+    @Test
+    void errorShouldStopDependentServices() {
+        RuntimeException error = new RuntimeException("my error");
+
+        BootException exception = assertThrows(BootException.class, () -> new Preloader(
+            Arrays.asList(
+                new First(() -> { throw error; }),
+                new Second(() -> preloaded.add("second")),
+                new Base(() -> preloaded.add("other"))
+            ),
+            2,
+            logger
+        ).preload());
+
+        assertSame(error, exception.getCause());
+        assertEquals(Collections.singletonList("other"), preloaded);
+    }
+}
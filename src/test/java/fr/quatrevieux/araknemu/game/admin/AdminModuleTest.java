@@ -42,11 +42,14 @@ import fr.quatrevieux.araknemu.game.admin.player.teleport.Goto;
 import fr.quatrevieux.araknemu.game.admin.server.*;
 import fr.quatrevieux.araknemu.game.connector.RealmConnector;
 import fr.quatrevieux.araknemu.game.player.PlayerService;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.sql.SQLException;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 class AdminModuleTest extends GameBaseCase {
     @Test
     void instances() throws SQLException {
@@ -143,5 +146,22 @@ class AdminModuleTest extends GameBaseCase {
         assertInstanceOf(Shutdown.class, context.command("shutdown"));
         assertInstanceOf(Banip.class, context.command("banip"));
         assertInstanceOf(fr.quatrevieux.araknemu.game.admin.server.Info.class, context.command("info"));
+        assertThrows(CommandNotFoundException.class, () -> context.command("auth"));
+    }
+
+    @Test
+    void serverResolverWithRealmMetrics() throws SQLException, CommandNotFoundException {
+        Container container = new ItemPoolContainer();
+
+        container.register(new SqlLivingRepositoriesModule(app.database().get("game")));
+        container.register(new SqlWorldRepositoriesModule(app.database().get("game")));
+        container.register(new GameModule(app));
+        container.register(new AdminModule(app));
+        container.register(configurator -> configurator.set(RealmConnector.class, Mockito.mock(RealmConnector.class)));
+        container.register(configurator -> configurator.set(AuthenticationMetrics.class, new AuthenticationMetrics()));
+
+        Context context = container.get(ServerContextResolver.class).resolve(container.get(GlobalContext.class), null);
+
+        assertInstanceOf(Authentication.class, context.command("auth"));
     }
 }
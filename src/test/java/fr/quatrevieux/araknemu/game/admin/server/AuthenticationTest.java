@@ -0,0 +1,93 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.admin.server;
+
+import fr.quatrevieux.araknemu.game.admin.CommandTestCase;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationTest extends CommandTestCase {
+    private AuthenticationMetrics metrics;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        command = new Authentication(metrics = new AuthenticationMetrics());
+    }
+
+    @Test
+    void executeWithoutAuthentication() throws Exception {
+        execute("auth");
+
+        assertOutput(
+            "===== Authentication metrics =====",
+            "Password check : 0 calls, avg 0.000ms, max 0.000ms, total 0.000ms",
+            "Authentication queue wait : 0 calls, avg 0.000ms, max 0.000ms, total 0.000ms",
+            "Login queue wait : 0 calls, avg 0.000ms, max 0.000ms, total 0.000ms",
+            "===== Authentication failures =====",
+            "Invalid credentials : 0",
+            "Banned : 0",
+            "Already connected : 0",
+            "Already playing : 0",
+            "Rejected (queue full) : 0"
+        );
+    }
+
+    @Test
+    void execute() throws Exception {
+        metrics.hash().record(2_000_000);
+        metrics.hash().record(4_000_000);
+        metrics.queueWait().record(1_000_000);
+        metrics.admissionWait().record(500_000_000);
+        metrics.invalidCredentials().add(3);
+        metrics.banned().increment();
+        metrics.alreadyConnected().add(2);
+        metrics.playing().add(4);
+        metrics.rejected().add(5);
+
+        execute("auth");
+
+        assertOutput(
+            "===== Authentication metrics =====",
+            "Password check : 2 calls, avg 3.000ms, max 4.000ms, total 6.000ms",
+            "Authentication queue wait : 1 calls, avg 1.000ms, max 1.000ms, total 1.000ms",
+            "Login queue wait : 1 calls, avg 500.000ms, max 500.000ms, total 500.000ms",
+            "===== Authentication failures =====",
+            "Invalid credentials : 3",
+            "Banned : 1",
+            "Already connected : 2",
+            "Already playing : 4",
+            "Rejected (queue full) : 5"
+        );
+    }
+
+    @Test
+    void help() {
+        String help = command.help();
+
+        assertTrue(help.contains("Display authentication metrics"));
+        assertTrue(help.contains("${server} auth"));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.admin.server;
+
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
+import fr.quatrevieux.araknemu.game.admin.CommandTestCase;
+import fr.quatrevieux.araknemu.game.admin.exception.CommandException;
+import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap;
+import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMapService;
+import fr.quatrevieux.araknemu.game.fight.Fight;
+import fr.quatrevieux.araknemu.game.fight.FightMetrics;
+import fr.quatrevieux.araknemu.game.fight.FightService;
+import fr.quatrevieux.araknemu.game.fight.builder.ChallengeBuilder;
+import fr.quatrevieux.araknemu.game.player.GamePlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FightsTest extends CommandTestCase {
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        command = new Fights(container.get(FightService.class), container.get(MetricsRegistry.class));
+        dataSet
+            .pushMaps()
+            .pushAreas()
+            .pushSubAreas()
+        ;
+    }
+
+    @Test
+    void executeWithoutFights() throws Exception {
+        execute("fights");
+
+        assertOutput(
+            "===== Fight metrics =====",
+            "Active fights : 0",
+            "===== Most expensive fights ====="
+        );
+    }
+
+    @Test
+    void executeWithFight() throws Exception {
+        GamePlayer player = gamePlayer(true);
+        GamePlayer other = makeOtherPlayer();
+        ExplorationMap map = container.get(ExplorationMapService.class).load(10340);
+
+        Fight fight = container.get(FightService.class).handler(ChallengeBuilder.class).start(challengeBuilder -> challengeBuilder
+            .fighter(player)
+            .fighter(other)
+            .map(map)
+        );
+
+        fight.metrics().timer(FightMetrics.ACTION + "300").record(2_000_000);
+        fight.metrics().timer(FightMetrics.ACTION + "300").record(4_000_000);
+
+        execute("fights");
+
+        assertOutputContains("Active fights : 1");
+        assertOutputContains("fight.action.300 : 2 calls, avg 3.000ms, max 4.000ms, total 6.000ms");
+        assertOutputContains("Fight " + fight.id() + " on map 10340 : processing 6.000ms, 0 turns, max executor lag 0.000ms");
+        assertOutputContains("    action.300 : 2 calls, avg 3.000ms, max 4.000ms, total 6.000ms");
+    }
+
+    @Test
+    void executeWithLimit() throws Exception {
+        GamePlayer player = gamePlayer(true);
+        GamePlayer other = makeOtherPlayer();
+        ExplorationMap map = container.get(ExplorationMapService.class).load(10340);
+
+        Fight fight = container.get(FightService.class).handler(ChallengeBuilder.class).start(challengeBuilder -> challengeBuilder
+            .fighter(player)
+            .fighter(other)
+            .map(map)
+        );
+
+        execute("fights", "1");
+
+        assertOutputContains("Active fights : 1");
+        assertTrue(performer.logs.stream().anyMatch(entry -> entry.message.startsWith("Fight " + fight.id() + " on map")));
+    }
+
+    @Test
+    void executeWithInvalidLimit() {
+        assertEquals("Invalid limit : invalid", assertThrows(CommandException.class, () -> execute("fights", "invalid")).getMessage());
+        assertEquals("The limit must be a positive number", assertThrows(CommandException.class, () -> execute("fights", "0")).getMessage());
+        assertEquals("The limit must be a positive number", assertThrows(CommandException.class, () -> execute("fights", "-1")).getMessage());
+    }
+
+    @Test
+    void help() {
+        String help = command.help();
+
+        assertTrue(help.contains("Display fight runtime metrics"));
+        assertTrue(help.contains("${server} fights 3"));
+    }
+}
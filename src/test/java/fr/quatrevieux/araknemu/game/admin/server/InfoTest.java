@@ -23,6 +23,7 @@ import fr.quatrevieux.araknemu.core.BootException;
 import fr.quatrevieux.araknemu.game.GameService;
 import fr.quatrevieux.araknemu.game.admin.CommandTestCase;
 import fr.quatrevieux.araknemu.game.admin.exception.AdminException;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.player.PlayerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,7 +38,7 @@ class InfoTest extends CommandTestCase {
     public void setUp() throws Exception {
         super.setUp();
 
-        command = new Info(app, container.get(PlayerService.class), container.get(GameService.class));
+        command = new Info(app, container.get(PlayerService.class), container.get(GameService.class), container.get(FightExecutorService.class));
     }
 
     @Test
@@ -46,6 +47,9 @@ class InfoTest extends CommandTestCase {
         execute("info");
 
         assertOutputContains("===== Server information =====");
+        assertOutputContains("Fight executors : 0 fights, 0 delayed actions, max queue depth 0");
+        assertTrue(performer.logs.stream().anyMatch(entry -> entry.message.startsWith("Database game : 0 / 4 active, ")));
+        assertTrue(performer.logs.stream().anyMatch(entry -> entry.message.contains(" 0 timeouts, 0 leaks")));
     }
 
     @Test
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -186,4 +187,119 @@ class DefaultListenerAggregateTest {
 
         assertSame(a, ref.get());
     }
+
+    @Test
+    void addSameListenerClassShouldReplace() {
+        ListenerA first = new ListenerA();
+        ListenerA second = new ListenerA();
+
+        dispatcher.add(first);
+        dispatcher.add(second);
+
+        A a = new A();
+        dispatcher.dispatch(a);
+
+        assertNull(first.a);
+        assertSame(a, second.a);
+        assertSame(second, dispatcher.get(ListenerA.class));
+        assertEquals(1, dispatcher.statistics().get(A.class).listeners());
+    }
+
+    @Test
+    void addSimpleListenerOnOtherEventShouldRemoveFromPreviousEvent() {
+        AtomicReference<A> refA = new AtomicReference<>();
+        AtomicReference<B> refB = new AtomicReference<>();
+
+        dispatcher.add(A.class, refA::set);
+        dispatcher.add(B.class, refB::set);
+
+        dispatcher.dispatch(new A());
+        dispatcher.dispatch(new B());
+
+        assertNull(refA.get());
+        assertNotNull(refB.get());
+        assertEquals(0, dispatcher.statistics().get(A.class).listeners());
+    }
+
+    @Test
+    void removeDuringDispatch() {
+        ListenerA l2 = new ListenerA2();
+
+        dispatcher.add(A.class, event -> dispatcher.remove(ListenerA2.class));
+        dispatcher.add(l2);
+
+        A a = new A();
+        dispatcher.dispatch(a);
+
+        assertSame(a, l2.a);
+        assertFalse(dispatcher.has(ListenerA2.class));
+
+        l2.a = null;
+        dispatcher.dispatch(new A());
+
+        assertNull(l2.a);
+    }
+
+    @Test
+    void addDuringDispatch() {
+        ListenerA listener = new ListenerA();
+
+        dispatcher.add(B.class, event -> dispatcher.add(listener));
+        dispatcher.dispatch(new B());
+
+        A a = new A();
+        dispatcher.dispatch(a);
+
+        assertSame(a, listener.a);
+    }
+
+    @Test
+    void statistics() {
+        assertTrue(dispatcher.statistics().isEmpty());
+
+        dispatcher.add(new ListenerA());
+        dispatcher.add(new ListenerA2());
+
+        dispatcher.dispatch(new A());
+        dispatcher.dispatch(new A());
+        dispatcher.dispatch(new B());
+
+        assertEquals(1, dispatcher.statistics().size());
+        assertEquals(2, dispatcher.statistics().get(A.class).listeners());
+        assertEquals(2, dispatcher.statistics().get(A.class).count());
+        assertTrue(dispatcher.statistics().get(A.class).total().toNanos() > 0);
+        assertEquals(dispatcher.statistics().get(A.class).total().dividedBy(2), dispatcher.statistics().get(A.class).average());
+    }
+
+    @Test
+    void concurrentDispatchAndModification() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        dispatcher.add(A.class, event -> calls.incrementAndGet());
+
+        Thread dispatching = new Thread(() -> {
+            try {
+                for (int i = 0; i < 10000; ++i) {
+                    dispatcher.dispatch(new A());
+                }
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        });
+
+        dispatching.start();
+
+        for (int i = 0; i < 1000; ++i) {
+            dispatcher.add(new ListenerA());
+            dispatcher.add(new ListenerA2());
+            dispatcher.remove(ListenerA.class);
+            dispatcher.remove(ListenerA2.class);
+        }
+
+        dispatching.join();
+
+        assertNull(error.get());
+        assertEquals(10000, calls.get());
+    }
 }
@@ -45,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -187,6 +188,29 @@ class ExplorationMapTest extends GameBaseCase {
         requestStack.assertLast("my packet");
     }
 
+    @Test
+    void sendShouldSerializeThePacketOnlyOnce() throws Exception {
+        MapTemplate template = dataSet.refresh(new MapTemplate(10300, null, null, null, null, null, null, 0, false));
+
+        ExplorationMap map = new ExplorationMap(template, new CellLoaderAggregate(new CellLoader[0]), null);
+        AtomicInteger serializations = new AtomicInteger();
+        Object packet = new Object() {
+            @Override
+            public String toString() {
+                serializations.incrementAndGet();
+                return "my packet";
+            }
+        };
+
+        explorationPlayer().join(map);
+        makeOtherExplorationPlayer().join(map);
+
+        map.send(packet);
+
+        assertEquals(1, serializations.get());
+        requestStack.assertLast(packet);
+    }
+
     @Test
     void removeWillSendPacket() throws Exception {
         explorationPlayer();
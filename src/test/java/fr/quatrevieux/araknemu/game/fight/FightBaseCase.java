@@ -30,6 +30,7 @@ import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMapService;
 import fr.quatrevieux.araknemu.game.fight.builder.ChallengeBuilder;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.Castable;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.fighter.Fighter;
 import fr.quatrevieux.araknemu.game.fight.fighter.FighterFactory;
 import fr.quatrevieux.araknemu.game.fight.fighter.player.PlayerFighter;
@@ -102,7 +103,8 @@ public class FightBaseCase extends GameBaseCase {
                 new ActiveState(),
                 new FinishState()
             ),
-            container.get(Logger.class)
+            container.get(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
 
         fight.register(new StatesModule(fight));
@@ -132,7 +134,8 @@ public class FightBaseCase extends GameBaseCase {
                 new ActiveState(),
                 new FinishState()
             ),
-            container.get(Logger.class)
+            container.get(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
 
         fight.register(new StatesModule(fight));
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight;
+
+import fr.quatrevieux.araknemu.core.metrics.DefaultMetricsRegistry;
+import fr.quatrevieux.araknemu.core.metrics.Timer;
+import fr.quatrevieux.araknemu.game.fight.turn.action.ActionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FightMetricsTest {
+    private DefaultMetricsRegistry registry;
+    private FightMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new DefaultMetricsRegistry();
+        metrics = new FightMetrics(registry);
+    }
+
+    @Test
+    void timerShouldAggregateOnRegistry() {
+        Timer timer = metrics.timer(FightMetrics.TURN);
+
+        assertSame(timer, metrics.timer(FightMetrics.TURN));
+
+        timer.record(1000);
+        new FightMetrics(registry).timer(FightMetrics.TURN).record(2000);
+
+        assertEquals(1, timer.count());
+        assertEquals(2, registry.timer("fight.turn").count());
+        assertEquals(Duration.ofNanos(3000), registry.timer("fight.turn").total());
+    }
+
+    @Test
+    void timers() {
+        metrics.timer(FightMetrics.TURN);
+        metrics.timer(FightMetrics.EFFECTS);
+        metrics.timer(FightMetrics.ACTION + "1");
+
+        assertEquals(Arrays.asList("action.1", "effects", "turn"), new ArrayList<>(metrics.timers().keySet()));
+    }
+
+    @Test
+    void action() {
+        Timer timer = metrics.action(ActionType.CAST);
+
+        assertSame(timer, metrics.action(ActionType.CAST));
+        assertSame(timer, metrics.timer(FightMetrics.ACTION + ActionType.CAST));
+        assertNotSame(timer, metrics.action(ActionType.MOVE));
+    }
+
+    @Test
+    void processingTime() {
+        assertEquals(Duration.ZERO, metrics.processingTime());
+
+        metrics.timer(FightMetrics.AI + "Foo").record(1000);
+        metrics.timer(FightMetrics.ACTION + "300").record(2000);
+        metrics.timer(FightMetrics.EFFECTS).record(500);
+        metrics.timer(FightMetrics.TURN).record(100000);
+
+        assertEquals(Duration.ofNanos(3000), metrics.processingTime());
+    }
+}
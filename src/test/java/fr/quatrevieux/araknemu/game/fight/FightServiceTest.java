@@ -22,6 +22,7 @@ package fr.quatrevieux.araknemu.game.fight;
 import fr.arakne.utils.value.helper.RandomUtil;
 import fr.quatrevieux.araknemu.core.di.ContainerException;
 import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
+import fr.quatrevieux.araknemu.core.metrics.MetricsRegistry;
 import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
 import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
 import fr.quatrevieux.araknemu.game.GameService;
@@ -34,7 +35,9 @@ import fr.quatrevieux.araknemu.game.fight.builder.BaseBuilder;
 import fr.quatrevieux.araknemu.game.fight.builder.ChallengeBuilder;
 import fr.quatrevieux.araknemu.game.fight.builder.ChallengeBuilderFactory;
 import fr.quatrevieux.araknemu.game.fight.event.FightCreated;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.fighter.FighterFactory;
+import fr.quatrevieux.araknemu.game.fight.map.FightMap;
 import fr.quatrevieux.araknemu.game.fight.module.FightModule;
 import fr.quatrevieux.araknemu.game.fight.module.RaulebaqueModule;
 import fr.quatrevieux.araknemu.game.fight.type.ChallengeType;
@@ -70,7 +73,9 @@ class FightServiceTest extends FightBaseCase {
             ),
             Arrays.asList(
                 RaulebaqueModule::new
-            )
+            ),
+            container.get(FightExecutorService.class),
+            container.get(MetricsRegistry.class)
         );
     }
 
@@ -79,6 +84,16 @@ class FightServiceTest extends FightBaseCase {
         assertNotNull(service.map(container.get(ExplorationMapService.class).load(10340)));
     }
 
+    @Test
+    void mapShouldShareGrid() throws ContainerException {
+        FightMap map = service.map(container.get(ExplorationMapService.class).load(10340));
+        FightMap other = service.map(container.get(ExplorationMapService.class).load(10340));
+
+        assertNotSame(map, other);
+        assertSame(map.grid(), other.grid());
+        assertEquals(10340, other.id());
+    }
+
     @Test
     void handler() {
         assertNotNull(service.handler(ChallengeBuilder.class));
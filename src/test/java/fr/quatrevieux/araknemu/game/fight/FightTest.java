@@ -27,6 +27,7 @@ import fr.quatrevieux.araknemu.game.fight.event.FightCancelled;
 import fr.quatrevieux.araknemu.game.fight.event.FightStarted;
 import fr.quatrevieux.araknemu.game.fight.event.FightStopped;
 import fr.quatrevieux.araknemu.game.fight.exception.InvalidFightStateException;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.fighter.player.PlayerFighter;
 import fr.quatrevieux.araknemu.game.fight.map.FightMap;
 import fr.quatrevieux.araknemu.game.fight.module.FightModule;
@@ -46,6 +47,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -80,7 +82,8 @@ class FightTest extends GameBaseCase {
                 new ActiveState(),
                 new FinishState()
             ),
-            logger = Mockito.mock(Logger.class)
+            logger = Mockito.mock(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
     }
 
@@ -133,6 +136,23 @@ class FightTest extends GameBaseCase {
         requestStack.assertLast("test");
     }
 
+    @Test
+    void sendShouldSerializeThePacketOnlyOnce() {
+        AtomicInteger serializations = new AtomicInteger();
+        Object packet = new Object() {
+            @Override
+            public String toString() {
+                serializations.incrementAndGet();
+                return "test";
+            }
+        };
+
+        fight.send(packet);
+
+        assertEquals(1, serializations.get());
+        requestStack.assertLast(packet);
+    }
+
     @RepeatedIfExceptionsTest
     void schedule() throws InterruptedException {
         AtomicBoolean ab = new AtomicBoolean(false);
@@ -60,7 +60,7 @@ class BoostTest extends FightBaseCase {
 
         fight = createFight();
         fight.register(new AiModule(new ChainAiFactory()));
-        fight.register(new CommonEffectsModule(fight));
+        fight.register(new CommonEffectsModule());
 
         fighter = player.fighter();
         enemy = other.fighter();
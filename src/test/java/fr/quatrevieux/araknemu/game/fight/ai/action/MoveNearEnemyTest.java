@@ -57,7 +57,7 @@ class MoveNearEnemyTest extends FightBaseCase {
 
         fight = createFight();
         fight.register(new AiModule(new ChainAiFactory()));
-        fight.register(new CommonEffectsModule(fight));
+        fight.register(new CommonEffectsModule());
 
         fighter = player.fighter();
         enemy = other.fighter();
@@ -19,6 +19,7 @@
 
 package fr.quatrevieux.araknemu.game.fight.ai.util;
 
+import fr.quatrevieux.araknemu.data.constant.Characteristic;
 import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.FightBaseCase;
 import fr.quatrevieux.araknemu.game.fight.ai.FighterAI;
@@ -61,6 +62,16 @@ class SpellCasterTest extends FightBaseCase {
         assertTrue(caster.validate(spell, fight.map().get(210)));
     }
 
+    @Test
+    void range() {
+        Spell spell = fighter.spells().get(3);
+
+        assertEquals(spell.constraints().range(), caster.range(spell));
+
+        fighter.characteristics().alter(Characteristic.SIGHT_BOOST, 2);
+        assertEquals(spell.constraints().range().modify(2), caster.range(spell));
+    }
+
     @Test
     void create() {
         Spell spell = fighter.spells().get(3);
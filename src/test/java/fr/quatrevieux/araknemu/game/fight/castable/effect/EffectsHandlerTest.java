@@ -20,10 +20,12 @@
 package fr.quatrevieux.araknemu.game.fight.castable.effect;
 
 import fr.quatrevieux.araknemu.game.fight.Fight;
+import fr.quatrevieux.araknemu.game.fight.FightMetrics;
 import fr.quatrevieux.araknemu.game.fight.FightBaseCase;
 import fr.quatrevieux.araknemu.game.fight.castable.CastScope;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.Buff;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.buff.BuffHook;
+import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.EffectHandler;
 import fr.quatrevieux.araknemu.game.fight.castable.effect.handler.damage.DamageHandler;
 import fr.quatrevieux.araknemu.game.fight.module.CommonEffectsModule;
 import fr.quatrevieux.araknemu.game.spell.Spell;
@@ -54,7 +56,7 @@ class EffectsHandlerTest extends FightBaseCase {
         fight.nextState();
         handler = new EffectsHandler();
 
-        new CommonEffectsModule(fight).effects(handler);
+        new CommonEffectsModule().effects(handler);
 
         requestStack.clear();
     }
@@ -92,6 +94,7 @@ class EffectsHandlerTest extends FightBaseCase {
         handler.apply(makeCastScope(player.fighter(), spell, effect, other.fighter().cell()));
 
         requestStack.assertLast(ActionEffect.alterLifePoints(player.fighter(), other.fighter(), -15));
+        assertEquals(1, fight.metrics().timer(FightMetrics.EFFECTS).count());
     }
 
     @Test
@@ -185,4 +188,66 @@ class EffectsHandlerTest extends FightBaseCase {
 
         Mockito.verify(hook).onCastTarget(buff, cast);
     }
+
+    @Test
+    void applyEffectIdHigherThanRegistered() {
+        CastScope cast = makeCastScopeForEffect(5000);
+        requestStack.clear();
+
+        handler.apply(cast);
+
+        requestStack.assertEmpty();
+    }
+
+    @Test
+    void inheritShouldShareHandlersWithoutModifyingParent() {
+        EffectsHandler parent = new EffectsHandler();
+        EffectHandler base = Mockito.mock(EffectHandler.class);
+        EffectHandler overridden = Mockito.mock(EffectHandler.class);
+        EffectHandler added = Mockito.mock(EffectHandler.class);
+
+        parent.register(100, base);
+
+        EffectsHandler child = new EffectsHandler();
+        child.inherit(parent);
+
+        CastScope cast = makeCastScopeForEffect(100);
+        child.apply(cast);
+        Mockito.verify(base).handle(Mockito.eq(cast), Mockito.any());
+
+        child.register(100, overridden);
+        child.register(2000, added);
+
+        CastScope other = makeCastScopeForEffect(100);
+        parent.apply(other);
+        Mockito.verify(base).handle(Mockito.eq(other), Mockito.any());
+
+        child.apply(other);
+        Mockito.verify(overridden).handle(Mockito.eq(other), Mockito.any());
+
+        CastScope addedCast = makeCastScopeForEffect(2000);
+        parent.apply(addedCast);
+        Mockito.verifyZeroInteractions(added);
+    }
+
+    @Test
+    void inheritOnNonEmptyTableShouldMerge() {
+        EffectsHandler parent = new EffectsHandler();
+        EffectHandler inherited = Mockito.mock(EffectHandler.class);
+        EffectHandler own = Mockito.mock(EffectHandler.class);
+
+        parent.register(100, inherited);
+
+        EffectsHandler child = new EffectsHandler();
+        child.register(4, own);
+        child.inherit(parent);
+
+        CastScope cast = makeCastScopeForEffect(100);
+        child.apply(cast);
+        Mockito.verify(inherited).handle(Mockito.eq(cast), Mockito.any());
+
+        CastScope ownCast = makeCastScopeForEffect(4);
+        child.apply(ownCast);
+        Mockito.verify(own).handle(Mockito.eq(ownCast), Mockito.any());
+    }
 }
@@ -65,7 +65,7 @@ public class FunctionalTest extends FightBaseCase {
         dataSet.pushFunctionalSpells();
 
         fight = createFight();
-        fight.register(new CommonEffectsModule(fight));
+        fight.register(new CommonEffectsModule());
 
         fighter1 = player.fighter();
         fighter2 = other.fighter();
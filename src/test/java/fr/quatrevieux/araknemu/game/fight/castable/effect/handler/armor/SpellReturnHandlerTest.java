@@ -57,7 +57,7 @@ class SpellReturnHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new SpellReturnHandler(fight);
+        handler = new SpellReturnHandler();
 
         requestStack.clear();
     }
@@ -62,7 +62,7 @@ class AddActionPointsHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new AddActionPointsHandler(fight);
+        handler = new AddActionPointsHandler();
 
         requestStack.clear();
     }
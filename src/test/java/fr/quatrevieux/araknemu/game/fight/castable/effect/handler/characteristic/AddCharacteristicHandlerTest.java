@@ -63,7 +63,7 @@ class AddCharacteristicHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new AddCharacteristicHandler(fight, Characteristic.LUCK);
+        handler = new AddCharacteristicHandler(Characteristic.LUCK);
 
         requestStack.clear();
     }
@@ -62,7 +62,7 @@ class AddMovementPointsHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new AddMovementPointsHandler(fight);
+        handler = new AddMovementPointsHandler();
 
         requestStack.clear();
     }
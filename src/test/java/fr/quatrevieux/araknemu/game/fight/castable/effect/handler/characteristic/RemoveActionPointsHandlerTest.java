@@ -62,7 +62,7 @@ class RemoveActionPointsHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new RemoveActionPointsHandler(fight);
+        handler = new RemoveActionPointsHandler();
 
         requestStack.clear();
     }
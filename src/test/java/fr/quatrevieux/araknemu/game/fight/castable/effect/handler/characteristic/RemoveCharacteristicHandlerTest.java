@@ -61,7 +61,7 @@ class RemoveCharacteristicHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new RemoveCharacteristicHandler(fight, Characteristic.LUCK);
+        handler = new RemoveCharacteristicHandler(Characteristic.LUCK);
 
         requestStack.clear();
     }
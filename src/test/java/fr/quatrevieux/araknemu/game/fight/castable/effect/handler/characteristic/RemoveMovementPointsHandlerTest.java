@@ -62,7 +62,7 @@ class RemoveMovementPointsHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new RemoveMovementPointsHandler(fight);
+        handler = new RemoveMovementPointsHandler();
 
         requestStack.clear();
     }
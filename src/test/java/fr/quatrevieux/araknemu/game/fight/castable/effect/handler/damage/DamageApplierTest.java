@@ -61,7 +61,7 @@ class DamageApplierTest extends FightBaseCase {
 
         Mockito.when(effect.min()).thenReturn(10);
 
-        DamageApplier applier = new DamageApplier(Element.AIR, fight);
+        DamageApplier applier = new DamageApplier(Element.AIR);
 
         int value = applier.apply(caster, effect, target);
 
@@ -78,7 +78,7 @@ class DamageApplierTest extends FightBaseCase {
         Mockito.when(effect.min()).thenReturn(10);
         Mockito.when(effect.max()).thenReturn(15);
 
-        DamageApplier applier = new DamageApplier(Element.AIR, fight);
+        DamageApplier applier = new DamageApplier(Element.AIR);
 
         int value = applier.apply(caster, effect, target);
 
@@ -94,7 +94,7 @@ class DamageApplierTest extends FightBaseCase {
 
         Mockito.when(effect.min()).thenReturn(10);
 
-        DamageApplier applier = new DamageApplier(Element.AIR, fight);
+        DamageApplier applier = new DamageApplier(Element.AIR);
 
         player.properties().characteristics().base().set(Characteristic.AGILITY, 50);
         player.properties().characteristics().base().set(Characteristic.PERCENT_DAMAGE, 25);
@@ -111,7 +111,7 @@ class DamageApplierTest extends FightBaseCase {
 
         Mockito.when(effect.min()).thenReturn(10);
 
-        DamageApplier applier = new DamageApplier(Element.AIR, fight);
+        DamageApplier applier = new DamageApplier(Element.AIR);
 
         other.properties().characteristics().base().set(Characteristic.RESISTANCE_PERCENT_AIR, 25);
         other.properties().characteristics().base().set(Characteristic.RESISTANCE_AIR, 5);
@@ -127,7 +127,7 @@ class DamageApplierTest extends FightBaseCase {
 
         Mockito.when(effect.min()).thenReturn(10);
 
-        DamageApplier applier = new DamageApplier(Element.AIR, fight);
+        DamageApplier applier = new DamageApplier(Element.AIR);
 
         other.properties().characteristics().base().set(Characteristic.RESISTANCE_AIR, 100);
 
@@ -142,7 +142,7 @@ class DamageApplierTest extends FightBaseCase {
 
         Mockito.when(effect.min()).thenReturn(1000);
 
-        DamageApplier applier = new DamageApplier(Element.AIR, fight);
+        DamageApplier applier = new DamageApplier(Element.AIR);
 
         int value = applier.apply(caster, effect, target);
 
@@ -158,7 +158,7 @@ class DamageApplierTest extends FightBaseCase {
 
         Mockito.when(effect.min()).thenReturn(10);
 
-        DamageApplier applier = new DamageApplier(Element.AIR, fight);
+        DamageApplier applier = new DamageApplier(Element.AIR);
 
         target.buffs().add(
             new Buff(Mockito.mock(SpellEffect.class), Mockito.mock(Spell.class), target, target, new BuffHook() {
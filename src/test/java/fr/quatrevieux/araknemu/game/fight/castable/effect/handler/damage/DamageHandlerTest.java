@@ -65,7 +65,7 @@ class DamageHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new DamageHandler(Element.AIR, fight);
+        handler = new DamageHandler(Element.AIR);
 
         requestStack.clear();
     }
@@ -65,7 +65,7 @@ class StealLifeHandlerTest extends FightBaseCase {
         caster.life().alter(caster, -50);
         baseLife = caster.life().current();
 
-        handler = new StealLifeHandler(Element.AIR, fight);
+        handler = new StealLifeHandler(Element.AIR);
 
         requestStack.clear();
     }
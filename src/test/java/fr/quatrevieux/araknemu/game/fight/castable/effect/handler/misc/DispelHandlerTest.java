@@ -60,7 +60,7 @@ class DispelHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new DispelHandler(fight);
+        handler = new DispelHandler();
 
         requestStack.clear();
     }
@@ -61,7 +61,7 @@ class PushStateHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new PushStateHandler(fight);
+        handler = new PushStateHandler();
 
         requestStack.clear();
     }
@@ -58,7 +58,7 @@ class SkipTurnHandlerTest extends FightBaseCase {
 
         target.move(fight.map().get(123));
 
-        handler = new SkipTurnHandler(fight);
+        handler = new SkipTurnHandler();
 
         requestStack.clear();
     }
@@ -51,7 +51,7 @@ class TeleportHandlerTest extends FightBaseCase {
 
         caster = player.fighter();
 
-        handler = new TeleportHandler(fight);
+        handler = new TeleportHandler();
 
         requestStack.clear();
     }
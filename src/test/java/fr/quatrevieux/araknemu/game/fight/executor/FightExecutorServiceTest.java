@@ -0,0 +1,95 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight.executor;
+
+import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
+import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.GameService;
+import fr.quatrevieux.araknemu.game.event.GameStopped;
+import io.github.artsok.RepeatedIfExceptionsTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FightExecutorServiceTest extends GameBaseCase {
+    private FightExecutorService service;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        service = new FightExecutorService(configuration.fight());
+    }
+
+    @Test
+    void create() {
+        FightExecutor executor = service.create();
+
+        assertNotSame(executor, service.create());
+        assertTrue(service.executors().contains(executor));
+        assertEquals(2, service.executors().size());
+    }
+
+    @Test
+    void defaults() {
+        assertEquals(Runtime.getRuntime().availableProcessors(), service.parallelism());
+        assertEquals(0, service.activeWorkers());
+        assertEquals(0, service.queuedFights());
+        assertEquals(0, service.scheduledTasks());
+        assertEquals(0, service.maxQueueDepth());
+    }
+
+    @RepeatedIfExceptionsTest
+    void manyFightsShouldShareThreads() throws InterruptedException {
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        CountDownLatch latch = new CountDownLatch(500);
+
+        for (int i = 0; i < 500; ++i) {
+            service.create().execute(() -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(threads.size() <= service.parallelism());
+    }
+
+    @Test
+    void onGameStopped() {
+        FightExecutor executor = service.create();
+
+        ListenerAggregate dispatcher = new DefaultListenerAggregate();
+        dispatcher.register(service);
+        dispatcher.dispatch(new GameStopped(container.get(GameService.class)));
+
+        assertTrue(executor.closed());
+        assertTrue(service.executors().isEmpty());
+    }
+}
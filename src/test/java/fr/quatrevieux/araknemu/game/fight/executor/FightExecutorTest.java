@@ -0,0 +1,177 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight.executor;
+
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import io.github.artsok.RepeatedIfExceptionsTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FightExecutorTest extends GameBaseCase {
+    private FightExecutorService service;
+    private FightExecutor executor;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        service = new FightExecutorService(configuration.fight());
+        executor = service.create();
+    }
+
+    @RepeatedIfExceptionsTest
+    void executeShouldKeepOrderAndRunSerially() throws InterruptedException {
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean concurrent = new AtomicBoolean();
+
+        for (int i = 0; i < 100; ++i) {
+            final int value = i;
+
+            executor.execute(() -> {
+                if (running.incrementAndGet() > 1) {
+                    concurrent.set(true);
+                }
+
+                executed.add(value);
+                running.decrementAndGet();
+            });
+        }
+
+        Thread.sleep(50);
+
+        assertFalse(concurrent.get());
+        assertEquals(100, executed.size());
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i, executed.get(i));
+        }
+
+        assertEquals(0, executor.size());
+    }
+
+    @RepeatedIfExceptionsTest
+    void size() throws InterruptedException {
+        executor.execute(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        });
+        executor.execute(() -> {});
+        executor.execute(() -> {});
+
+        Thread.sleep(5);
+        assertEquals(2, executor.size());
+        assertEquals(2, service.maxQueueDepth());
+
+        Thread.sleep(30);
+        assertEquals(0, executor.size());
+    }
+
+    @RepeatedIfExceptionsTest
+    void schedule() throws InterruptedException {
+        AtomicBoolean ab = new AtomicBoolean(false);
+
+        ScheduledFuture<?> future = executor.schedule(() -> ab.set(true), Duration.ofMillis(10));
+
+        assertFalse(ab.get());
+        assertTrue(future.getDelay(TimeUnit.MILLISECONDS) > 0);
+
+        Thread.sleep(20);
+        assertTrue(ab.get());
+        assertTrue(future.isDone());
+    }
+
+    @RepeatedIfExceptionsTest
+    void scheduleCancelled() throws InterruptedException {
+        AtomicBoolean ab = new AtomicBoolean(false);
+
+        ScheduledFuture<?> future = executor.schedule(() -> ab.set(true), Duration.ofMillis(10));
+        future.cancel(false);
+
+        Thread.sleep(20);
+        assertFalse(ab.get());
+        assertTrue(future.isCancelled());
+    }
+
+    @RepeatedIfExceptionsTest
+    void scheduleCancelledWhileWaitingOnQueueShouldNotBeExecuted() throws InterruptedException {
+        AtomicBoolean ab = new AtomicBoolean(false);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        ScheduledFuture<?> future = executor.schedule(() -> ab.set(true), Duration.ofMillis(5));
+
+        executor.execute(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+
+            cancelled.set(future.cancel(false));
+        });
+
+        Thread.sleep(40);
+        assertTrue(cancelled.get());
+        assertFalse(ab.get());
+    }
+
+    @RepeatedIfExceptionsTest
+    void exceptionShouldNotBlockTheQueue() throws InterruptedException {
+        AtomicBoolean ab = new AtomicBoolean(false);
+
+        executor.execute(() -> { throw new RuntimeException(); });
+        executor.execute(() -> ab.set(true));
+
+        Thread.sleep(10);
+        assertTrue(ab.get());
+    }
+
+    @Test
+    void shutdown() throws InterruptedException {
+        AtomicBoolean ab = new AtomicBoolean(false);
+
+        executor.shutdown();
+
+        assertTrue(executor.closed());
+        assertFalse(service.executors().contains(executor));
+
+        executor.execute(() -> ab.set(true));
+        executor.schedule(() -> ab.set(true), Duration.ZERO);
+
+        Thread.sleep(10);
+        assertFalse(ab.get());
+        assertEquals(0, executor.size());
+    }
+}
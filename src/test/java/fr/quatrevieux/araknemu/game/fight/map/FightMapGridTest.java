@@ -0,0 +1,95 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.fight.map;
+
+import fr.arakne.utils.maps.CoordinateCell;
+import fr.quatrevieux.araknemu.data.world.entity.environment.MapTemplate;
+import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FightMapGridTest extends GameBaseCase {
+    private MapTemplate template;
+    private FightMapGrid grid;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        dataSet.pushMaps().pushSubAreas().pushAreas();
+
+        template = container.get(MapTemplateRepository.class).get(10340);
+        grid = new FightMapGrid(template);
+    }
+
+    @Test
+    void getters() {
+        assertSame(template, grid.template());
+        assertSame(template.dimensions(), grid.dimensions());
+        assertEquals(479, grid.size());
+    }
+
+    @Test
+    void walkable() {
+        assertTrue(grid.walkable(123));
+        assertFalse(grid.walkable(1));
+        assertFalse(grid.walkable(11));
+    }
+
+    @Test
+    void lineOfSight() {
+        assertTrue(grid.lineOfSight(0));
+        assertTrue(grid.lineOfSight(123));
+        assertFalse(grid.lineOfSight(11));
+    }
+
+    @Test
+    void shouldBeSameAsTemplateCells() {
+        for (int i = 0; i < grid.size(); ++i) {
+            assertEquals(template.cells()[i].active() && template.cells()[i].movement().walkable(), grid.walkable(i));
+            assertEquals(template.cells()[i].lineOfSight(), grid.lineOfSight(i));
+        }
+    }
+
+    @Test
+    void coordinatesShouldBeSameAsCoordinateCell() {
+        FightMap map = new FightMap(grid);
+
+        for (FightCell cell : map) {
+            CoordinateCell<FightCell> coordinates = new CoordinateCell<>(cell);
+
+            assertEquals(coordinates.x(), grid.x(cell.id()));
+            assertEquals(coordinates.y(), grid.y(cell.id()));
+        }
+    }
+
+    @Test
+    void distance() {
+        FightMap map = new FightMap(grid);
+
+        assertEquals(0, grid.distance(123, 123));
+        assertEquals(new CoordinateCell<>(map.get(123)).distance(new CoordinateCell<>(map.get(256))), grid.distance(123, 256));
+        assertEquals(grid.distance(256, 123), grid.distance(123, 256));
+    }
+}
@@ -19,11 +19,16 @@
 
 package fr.quatrevieux.araknemu.game.fight.map;
 
+import fr.arakne.utils.maps.CoordinateCell;
+import fr.arakne.utils.maps.LineOfSight;
 import fr.quatrevieux.araknemu.core.di.ContainerException;
 import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
 import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.fight.exception.FightMapException;
+import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.util.Iterator;
 
@@ -95,10 +100,87 @@ class FightMapTest extends GameBaseCase {
         assertEquals(479, map.size());
     }
 
+    @Test
+    void coordinates() {
+        assertSame(map.coordinates(map.get(123)), map.coordinates(map.get(123)));
+        assertEquals(123, map.coordinates(map.get(123)).id());
+        assertEquals(new CoordinateCell<>(map.get(123)).x(), map.coordinates(map.get(123)).x());
+        assertEquals(new CoordinateCell<>(map.get(123)).y(), map.coordinates(map.get(123)).y());
+    }
+
+    @Test
+    void distance() {
+        assertEquals(0, map.distance(map.get(123), map.get(123)));
+        assertEquals(new CoordinateCell<>(map.get(123)).distance(new CoordinateCell<>(map.get(256))), map.distance(map.get(123), map.get(256)));
+        assertEquals(map.distance(map.get(256), map.get(123)), map.distance(map.get(123), map.get(256)));
+    }
+
+    @Test
+    void lineOfSightShouldBeSameAsLineOfSightUtil() {
+        LineOfSight<FightCell> lineOfSight = new LineOfSight<>(map);
+
+        for (FightCell cell : map) {
+            assertEquals(lineOfSight.between(map.get(123), cell), map.lineOfSight(map.get(123), cell));
+            assertEquals(lineOfSight.between(map.get(123), cell), map.lineOfSight(map.get(123), cell));
+        }
+    }
+
+    @Test
+    void lineOfSightShouldBeInvalidatedWhenFighterMove() {
+        assertTrue(map.lineOfSight(map.get(186), map.get(244)));
+
+        map.get(215).set(Mockito.mock(PassiveFighter.class));
+        assertFalse(map.lineOfSight(map.get(186), map.get(244)));
+
+        map.get(215).removeFighter();
+        assertTrue(map.lineOfSight(map.get(186), map.get(244)));
+    }
+
     @Test
     void destroy() {
         map.destroy();
 
         assertEquals(0, map.size());
     }
+
+    @Test
+    void cellShouldBeUsableAfterDestroy() {
+        FightCell cell = map.get(123);
+        cell.set(Mockito.mock(PassiveFighter.class));
+
+        map.destroy();
+
+        assertFalse(cell.fighter().isPresent());
+        assertTrue(cell.walkable());
+        assertFalse(cell.sightBlocking());
+        assertThrows(FightMapException.class, cell::removeFighter);
+    }
+
+    @Test
+    void sharedGridShouldNotShareFighters() {
+        FightMap other = new FightMap(map.grid());
+        PassiveFighter fighter = Mockito.mock(PassiveFighter.class);
+
+        map.get(123).set(fighter);
+
+        assertSame(map.grid(), other.grid());
+        assertSame(fighter, map.get(123).fighter().get());
+        assertFalse(map.get(123).walkable());
+        assertFalse(other.get(123).fighter().isPresent());
+        assertTrue(other.get(123).walkable());
+        assertNotSame(map.get(123), other.get(123));
+        assertSame(other, other.get(123).map());
+    }
+
+    @Test
+    void destroyShouldNotAlterSharedGrid() {
+        FightMap other = new FightMap(map.grid());
+        map.get(123).set(Mockito.mock(PassiveFighter.class));
+
+        map.destroy();
+
+        assertEquals(479, map.grid().size());
+        assertEquals(479, other.size());
+        assertTrue(other.get(123).walkable());
+    }
 }
@@ -43,7 +43,6 @@ class WalkableFightCellTest extends GameBaseCase {
 
         cell = new WalkableFightCell(
             map = new FightMap(container.get(MapTemplateRepository.class).get(10340)),
-            container.get(MapTemplateRepository.class).get(10340).cells()[123],
             123
         );
     }
@@ -98,7 +97,6 @@ class WalkableFightCellTest extends GameBaseCase {
     void equals() throws ContainerException {
         WalkableFightCell other = new WalkableFightCell(
             map = new FightMap(container.get(MapTemplateRepository.class).get(10340)),
-            container.get(MapTemplateRepository.class).get(10340).cells()[456],
             456
         );
 
@@ -28,6 +28,7 @@ import fr.quatrevieux.araknemu.game.fight.ending.reward.drop.DropReward;
 import fr.quatrevieux.araknemu.game.fight.ending.reward.RewardType;
 import fr.quatrevieux.araknemu.game.fight.event.FightLeaved;
 import fr.quatrevieux.araknemu.game.fight.exception.JoinFightException;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.fighter.player.PlayerFighter;
 import fr.quatrevieux.araknemu.game.fight.team.SimpleTeam;
 import fr.quatrevieux.araknemu.game.fight.type.ChallengeType;
@@ -79,7 +80,8 @@ class ActiveStateTest extends GameBaseCase {
                 new PlacementState(false),
                 state = new ActiveState()
             ),
-            container.get(Logger.class)
+            container.get(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
 
         fight.nextState();
@@ -23,6 +23,7 @@ import fr.quatrevieux.araknemu.game.GameBaseCase;
 import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMapService;
 import fr.quatrevieux.araknemu.game.fight.Fight;
 import fr.quatrevieux.araknemu.game.fight.FightService;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.fighter.player.PlayerFighter;
 import fr.quatrevieux.araknemu.game.fight.team.SimpleTeam;
 import fr.quatrevieux.araknemu.game.fight.type.ChallengeType;
@@ -58,7 +59,8 @@ class InitialiseStateTest extends GameBaseCase {
                 new NullState(),
                 nextState = new NullState()
             ),
-            container.get(Logger.class)
+            container.get(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
     }
 
@@ -32,6 +32,7 @@ import fr.quatrevieux.araknemu.game.fight.exception.FightException;
 import fr.quatrevieux.araknemu.game.fight.exception.FightMapException;
 import fr.quatrevieux.araknemu.game.fight.exception.InvalidFightStateException;
 import fr.quatrevieux.araknemu.game.fight.exception.JoinFightException;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.fighter.player.PlayerFighter;
 import fr.quatrevieux.araknemu.game.fight.team.SimpleTeam;
 import fr.quatrevieux.araknemu.game.fight.type.ChallengeType;
@@ -84,7 +85,8 @@ class PlacementStateTest extends FightBaseCase {
                 state = new PlacementState(false),
                 new ActiveState()
             ),
-            container.get(Logger.class)
+            container.get(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
     }
 
@@ -146,7 +148,8 @@ class PlacementStateTest extends FightBaseCase {
                 state = new PlacementState(false),
                 new ActiveState()
             ),
-            container.get(Logger.class)
+            container.get(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
 
         state.start(fight);
@@ -24,6 +24,7 @@ import fr.arakne.utils.value.Dimensions;
 import fr.quatrevieux.araknemu.data.world.entity.environment.MapTemplate;
 import fr.quatrevieux.araknemu.game.GameBaseCase;
 import fr.quatrevieux.araknemu.game.fight.Fight;
+import fr.quatrevieux.araknemu.game.fight.executor.FightExecutorService;
 import fr.quatrevieux.araknemu.game.fight.map.FightMap;
 import fr.quatrevieux.araknemu.game.fight.type.ChallengeType;
 import org.apache.logging.log4j.Logger;
@@ -53,7 +54,8 @@ class StatesFlowTest extends GameBaseCase {
             ),
             new ArrayList<>(),
             new StatesFlow(),
-            container.get(Logger.class)
+            container.get(Logger.class),
+            container.get(FightExecutorService.class).create()
         );
 
         flow.next(fight);
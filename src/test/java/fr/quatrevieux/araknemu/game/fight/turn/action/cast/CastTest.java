@@ -55,7 +55,7 @@ class CastTest extends FightBaseCase {
 
         fight = createFight();
         fight.nextState();
-        fight.register(new CommonEffectsModule(fight));
+        fight.register(new CommonEffectsModule());
         turn = new FightTurn(fighter = player.fighter(), fight, Duration.ofSeconds(30));
 
         fighter.move(fight.map().get(185));
@@ -54,7 +54,7 @@ class CloseCombatTest extends FightBaseCase {
 
         fight = createFight();
         fight.nextState();
-        fight.register(new CommonEffectsModule(fight));
+        fight.register(new CommonEffectsModule());
         turn = new FightTurn(fighter = player.fighter(), fight, Duration.ofSeconds(30));
 
         fighter.move(fight.map().get(171));
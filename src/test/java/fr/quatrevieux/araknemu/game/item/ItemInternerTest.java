@@ -0,0 +1,104 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.item;
+
+import fr.quatrevieux.araknemu.data.constant.Effect;
+import fr.quatrevieux.araknemu.data.value.ItemTemplateEffectEntry;
+import fr.quatrevieux.araknemu.data.world.entity.item.ItemTemplate;
+import fr.quatrevieux.araknemu.data.world.entity.item.ItemType;
+import fr.quatrevieux.araknemu.game.item.effect.SpecialEffect;
+import fr.quatrevieux.araknemu.game.item.effect.special.NullEffectHandler;
+import fr.quatrevieux.araknemu.game.item.type.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemInternerTest {
+    private ItemInterner interner;
+    private ItemTemplate template;
+    private ItemType type;
+
+    @BeforeEach
+    void setUp() {
+        interner = new ItemInterner();
+        template = new ItemTemplate(284, 48, "Sel", 1, new ArrayList<>(), 1, "", 0, "", 10);
+        type = new ItemType(48, "Poudre", SuperType.RESOURCE, null);
+    }
+
+    @Test
+    void getShouldCreateOnlyOnce() {
+        List<ItemTemplateEffectEntry> effects = new ArrayList<>(Collections.singletonList(new ItemTemplateEffectEntry(Effect.NULL1, 1, 0, 0, "")));
+
+        Item item = interner.get(284, effects, this::resource);
+
+        assertSame(item, interner.get(284, effects, () -> fail("Should not be called")));
+        assertSame(item, interner.get(284, Arrays.asList(new ItemTemplateEffectEntry(Effect.NULL1, 1, 0, 0, "")), () -> fail("Should not be called")));
+        assertEquals(1, interner.size());
+
+        effects.clear();
+        assertSame(item, interner.get(284, Arrays.asList(new ItemTemplateEffectEntry(Effect.NULL1, 1, 0, 0, "")), () -> fail("Should not be called")));
+    }
+
+    @Test
+    void getWithDifferentKeys() {
+        Item item = interner.get(284, new ArrayList<>(), this::resource);
+
+        assertNotSame(item, interner.get(285, new ArrayList<>(), this::resource));
+        assertNotSame(item, interner.get(284, Arrays.asList(new ItemTemplateEffectEntry(Effect.NULL1, 1, 0, 0, "")), this::resource));
+        assertEquals(3, interner.size());
+    }
+
+    @Test
+    void intern() {
+        Item item = resource();
+
+        assertSame(item, interner.intern(item));
+        assertSame(item, interner.intern(resource()));
+        assertSame(item, interner.get(284, new ArrayList<>(), () -> fail("Should not be called")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void unusedItemsShouldBeRemoved() throws InterruptedException {
+        for (int i = 0; i < 100; ++i) {
+            interner.get(i, new ArrayList<>(), this::resource);
+        }
+
+        Item used = interner.get(1000, new ArrayList<>(), this::resource);
+
+        for (int i = 0; i < 50 && interner.size() > 1; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, interner.size());
+        assertSame(used, interner.get(1000, new ArrayList<>(), () -> fail("Should not be called")));
+    }
+
+    private Item resource() {
+        return new Resource(template, type, new ArrayList<>());
+    }
+}
@@ -21,6 +21,7 @@ package fr.quatrevieux.araknemu.game.item;
 
 import fr.quatrevieux.araknemu.data.constant.Characteristic;
 import fr.quatrevieux.araknemu.data.constant.Effect;
+import fr.quatrevieux.araknemu.data.value.ItemTemplateEffectEntry;
 import fr.quatrevieux.araknemu.data.world.entity.item.ItemTemplate;
 import fr.quatrevieux.araknemu.data.world.repository.item.ItemSetRepository;
 import fr.quatrevieux.araknemu.data.world.repository.item.ItemTemplateRepository;
@@ -35,6 +36,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -106,6 +109,7 @@ class ItemServiceTest extends GameBaseCase {
         Item item2 = service.create(2425, true);
 
         assertEquals(item1, item2);
+        assertSame(item1, item2);
 
         Wearable wearable = (Wearable) item1;
 
@@ -171,6 +175,16 @@ class ItemServiceTest extends GameBaseCase {
         );
     }
 
+    @Test
+    void retrieveShouldShareSameInstance() {
+        Item item = service.create(2425);
+        List<ItemTemplateEffectEntry> effects = item.effects().stream().map(ItemEffect::toTemplate).collect(Collectors.toList());
+
+        assertSame(item, service.retrieve(2425, effects));
+        assertSame(service.retrieve(39, new ArrayList<>()), service.retrieve(39, new ArrayList<>()));
+        assertNotSame(service.retrieve(2425, effects), service.retrieve(2425, new ArrayList<>()));
+    }
+
     @Test
     void createWithItemSet() {
         Item item = service.create(2425);
@@ -26,8 +26,11 @@ import fr.quatrevieux.araknemu.game.fight.fighter.player.PlayerFighter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StopFightSessionTest extends FightBaseCase {
     private Fight fight;
@@ -51,4 +54,16 @@ class StopFightSessionTest extends FightBaseCase {
         assertNull(fighter.fight());
         assertFalse(player.isFighting());
     }
-}
\ No newline at end of file
+
+    @Test
+    void onFighterRemovedFromMailboxTaskShouldStopImmediately() {
+        AtomicBoolean stopped = new AtomicBoolean();
+
+        player.execute(() -> {
+            listener.on(new FightLeaved());
+            stopped.set(!player.isFighting());
+        });
+
+        assertTrue(stopped.get());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.listener.map.monster;
+
+import fr.quatrevieux.araknemu.data.value.Position;
+import fr.quatrevieux.araknemu.data.world.entity.monster.MonsterGroupPosition;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.exploration.ExplorationPlayer;
+import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap;
+import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMapService;
+import fr.quatrevieux.araknemu.game.exploration.map.cell.ExplorationMapCell;
+import fr.quatrevieux.araknemu.game.exploration.map.event.NewSpriteOnMap;
+import fr.quatrevieux.araknemu.game.monster.environment.MonsterEnvironmentService;
+import fr.quatrevieux.araknemu.game.monster.environment.MoveMonsters;
+import fr.quatrevieux.araknemu.game.monster.group.MonsterGroup;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartMonstersMovementTest extends GameBaseCase {
+    private StartMonstersMovement listener;
+    private ExplorationMap map;
+    private MonsterGroup group;
+    private MoveMonsters task;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        dataSet
+            .pushMonsterTemplates()
+            .pushMonsterSpells()
+            .pushMonsterGroups()
+            .pushMaps()
+            .pushAreas()
+            .pushSubAreas()
+        ;
+
+        dataSet.pushMonsterGroupPosition(new MonsterGroupPosition(new Position(10340, -1), 3));
+        map = container.get(ExplorationMapService.class).load(10340);
+        group = (MonsterGroup) map.creatures().iterator().next();
+
+        listener = new StartMonstersMovement(container.get(MonsterEnvironmentService.class), map);
+        task = new MoveMonsters(container.get(MonsterEnvironmentService.class), Duration.ofSeconds(10), 100);
+    }
+
+    @Test
+    void onNotPlayerSpriteShouldNotStartMovement() {
+        ExplorationMapCell lastCell = group.cell();
+
+        listener.on(new NewSpriteOnMap(group.sprite()));
+        task.execute(container.get(Logger.class));
+
+        assertEquals(lastCell, group.cell());
+    }
+
+    @Test
+    void onPlayerShouldStartMovement() throws Exception {
+        ExplorationPlayer player = explorationPlayer();
+        ExplorationMapCell lastCell = group.cell();
+
+        listener.on(new NewSpriteOnMap(player.sprite()));
+        task.execute(container.get(Logger.class));
+
+        assertNotEquals(lastCell, group.cell());
+    }
+}
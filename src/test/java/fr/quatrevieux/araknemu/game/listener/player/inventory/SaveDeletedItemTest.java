@@ -24,6 +24,7 @@ import fr.quatrevieux.araknemu.data.living.entity.player.PlayerItem;
 import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
 import fr.quatrevieux.araknemu.game.GameBaseCase;
 import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectDeleted;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.game.player.inventory.InventoryEntry;
 import fr.quatrevieux.araknemu.game.item.inventory.ItemEntry;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,9 +45,7 @@ class SaveDeletedItemTest extends GameBaseCase {
         super.setUp();
 
         dataSet.use(PlayerItem.class);
-        listener = new SaveDeletedItem(
-            container.get(PlayerItemRepository.class)
-        );
+        listener = new SaveDeletedItem(container.get(PlayerPersistenceService.class));
     }
 
     @Test
@@ -24,6 +24,7 @@ import fr.quatrevieux.araknemu.data.living.entity.player.PlayerItem;
 import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
 import fr.quatrevieux.araknemu.game.GameBaseCase;
 import fr.quatrevieux.araknemu.game.item.inventory.event.ObjectMoved;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.game.player.inventory.InventoryEntry;
 import fr.quatrevieux.araknemu.game.item.inventory.ItemEntry;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,9 +44,7 @@ class SaveItemPositionTest extends GameBaseCase {
         super.setUp();
 
         dataSet.use(PlayerItem.class);
-        listener = new SaveItemPosition(
-            container.get(PlayerItemRepository.class)
-        );
+        listener = new SaveItemPosition(container.get(PlayerPersistenceService.class));
     }
 
     @Test
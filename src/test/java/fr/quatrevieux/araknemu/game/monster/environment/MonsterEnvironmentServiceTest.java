@@ -27,7 +27,10 @@ import fr.quatrevieux.araknemu.data.world.repository.monster.MonsterGroupDataRep
 import fr.quatrevieux.araknemu.data.world.repository.monster.MonsterGroupPositionRepository;
 import fr.quatrevieux.araknemu.game.GameBaseCase;
 import fr.quatrevieux.araknemu.game.GameConfiguration;
+import fr.quatrevieux.araknemu.core.config.IniDriver;
 import fr.quatrevieux.araknemu.game.activity.ActivityService;
+import fr.quatrevieux.araknemu.game.exploration.ExplorationPlayer;
+import fr.quatrevieux.araknemu.game.exploration.map.cell.ExplorationMapCell;
 import fr.quatrevieux.araknemu.game.exploration.creature.ExplorationCreature;
 import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMap;
 import fr.quatrevieux.araknemu.game.exploration.map.ExplorationMapService;
@@ -38,6 +41,7 @@ import fr.quatrevieux.araknemu.game.monster.group.MonsterGroupFactory;
 import fr.quatrevieux.araknemu.network.game.out.game.AddSprites;
 import io.github.artsok.RepeatedIfExceptionsTest;
 import org.apache.logging.log4j.Logger;
+import org.ini4j.Ini;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -46,8 +50,11 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 class MonsterEnvironmentServiceTest extends GameBaseCase {
@@ -163,4 +170,75 @@ class MonsterEnvironmentServiceTest extends GameBaseCase {
         service.preload(container.get(Logger.class));
         assertEquals(3, service.groups().count());
     }
+
+    @Test
+    void observeAndUnobserve() throws Exception {
+        dataSet.pushMonsterGroupPosition(new MonsterGroupPosition(new Position(10340, -1), 1));
+        dataSet.pushMonsterGroupPosition(new MonsterGroupPosition(new Position(10300, 123), 2));
+
+        ExplorationMap map = container.get(ExplorationMapService.class).load(10340);
+        service.byMap(10340).forEach(position -> position.populate(map));
+
+        assertEquals(0, service.observedGroups().count());
+
+        ExplorationPlayer player = explorationPlayer();
+        player.changeMap(map, 123);
+        service.observe(map);
+        assertEquals(1, service.observedGroups().count());
+
+        service.observe(map);
+        assertEquals(1, service.observedGroups().count());
+
+        service.unobserve(map);
+        assertEquals(1, service.observedGroups().count());
+
+        player.leave();
+        service.unobserve(map);
+        assertEquals(0, service.observedGroups().count());
+    }
+
+    @Test
+    void observeMapWithoutGroups() throws Exception {
+        ExplorationMap map = container.get(ExplorationMapService.class).load(10340);
+
+        service.observe(map);
+        assertEquals(0, service.observedGroups().count());
+    }
+
+    @Test
+    void observeAfterMoveIntervalShouldRelocateGroups() throws Exception {
+        Ini ini = new Ini();
+        ini.put("game", "activity.monsters.moveInterval", 0);
+        ini.put("game", "activity.monsters.movePercent", 100);
+
+        GameConfiguration configuration = new GameConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("game"));
+
+        service = new MonsterEnvironmentService(
+            container.get(ActivityService.class),
+            container.get(FightService.class),
+            container.get(MonsterGroupFactory.class),
+            container.get(MonsterGroupPositionRepository.class),
+            container.get(MonsterGroupDataRepository.class),
+            configuration.activity()
+        );
+
+        dataSet.pushMonsterGroupPosition(new MonsterGroupPosition(new Position(10340, -1), 3));
+
+        ExplorationMap map = container.get(ExplorationMapService.class).load(10340);
+        LivingMonsterGroupPosition position = service.byMap(10340).stream().findFirst().get();
+        position.populate(map);
+
+        // First observation : groups are already randomly placed
+        List<ExplorationMapCell> cells = position.available().stream().map(MonsterGroup::cell).collect(Collectors.toList());
+        service.observe(map);
+        assertEquals(cells, position.available().stream().map(MonsterGroup::cell).collect(Collectors.toList()));
+
+        service.unobserve(map);
+        requestStack.clear();
+        service.observe(map);
+
+        assertNotEquals(cells, position.available().stream().map(MonsterGroup::cell).collect(Collectors.toList()));
+        requestStack.assertEmpty();
+    }
 }
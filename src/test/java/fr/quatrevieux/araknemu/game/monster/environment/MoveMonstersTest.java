@@ -132,7 +132,9 @@ class MoveMonstersTest extends GameBaseCase {
         task = new MoveMonsters(container.get(MonsterEnvironmentService.class), Duration.ofSeconds(10), 25);
 
         dataSet.pushMonsterGroupPosition(new MonsterGroupPosition(new Position(10340, -1), 3));
-        container.get(ExplorationMapService.class).load(10340);
+        ExplorationMap map = container.get(ExplorationMapService.class).load(10340);
+
+        explorationPlayer().join(map);
 
         MonsterGroup group = container.get(MonsterEnvironmentService.class).byMap(10340).stream().findFirst().get().available().get(0);
 
@@ -150,4 +152,22 @@ class MoveMonstersTest extends GameBaseCase {
 
         assertBetween(15, 35, moveCount);
     }
+
+    @Test
+    void mapWithoutPlayerShouldNotMove() throws SQLException {
+        dataSet.pushMonsterGroupPosition(new MonsterGroupPosition(new Position(10340, -1), 3));
+        ExplorationMap map = container.get(ExplorationMapService.class).load(10340);
+
+        MonsterGroup group = container.get(MonsterEnvironmentService.class).byMap(10340).stream().findFirst().get().available().get(0);
+        ExplorationMapCell lastCell = group.cell();
+
+        task.execute(container.get(Logger.class));
+        assertEquals(lastCell, group.cell());
+
+        explorationPlayer().join(map);
+        explorationPlayer().leave();
+
+        task.execute(container.get(Logger.class));
+        assertEquals(lastCell, group.cell());
+    }
 }
@@ -161,4 +161,15 @@ class MonsterGroupTest extends GameBaseCase {
         assertSame(group, ref.get().creature());
         assertSame(path, ref.get().path());
     }
+
+    @Test
+    void setCell() {
+        AtomicReference<CreatureMoving> ref = new AtomicReference<>();
+        map.dispatcher().add(CreatureMoving.class, ref::set);
+
+        group.setCell(map.get(138));
+
+        assertEquals(map.get(138), group.cell());
+        assertNull(ref.get());
+    }
 }
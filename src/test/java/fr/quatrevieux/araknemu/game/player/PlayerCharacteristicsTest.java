@@ -161,6 +161,44 @@ class PlayerCharacteristicsTest extends GameBaseCase {
         assertEquals(105, characteristics.get(Characteristic.STRENGTH));
     }
 
+    @Test
+    void getShouldBeUpdatedAfterStuffRebuild() throws SQLException, ContainerException, InventoryException {
+        dataSet
+            .pushItemTemplates()
+            .pushItemSets()
+        ;
+
+        assertEquals(150, characteristics.get(Characteristic.INTELLIGENCE));
+
+        gamePlayer().inventory().add(container.get(ItemService.class).create(2425, true), 1, 0);
+        gamePlayer().inventory().add(container.get(ItemService.class).create(2411, true), 1, 6);
+
+        assertEquals(150, characteristics.get(Characteristic.INTELLIGENCE));
+
+        characteristics.rebuildStuffStats();
+
+        assertEquals(205, characteristics.get(Characteristic.INTELLIGENCE));
+    }
+
+    @Test
+    void getShouldBeUpdatedOnLevelChange() throws SQLException, ContainerException {
+        assertEquals(6, characteristics.get(Characteristic.ACTION_POINT));
+
+        gamePlayer().entity().setLevel(100);
+        assertEquals(7, characteristics.get(Characteristic.ACTION_POINT));
+
+        gamePlayer().entity().setLevel(1);
+        assertEquals(6, characteristics.get(Characteristic.ACTION_POINT));
+    }
+
+    @Test
+    void getShouldNotCachePlayerStats() throws SQLException, ContainerException {
+        assertEquals(0, characteristics.get(Characteristic.LUCK));
+
+        gamePlayer().entity().stats().set(Characteristic.LUCK, 120);
+        assertEquals(120, characteristics.get(Characteristic.LUCK));
+    }
+
     @Test
     void boostCharacteristicSuccess() throws SQLException, ContainerException {
         gamePlayer().entity().setBoostPoints(10);
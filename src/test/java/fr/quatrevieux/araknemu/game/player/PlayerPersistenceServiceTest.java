@@ -0,0 +1,332 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.player;
+
+import fr.quatrevieux.araknemu.core.config.IniDriver;
+import fr.quatrevieux.araknemu.core.dbal.executor.SynchronousPersistenceExecutor;
+import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
+import fr.quatrevieux.araknemu.core.event.ListenerAggregate;
+import fr.quatrevieux.araknemu.data.living.entity.player.Player;
+import fr.quatrevieux.araknemu.data.living.entity.player.PlayerItem;
+import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
+import fr.quatrevieux.araknemu.data.living.repository.player.PlayerRepository;
+import fr.quatrevieux.araknemu.data.value.Position;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.GameConfiguration;
+import fr.quatrevieux.araknemu.game.GameService;
+import fr.quatrevieux.araknemu.game.activity.ActivityService;
+import fr.quatrevieux.araknemu.game.event.GameStarted;
+import fr.quatrevieux.araknemu.game.event.GameStopped;
+import fr.quatrevieux.araknemu.game.handler.event.Disconnected;
+import fr.quatrevieux.araknemu.game.player.event.PlayerLoaded;
+import io.github.artsok.RepeatedIfExceptionsTest;
+import org.apache.logging.log4j.Logger;
+import org.ini4j.Ini;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerPersistenceServiceTest extends GameBaseCase {
+    private PlayerPersistenceService service;
+    private PlayerItemRepository itemRepository;
+    private PlayerRepository playerRepository;
+    private ListenerAggregate dispatcher;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        dataSet.use(PlayerItem.class);
+
+        service = createService("1m");
+        itemRepository = container.get(PlayerItemRepository.class);
+        playerRepository = container.get(PlayerRepository.class);
+
+        dispatcher = new DefaultListenerAggregate();
+        dispatcher.register(service);
+    }
+
+    @Test
+    void immediate() {
+        service = container.get(PlayerPersistenceService.class);
+
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+
+        service.add(item);
+        assertTrue(itemRepository.has(item));
+
+        item.setQuantity(3);
+        service.update(item);
+        assertEquals(3, itemRepository.get(item).quantity());
+
+        service.delete(item);
+        assertFalse(itemRepository.has(item));
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void addShouldBeDelayedUntilFlush() {
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+
+        service.add(item);
+
+        assertFalse(itemRepository.has(item));
+        assertEquals(1, service.pending());
+
+        service.flush();
+
+        assertTrue(itemRepository.has(item));
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void addThenUpdateShouldInsertLastValues() {
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+
+        service.add(item);
+        item.setQuantity(2);
+        service.update(item);
+        item.setPosition(1);
+        service.update(item);
+
+        service.flush();
+
+        assertEquals(2, itemRepository.get(item).quantity());
+        assertEquals(1, itemRepository.get(item).position());
+    }
+
+    @Test
+    void addThenDeleteShouldDoNothing() {
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+
+        service.add(item);
+        service.delete(item);
+
+        assertEquals(0, service.pending());
+
+        service.flush();
+
+        assertFalse(itemRepository.has(item));
+    }
+
+    @Test
+    void updateThenDelete() {
+        PlayerItem item = itemRepository.add(new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1));
+
+        item.setQuantity(2);
+        service.update(item);
+        service.delete(item);
+        service.flush();
+
+        assertFalse(itemRepository.has(item));
+    }
+
+    @Test
+    void deleteThenAddShouldReplaceTheItem() {
+        PlayerItem item = itemRepository.add(new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1));
+        PlayerItem newItem = new PlayerItem(1, 1, 2411, new ArrayList<>(), 1, 0);
+
+        service.delete(item);
+        service.add(newItem);
+        service.flush();
+
+        assertEquals(2411, itemRepository.get(item).itemTemplateId());
+        assertEquals(0, itemRepository.get(item).position());
+    }
+
+    @Test
+    void merge() {
+        assertEquals(PlayerPersistenceService.Operation.INSERT, PlayerPersistenceService.merge(PlayerPersistenceService.Operation.INSERT, PlayerPersistenceService.Operation.UPDATE));
+        assertEquals(PlayerPersistenceService.Operation.UPDATE, PlayerPersistenceService.merge(PlayerPersistenceService.Operation.UPDATE, PlayerPersistenceService.Operation.UPDATE));
+        assertEquals(PlayerPersistenceService.Operation.REPLACE, PlayerPersistenceService.merge(PlayerPersistenceService.Operation.REPLACE, PlayerPersistenceService.Operation.UPDATE));
+        assertNull(PlayerPersistenceService.merge(PlayerPersistenceService.Operation.INSERT, PlayerPersistenceService.Operation.DELETE));
+        assertEquals(PlayerPersistenceService.Operation.DELETE, PlayerPersistenceService.merge(PlayerPersistenceService.Operation.UPDATE, PlayerPersistenceService.Operation.DELETE));
+        assertEquals(PlayerPersistenceService.Operation.DELETE, PlayerPersistenceService.merge(PlayerPersistenceService.Operation.REPLACE, PlayerPersistenceService.Operation.DELETE));
+        assertEquals(PlayerPersistenceService.Operation.REPLACE, PlayerPersistenceService.merge(PlayerPersistenceService.Operation.DELETE, PlayerPersistenceService.Operation.INSERT));
+    }
+
+    @Test
+    void savePlayer() throws Exception {
+        Player player = gamePlayer().entity();
+
+        player.setKamas(1234);
+        service.save(player);
+
+        assertEquals(15225, playerRepository.get(player).kamas());
+
+        service.flush();
+
+        assertEquals(1234, playerRepository.get(player).kamas());
+    }
+
+    @Test
+    void flushSinglePlayer() throws Exception {
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+        PlayerItem otherItem = new PlayerItem(2, 1, 284, new ArrayList<>(), 5, -1);
+
+        service.add(item);
+        service.add(otherItem);
+        service.flush(1);
+
+        assertTrue(itemRepository.has(item));
+        assertFalse(itemRepository.has(otherItem));
+        assertEquals(1, service.pending());
+    }
+
+    @Test
+    void readShouldFlushPendingChanges() {
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+
+        service.add(item);
+
+        assertTrue(service.read(1, () -> itemRepository.has(item)));
+    }
+
+    @Test
+    void batchErrorShouldSaveOtherEntities() {
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+        PlayerItem duplicate = itemRepository.add(new PlayerItem(1, 2, 284, new ArrayList<>(), 5, -1));
+
+        service.add(item);
+        service.add(duplicate);
+        service.flush();
+
+        assertTrue(itemRepository.has(item));
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void modificationsAfterPushShouldNotBeWritten() throws Exception {
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+        Player player = gamePlayer().entity();
+
+        service.add(item);
+        player.setKamas(1234);
+        service.save(player);
+
+        item.setQuantity(3);
+        player.setKamas(4321);
+        service.flush();
+
+        assertEquals(5, itemRepository.get(item).quantity());
+        assertEquals(1234, playerRepository.get(player).kamas());
+    }
+
+    @Test
+    void batchNotAffectedEntityShouldBeReported() {
+        Logger logger = Mockito.mock(Logger.class);
+        service = createService("1m", logger);
+
+        PlayerItem item = itemRepository.add(new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1));
+        PlayerItem missing = new PlayerItem(1, 2, 284, new ArrayList<>(), 5, -1);
+
+        item.setQuantity(3);
+        service.update(item);
+        service.update(missing);
+        service.flush();
+
+        assertEquals(3, itemRepository.get(item).quantity());
+        assertFalse(itemRepository.has(missing));
+        Mockito.verify(logger).warn(Mockito.contains("is not affected by the batch save"));
+        Mockito.verify(logger).error(Mockito.startsWith("Cannot save entity"), Mockito.any(Throwable.class));
+    }
+
+    @Test
+    void onGameStoppedShouldFlushAndSaveImmediately() throws Exception {
+        GamePlayer player = gamePlayer();
+        PlayerItem item = new PlayerItem(1, 1, 284, new ArrayList<>(), 5, -1);
+
+        dispatcher.dispatch(new PlayerLoaded(player));
+        player.entity().setKamas(1234);
+        service.add(item);
+
+        dispatcher.dispatch(new GameStopped(container.get(GameService.class)));
+
+        assertTrue(itemRepository.has(item));
+        assertEquals(1234, playerRepository.get(player.entity()).kamas());
+
+        PlayerItem other = new PlayerItem(1, 2, 284, new ArrayList<>(), 5, -1);
+        service.add(other);
+
+        assertTrue(itemRepository.has(other));
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void disconnectedPlayerShouldNotBeSavedOnStop() throws Exception {
+        GamePlayer player = gamePlayer();
+
+        dispatcher.dispatch(new PlayerLoaded(player));
+        player.dispatcher().dispatch(new Disconnected());
+        player.entity().setKamas(1234);
+
+        dispatcher.dispatch(new GameStopped(container.get(GameService.class)));
+
+        assertEquals(15225, playerRepository.get(player.entity()).kamas());
+    }
+
+    @RepeatedIfExceptionsTest
+    void onGameStartedShouldSaveOnlinePlayersPeriodically() throws Exception {
+        service = createService("0.1s");
+        dispatcher = new DefaultListenerAggregate();
+        dispatcher.register(service);
+
+        GamePlayer player = gamePlayer();
+
+        dispatcher.register(container.get(ActivityService.class));
+        dispatcher.dispatch(new PlayerLoaded(player));
+        dispatcher.dispatch(new GameStarted(container.get(GameService.class)));
+
+        try {
+            player.entity().setKamas(1234);
+            Thread.sleep(300);
+
+            assertEquals(1234, playerRepository.get(player.entity()).kamas());
+        } finally {
+            dispatcher.dispatch(new GameStopped(container.get(GameService.class)));
+        }
+    }
+
+    private PlayerPersistenceService createService(String interval) {
+        return createService(interval, container.get(Logger.class));
+    }
+
+    private PlayerPersistenceService createService(String interval, Logger logger) {
+        Ini ini = new Ini();
+        ini.put("game", "player.saveInterval", interval);
+
+        GameConfiguration configuration = new GameConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("game"));
+
+        return new PlayerPersistenceService(
+            container.get(PlayerRepository.class),
+            container.get(PlayerItemRepository.class),
+            new SynchronousPersistenceExecutor(),
+            container.get(ActivityService.class),
+            configuration.player(),
+            logger
+        );
+    }
+}
@@ -75,7 +75,8 @@ class PlayerServiceTest extends GameBaseCase {
             container.get(InventoryService.class),
             container.get(PlayerRaceService.class),
             container.get(SpellBookService.class),
-            container.get(PlayerExperienceService.class)
+            container.get(PlayerExperienceService.class),
+            container.get(PlayerPersistenceService.class)
         );
 
         login();
@@ -105,4 +105,32 @@ class PlayerSpriteTest extends GameBaseCase {
             new PlayerSprite(exploration).toString()
         );
     }
+
+    @Test
+    void toStringShouldBeCached() throws SQLException, ContainerException {
+        PlayerSprite sprite = new PlayerSprite(explorationPlayer());
+
+        assertSame(sprite.toString(), sprite.toString());
+    }
+
+    @Test
+    void toStringShouldBeRefreshedOnChange() throws Exception {
+        ExplorationPlayer exploration = explorationPlayer();
+        PlayerSprite sprite = new PlayerSprite(exploration);
+
+        assertEquals("279;1;0;1;Bob;1;10^100x100;0;;7b;1c8;315;,,,,;;;;;;8;", sprite.toString());
+
+        exploration.setOrientation(Direction.WEST);
+        assertEquals("279;4;0;1;Bob;1;10^100x100;0;;7b;1c8;315;,,,,;;;;;;8;", sprite.toString());
+
+        exploration.changeCell(123);
+        assertEquals("123;4;0;1;Bob;1;10^100x100;0;;7b;1c8;315;,,,,;;;;;;8;", sprite.toString());
+
+        exploration.inventory().add(container.get(ItemService.class).create(2416), 1, 1);
+        assertEquals("123;4;0;1;Bob;1;10^100x100;0;;7b;1c8;315;970,,,,;;;;;;8;", sprite.toString());
+
+        exploration.player().restrictions().set(fr.quatrevieux.araknemu.game.player.Restrictions.Restriction.DENY_CHALLENGE);
+        exploration.restrictions().refresh();
+        assertEquals("123;4;0;1;Bob;1;10^100x100;0;;7b;1c8;315;970,,,,;;;;;;a;", sprite.toString());
+    }
 }
@@ -28,6 +28,7 @@ import fr.quatrevieux.araknemu.data.living.entity.player.PlayerItem;
 import fr.quatrevieux.araknemu.data.living.repository.player.PlayerItemRepository;
 import fr.quatrevieux.araknemu.data.value.ItemTemplateEffectEntry;
 import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.player.PlayerPersistenceService;
 import fr.quatrevieux.araknemu.core.event.DefaultListenerAggregate;
 import fr.quatrevieux.araknemu.game.exploration.ExplorationPlayer;
 import fr.quatrevieux.araknemu.game.exploration.event.ExplorationPlayerCreated;
@@ -65,7 +66,8 @@ class InventoryServiceTest extends GameBaseCase {
 
         service = new InventoryService(
             repository = container.get(PlayerItemRepository.class),
-            container.get(ItemService.class)
+            container.get(ItemService.class),
+            container.get(PlayerPersistenceService.class)
         );
     }
 
@@ -36,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class InventoryAccessoriesTest extends GameBaseCase {
     private InventoryAccessories accessories;
+    private InventorySlots slots;
 
     @Override
     @BeforeEach
@@ -47,7 +48,7 @@ class InventoryAccessoriesTest extends GameBaseCase {
             .pushItemSets()
         ;
 
-        InventorySlots slots = new InventorySlots(
+        slots = new InventorySlots(
             new DefaultListenerAggregate(),
             new SimpleItemStorage<>(
                 new DefaultListenerAggregate(),
@@ -89,4 +90,17 @@ class InventoryAccessoriesTest extends GameBaseCase {
     void string() {
         assertEquals("970,96b,,,", accessories.toString());
     }
+
+    @Test
+    void stringShouldBeCachedUntilAccessoryChanged() throws Exception {
+        String value = accessories.toString();
+
+        assertSame(value, accessories.toString());
+
+        slots.get(7).uncheckedSet(new InventoryEntry(null, new PlayerItem(0, 0, 2414, null, 1, 7), container.get(ItemService.class).create(2414)));
+        assertEquals("970,96b,96e,,", accessories.toString());
+
+        slots.get(1).uncheckedSet(null);
+        assertEquals(",96b,96e,,", accessories.toString());
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.world.map.path;
+
+import fr.arakne.utils.maps.path.PathException;
+import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
+import fr.quatrevieux.araknemu.game.fight.map.FightCell;
+import fr.quatrevieux.araknemu.game.fight.map.FightMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanceFieldTest extends GameBaseCase {
+    private FightMap map;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        dataSet.pushMaps().pushSubAreas().pushAreas();
+
+        map = new FightMap(container.get(MapTemplateRepository.class).get(10340));
+    }
+
+    @Test
+    void singleSource() {
+        DistanceField field = DistanceField.compute(map, Collections.singleton(map.get(210)), FightCell::walkable);
+
+        assertEquals(0, field.distance(210));
+        assertEquals(new Pathfinder<>(map).findPath(map.get(210), map.get(325)).size() - 1, field.distance(325));
+        assertTrue(field.reachable(325));
+        assertFalse(field.reachable(1));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(1));
+    }
+
+    @Test
+    void shouldBeSameAsPathLength() {
+        map.get(215).set(Mockito.mock(PassiveFighter.class));
+        map.get(298).set(Mockito.mock(PassiveFighter.class));
+
+        DistanceField field = DistanceField.compute(map, Collections.singleton(map.get(210)), FightCell::walkable);
+        Pathfinder<FightCell> pathfinder = new Pathfinder<>(map);
+
+        for (FightCell cell : map) {
+            if (cell.id() == 210) {
+                continue;
+            }
+
+            try {
+                assertEquals(pathfinder.findPath(map.get(210), cell).size() - 1, field.distance(cell.id()), "Distance of cell " + cell.id());
+            } catch (PathException e) {
+                assertFalse(field.reachable(cell.id()), "Distance of cell " + cell.id());
+            }
+        }
+    }
+
+    @Test
+    void multipleSources() {
+        DistanceField field = DistanceField.compute(map, Arrays.asList(map.get(210), map.get(400)), FightCell::walkable);
+
+        assertEquals(0, field.distance(210));
+        assertEquals(0, field.distance(400));
+
+        for (FightCell cell : map) {
+            if (field.reachable(cell.id())) {
+                assertEquals(
+                    Math.min(
+                        DistanceField.compute(map, Collections.singleton(map.get(210)), FightCell::walkable).distance(cell.id()),
+                        DistanceField.compute(map, Collections.singleton(map.get(400)), FightCell::walkable).distance(cell.id())
+                    ),
+                    field.distance(cell.id())
+                );
+            }
+        }
+    }
+
+    @Test
+    void unwalkableSource() {
+        DistanceField free = DistanceField.compute(map, Collections.singleton(map.get(210)), FightCell::walkable);
+        map.get(210).set(Mockito.mock(PassiveFighter.class));
+
+        DistanceField field = DistanceField.compute(map, Collections.singleton(map.get(210)), FightCell::walkable);
+
+        assertEquals(0, field.distance(210));
+
+        for (FightCell cell : map) {
+            assertEquals(free.distance(cell.id()), field.distance(cell.id()));
+        }
+    }
+
+    @Test
+    void maxDistance() {
+        DistanceField field = DistanceField.compute(map, Collections.singleton(map.get(210)), FightCell::walkable, 3);
+        DistanceField unlimited = DistanceField.compute(map, Collections.singleton(map.get(210)), FightCell::walkable);
+
+        for (FightCell cell : map) {
+            if (unlimited.distance(cell.id()) <= 3) {
+                assertEquals(unlimited.distance(cell.id()), field.distance(cell.id()));
+            } else {
+                assertFalse(field.reachable(cell.id()));
+            }
+        }
+
+        assertFalse(field.reachable(325));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.game.world.map.path;
+
+import fr.arakne.utils.maps.constant.Direction;
+import fr.arakne.utils.maps.path.Decoder;
+import fr.arakne.utils.maps.path.Path;
+import fr.arakne.utils.maps.path.PathException;
+import fr.quatrevieux.araknemu.data.world.repository.environment.MapTemplateRepository;
+import fr.quatrevieux.araknemu.game.GameBaseCase;
+import fr.quatrevieux.araknemu.game.fight.fighter.PassiveFighter;
+import fr.quatrevieux.araknemu.game.fight.map.FightCell;
+import fr.quatrevieux.araknemu.game.fight.map.FightMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathfinderTest extends GameBaseCase {
+    private FightMap map;
+    private Decoder<FightCell> decoder;
+    private Pathfinder<FightCell> pathfinder;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        dataSet.pushMaps().pushSubAreas().pushAreas();
+
+        map = new FightMap(container.get(MapTemplateRepository.class).get(10340));
+        decoder = new Decoder<>(map);
+        pathfinder = new Pathfinder<>(map, decoder);
+    }
+
+    @Test
+    void findPathSimple() {
+        Path<FightCell> path = pathfinder.findPath(map.get(210), map.get(325));
+
+        assertEquals(210, path.start().id());
+        assertEquals(325, path.target().id());
+        assertEquals(Direction.EAST, path.first().direction());
+        assertEquals(decoder.pathfinder().findPath(map.get(210), map.get(325)).encodeWithStartCell(), path.encodeWithStartCell());
+    }
+
+    @Test
+    void findPathSameCell() {
+        Path<FightCell> path = pathfinder.findPath(map.get(210), map.get(210));
+
+        assertEquals(1, path.size());
+        assertEquals(210, path.start().id());
+    }
+
+    @Test
+    void findPathWithoutFirstCell() {
+        Path<FightCell> path = pathfinder.addFirstCell(false).findPath(map.get(210), map.get(325));
+
+        assertEquals(decoder.pathfinder().findPath(map.get(210), map.get(325)).size() - 1, path.size());
+        assertNotEquals(210, path.start().id());
+        assertEquals(325, path.target().id());
+    }
+
+    @Test
+    void findPathNotFound() {
+        PathException e = assertThrows(PathException.class, () -> pathfinder.findPath(map.get(210), map.get(1)));
+
+        assertEquals("Cannot find any valid path between 210 and 1", e.getMessage());
+    }
+
+    @Test
+    void findPathLimitExceeded() {
+        PathException e = assertThrows(PathException.class, () -> pathfinder.exploredCellLimit(5).findPath(map.get(210), map.get(400)));
+
+        assertEquals("Limit exceeded for finding path", e.getMessage());
+    }
+
+    @Test
+    void findPathWithTargetDistance() {
+        Path<FightCell> path = pathfinder.targetDistance(1).findPath(map.get(210), map.get(325));
+
+        assertEquals(1, map.distance(path.target(), map.get(325)));
+    }
+
+    @Test
+    void findPathShouldStopBeforeBlockedCell() {
+        map.get(325).set(Mockito.mock(PassiveFighter.class));
+
+        Path<FightCell> path = pathfinder
+            .walkablePredicate(FightCell::walkableIgnoreFighter)
+            .findPath(map.get(210), map.get(325))
+        ;
+
+        assertEquals(1, map.distance(path.target(), map.get(325)));
+        assertEquals(
+            decoder.pathfinder().walkablePredicate(FightCell::walkableIgnoreFighter).findPath(map.get(210), map.get(325)).encodeWithStartCell(),
+            path.encodeWithStartCell()
+        );
+    }
+
+    @Test
+    void reentrantSearch() {
+        Pathfinder<FightCell> other = new Pathfinder<>(map);
+
+        Path<FightCell> path = pathfinder
+            .cellWeightFunction(cell -> other.findPath(map.get(210), cell).size())
+            .findPath(map.get(210), map.get(325))
+        ;
+
+        assertEquals(decoder.pathfinder().cellWeightFunction(cell -> other.findPath(map.get(210), cell).size()).findPath(map.get(210), map.get(325)).encodeWithStartCell(), path.encodeWithStartCell());
+    }
+
+    @Test
+    void shouldFindSamePathsAsArakne() {
+        map.get(215).set(Mockito.mock(PassiveFighter.class));
+        map.get(298).set(Mockito.mock(PassiveFighter.class));
+
+        assertSamePaths(pathfinder, decoder.pathfinder(), Integer.MAX_VALUE);
+    }
+
+    @Test
+    void shouldFindSamePathsAsArakneWithConfiguration() {
+        map.get(215).set(Mockito.mock(PassiveFighter.class));
+        map.get(298).set(Mockito.mock(PassiveFighter.class));
+
+        Function<FightCell, Integer> weight = cell -> cell.id() % 3 + (cell.fighter().isPresent() ? 10 : 1);
+
+        assertSamePaths(
+            pathfinder.targetDistance(1).walkablePredicate(FightCell::walkableIgnoreFighter).cellWeightFunction(weight).exploredCellLimit(100),
+            decoder.pathfinder().targetDistance(1).walkablePredicate(FightCell::walkableIgnoreFighter).cellWeightFunction(weight).exploredCellLimit(100),
+            Integer.MAX_VALUE
+        );
+    }
+
+    @Test
+    void shouldFindSamePathsAsArakneWithAllDirections() {
+        assertSamePaths(
+            pathfinder.directions(Direction.values()),
+            decoder.pathfinder().directions(Direction.values()),
+            3
+        );
+    }
+
+    /**
+     * Compare the found paths for a sample of source cells
+     *
+     * @param maxDistance Only walkable targets in this distance are checked
+     */
+    private void assertSamePaths(Pathfinder<FightCell> pathfinder, fr.arakne.utils.maps.path.Pathfinder<FightCell> expected, int maxDistance) {
+        for (int source = 0; source < map.size(); source += 61) {
+            if (!map.get(source).walkableIgnoreFighter()) {
+                continue;
+            }
+
+            for (int target = 0; target < map.size(); ++target) {
+                final FightCell from = map.get(source);
+                final FightCell to = map.get(target);
+
+                if (maxDistance != Integer.MAX_VALUE && (!to.walkable() || map.distance(from, to) > maxDistance)) {
+                    continue;
+                }
+
+                String expectedPath;
+
+                try {
+                    expectedPath = expected.findPath(from, to).encodeWithStartCell();
+                } catch (PathException e) {
+                    expectedPath = e.getMessage();
+                }
+
+                String actualPath;
+
+                try {
+                    actualPath = pathfinder.findPath(from, to).encodeWithStartCell();
+                } catch (PathException e) {
+                    actualPath = e.getMessage();
+                }
+
+                assertEquals(expectedPath, actualPath, "Path from " + source + " to " + target);
+            }
+        }
+    }
+}
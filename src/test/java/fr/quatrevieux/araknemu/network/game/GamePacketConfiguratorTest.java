@@ -80,4 +80,29 @@ class GamePacketConfiguratorTest extends GameBaseCase {
         assertTrue(gameSession.isLogged());
         assertEquals(1, gameSession.account().id());
     }
+
+    @Test
+    void messageReceivedShouldBeHandledAfterCurrentMailboxTask() throws Exception {
+        Account account = new Account(1);
+        dataSet.push(account);
+        dataSet.push(new ConnectionLog(account.id(), Instant.now(), "127.0.0.1"));
+
+        String token = container.get(TokenService.class).generate(account);
+
+        gameSession.execute(() -> {
+            // Received from another thread while the mailbox is busy
+            Thread receiver = new Thread(() -> gameSession.receive("AT" + token));
+            receiver.start();
+
+            try {
+                receiver.join();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+
+            assertFalse(gameSession.isLogged());
+        });
+
+        assertTrue(gameSession.isLogged());
+    }
 }
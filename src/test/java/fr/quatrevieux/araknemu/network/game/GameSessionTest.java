@@ -35,6 +35,15 @@ import fr.quatrevieux.araknemu.game.player.characteristic.event.CharacteristicsC
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -168,4 +177,87 @@ class GameSessionTest extends GameBaseCase {
 
         assertEquals("ip=127.0.0.1; account=10; player=10; position=(10540, 210); state=fighting", session.toString());
     }
+
+    @Test
+    void execute() {
+        GameSession session = new GameSession(new ConfigurableSession(new DummyChannel()));
+        List<String> calls = new ArrayList<>();
+
+        session.execute(() -> {
+            calls.add("first");
+            session.execute(() -> calls.add("nested"));
+            calls.add("second");
+        });
+
+        assertEquals(Arrays.asList("first", "nested", "second"), calls);
+        assertFalse(session.mailbox().running());
+    }
+
+    @Test
+    void executeErrorShouldBeForwardedToSessionExceptionHandlers() {
+        ConfigurableSession inner = new ConfigurableSession(new DummyChannel());
+        GameSession session = new GameSession(inner);
+        AtomicReference<Throwable> handled = new AtomicReference<>();
+        RuntimeException error = new RuntimeException("my error");
+
+        inner.addExceptionHandler(RuntimeException.class, e -> {
+            handled.set(e);
+            return false;
+        });
+
+        session.execute(() -> { throw error; });
+
+        assertSame(error, handled.get());
+        assertFalse(session.mailbox().running());
+    }
+
+    @Test
+    void taskSubmittedByFightThreadShouldBeExecutedOnIoThread() throws InterruptedException {
+        ExecutorService io = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "io"));
+        DummyChannel channel = new DummyChannel();
+
+        channel.setExecutor(task -> {
+            if (Thread.currentThread().getName().equals("io")) {
+                task.run();
+            } else {
+                io.execute(task);
+            }
+        });
+
+        GameSession session = new GameSession(new ConfigurableSession(channel));
+        Map<String, String> threads = new ConcurrentHashMap<>();
+        CountDownLatch rewardStarted = new CountDownLatch(1);
+        CountDownLatch packetQueued = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        // Like ApplyEndFightReward, submitted by a fight worker
+        Thread fight = new Thread(() -> session.execute(() -> {
+            threads.put("reward", Thread.currentThread().getName());
+            rewardStarted.countDown();
+
+            try {
+                packetQueued.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+
+            done.countDown();
+        }), "fight");
+
+        fight.start();
+        assertTrue(rewardStarted.await(5, TimeUnit.SECONDS));
+
+        // Packet handler queued while the reward is applied
+        session.execute(() -> {
+            threads.put("packet", Thread.currentThread().getName());
+            done.countDown();
+        });
+        packetQueued.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("io", threads.get("reward"));
+        assertEquals("io", threads.get("packet"));
+
+        io.shutdown();
+    }
 }
@@ -19,6 +19,7 @@
 
 package fr.quatrevieux.araknemu.network.game.in.game.action;
 
+import fr.quatrevieux.araknemu.core.network.parser.ParsePacketException;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,4 +34,50 @@ class GameActionRequestTest {
         assertEquals(1, ga.type());
         assertArrayEquals(new String[] {"dfi"}, ga.arguments());
     }
+
+    @Test
+    void parseMultipleArguments() {
+        GameActionRequest.Parser parser = new GameActionRequest.Parser();
+
+        GameActionRequest ga = parser.parse("300123;456");
+
+        assertEquals(300, ga.type());
+        assertArrayEquals(new String[] {"123", "456"}, ga.arguments());
+    }
+
+    @Test
+    void parseShouldIgnoreEmptyArguments() {
+        GameActionRequest.Parser parser = new GameActionRequest.Parser();
+
+        assertArrayEquals(new String[] {"a", "b"}, parser.parse("001;a;;b;").arguments());
+        assertArrayEquals(new String[0], parser.parse("001").arguments());
+        assertArrayEquals(new String[0], parser.parse("001;;").arguments());
+    }
+
+    @Test
+    void parseWithOffset() {
+        GameActionRequest.Parser parser = new GameActionRequest.Parser();
+
+        GameActionRequest ga = parser.parse("GA900123;456", 2);
+
+        assertEquals(900, ga.type());
+        assertArrayEquals(new String[] {"123", "456"}, ga.arguments());
+    }
+
+    @Test
+    void parseInvalidType() {
+        GameActionRequest.Parser parser = new GameActionRequest.Parser();
+
+        assertThrows(ParsePacketException.class, () -> parser.parse("0a1"));
+        assertThrows(ParsePacketException.class, () -> parser.parse("01"));
+    }
+
+    @Test
+    void parseErrorShouldContainsTheFullPacket() {
+        GameActionRequest.Parser parser = new GameActionRequest.Parser();
+
+        assertEquals("GA0a1", assertThrows(ParsePacketException.class, () -> parser.parse("0a1")).packet());
+        assertEquals("GA0a1", assertThrows(ParsePacketException.class, () -> parser.parse("GA0a1", 2)).packet());
+        assertEquals("GA01", assertThrows(ParsePacketException.class, () -> parser.parse("GA01", 2)).packet());
+    }
 }
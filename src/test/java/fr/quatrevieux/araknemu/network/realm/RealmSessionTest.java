@@ -27,7 +27,9 @@ import fr.quatrevieux.araknemu.realm.authentication.AuthenticationAccount;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RealmSessionTest {
     @Test
@@ -68,4 +70,20 @@ class RealmSessionTest {
 
         assertEquals("ip=127.0.0.1; account=1", session.toString());
     }
+
+    @Test
+    void admit() {
+        RealmSession session = new RealmSession(new ConfigurableSession(new DummyChannel()));
+
+        assertFalse(session.isAdmitted());
+
+        session.attach(new AuthenticationAccount(new Account(1), null, null));
+        assertFalse(session.isAdmitted());
+
+        session.admit();
+        assertTrue(session.isAdmitted());
+
+        session.detach();
+        assertFalse(session.isAdmitted());
+    }
 }
@@ -93,6 +93,7 @@ public class RealmBaseCase extends DatabaseTestCase {
         public boolean checkLogin;
         public String token;
         public AuthenticationAccount account;
+        public int players;
 
         @Override
         public void checkLogin(AuthenticationAccount account, HostResponse<Boolean> response) {
@@ -105,6 +106,11 @@ public class RealmBaseCase extends DatabaseTestCase {
             this.account = account;
             response.response(token);
         }
+
+        @Override
+        public int players() {
+            return players;
+        }
     }
 
     protected Container container;
@@ -81,4 +81,13 @@ class RealmConfigurationTest {
         assertEquals(64*1024, configuration.argon2().memory());
         assertEquals(Argon2Factory.Argon2Types.ARGON2id, configuration.argon2().type());
     }
+
+    @Test
+    void authentication() {
+        assertEquals(0, configuration.authentication().threadsCount());
+        assertEquals(1000, configuration.authentication().queueSize());
+        assertEquals(50, configuration.authentication().admissionRate());
+        assertEquals(0, configuration.authentication().maxPlayers());
+        assertEquals(5000, configuration.authentication().loginQueueSize());
+    }
 }
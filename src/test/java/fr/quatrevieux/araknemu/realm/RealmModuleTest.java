@@ -42,6 +42,7 @@ import fr.quatrevieux.araknemu.core.network.session.SessionConfigurator;
 import fr.quatrevieux.araknemu.core.network.session.SessionFactory;
 import fr.quatrevieux.araknemu.data.living.repository.implementation.sql.SqlLivingRepositoriesModule;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationService;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 import fr.quatrevieux.araknemu.common.account.banishment.BanishmentService;
 import fr.quatrevieux.araknemu.realm.authentication.password.Argon2Hash;
 import fr.quatrevieux.araknemu.realm.authentication.password.PasswordManager;
@@ -84,6 +85,7 @@ class RealmModuleTest {
         assertInstanceOf(AggregatePacketParser.class, container.get(PacketParser.class));
         assertInstanceOf(AuthenticationService.class, container.get(AuthenticationService.class));
         assertInstanceOf(HostService.class, container.get(HostService.class));
+        assertInstanceOf(LoginQueue.class, container.get(LoginQueue.class));
         assertInstanceOf(SessionLogService.class, container.get(SessionLogService.class));
         assertInstanceOf(PasswordManager.class, container.get(PasswordManager.class));
         assertInstanceOf(PlainTextHash.class, container.get(PlainTextHash.class));
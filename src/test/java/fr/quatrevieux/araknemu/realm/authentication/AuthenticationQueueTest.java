@@ -0,0 +1,159 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.realm.authentication;
+
+import fr.quatrevieux.araknemu.core.config.IniDriver;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
+import fr.quatrevieux.araknemu.realm.event.AuthStopped;
+import org.ini4j.Ini;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationQueueTest {
+    private AuthenticationMetrics metrics;
+    private AuthenticationQueue queue;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new AuthenticationMetrics();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+
+        if (queue != null) {
+            queue.listeners()[0].on(new AuthStopped());
+        }
+    }
+
+    @Test
+    void pushSynchronous() {
+        queue = new AuthenticationQueue(configuration(0, 10), metrics);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        assertTrue(queue.push("owner", () -> {
+            assertEquals(0, queue.position("owner"));
+            executed.set(true);
+        }));
+
+        assertTrue(executed.get());
+        assertEquals(0, queue.size());
+        assertEquals(1, metrics.queueWait().count());
+    }
+
+    @Test
+    void pushAsync() throws InterruptedException {
+        queue = new AuthenticationQueue(configuration(1, 10), metrics);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        assertTrue(queue.push("owner", executed::countDown));
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(10);
+        assertEquals(0, queue.position("owner"));
+        assertEquals(1, metrics.queueWait().count());
+    }
+
+    @Test
+    void positionAndQueueFull() throws InterruptedException {
+        queue = new AuthenticationQueue(configuration(1, 2), metrics);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        assertTrue(queue.push("first", () -> {
+            started.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                // Ignore
+            }
+
+            done.countDown();
+        }));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(queue.push("second", done::countDown));
+        assertTrue(queue.push("third", done::countDown));
+        assertFalse(queue.push("fourth", done::countDown));
+
+        assertEquals(0, queue.position("first"));
+        assertEquals(1, queue.position("second"));
+        assertEquals(2, queue.position("third"));
+        assertEquals(0, queue.position("fourth"));
+        assertEquals(2, queue.size());
+        assertEquals(1, metrics.rejected().sum());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(10);
+        assertEquals(0, queue.position("third"));
+        assertEquals(0, queue.size());
+        assertEquals(3, metrics.queueWait().count());
+
+        // The refused request should not shift the positions
+        release = new CountDownLatch(1);
+        CountDownLatch restarted = new CountDownLatch(1);
+
+        assertTrue(queue.push("first", () -> {
+            restarted.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                // Ignore
+            }
+        }));
+        assertTrue(restarted.await(5, TimeUnit.SECONDS));
+        assertTrue(queue.push("second", () -> {}));
+        assertEquals(1, queue.position("second"));
+    }
+
+    @Test
+    void stopped() {
+        queue = new AuthenticationQueue(configuration(1, 10), metrics);
+        queue.listeners()[0].on(new AuthStopped());
+
+        assertFalse(queue.push("owner", () -> {}));
+    }
+
+    private RealmConfiguration.Authentication configuration(int threads, int size) {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.threadsCount", threads);
+        ini.put("realm", "authentication.queueSize", size);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        return configuration.authentication();
+    }
+}
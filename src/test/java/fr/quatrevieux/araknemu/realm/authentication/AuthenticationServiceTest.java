@@ -27,17 +27,22 @@ import fr.quatrevieux.araknemu.data.living.repository.account.AccountRepository;
 import fr.quatrevieux.araknemu.realm.RealmBaseCase;
 import fr.quatrevieux.araknemu.realm.authentication.password.PasswordManager;
 import fr.quatrevieux.araknemu.realm.authentication.password.PlainTextHash;
+import fr.quatrevieux.araknemu.realm.host.GameConnector;
+import fr.quatrevieux.araknemu.realm.host.GameHost;
 import fr.quatrevieux.araknemu.realm.host.HostService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class AuthenticationServiceTest extends RealmBaseCase {
     private AuthenticationService service;
+    private AuthenticationMetrics metrics;
     private String response;
     private AuthenticationAccount _account;
 
@@ -50,7 +55,8 @@ class AuthenticationServiceTest extends RealmBaseCase {
             container.get(AccountRepository.class),
             container.get(HostService.class),
             container.get(PasswordManager.class),
-            container.get(BanishmentService.class)
+            container.get(BanishmentService.class),
+            metrics = new AuthenticationMetrics()
         );
 
         dataSet.use(Account.class, Banishment.class);
@@ -161,6 +167,7 @@ class AuthenticationServiceTest extends RealmBaseCase {
         });
 
         assertEquals("invalidCredentials", response);
+        assertEquals(1, metrics.invalidCredentials().sum());
     }
 
     @Test
@@ -205,6 +212,7 @@ class AuthenticationServiceTest extends RealmBaseCase {
         });
 
         assertEquals("invalidCredentials", response);
+        assertEquals(1, metrics.invalidCredentials().sum());
     }
 
     @Test
@@ -258,6 +266,7 @@ class AuthenticationServiceTest extends RealmBaseCase {
         });
 
         assertEquals("alreadyConnected", response);
+        assertEquals(1, metrics.alreadyConnected().sum());
     }
 
     @Test
@@ -311,6 +320,8 @@ class AuthenticationServiceTest extends RealmBaseCase {
         });
 
         assertEquals("isPlaying", response);
+        assertEquals(1, metrics.playing().sum());
+        assertEquals(0, metrics.alreadyConnected().sum());
     }
 
     @Test
@@ -365,6 +376,7 @@ class AuthenticationServiceTest extends RealmBaseCase {
         });
 
         assertEquals("banned", response);
+        assertEquals(1, metrics.banned().sum());
     }
 
     @Test
@@ -413,6 +425,7 @@ class AuthenticationServiceTest extends RealmBaseCase {
 
         assertEquals("success", response);
         assertEquals("pseudo", _account.pseudo());
+        assertEquals(0, metrics.invalidCredentials().sum());
     }
 
     @Test
@@ -511,4 +524,98 @@ class AuthenticationServiceTest extends RealmBaseCase {
         assertEquals("success", response);
         assertEquals("pseudo", _account.pseudo());
     }
+
+    @Test
+    void authenticateShouldRecordHashTime() throws ContainerException {
+        connector.checkLogin = false;
+        dataSet.push(new Account(-1, "test", "password", "pseudo"));
+
+        service.authenticate(request("test", "password"));
+        service.authenticate(request("test", "bad"));
+        service.authenticate(request("not_found", "password"));
+
+        assertEquals(2, metrics.hash().count());
+        assertEquals(2, metrics.invalidCredentials().sum());
+        assertTrue(metrics.hash().total().toNanos() > 0);
+        assertTrue(metrics.hash().max().compareTo(metrics.hash().average()) >= 0);
+    }
+
+    @Test
+    void authenticateWhilePending() throws ContainerException {
+        List<GameConnector.HostResponse<Boolean>> responses = new ArrayList<>();
+
+        connector.checkLogin = false;
+        dataSet.push(new Account(-1, "test", "password", "pseudo"));
+        container.get(HostService.class).declare(new GameHost(
+            new GameConnector() {
+                @Override
+                public void checkLogin(AuthenticationAccount account, HostResponse<Boolean> response) {
+                    responses.add(response);
+                }
+
+                @Override
+                public void token(AuthenticationAccount account, HostResponse<String> response) {}
+
+                @Override
+                public int players() {
+                    return 0;
+                }
+            },
+            2, 1235, "127.0.0.1"
+        ));
+
+        service.authenticate(request("test", "password"));
+        assertNull(response);
+
+        service.authenticate(request("test", "password"));
+        assertEquals("alreadyConnected", response);
+        assertEquals(1, metrics.alreadyConnected().sum());
+
+        responses.get(0).response(false);
+        assertEquals("success", response);
+
+        response = null;
+        service.authenticate(request("test", "password"));
+        assertEquals(2, responses.size());
+    }
+
+    private AuthenticationRequest request(String username, String password) {
+        return new AuthenticationRequest() {
+            @Override
+            public String username() {
+                return username;
+            }
+
+            @Override
+            public String password() {
+                return password;
+            }
+
+            @Override
+            public void success(AuthenticationAccount account) {
+                response = "success";
+                _account = account;
+            }
+
+            @Override
+            public void invalidCredentials() {
+                response = "invalidCredentials";
+            }
+
+            @Override
+            public void alreadyConnected() {
+                response = "alreadyConnected";
+            }
+
+            @Override
+            public void isPlaying() {
+                response = "isPlaying";
+            }
+
+            @Override
+            public void banned() {
+                response = "banned";
+            }
+        };
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.realm.authentication;
+
+import fr.quatrevieux.araknemu.core.config.IniDriver;
+import fr.quatrevieux.araknemu.realm.RealmBaseCase;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
+import fr.quatrevieux.araknemu.realm.event.AuthStopped;
+import fr.quatrevieux.araknemu.realm.host.HostService;
+import org.apache.logging.log4j.LogManager;
+import org.ini4j.Ini;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginQueueTest extends RealmBaseCase {
+    private LoginQueue queue;
+    private AuthenticationMetrics metrics;
+
+    @AfterEach
+    void stopQueue() {
+        if (queue != null) {
+            queue.listeners()[0].on(new AuthStopped());
+        }
+    }
+
+    @Test
+    void pushShouldAdmitImmediatelyWhenNotLimited() {
+        queue = createQueue(0, 0, 10);
+        List<String> admitted = new ArrayList<>();
+
+        assertTrue(queue.push("first", false, () -> admitted.add("first")));
+        assertTrue(queue.push("second", false, () -> admitted.add("second")));
+
+        assertEquals(Arrays.asList("first", "second"), admitted);
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.position("first"));
+        assertEquals(2, metrics.admissionWait().count());
+    }
+
+    @Test
+    void pushShouldBeLimitedByAdmissionRate() {
+        queue = createQueue(2, 0, 10);
+        List<String> admitted = new ArrayList<>();
+
+        assertTrue(queue.push("first", false, () -> admitted.add("first")));
+        assertTrue(queue.push("second", false, () -> admitted.add("second")));
+        assertTrue(queue.push("third", false, () -> admitted.add("third")));
+        assertTrue(queue.push("fourth", false, () -> admitted.add("fourth")));
+
+        assertEquals(Arrays.asList("first", "second"), admitted);
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.position("third"));
+        assertEquals(2, queue.position("fourth"));
+        assertEquals(Duration.ofMillis(500), queue.estimatedWait("third"));
+        assertEquals(Duration.ofSeconds(1), queue.estimatedWait("fourth"));
+        assertEquals(Duration.ZERO, queue.estimatedWait("first"));
+    }
+
+    @Test
+    void processShouldAdmitAfterRefill() throws InterruptedException {
+        queue = createQueue(10, 0, 20);
+        List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 11; ++i) {
+            final String owner = "owner" + i;
+            queue.push(owner, false, () -> admitted.add(owner));
+        }
+
+        assertEquals(10, admitted.size());
+        assertEquals(1, queue.position("owner10"));
+
+        Thread.sleep(150);
+        queue.process();
+
+        assertEquals(11, admitted.size());
+        assertEquals("owner10", admitted.get(10));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void preloadShouldProcessPeriodically() throws InterruptedException {
+        queue = createQueue(1, 0, 20);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        queue.push("first", false, latch::countDown);
+        queue.push("second", false, latch::countDown);
+        assertEquals(1, latch.getCount());
+
+        queue.preload(LogManager.getLogger());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void priorityShouldBeAdmittedFirst() {
+        queue = createQueue(1, 0, 10);
+        List<String> admitted = new ArrayList<>();
+
+        queue.push("first", false, () -> admitted.add("first"));
+        queue.push("second", false, () -> admitted.add("second"));
+        queue.push("master", true, () -> admitted.add("master"));
+
+        assertEquals(1, queue.position("master"));
+        assertEquals(2, queue.position("second"));
+    }
+
+    @Test
+    void pushWhenFull() {
+        queue = createQueue(1, 0, 2);
+
+        assertTrue(queue.push("first", false, () -> {}));
+        assertTrue(queue.push("second", false, () -> {}));
+        assertTrue(queue.push("third", false, () -> {}));
+        assertFalse(queue.push("fourth", false, () -> {}));
+
+        assertEquals(2, queue.size());
+        assertEquals(0, queue.position("fourth"));
+        assertEquals(1, metrics.rejected().sum());
+    }
+
+    @Test
+    void pushTwiceShouldReplaceEntry() {
+        queue = createQueue(1, 0, 10);
+        List<String> admitted = new ArrayList<>();
+
+        queue.push("first", false, () -> {});
+        queue.push("second", false, () -> admitted.add("old"));
+        queue.push("third", false, () -> {});
+        queue.push("second", false, () -> admitted.add("new"));
+
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.position("third"));
+        assertEquals(2, queue.position("second"));
+        assertTrue(admitted.isEmpty());
+    }
+
+    @Test
+    void remove() {
+        queue = createQueue(1, 0, 10);
+
+        queue.push("first", false, () -> {});
+        queue.push("second", false, () -> {});
+        queue.push("third", false, () -> {});
+
+        queue.remove("second");
+        queue.remove("not_found");
+
+        assertEquals(0, queue.position("second"));
+        assertEquals(1, queue.position("third"));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void positionShouldFollowAdmissions() {
+        queue = createQueue(0, 5, 10);
+        gameHost.setCanLog(true);
+        connector.players = 5;
+
+        queue.push("first", false, () -> {});
+        queue.push("second", false, () -> {});
+        queue.push("third", false, () -> {});
+        queue.push("master", true, () -> {});
+
+        assertEquals(1, queue.position("master"));
+        assertEquals(2, queue.position("first"));
+        assertEquals(4, queue.position("third"));
+
+        // Removed entry in the middle is counted until the queue reaches it
+        queue.remove("second");
+        assertEquals(4, queue.position("third"));
+
+        connector.players = 3;
+        queue.process();
+
+        assertEquals(1, queue.size());
+        assertEquals(0, queue.position("master"));
+        assertEquals(0, queue.position("first"));
+        assertEquals(1, queue.position("third"));
+    }
+
+    @Test
+    void maxPlayersShouldBlockAdmission() {
+        queue = createQueue(0, 5, 10);
+        gameHost.setCanLog(true);
+        connector.players = 4;
+
+        List<String> admitted = new ArrayList<>();
+
+        queue.push("first", false, () -> admitted.add("first"));
+        queue.push("second", false, () -> admitted.add("second"));
+
+        assertEquals(Collections.singletonList("first"), admitted);
+        assertEquals(1, queue.position("second"));
+        assertFalse(queue.isFull(gameHost));
+
+        connector.players = 5;
+        queue.process();
+        assertEquals(1, queue.size());
+        assertTrue(queue.isFull(gameHost));
+
+        connector.players = 3;
+        queue.process();
+        assertEquals(Arrays.asList("first", "second"), admitted);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void maxPlayersShouldBeIgnoredWithoutAvailableHost() {
+        queue = createQueue(0, 5, 10);
+        gameHost.setCanLog(false);
+        connector.players = 10;
+
+        List<String> admitted = new ArrayList<>();
+
+        queue.push("first", false, () -> admitted.add("first"));
+
+        assertEquals(Collections.singletonList("first"), admitted);
+    }
+
+    @Test
+    void errorOnAdmittedTaskShouldNotLoseOtherEntries() {
+        queue = createQueue(0, 5, 10);
+        connector.players = 5;
+        List<String> admitted = new ArrayList<>();
+
+        queue.push("first", false, () -> { throw new IllegalStateException(); });
+        queue.push("second", false, () -> admitted.add("second"));
+
+        connector.players = 0;
+
+        assertThrows(IllegalStateException.class, queue::process);
+        assertEquals(Collections.singletonList("second"), admitted);
+        assertEquals(0, queue.size());
+    }
+
+    private LoginQueue createQueue(int rate, int maxPlayers, int size) {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.admissionRate", rate);
+        ini.put("realm", "authentication.maxPlayers", maxPlayers);
+        ini.put("realm", "authentication.loginQueueSize", size);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        return new LoginQueue(configuration.authentication(), container.get(HostService.class), metrics = new AuthenticationMetrics());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.realm.handler;
+
+import fr.quatrevieux.araknemu.core.config.IniDriver;
+import fr.quatrevieux.araknemu.network.in.AskQueuePosition;
+import fr.quatrevieux.araknemu.network.out.QueuePosition;
+import fr.quatrevieux.araknemu.realm.RealmBaseCase;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationQueue;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
+import fr.quatrevieux.araknemu.realm.event.AuthStopped;
+import fr.quatrevieux.araknemu.realm.host.HostService;
+import org.ini4j.Ini;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class CheckQueuePositionTest extends RealmBaseCase {
+    @Test
+    void handleNotQueued() {
+        CheckQueuePosition handler = new CheckQueuePosition(container.get(AuthenticationQueue.class), container.get(LoginQueue.class));
+
+        handler.handle(session, new AskQueuePosition());
+
+        requestStack.assertLast(new QueuePosition(1));
+    }
+
+    @Test
+    void handleQueued() throws InterruptedException {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.threadsCount", 1);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        AuthenticationQueue queue = new AuthenticationQueue(configuration.authentication(), new AuthenticationMetrics());
+        CheckQueuePosition handler = new CheckQueuePosition(queue, container.get(LoginQueue.class));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            queue.push("first", () -> {
+                started.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // Ignore
+                }
+            });
+            started.await(5, TimeUnit.SECONDS);
+
+            queue.push("second", () -> {});
+            queue.push(session, () -> {});
+
+            handler.handle(session, new AskQueuePosition());
+
+            requestStack.assertLast(new QueuePosition(2));
+        } finally {
+            release.countDown();
+            queue.listeners()[0].on(new AuthStopped());
+        }
+    }
+
+    @Test
+    void handleOnLoginQueue() {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.admissionRate", 1);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        LoginQueue loginQueue = new LoginQueue(configuration.authentication(), container.get(HostService.class), new AuthenticationMetrics());
+        CheckQueuePosition handler = new CheckQueuePosition(container.get(AuthenticationQueue.class), loginQueue);
+
+        loginQueue.push("first", false, () -> {});
+        loginQueue.push("second", false, () -> {});
+        loginQueue.push(session, false, () -> {});
+
+        handler.handle(session, new AskQueuePosition());
+        requestStack.assertLast(new QueuePosition(2));
+
+        loginQueue.push("master", true, () -> {});
+
+        handler.handle(session, new AskQueuePosition());
+        requestStack.assertLast(new QueuePosition(3));
+    }
+}
@@ -20,23 +20,30 @@
 package fr.quatrevieux.araknemu.realm.handler;
 
 import fr.quatrevieux.araknemu.core.network.SessionClosed;
+import fr.quatrevieux.araknemu.core.config.IniDriver;
 import fr.quatrevieux.araknemu.data.living.entity.account.Account;
 import fr.quatrevieux.araknemu.data.living.repository.account.AccountRepository;
 import fr.quatrevieux.araknemu.realm.RealmBaseCase;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationAccount;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationService;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 import fr.quatrevieux.araknemu.common.account.banishment.BanishmentService;
 import fr.quatrevieux.araknemu.realm.authentication.password.PasswordManager;
 import fr.quatrevieux.araknemu.realm.authentication.password.PlainTextHash;
 import fr.quatrevieux.araknemu.realm.host.HostService;
+import org.ini4j.Ini;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class StopSessionTest extends RealmBaseCase {
     private StopSession handler;
     private AuthenticationService service;
+    private LoginQueue loginQueue;
 
     @Override
     @BeforeEach
@@ -48,8 +55,10 @@ class StopSessionTest extends RealmBaseCase {
                 container.get(AccountRepository.class),
                 container.get(HostService.class),
                 container.get(PasswordManager.class),
-                container.get(BanishmentService.class)
-            )
+                container.get(BanishmentService.class),
+                new AuthenticationMetrics()
+            ),
+            loginQueue = container.get(LoginQueue.class)
         );
     }
 
@@ -73,4 +82,25 @@ class StopSessionTest extends RealmBaseCase {
         assertFalse(session.isLogged());
         assertFalse(service.isAuthenticated(account));
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleShouldRemoveFromLoginQueue() {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.admissionRate", 1);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        loginQueue = new LoginQueue(configuration.authentication(), container.get(HostService.class), new AuthenticationMetrics());
+        handler = new StopSession(service, loginQueue);
+
+        loginQueue.push("first", false, () -> {});
+        loginQueue.push(session, false, () -> {});
+        assertEquals(1, loginQueue.position(session));
+
+        handler.handle(session, new SessionClosed());
+
+        assertEquals(0, loginQueue.position(session));
+        assertEquals(0, loginQueue.size());
+    }
+}
@@ -27,20 +27,29 @@ import fr.quatrevieux.araknemu.core.network.util.DummyChannel;
 import fr.quatrevieux.araknemu.data.living.entity.account.Banishment;
 import fr.quatrevieux.araknemu.data.living.entity.account.ConnectionLog;
 import fr.quatrevieux.araknemu.data.living.repository.account.ConnectionLogRepository;
+import fr.quatrevieux.araknemu.network.realm.in.ChooseServer;
 import fr.quatrevieux.araknemu.network.realm.in.Credentials;
 import fr.quatrevieux.araknemu.network.realm.out.*;
+import fr.quatrevieux.araknemu.core.config.IniDriver;
 import fr.quatrevieux.araknemu.realm.ConnectionKeyTest;
 import fr.quatrevieux.araknemu.realm.RealmBaseCase;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationAccount;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationQueue;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationService;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 import fr.quatrevieux.araknemu.realm.authentication.password.PlainTextHash;
+import fr.quatrevieux.araknemu.realm.event.AuthStopped;
 import fr.quatrevieux.araknemu.realm.host.HostService;
+import org.ini4j.Ini;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,6 +63,8 @@ class AuthenticateTest extends RealmBaseCase {
 
         handler = new Authenticate(
             container.get(AuthenticationService.class),
+            container.get(AuthenticationQueue.class),
+            container.get(LoginQueue.class),
             container.get(HostService.class),
             container.get(SessionLogService.class)
         );
@@ -74,6 +85,7 @@ class AuthenticateTest extends RealmBaseCase {
 
         assertTrue(session.isLogged());
         assertTrue(session.account().isLogged());
+        assertTrue(session.isAdmitted());
 
         requestStack.assertAll(
             new Pseudo("pseudo"),
@@ -175,4 +187,165 @@ class AuthenticateTest extends RealmBaseCase {
 
         requestStack.assertLast(new LoginError(LoginError.BANNED));
     }
+
+    @Test
+    void handleSessionClosedWhileWaiting() {
+        session.close();
+
+        handler.handle(session, new Credentials(
+            "login",
+            ConnectionKeyTest.cryptPassword("password", session.key().key()),
+            Credentials.Method.VIGENERE_BASE_64
+        ));
+
+        assertFalse(session.isLogged());
+        requestStack.assertEmpty();
+    }
+
+    @Test
+    void handleQueueFull() throws InterruptedException {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.threadsCount", 1);
+        ini.put("realm", "authentication.queueSize", 1);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        AuthenticationQueue queue = new AuthenticationQueue(configuration.authentication(), new AuthenticationMetrics());
+        CountDownLatch release = new CountDownLatch(1);
+
+        handler = new Authenticate(
+            container.get(AuthenticationService.class),
+            queue,
+            container.get(LoginQueue.class),
+            container.get(HostService.class),
+            container.get(SessionLogService.class)
+        );
+
+        try {
+            queue.push("first", () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // Ignore
+                }
+            });
+            queue.push("second", () -> {});
+
+            handler.handle(session, new Credentials(
+                "login",
+                ConnectionKeyTest.cryptPassword("password", session.key().key()),
+                Credentials.Method.VIGENERE_BASE_64
+            ));
+
+            requestStack.assertLast(new LoginError(LoginError.SERVER_FULL));
+            assertClosed();
+            assertFalse(session.isLogged());
+        } finally {
+            release.countDown();
+            queue.listeners()[0].on(new AuthStopped());
+        }
+    }
+
+    @Test
+    void handleSuccessShouldWaitOnLoginQueue() {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.admissionRate", 1);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        LoginQueue loginQueue = new LoginQueue(configuration.authentication(), container.get(HostService.class), new AuthenticationMetrics());
+
+        handler = new Authenticate(
+            container.get(AuthenticationService.class),
+            container.get(AuthenticationQueue.class),
+            loginQueue,
+            container.get(HostService.class),
+            container.get(SessionLogService.class)
+        );
+
+        loginQueue.push("other", false, () -> {});
+
+        handler.handle(session, new Credentials(
+            "login",
+            ConnectionKeyTest.cryptPassword("password", session.key().key()),
+            Credentials.Method.VIGENERE_BASE_64
+        ));
+
+        assertTrue(session.isLogged());
+        assertTrue(session.isAlive());
+        assertFalse(session.isAdmitted());
+        assertEquals(1, loginQueue.position(session));
+        assertTrue(channel.getMessages().isEmpty());
+    }
+
+    @Test
+    void chooseServerWhileWaitingOnLoginQueueShouldBeRefused() {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.admissionRate", 1);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        LoginQueue loginQueue = new LoginQueue(configuration.authentication(), container.get(HostService.class), new AuthenticationMetrics());
+
+        handler = new Authenticate(
+            container.get(AuthenticationService.class),
+            container.get(AuthenticationQueue.class),
+            loginQueue,
+            container.get(HostService.class),
+            container.get(SessionLogService.class)
+        );
+
+        loginQueue.push("other", false, () -> {});
+
+        handler.handle(session, new Credentials(
+            "login",
+            ConnectionKeyTest.cryptPassword("password", session.key().key()),
+            Credentials.Method.VIGENERE_BASE_64
+        ));
+
+        gameHost.setCanLog(true);
+        connector.token = "my_token";
+
+        new ConnectGame(container.get(HostService.class), loginQueue).handle(session, new ChooseServer(1));
+
+        requestStack.assertLast(new SelectServerError(SelectServerError.Error.CANT_SELECT));
+        assertNull(connector.account);
+        assertTrue(session.isAlive());
+        assertEquals(1, loginQueue.position(session));
+    }
+
+    @Test
+    void handleSuccessLoginQueueFull() {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.admissionRate", 1);
+        ini.put("realm", "authentication.loginQueueSize", 1);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        LoginQueue loginQueue = new LoginQueue(configuration.authentication(), container.get(HostService.class), new AuthenticationMetrics());
+
+        handler = new Authenticate(
+            container.get(AuthenticationService.class),
+            container.get(AuthenticationQueue.class),
+            loginQueue,
+            container.get(HostService.class),
+            container.get(SessionLogService.class)
+        );
+
+        loginQueue.push("first", false, () -> {});
+        loginQueue.push("second", false, () -> {});
+
+        handler.handle(session, new Credentials(
+            "login",
+            ConnectionKeyTest.cryptPassword("password", session.key().key()),
+            Credentials.Method.VIGENERE_BASE_64
+        ));
+
+        requestStack.assertLast(new LoginError(LoginError.SERVER_FULL));
+        assertClosed();
+    }
 }
@@ -20,17 +20,25 @@
 package fr.quatrevieux.araknemu.realm.handler.account;
 
 import fr.quatrevieux.araknemu.data.living.entity.account.Account;
+import fr.quatrevieux.araknemu.common.account.Permission;
+import fr.quatrevieux.araknemu.core.config.IniDriver;
 import fr.quatrevieux.araknemu.network.realm.in.ChooseServer;
 import fr.quatrevieux.araknemu.network.realm.out.SelectServerError;
 import fr.quatrevieux.araknemu.network.realm.out.SelectServerPlain;
 import fr.quatrevieux.araknemu.realm.RealmBaseCase;
+import fr.quatrevieux.araknemu.realm.RealmConfiguration;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationAccount;
+import fr.quatrevieux.araknemu.realm.authentication.AuthenticationMetrics;
 import fr.quatrevieux.araknemu.realm.authentication.AuthenticationService;
+import fr.quatrevieux.araknemu.realm.authentication.LoginQueue;
 import fr.quatrevieux.araknemu.realm.authentication.password.PlainTextHash;
 import fr.quatrevieux.araknemu.realm.host.HostService;
+import org.ini4j.Ini;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ConnectGameTest extends RealmBaseCase {
@@ -42,7 +50,8 @@ class ConnectGameTest extends RealmBaseCase {
         super.setUp();
 
         handler = new ConnectGame(
-            container.get(HostService.class)
+            container.get(HostService.class),
+            container.get(LoginQueue.class)
         );
 
         session.attach(
@@ -52,6 +61,7 @@ class ConnectGameTest extends RealmBaseCase {
                 container.get(AuthenticationService.class)
             )
         );
+        session.admit();
     }
 
     @Test
@@ -60,6 +70,27 @@ class ConnectGameTest extends RealmBaseCase {
         requestStack.assertLast(new SelectServerError(SelectServerError.Error.CANT_SELECT));
     }
 
+    @Test
+    void handleNotAdmitted() {
+        session.detach();
+        session.attach(
+            new AuthenticationAccount(
+                new Account(1),
+                new PlainTextHash().parse("password"),
+                container.get(AuthenticationService.class)
+            )
+        );
+
+        gameHost.setCanLog(true);
+        connector.token = "my_token";
+
+        handler.handle(session, new ChooseServer(1));
+
+        requestStack.assertLast(new SelectServerError(SelectServerError.Error.CANT_SELECT));
+        assertNull(connector.account);
+        assertTrue(session.isAlive());
+    }
+
     @Test
     void handleSuccess() {
         gameHost.setCanLog(true);
@@ -71,4 +102,56 @@ class ConnectGameTest extends RealmBaseCase {
         assertEquals(session.account(), connector.account);
         assertFalse(session.isAlive());
     }
+
+    @Test
+    void handleServerFull() {
+        attach(new Account(2, "other", "", "other", EnumSet.noneOf(Permission.class), "", ""));
+
+        handler = new ConnectGame(container.get(HostService.class), loginQueue(5));
+        gameHost.setCanLog(true);
+        connector.token = "my_token";
+        connector.players = 5;
+
+        handler.handle(session, new ChooseServer(1));
+
+        requestStack.assertLast(new SelectServerError(SelectServerError.Error.FULL));
+        assertNull(connector.account);
+        assertTrue(session.isAlive());
+    }
+
+    @Test
+    void handleServerFullWithGameMaster() {
+        attach(new Account(2, "gm", "", "gm", EnumSet.allOf(Permission.class), "", ""));
+
+        handler = new ConnectGame(container.get(HostService.class), loginQueue(5));
+        gameHost.setCanLog(true);
+        connector.token = "my_token";
+        connector.players = 5;
+
+        handler.handle(session, new ChooseServer(1));
+
+        requestStack.assertLast(new SelectServerPlain("127.0.0.1", 1234, "my_token"));
+    }
+
+    private void attach(Account account) {
+        session.detach();
+        session.attach(
+            new AuthenticationAccount(
+                account,
+                new PlainTextHash().parse("password"),
+                container.get(AuthenticationService.class)
+            )
+        );
+        session.admit();
+    }
+
+    private LoginQueue loginQueue(int maxPlayers) {
+        Ini ini = new Ini();
+        ini.put("realm", "authentication.maxPlayers", maxPlayers);
+
+        RealmConfiguration configuration = new RealmConfiguration();
+        configuration.setPool(new IniDriver(ini).pool("realm"));
+
+        return new LoginQueue(configuration.authentication(), container.get(HostService.class), new AuthenticationMetrics());
+    }
 }
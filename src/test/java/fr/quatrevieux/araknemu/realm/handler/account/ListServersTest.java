@@ -60,10 +60,27 @@ class ListServersTest extends RealmBaseCase {
                 container.get(AuthenticationService.class)
             )
         );
+        session.admit();
 
         dataSet.use(Player.class);
     }
 
+    @Test
+    void handleNotAdmitted() {
+        session.detach();
+        session.attach(
+            new AuthenticationAccount(
+                new Account(1),
+                new PlainTextHash().parse("password"),
+                container.get(AuthenticationService.class)
+            )
+        );
+
+        handler.handle(session, new AskServerList());
+
+        requestStack.assertEmpty();
+    }
+
     @Test
     void handleEmptyList() {
         handler.handle(session, new AskServerList());
@@ -0,0 +1,223 @@
+/*
+ * This file is part of Araknemu.
+ *
+ * Araknemu is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Araknemu is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Araknemu.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2017-2020 Vincent Quatrevieux
+ */
+
+package fr.quatrevieux.araknemu.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerialExecutorTest {
+    private SerialExecutor executor;
+    private List<RuntimeException> errors;
+
+    @BeforeEach
+    void setUp() {
+        errors = new ArrayList<>();
+        executor = new SerialExecutor(errors::add);
+    }
+
+    @Test
+    void executeIdleShouldRunOnCallerThread() {
+        AtomicBoolean executed = new AtomicBoolean();
+        Thread caller = Thread.currentThread();
+
+        executor.execute(() -> executed.set(Thread.currentThread() == caller));
+
+        assertTrue(executed.get());
+        assertFalse(executor.running());
+        assertEquals(0, executor.size());
+    }
+
+    @Test
+    void reentrantExecuteShouldBeExecutedImmediately() {
+        List<String> calls = new ArrayList<>();
+
+        executor.execute(() -> {
+            calls.add("begin");
+            executor.execute(() -> calls.add("nested"));
+            calls.add("end");
+        });
+
+        assertEquals(Arrays.asList("begin", "nested", "end"), calls);
+    }
+
+    @Test
+    void errorShouldBeHandledPerTask() {
+        List<String> calls = new ArrayList<>();
+        RuntimeException error = new RuntimeException("my error");
+
+        executor.execute(() -> {
+            executor.execute(() -> { throw error; });
+            calls.add("after nested");
+        });
+
+        assertEquals(Collections.singletonList("after nested"), calls);
+        assertEquals(Collections.singletonList(error), errors);
+        assertFalse(executor.running());
+
+        executor.execute(() -> calls.add("next"));
+        assertEquals(Arrays.asList("after nested", "next"), calls);
+    }
+
+    @Test
+    void errorOfPendingTaskShouldNotBeThrownToOtherCaller() throws InterruptedException {
+        List<String> calls = new ArrayList<>();
+        RuntimeException error = new RuntimeException("my error");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch submitted = new CountDownLatch(1);
+
+        Thread other = new Thread(() -> executor.execute(() -> {
+            started.countDown();
+
+            try {
+                submitted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+
+            calls.add("first");
+        }));
+
+        other.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Pushed on the queue, and executed by the other thread
+        executor.execute(() -> { throw error; });
+        executor.execute(() -> calls.add("last"));
+        submitted.countDown();
+        other.join(5000);
+
+        assertEquals(Arrays.asList("first", "last"), calls);
+        assertEquals(Collections.singletonList(error), errors);
+    }
+
+    @Test
+    void concurrentExecuteShouldBeSerialized() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        AtomicInteger active = new AtomicInteger();
+        AtomicBoolean overlap = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(1000);
+        int[] counter = new int[1];
+
+        for (int i = 0; i < 1000; ++i) {
+            pool.execute(() -> executor.execute(() -> {
+                if (active.incrementAndGet() > 1) {
+                    overlap.set(true);
+                }
+
+                ++counter[0];
+                active.decrementAndGet();
+                latch.countDown();
+            }));
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        assertFalse(overlap.get());
+        assertEquals(1000, counter[0]);
+    }
+
+    @Test
+    void executeFromForeignThreadShouldBeDrainedByHomeExecutor() throws InterruptedException {
+        ExecutorService io = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "io"));
+        executor = new SerialExecutor(homeExecutor(io), errors::add);
+
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch ioBlocked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        io.execute(() -> {
+            try {
+                ioBlocked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        executor.execute(() -> { threads.add(Thread.currentThread().getName()); done.countDown(); });
+        executor.execute(() -> { threads.add(Thread.currentThread().getName()); done.countDown(); });
+
+        // The submitting thread never executes the tasks
+        assertTrue(threads.isEmpty());
+        assertEquals(2, executor.size());
+
+        ioBlocked.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("io", "io"), threads);
+        io.shutdown();
+    }
+
+    @Test
+    void executeFromHomeThreadShouldRunImmediately() throws Exception {
+        ExecutorService io = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "io"));
+        executor = new SerialExecutor(homeExecutor(io), errors::add);
+
+        assertTrue(io.submit(() -> {
+            AtomicBoolean executed = new AtomicBoolean();
+            executor.execute(() -> executed.set(true));
+
+            return executed.get();
+        }).get(5, TimeUnit.SECONDS));
+
+        io.shutdown();
+    }
+
+    @Test
+    void executeWithStoppedHomeExecutorShouldRunOnCallerThread() {
+        ExecutorService io = Executors.newSingleThreadExecutor();
+        io.shutdown();
+
+        executor = new SerialExecutor(io, errors::add);
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    /**
+     * Executor which runs the task immediately when called from the "io" thread, like a netty event loop
+     */
+    private Executor homeExecutor(ExecutorService io) {
+        return task -> {
+            if (Thread.currentThread().getName().equals("io")) {
+                task.run();
+            } else {
+                io.execute(task);
+            }
+        };
+    }
+}